@@ -0,0 +1,104 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kuflow.rest.model.ProcessItem;
+import com.kuflow.rest.model.ProcessItemPage;
+import com.kuflow.temporal.worker.jackson.AutorestModule;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * (De)serialization of the REST models through the Jackson {@link AutorestModule}, the path followed by the models
+ * exchanged between workflows and activities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AutorestJacksonBenchmark {
+
+    @Param({ "100", "5000" })
+    private int taskDataFields;
+
+    private ObjectMapper objectMapper;
+
+    private byte[] processItemJson;
+
+    private byte[] processItemPageJson;
+
+    private ProcessItem processItem;
+
+    private ProcessItemPage processItemPage;
+
+    @Setup
+    public void setup() throws IOException {
+        // Same configuration as the object mapper of the worker data converter
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        this.objectMapper.registerModule(new AutorestModule());
+        this.processItemJson = BenchmarkData.processItem(this.taskDataFields).getBytes(StandardCharsets.UTF_8);
+        this.processItemPageJson = BenchmarkData.processItemPage(20, this.taskDataFields).getBytes(StandardCharsets.UTF_8);
+        this.processItem = this.readProcessItem();
+        this.processItemPage = this.readProcessItemPage();
+    }
+
+    @Benchmark
+    public ProcessItem readProcessItem() throws IOException {
+        return this.objectMapper.readValue(this.processItemJson, ProcessItem.class);
+    }
+
+    @Benchmark
+    public byte[] writeProcessItem() throws IOException {
+        return this.objectMapper.writeValueAsBytes(this.processItem);
+    }
+
+    @Benchmark
+    public ProcessItemPage readProcessItemPage() throws IOException {
+        return this.objectMapper.readValue(this.processItemPageJson, ProcessItemPage.class);
+    }
+
+    @Benchmark
+    public byte[] writeProcessItemPage() throws IOException {
+        return this.objectMapper.writeValueAsBytes(this.processItemPage);
+    }
+}
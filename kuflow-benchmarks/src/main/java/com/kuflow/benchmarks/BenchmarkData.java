@@ -0,0 +1,106 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.benchmarks;
+
+import java.util.UUID;
+
+/**
+ * JSON documents used by the benchmarks, shaped like the responses of the KuFlow API.
+ */
+final class BenchmarkData {
+
+    private static final String PROCESS_ID = "4821b000-88b4-447e-bdca-2b5d811e746b";
+
+    private BenchmarkData() {}
+
+    /**
+     * Build a process item whose task data contains the given number of fields, mixing strings, numbers, nested
+     * objects and arrays like a real form does.
+     *
+     * @param taskDataFields number of fields of the task data.
+     * @return the json.
+     */
+    static String processItem(int taskDataFields) {
+        return processItem(UUID.randomUUID(), taskDataFields);
+    }
+
+    static String processItemPage(int items, int taskDataFields) {
+        StringBuilder json = new StringBuilder();
+        json
+            .append("{\"metadata\":{\"size\":")
+            .append(items)
+            .append(",\"page\":0,\"totalElements\":")
+            .append(items)
+            .append(",\"totalPages\":1},\"content\":[");
+        for (int i = 0; i < items; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(processItem(UUID.randomUUID(), taskDataFields));
+        }
+
+        return json.append("]}").toString();
+    }
+
+    static String webhookEvent() {
+        return (
+            "{\"id\":\"" +
+            UUID.randomUUID() +
+            "\",\"version\":\"1.0\",\"timestamp\":\"2024-06-14T10:15:30.123Z\",\"type\":\"PROCESS_ITEM.TASK_STATE_CHANGED\"," +
+            "\"data\":{\"processId\":\"" +
+            PROCESS_ID +
+            "\",\"processItemId\":\"" +
+            UUID.randomUUID() +
+            "\",\"processItemType\":\"TASK\",\"processItemState\":\"CLAIMED\",\"processItemDefinitionCode\":\"TASK_001\"}}"
+        );
+    }
+
+    private static String processItem(UUID id, int taskDataFields) {
+        StringBuilder json = new StringBuilder();
+        json
+            .append("{\"id\":\"")
+            .append(id)
+            .append("\",\"type\":\"TASK\",\"processId\":\"")
+            .append(PROCESS_ID)
+            .append("\",\"ownerId\":\"23c7c277-70da-4d5c-9dbb-181f363b1d10\",\"tenantId\":\"750ef2e1-0c07-48fd-a2f9-5fc1dbcc2be3\",")
+            .append("\"processItemDefinitionRef\":{\"id\":\"5279a366-2401-4c3e-8eb6-2d2c71d74f0e\",")
+            .append("\"version\":\"022311ae-ce15-460c-90ba-0469c61f959b\",\"code\":\"TASK_001\",\"name\":\"Task 001 Definition\"},")
+            .append("\"createdAt\":\"2024-06-14T10:15:30.123Z\",\"lastModifiedAt\":\"2024-06-14T10:15:30.123Z\",")
+            .append("\"task\":{\"state\":\"CLAIMED\",\"data\":{\"valid\":true,\"value\":{");
+        for (int i = 0; i < taskDataFields; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("\"field").append(i).append("\":");
+            switch (i % 4) {
+                case 0 -> json.append("\"value of the field ").append(i).append('"');
+                case 1 -> json.append(i * 31);
+                case 2 -> json.append("{\"code\":\"C").append(i).append("\",\"amount\":").append(i).append(".5}");
+                default -> json.append("[\"a\",\"b\",").append(i).append(']');
+            }
+        }
+
+        return json.append("}}}}").toString();
+    }
+}
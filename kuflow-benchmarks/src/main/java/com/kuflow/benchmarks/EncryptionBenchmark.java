@@ -0,0 +1,115 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.benchmarks;
+
+import com.google.protobuf.ByteString;
+import com.kuflow.temporal.common.crypto.CipherUtils;
+import com.kuflow.temporal.worker.encryption.EncryptionConstant;
+import com.kuflow.temporal.worker.encryption.codec.EncryptionPayloadCodec;
+import io.temporal.api.common.v1.Payload;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encryption of the Temporal payloads, both the raw cipher and the whole {@link EncryptionPayloadCodec} (key lookup,
+ * base64 and protobuf included). The KMS key is served by {@link StaticHttpClient}, so after the first invocation the
+ * codec works against its cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncryptionBenchmark {
+
+    private static final String KEY_ID = "5b639af8-0aa0-4ae4-a1ed-e17ac4f673fd";
+
+    @Param({ "1024", "65536" })
+    private int payloadSize;
+
+    private SecretKey secretKey;
+
+    private byte[] plainText;
+
+    private byte[] cipherText;
+
+    private EncryptionPayloadCodec codec;
+
+    private List<Payload> payloads;
+
+    private List<Payload> encodedPayloads;
+
+    @Setup
+    public void setup() {
+        this.secretKey = new SecretKeySpec(StaticHttpClient.KEY, "AES");
+        this.plainText = new byte[this.payloadSize];
+        new Random(42).nextBytes(this.plainText);
+        this.cipherText = CipherUtils.AES_256_GCM.encrypt(this.secretKey, this.plainText);
+
+        this.codec = new EncryptionPayloadCodec(StaticHttpClient.kuFlowRestClient());
+        this.payloads = List.of(
+            Payload.newBuilder()
+                .putMetadata("encoding", ByteString.copyFromUtf8("binary/plain"))
+                .putMetadata(EncryptionConstant.METADATA_KEY_ENCODING_ENCRYPTED_KEY_ID, ByteString.copyFromUtf8(KEY_ID))
+                .setData(ByteString.copyFrom(this.plainText))
+                .build()
+        );
+        this.encodedPayloads = this.codec.encode(this.payloads);
+    }
+
+    @Benchmark
+    public byte[] encrypt() {
+        return CipherUtils.AES_256_GCM.encrypt(this.secretKey, this.plainText);
+    }
+
+    @Benchmark
+    public byte[] decrypt() {
+        return CipherUtils.AES_256_GCM.decrypt(this.secretKey, this.cipherText);
+    }
+
+    @Benchmark
+    public List<Payload> encode() {
+        return this.codec.encode(this.payloads);
+    }
+
+    @Benchmark
+    public List<Payload> decode() {
+        return this.codec.decode(this.encodedPayloads);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.benchmarks;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonWriter;
+import com.kuflow.rest.KuFlowRestClient;
+import com.kuflow.rest.model.ProcessItem;
+import com.kuflow.rest.model.ProcessItemPage;
+import com.kuflow.rest.model.WebhookEvent;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * (De)serialization of the REST models with azure-json, the path followed by every response of the API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModelSerializationBenchmark {
+
+    @Param({ "100", "5000" })
+    private int taskDataFields;
+
+    private byte[] processItemJson;
+
+    private byte[] processItemPageJson;
+
+    private byte[] webhookEventJson;
+
+    private String webhookEventPayload;
+
+    private ProcessItem processItem;
+
+    private KuFlowRestClient kuFlowRestClient;
+
+    @Setup
+    public void setup() throws IOException {
+        this.processItemJson = BenchmarkData.processItem(this.taskDataFields).getBytes(StandardCharsets.UTF_8);
+        this.processItemPageJson = BenchmarkData.processItemPage(20, this.taskDataFields).getBytes(StandardCharsets.UTF_8);
+        this.webhookEventPayload = BenchmarkData.webhookEvent();
+        this.webhookEventJson = this.webhookEventPayload.getBytes(StandardCharsets.UTF_8);
+        this.processItem = this.readProcessItem();
+        this.kuFlowRestClient = StaticHttpClient.kuFlowRestClient();
+    }
+
+    @Benchmark
+    public ProcessItem readProcessItem() throws IOException {
+        try (JsonReader jsonReader = JsonProviders.createReader(this.processItemJson)) {
+            return ProcessItem.fromJson(jsonReader);
+        }
+    }
+
+    @Benchmark
+    public byte[] writeProcessItem() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(this.processItemJson.length);
+        try (JsonWriter jsonWriter = JsonProviders.createWriter(outputStream)) {
+            this.processItem.toJson(jsonWriter);
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    @Benchmark
+    public ProcessItemPage readProcessItemPage() throws IOException {
+        try (JsonReader jsonReader = JsonProviders.createReader(this.processItemPageJson)) {
+            return ProcessItemPage.fromJson(jsonReader);
+        }
+    }
+
+    @Benchmark
+    public WebhookEvent readWebhookEvent() throws IOException {
+        try (JsonReader jsonReader = JsonProviders.createReader(this.webhookEventJson)) {
+            return WebhookEvent.fromJson(jsonReader);
+        }
+    }
+
+    @Benchmark
+    public WebhookEvent parseWebhookEvent() {
+        return this.kuFlowRestClient.parseWebhookEvent(this.webhookEventPayload);
+    }
+
+    @Benchmark
+    public WebhookEvent parseWebhookEventBytes() {
+        return this.kuFlowRestClient.parseWebhookEvent(this.webhookEventJson);
+    }
+}
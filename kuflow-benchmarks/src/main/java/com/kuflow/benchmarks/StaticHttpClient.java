@@ -0,0 +1,114 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.benchmarks;
+
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.kuflow.rest.KuFlowRestClient;
+import com.kuflow.rest.KuFlowRestClientBuilder;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link HttpClient} that answers the KMS requests with a fixed key, so that the benchmarks that need a
+ * {@link KuFlowRestClient} do not depend on the network.
+ */
+final class StaticHttpClient implements HttpClient {
+
+    static final byte[] KEY = new byte[32];
+
+    private static final String KMS_KEY_JSON =
+        "{\"id\":\"5b639af8-0aa0-4ae4-a1ed-e17ac4f673fd\",\"value\":\"" + Base64.getEncoder().encodeToString(KEY) + "\"}";
+
+    static KuFlowRestClient kuFlowRestClient() {
+        return new KuFlowRestClientBuilder()
+            .endpoint("https://api.kuflow.com")
+            .clientId("CLIENT_ID")
+            .clientSecret("CLIENT_SECRET")
+            .httpClient(new StaticHttpClient())
+            .buildClient();
+    }
+
+    @Override
+    public Mono<HttpResponse> send(HttpRequest request) {
+        return Mono.just(new StaticHttpResponse(request, KMS_KEY_JSON.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static final class StaticHttpResponse extends HttpResponse {
+
+        private final byte[] body;
+
+        private final HttpHeaders headers;
+
+        private StaticHttpResponse(HttpRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+            this.headers = new HttpHeaders()
+                .set(HttpHeaderName.CONTENT_TYPE, "application/json")
+                .set(HttpHeaderName.CONTENT_LENGTH, String.valueOf(body.length));
+        }
+
+        @Override
+        public int getStatusCode() {
+            return 200;
+        }
+
+        @Override
+        public String getHeaderValue(String name) {
+            return this.headers.getValue(HttpHeaderName.fromString(name));
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return this.headers;
+        }
+
+        @Override
+        public Flux<ByteBuffer> getBody() {
+            return Flux.defer(() -> Flux.just(ByteBuffer.wrap(this.body)));
+        }
+
+        @Override
+        public Mono<byte[]> getBodyAsByteArray() {
+            return Mono.just(this.body);
+        }
+
+        @Override
+        public Mono<String> getBodyAsString() {
+            return Mono.just(new String(this.body, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Mono<String> getBodyAsString(Charset charset) {
+            return Mono.just(new String(this.body, charset));
+        }
+    }
+}
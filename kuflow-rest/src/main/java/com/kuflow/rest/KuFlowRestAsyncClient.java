@@ -0,0 +1,145 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest;
+
+import com.azure.core.annotation.ServiceClient;
+import com.kuflow.rest.implementation.KuFlowClientImpl;
+import com.kuflow.rest.model.WebhookEvent;
+import com.kuflow.rest.operation.AuthenticationAsyncOperations;
+import com.kuflow.rest.operation.BusinessArtifactAsyncOperations;
+import com.kuflow.rest.operation.GroupAsyncOperations;
+import com.kuflow.rest.operation.KmsAsyncOperations;
+import com.kuflow.rest.operation.PrincipalAsyncOperations;
+import com.kuflow.rest.operation.ProcessAsyncOperations;
+import com.kuflow.rest.operation.ProcessItemAsyncOperations;
+import com.kuflow.rest.operation.RobotAsyncOperations;
+import com.kuflow.rest.operation.TenantAsyncOperations;
+import com.kuflow.rest.operation.TenantUserAsyncOperations;
+import com.kuflow.rest.operation.WorkerAsyncOperations;
+import com.kuflow.rest.util.WebhookEventUtils;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+@ServiceClient(builder = KuFlowRestClientBuilder.class, isAsync = true)
+public class KuFlowRestAsyncClient {
+
+    private final KuFlowClientImpl client;
+
+    private final AuthenticationAsyncOperations authenticationAsyncOperations;
+
+    private final PrincipalAsyncOperations principalAsyncOperations;
+
+    private final GroupAsyncOperations groupAsyncOperations;
+
+    private final TenantUserAsyncOperations tenantUserAsyncOperations;
+
+    private final ProcessAsyncOperations processAsyncOperations;
+
+    private final ProcessItemAsyncOperations processItemAsyncOperations;
+
+    private final BusinessArtifactAsyncOperations businessArtifactAsyncOperations;
+
+    private final WorkerAsyncOperations workerAsyncOperations;
+
+    private final RobotAsyncOperations robotAsyncOperations;
+
+    private final TenantAsyncOperations tenantAsyncOperations;
+
+    private final KmsAsyncOperations kmsAsyncOperations;
+
+    public KuFlowRestAsyncClient(KuFlowClientImpl client) {
+        this.client = client;
+        this.authenticationAsyncOperations = new AuthenticationAsyncOperations(client);
+        this.principalAsyncOperations = new PrincipalAsyncOperations(client);
+        this.groupAsyncOperations = new GroupAsyncOperations(client);
+        this.tenantUserAsyncOperations = new TenantUserAsyncOperations(client);
+        this.processAsyncOperations = new ProcessAsyncOperations(client);
+        this.processItemAsyncOperations = new ProcessItemAsyncOperations(client);
+        this.businessArtifactAsyncOperations = new BusinessArtifactAsyncOperations(client);
+        this.workerAsyncOperations = new WorkerAsyncOperations(client);
+        this.robotAsyncOperations = new RobotAsyncOperations(client);
+        this.tenantAsyncOperations = new TenantAsyncOperations(client);
+        this.kmsAsyncOperations = new KmsAsyncOperations(client);
+    }
+
+    public AuthenticationAsyncOperations getAuthenticationAsyncOperations() {
+        return this.authenticationAsyncOperations;
+    }
+
+    public PrincipalAsyncOperations getPrincipalAsyncOperations() {
+        return this.principalAsyncOperations;
+    }
+
+    public GroupAsyncOperations getGroupAsyncOperations() {
+        return this.groupAsyncOperations;
+    }
+
+    public TenantUserAsyncOperations getTenantUserAsyncOperations() {
+        return this.tenantUserAsyncOperations;
+    }
+
+    public ProcessAsyncOperations getProcessAsyncOperations() {
+        return this.processAsyncOperations;
+    }
+
+    public ProcessItemAsyncOperations getProcessItemAsyncOperations() {
+        return this.processItemAsyncOperations;
+    }
+
+    public BusinessArtifactAsyncOperations getBusinessArtifactAsyncOperations() {
+        return this.businessArtifactAsyncOperations;
+    }
+
+    public WorkerAsyncOperations getWorkerAsyncOperations() {
+        return this.workerAsyncOperations;
+    }
+
+    public RobotAsyncOperations getRobotAsyncOperations() {
+        return this.robotAsyncOperations;
+    }
+
+    public TenantAsyncOperations getTenantAsyncOperations() {
+        return this.tenantAsyncOperations;
+    }
+
+    public KmsAsyncOperations getKmsAsyncOperations() {
+        return this.kmsAsyncOperations;
+    }
+
+    public WebhookEvent parseWebhookEvent(String payload) {
+        return WebhookEventUtils.parseWebhookEvent(payload);
+    }
+
+    public WebhookEvent parseWebhookEvent(byte[] payload) {
+        return WebhookEventUtils.parseWebhookEvent(payload);
+    }
+
+    public WebhookEvent parseWebhookEvent(ByteBuffer payload) {
+        return WebhookEventUtils.parseWebhookEvent(payload);
+    }
+
+    public WebhookEvent parseWebhookEvent(InputStream payload) {
+        return WebhookEventUtils.parseWebhookEvent(payload);
+    }
+}
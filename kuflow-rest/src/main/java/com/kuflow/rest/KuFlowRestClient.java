@@ -24,7 +24,6 @@
 package com.kuflow.rest;
 
 import com.azure.core.annotation.ServiceClient;
-import com.azure.core.util.serializer.SerializerEncoding;
 import com.kuflow.rest.implementation.KuFlowClientImpl;
 import com.kuflow.rest.model.WebhookEvent;
 import com.kuflow.rest.operation.AuthenticationOperations;
@@ -38,10 +37,9 @@ import com.kuflow.rest.operation.RobotOperations;
 import com.kuflow.rest.operation.TenantOperations;
 import com.kuflow.rest.operation.TenantUserOperations;
 import com.kuflow.rest.operation.WorkerOperations;
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
+import com.kuflow.rest.util.WebhookEventUtils;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
 
 @ServiceClient(builder = KuFlowRestClientBuilder.class)
 public class KuFlowRestClient {
@@ -74,16 +72,20 @@ public class KuFlowRestClient {
 
     public KuFlowRestClient(KuFlowClientImpl client) {
         this.client = client;
+
+        // The asynchronous operations stream the pages of the synchronous ones
+        KuFlowRestAsyncClient asyncClient = new KuFlowRestAsyncClient(client);
+
         this.authenticationOperations = new AuthenticationOperations(client);
-        this.principalOperations = new PrincipalOperations(client);
-        this.groupOperations = new GroupOperations(client);
-        this.tenantUserOperations = new TenantUserOperations(client);
-        this.processOperations = new ProcessOperations(client);
-        this.processItemOperations = new ProcessItemOperations(client);
-        this.businessArtifactOperations = new BusinessArtifactOperations(client);
+        this.principalOperations = new PrincipalOperations(client, asyncClient.getPrincipalAsyncOperations());
+        this.groupOperations = new GroupOperations(client, asyncClient.getGroupAsyncOperations());
+        this.tenantUserOperations = new TenantUserOperations(client, asyncClient.getTenantUserAsyncOperations());
+        this.processOperations = new ProcessOperations(client, asyncClient.getProcessAsyncOperations());
+        this.processItemOperations = new ProcessItemOperations(client, asyncClient.getProcessItemAsyncOperations());
+        this.businessArtifactOperations = new BusinessArtifactOperations(client, asyncClient.getBusinessArtifactAsyncOperations());
         this.workerOperations = new WorkerOperations(client);
-        this.robotOperations = new RobotOperations(client);
-        this.tenantOperations = new TenantOperations(client);
+        this.robotOperations = new RobotOperations(client, asyncClient.getRobotAsyncOperations());
+        this.tenantOperations = new TenantOperations(client, asyncClient.getTenantAsyncOperations());
         this.kmsOperations = new KmsOperations(client);
     }
 
@@ -132,12 +134,18 @@ public class KuFlowRestClient {
     }
 
     public WebhookEvent parseWebhookEvent(String payload) {
-        try {
-            InputStream is = new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8));
+        return WebhookEventUtils.parseWebhookEvent(payload);
+    }
+
+    public WebhookEvent parseWebhookEvent(byte[] payload) {
+        return WebhookEventUtils.parseWebhookEvent(payload);
+    }
+
+    public WebhookEvent parseWebhookEvent(ByteBuffer payload) {
+        return WebhookEventUtils.parseWebhookEvent(payload);
+    }
 
-            return this.client.getSerializerAdapter().deserialize(is, WebhookEvent.class, SerializerEncoding.JSON);
-        } catch (IOException e) {
-            throw new KuFlowRestClientException("Error, parsing webhook event", e);
-        }
+    public WebhookEvent parseWebhookEvent(InputStream payload) {
+        return WebhookEventUtils.parseWebhookEvent(payload);
     }
 }
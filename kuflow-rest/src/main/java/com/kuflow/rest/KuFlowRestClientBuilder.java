@@ -61,6 +61,17 @@ import com.azure.core.util.logging.ClientLogger;
 import com.azure.core.util.serializer.SerializerAdapter;
 import com.kuflow.rest.implementation.KuFlowClientImpl;
 import com.kuflow.rest.implementation.KuFlowClientImplBuilder;
+import com.kuflow.rest.policy.AttemptsPolicy;
+import com.kuflow.rest.policy.ConcurrencyLimitOptions;
+import com.kuflow.rest.policy.ConcurrencyLimitPolicy;
+import com.kuflow.rest.policy.MetricsPolicy;
+import com.kuflow.rest.policy.MicrometerRequestMetricsRecorder;
+import com.kuflow.rest.policy.RequestCoalescingPolicy;
+import com.kuflow.rest.policy.RequestMetricsRecorder;
+import com.kuflow.rest.policy.ResponseCacheOptions;
+import com.kuflow.rest.policy.ResponseCachePolicy;
+import com.kuflow.rest.policy.TracingOptions;
+import com.kuflow.rest.policy.TracingPolicy;
 import com.kuflow.rest.util.Validation;
 import java.util.ArrayList;
 import java.util.List;
@@ -69,9 +80,9 @@ import java.util.Objects;
 import reactor.core.publisher.Mono;
 
 /**
- * KuFlowRestClientBuilder that creates SmsAsyncClient and SmsClient.
+ * KuFlowRestClientBuilder that creates KuFlowRestAsyncClient and KuFlowRestClient.
  */
-@ServiceClientBuilder(serviceClients = { KuFlowRestClient.class })
+@ServiceClientBuilder(serviceClients = { KuFlowRestClient.class, KuFlowRestAsyncClient.class })
 public final class KuFlowRestClientBuilder
     implements ConfigurationTrait<KuFlowRestClientBuilder>, EndpointTrait<KuFlowRestClientBuilder>, HttpTrait<KuFlowRestClientBuilder>
 {
@@ -115,6 +126,16 @@ public final class KuFlowRestClientBuilder
 
     private SerializerAdapter serializerAdapter;
 
+    private ResponseCacheOptions responseCacheOptions;
+
+    private boolean requestCoalescing = false;
+
+    private ConcurrencyLimitOptions concurrencyLimitOptions;
+
+    private RequestMetricsRecorder metricsRecorder;
+
+    private TracingOptions tracingOptions;
+
     /**
      * Set endpoint of the service
      *
@@ -341,6 +362,65 @@ public final class KuFlowRestClientBuilder
         return this;
     }
 
+    /**
+     * Enable the client side cache of the responses of the requests that retrieve a single resource, see
+     * {@link ResponseCachePolicy}. The cache is disabled by default.
+     *
+     * @param responseCacheOptions the cache options, {@code null} to disable the cache.
+     * @return KuFlowRestClientBuilder
+     */
+    public KuFlowRestClientBuilder responseCacheOptions(ResponseCacheOptions responseCacheOptions) {
+        this.responseCacheOptions = responseCacheOptions;
+        return this;
+    }
+
+    /**
+     * Enable/disable the coalescing of concurrent identical GET requests, see {@link RequestCoalescingPolicy}. Disabled
+     * by default.
+     *
+     * @param requestCoalescing {@code true} to share one in-flight request between identical concurrent requests.
+     * @return KuFlowRestClientBuilder
+     */
+    public KuFlowRestClientBuilder requestCoalescing(boolean requestCoalescing) {
+        this.requestCoalescing = requestCoalescing;
+        return this;
+    }
+
+    /**
+     * Enable the adaptive limit of requests in flight, see {@link ConcurrencyLimitPolicy}. Disabled by default.
+     *
+     * @param concurrencyLimitOptions the limit options, {@code null} to disable the limit.
+     * @return KuFlowRestClientBuilder
+     */
+    public KuFlowRestClientBuilder concurrencyLimitOptions(ConcurrencyLimitOptions concurrencyLimitOptions) {
+        this.concurrencyLimitOptions = concurrencyLimitOptions;
+        return this;
+    }
+
+    /**
+     * Enable the collection of request metrics, see {@link MetricsPolicy}. Disabled by default.
+     *
+     * @param metricsRecorder the sink of the metrics, ie: {@link MicrometerRequestMetricsRecorder}, {@code null} to
+     *     disable the metrics.
+     * @return KuFlowRestClientBuilder
+     */
+    public KuFlowRestClientBuilder metricsRecorder(RequestMetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+        return this;
+    }
+
+    /**
+     * Enable the tracing of the requests with OpenTelemetry, see {@link TracingPolicy}. Disabled by default.
+     *
+     * @param tracingOptions the tracing options, ie: {@code new TracingOptions(openTelemetry)}, {@code null} to disable
+     *     the tracing.
+     * @return KuFlowRestClientBuilder
+     */
+    public KuFlowRestClientBuilder tracingOptions(TracingOptions tracingOptions) {
+        this.tracingOptions = tracingOptions;
+        return this;
+    }
+
     /**
      * Create a synchronous client applying default policies.
      * Additional HttpPolicies specified by pipelinePolicies will be applied after them
@@ -353,6 +433,18 @@ public final class KuFlowRestClientBuilder
         return new KuFlowRestClient(this.createServiceImpl());
     }
 
+    /**
+     * Create an asynchronous client applying default policies.
+     * Additional HttpPolicies specified by pipelinePolicies will be applied after them
+     *
+     * @return KuFlowRestAsyncClient instance
+     * @throws IllegalStateException If both {@link #retryOptions(RetryOptions)}
+     * and {@link #retryPolicy(RetryPolicy)} have been set.
+     */
+    public KuFlowRestAsyncClient buildAsyncClient() {
+        return new KuFlowRestAsyncClient(this.createServiceImpl());
+    }
+
     private KuFlowClientImpl createServiceImpl() {
         HttpPipeline builderPipeline = this.createHttpPipeline();
 
@@ -408,7 +500,31 @@ public final class KuFlowRestClientBuilder
             .forEach(policies::add);
         HttpPolicyProviders.addBeforeRetryPolicies(policies);
 
+        if (this.requestCoalescing) {
+            policies.add(new RequestCoalescingPolicy());
+        }
+        if (this.responseCacheOptions != null) {
+            policies.add(new ResponseCachePolicy(this.responseCacheOptions));
+        }
+
+        if (this.tracingOptions != null) {
+            policies.add(new TracingPolicy(this.tracingOptions));
+        }
+        if (this.metricsRecorder != null) {
+            policies.add(new MetricsPolicy(this.metricsRecorder));
+        }
+
         policies.add(ClientBuilderUtil.validateAndGetRetryPolicy(this.retryPolicy, this.retryOptions));
+        if (this.tracingOptions != null || this.metricsRecorder != null) {
+            policies.add(new AttemptsPolicy());
+        }
+        if (this.concurrencyLimitOptions != null) {
+            ConcurrencyLimitPolicy concurrencyLimitPolicy = new ConcurrencyLimitPolicy(this.concurrencyLimitOptions);
+            if (this.metricsRecorder != null) {
+                this.metricsRecorder.registerConcurrencyLimit(concurrencyLimitPolicy);
+            }
+            policies.add(concurrencyLimitPolicy);
+        }
         policies.add(new AddDatePolicy());
         // auth policy is per request, should be after retry
         policies.add(this.createHttpPipelineAuthPolicy());
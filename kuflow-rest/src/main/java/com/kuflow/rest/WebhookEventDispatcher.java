@@ -0,0 +1,369 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest;
+
+import com.azure.core.util.logging.ClientLogger;
+import com.kuflow.rest.model.WebhookEvent;
+import com.kuflow.rest.model.WebhookEventDispatcherOptions;
+import com.kuflow.rest.model.WebhookEventProcessCreated;
+import com.kuflow.rest.model.WebhookEventProcessItemCreated;
+import com.kuflow.rest.model.WebhookEventProcessItemTaskStateChanged;
+import com.kuflow.rest.model.WebhookEventProcessStateChanged;
+import com.kuflow.rest.model.WebhookType;
+import com.kuflow.rest.util.WebhookEventUtils;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Handle the webhook events received from KuFlow in the background.
+ *
+ * <p>Handlers are registered by event type. Events are handled by a fixed number of threads: events of different
+ * processes are handled in parallel, and events of the same process are handled one at a time in the order they were
+ * dispatched. Events already received are ignored, so that the retries of a delivery are only handled once.
+ *
+ * <p>The dispatcher is bounded: {@code dispatch} methods return {@code false} instead of blocking when there are too
+ * many events waiting to be handled, so that the webhook endpoint can ask KuFlow to retry the delivery later. Handler
+ * errors are logged and the event is discarded.
+ */
+public class WebhookEventDispatcher implements AutoCloseable {
+
+    private static final ClientLogger LOGGER = new ClientLogger(WebhookEventDispatcher.class);
+
+    private final WebhookEventDispatcherOptions options;
+
+    private final Map<WebhookType, Consumer<WebhookEvent>> handlers = new ConcurrentHashMap<>();
+
+    private final EventIdCache receivedEventIds;
+
+    private final Map<Object, ArrayDeque<Runnable>> lanes = new ConcurrentHashMap<>();
+
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final ExecutorService executor;
+
+    private volatile boolean closed;
+
+    public WebhookEventDispatcher() {
+        this(new WebhookEventDispatcherOptions());
+    }
+
+    public WebhookEventDispatcher(WebhookEventDispatcherOptions options) {
+        this(options, newExecutor(options));
+    }
+
+    WebhookEventDispatcher(WebhookEventDispatcherOptions options, ExecutorService executor) {
+        this.options = Objects.requireNonNull(options, "'options' is required");
+        this.receivedEventIds = new EventIdCache(options.getDeduplicationSize(), options.getDeduplicationTtl().toNanos());
+        this.executor = executor;
+    }
+
+    private static ExecutorService newExecutor(WebhookEventDispatcherOptions options) {
+        Objects.requireNonNull(options, "'options' is required");
+
+        return Executors.newFixedThreadPool(options.getParallelism(), new DispatcherThreadFactory());
+    }
+
+    /**
+     * Register the handler of an event type, replacing the previous one.
+     *
+     * @param type Event type.
+     * @param eventClass Class of the events of the type.
+     * @param handler Handler of the events.
+     * @param <T> Type of the events.
+     * @return the dispatcher itself.
+     */
+    public <T extends WebhookEvent> WebhookEventDispatcher on(WebhookType type, Class<T> eventClass, Consumer<? super T> handler) {
+        Objects.requireNonNull(type, "'type' is required");
+        Objects.requireNonNull(eventClass, "'eventClass' is required");
+        Objects.requireNonNull(handler, "'handler' is required");
+
+        this.handlers.put(type, event -> {
+            if (!eventClass.isInstance(event)) {
+                LOGGER.warning("Ignored webhook event {} of type {}, expected {}", event.getId(), type, eventClass.getName());
+
+                return;
+            }
+            handler.accept(eventClass.cast(event));
+        });
+
+        return this;
+    }
+
+    public WebhookEventDispatcher onProcessCreated(Consumer<? super WebhookEventProcessCreated> handler) {
+        return this.on(WebhookType.PROCESS_CREATED, WebhookEventProcessCreated.class, handler);
+    }
+
+    public WebhookEventDispatcher onProcessStateChanged(Consumer<? super WebhookEventProcessStateChanged> handler) {
+        return this.on(WebhookType.PROCESS_STATE_CHANGED, WebhookEventProcessStateChanged.class, handler);
+    }
+
+    public WebhookEventDispatcher onProcessItemCreated(Consumer<? super WebhookEventProcessItemCreated> handler) {
+        return this.on(WebhookType.PROCESS_ITEM_CREATED, WebhookEventProcessItemCreated.class, handler);
+    }
+
+    public WebhookEventDispatcher onProcessItemTaskStateChanged(Consumer<? super WebhookEventProcessItemTaskStateChanged> handler) {
+        return this.on(WebhookType.PROCESS_ITEM_TASK_STATE_CHANGED, WebhookEventProcessItemTaskStateChanged.class, handler);
+    }
+
+    /**
+     * Parse a webhook event from its UTF-8 encoded JSON payload and dispatch it.
+     *
+     * @param payload The payload of the webhook.
+     * @return {@code false} if there are too many events waiting to be handled, {@code true} otherwise.
+     * @throws KuFlowRestClientException if the payload is not a valid event.
+     * @throws IllegalStateException if the dispatcher is closed.
+     */
+    public boolean dispatch(byte[] payload) {
+        return this.dispatch(WebhookEventUtils.parseWebhookEvent(payload));
+    }
+
+    /**
+     * Parse a webhook event from the remaining bytes of a buffer with its UTF-8 encoded JSON payload and dispatch it.
+     *
+     * @param payload The payload of the webhook.
+     * @return {@code false} if there are too many events waiting to be handled, {@code true} otherwise.
+     * @throws KuFlowRestClientException if the payload is not a valid event.
+     * @throws IllegalStateException if the dispatcher is closed.
+     */
+    public boolean dispatch(ByteBuffer payload) {
+        return this.dispatch(WebhookEventUtils.parseWebhookEvent(payload));
+    }
+
+    /**
+     * Parse a webhook event from a stream with its UTF-8 encoded JSON payload and dispatch it. Leaves the stream open.
+     *
+     * @param payload The payload of the webhook.
+     * @return {@code false} if there are too many events waiting to be handled, {@code true} otherwise.
+     * @throws KuFlowRestClientException if the payload is not a valid event.
+     * @throws IllegalStateException if the dispatcher is closed.
+     */
+    public boolean dispatch(InputStream payload) {
+        return this.dispatch(WebhookEventUtils.parseWebhookEvent(payload));
+    }
+
+    /**
+     * Dispatch a webhook event. Events without handler and events already received are ignored.
+     *
+     * @param event The webhook event.
+     * @return {@code false} if there are too many events waiting to be handled, {@code true} otherwise.
+     * @throws IllegalStateException if the dispatcher is closed.
+     */
+    public boolean dispatch(WebhookEvent event) {
+        Objects.requireNonNull(event, "'event' is required");
+        if (this.closed) {
+            throw new IllegalStateException("The dispatcher is closed");
+        }
+
+        Consumer<WebhookEvent> handler = event.getType() != null ? this.handlers.get(event.getType()) : null;
+        if (handler == null) {
+            return true;
+        }
+
+        UUID eventId = event.getId();
+        if (eventId != null && !this.receivedEventIds.add(eventId)) {
+            return true;
+        }
+
+        if (this.pending.incrementAndGet() > this.options.getCapacity()) {
+            this.pending.decrementAndGet();
+            if (eventId != null) {
+                // Let the retry of the delivery be handled
+                this.receivedEventIds.remove(eventId);
+            }
+
+            return false;
+        }
+
+        Runnable task = () -> {
+            try {
+                handler.accept(event);
+            } catch (RuntimeException e) {
+                LOGGER.warning("Error handling the webhook event {} of type {}", eventId, event.getType(), e);
+            } finally {
+                this.pending.decrementAndGet();
+            }
+        };
+
+        Object laneKey = WebhookEventUtils.getProcessId(event);
+        if (laneKey == null) {
+            laneKey = new Object();
+        }
+
+        boolean[] started = { false };
+        this.lanes.compute(laneKey, (key, lane) -> {
+            ArrayDeque<Runnable> target = lane;
+            if (target == null) {
+                target = new ArrayDeque<>();
+                started[0] = true;
+            }
+            target.add(task);
+
+            return target;
+        });
+
+        if (started[0]) {
+            Object key = laneKey;
+            try {
+                this.executor.execute(() -> this.drain(key));
+            } catch (RejectedExecutionException e) {
+                // Closed after the check above
+                this.reject(key, task, eventId);
+
+                throw new IllegalStateException("The dispatcher is closed", e);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Get the number of events waiting to be handled.
+     *
+     * @return the number of events.
+     */
+    public int getPending() {
+        return this.pending.get();
+    }
+
+    /**
+     * Stop accepting events, and wait for the dispatched ones to be handled.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        this.executor.shutdown();
+        try {
+            while (!this.executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                LOGGER.info("Waiting for {} webhook events to be handled", this.pending.get());
+            }
+        } catch (InterruptedException e) {
+            this.executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void reject(Object key, Runnable task, UUID eventId) {
+        this.pending.decrementAndGet();
+        if (eventId != null) {
+            // Let the retry of the delivery be handled
+            this.receivedEventIds.remove(eventId);
+        }
+
+        boolean[] remaining = { false };
+        this.lanes.computeIfPresent(key, (k, lane) -> {
+            lane.remove(task);
+            remaining[0] = !lane.isEmpty();
+
+            return remaining[0] ? lane : null;
+        });
+
+        if (remaining[0]) {
+            // Events of the same process accepted in the meantime wait for this lane, handle them here
+            this.drain(key);
+        }
+    }
+
+    private void drain(Object key) {
+        Runnable[] task = { null };
+        while (true) {
+            // The lane is removed when it is empty, a later event starts a new lane
+            this.lanes.computeIfPresent(key, (k, lane) -> {
+                task[0] = lane.poll();
+
+                return task[0] != null ? lane : null;
+            });
+
+            if (task[0] == null) {
+                return;
+            }
+            task[0].run();
+        }
+    }
+
+    private static final class EventIdCache {
+
+        private final int maxSize;
+
+        private final long ttlNanos;
+
+        private final LinkedHashMap<UUID, Long> receivedAt = new LinkedHashMap<>();
+
+        private EventIdCache(int maxSize, long ttlNanos) {
+            this.maxSize = maxSize;
+            this.ttlNanos = ttlNanos;
+        }
+
+        private synchronized boolean add(UUID eventId) {
+            long now = System.nanoTime();
+
+            Iterator<Long> iterator = this.receivedAt.values().iterator();
+            while (iterator.hasNext() && now - iterator.next() >= this.ttlNanos) {
+                iterator.remove();
+            }
+
+            if (this.maxSize == 0) {
+                return true;
+            }
+            if (this.receivedAt.putIfAbsent(eventId, now) != null) {
+                return false;
+            }
+            if (this.receivedAt.size() > this.maxSize) {
+                this.receivedAt.remove(this.receivedAt.keySet().iterator().next());
+            }
+
+            return true;
+        }
+
+        private synchronized void remove(UUID eventId) {
+            this.receivedAt.remove(eventId);
+        }
+    }
+
+    private static final class DispatcherThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "kuflow-webhook-dispatcher-" + this.count.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+}
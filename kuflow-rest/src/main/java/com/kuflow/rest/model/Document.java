@@ -24,9 +24,21 @@
 package com.kuflow.rest.model;
 
 import com.azure.core.util.BinaryData;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import reactor.core.publisher.Flux;
 
 public class Document {
 
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private static final int CHANNEL_CHUNK_SIZE = 64 * 1024;
+
     private String fileName;
 
     private String contentType;
@@ -62,4 +74,101 @@ public class Document {
 
         return this;
     }
+
+    /**
+     * Create a document whose content is streamed from the given file when it is uploaded. The file name is taken from
+     * the path and the content type is probed from the file, defaulting to {@code application/octet-stream}.
+     *
+     * @param path the file to upload.
+     * @return the document.
+     * @throws UncheckedIOException if the file cannot be read.
+     */
+    public static Document fromPath(Path path) {
+        Objects.requireNonNull(path, "'path' is required");
+
+        String contentType;
+        try {
+            contentType = Files.probeContentType(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return fromPath(path, contentType != null ? contentType : DEFAULT_CONTENT_TYPE);
+    }
+
+    /**
+     * Create a document whose content is streamed from the given file when it is uploaded, the file is never loaded in
+     * memory and HTTP clients that support it send it using zero-copy transfers. The file name is taken from the path.
+     *
+     * @param path the file to upload.
+     * @param contentType the content type of the file.
+     * @return the document.
+     * @throws UncheckedIOException if the file cannot be read.
+     */
+    public static Document fromPath(Path path, String contentType) {
+        Objects.requireNonNull(path, "'path' is required");
+        Objects.requireNonNull(contentType, "'contentType' is required");
+
+        return new Document()
+            .setFileName(path.getFileName().toString())
+            .setContentType(contentType)
+            .setFileContent(BinaryData.fromFile(path));
+    }
+
+    /**
+     * Create a document whose content is streamed from the given channel when it is uploaded, starting at the current
+     * position of the channel up to its end. The content is read using positional reads, so the position of the channel
+     * is not modified and the content can be sent again if the upload is retried. The channel is not closed.
+     *
+     * @param channel the channel to upload.
+     * @param fileName the name of the file.
+     * @param contentType the content type of the file.
+     * @return the document.
+     * @throws UncheckedIOException if the channel cannot be read.
+     */
+    public static Document fromChannel(FileChannel channel, String fileName, String contentType) {
+        Objects.requireNonNull(channel, "'channel' is required");
+        Objects.requireNonNull(fileName, "'fileName' is required");
+        Objects.requireNonNull(contentType, "'contentType' is required");
+
+        long start;
+        long end;
+        try {
+            start = channel.position();
+            end = channel.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Flux<ByteBuffer> content = Flux.generate(
+            () -> start,
+            (position, sink) -> {
+                if (position >= end) {
+                    sink.complete();
+                    return position;
+                }
+
+                ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(CHANNEL_CHUNK_SIZE, end - position));
+                try {
+                    int read = channel.read(buffer, position);
+                    if (read < 0) {
+                        sink.error(new IOException("Unexpected end of channel"));
+                        return position;
+                    }
+                    buffer.flip();
+                    sink.next(buffer);
+
+                    return position + read;
+                } catch (IOException e) {
+                    sink.error(e);
+                    return position;
+                }
+            }
+        );
+
+        return new Document()
+            .setFileName(fileName)
+            .setContentType(contentType)
+            .setFileContent(BinaryData.fromFlux(content, end - start, false).block());
+    }
 }
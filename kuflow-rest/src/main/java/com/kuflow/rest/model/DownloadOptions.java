@@ -0,0 +1,92 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.model;
+
+/**
+ * Options of the downloads that are requested by byte ranges.
+ *
+ * <p>By default the content is downloaded with a single request, and if the connection drops the download is resumed
+ * from the last byte written. When the segment concurrency is greater than one, the content is split in segments of
+ * the given size that are downloaded in parallel into a preallocated file.
+ */
+public class DownloadOptions {
+
+    private static final int DEFAULT_MAX_RESUME_ATTEMPTS = 3;
+
+    private static final long DEFAULT_SEGMENT_SIZE = 8L * 1024 * 1024;
+
+    /**
+     * Maximum number of times that an interrupted transfer is resumed.
+     */
+    private int maxResumeAttempts = DEFAULT_MAX_RESUME_ATTEMPTS;
+
+    /**
+     * Size in bytes of each segment when the content is downloaded in parallel.
+     */
+    private long segmentSize = DEFAULT_SEGMENT_SIZE;
+
+    /**
+     * Maximum number of segments downloaded concurrently, 1 means that the content is downloaded with a single request.
+     */
+    private int segmentConcurrency = 1;
+
+    public int getMaxResumeAttempts() {
+        return this.maxResumeAttempts;
+    }
+
+    public DownloadOptions setMaxResumeAttempts(int maxResumeAttempts) {
+        if (maxResumeAttempts < 0) {
+            throw new IllegalArgumentException("'maxResumeAttempts' must be greater than or equal to 0");
+        }
+        this.maxResumeAttempts = maxResumeAttempts;
+
+        return this;
+    }
+
+    public long getSegmentSize() {
+        return this.segmentSize;
+    }
+
+    public DownloadOptions setSegmentSize(long segmentSize) {
+        if (segmentSize < 1) {
+            throw new IllegalArgumentException("'segmentSize' must be greater than 0");
+        }
+        this.segmentSize = segmentSize;
+
+        return this;
+    }
+
+    public int getSegmentConcurrency() {
+        return this.segmentConcurrency;
+    }
+
+    public DownloadOptions setSegmentConcurrency(int segmentConcurrency) {
+        if (segmentConcurrency < 1) {
+            throw new IllegalArgumentException("'segmentConcurrency' must be greater than 0");
+        }
+        this.segmentConcurrency = segmentConcurrency;
+
+        return this;
+    }
+}
@@ -22,19 +22,26 @@
  */
 
 package com.kuflow.rest.model;
-
 import com.azure.core.annotation.Fluent;
-import com.azure.core.annotation.Generated;
+import com.azure.json.JsonProviders;
 import com.azure.json.JsonReader;
 import com.azure.json.JsonSerializable;
 import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
+import com.kuflow.rest.util.JsonPointerUtils;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Json value.
+ *
+ * <p>Replaces the model generated from the JsonValue schema, see the generate scripts of the openapi folder. The value
+ * property is kept as raw JSON when it is deserialized and only parsed into a map the first time it is requested, so
+ * reading a process, a process item or a business artifact does not pay for data that nobody uses. Single elements
+ * can be read with {@link #getValueAt(String)}, and the value can be bound to a user type with
+ * {@link JsonValueMapper}, without parsing the whole value into a map.
  */
 @Fluent
 public final class JsonValue implements JsonSerializable<JsonValue> {
@@ -42,25 +49,26 @@ public final class JsonValue implements JsonSerializable<JsonValue> {
     /*
      * true if the data complain the related json schema.
      */
-    @Generated
     private Boolean valid;
 
     /*
      * json value filled that complain with the related json schema.
      */
-    @Generated
     private Map<String, Object> value;
 
+    /*
+     * Raw JSON of the value property, until it is parsed.
+     */
+    private String rawValue;
+
     /*
      * The errors property.
      */
-    @Generated
     private List<JsonValueError> errors;
 
     /**
      * Creates an instance of JsonValue class.
      */
-    @Generated
     public JsonValue() {}
 
     /**
@@ -68,7 +76,6 @@ public final class JsonValue implements JsonSerializable<JsonValue> {
      *
      * @return the valid value.
      */
-    @Generated
     public Boolean isValid() {
         return this.valid;
     }
@@ -78,20 +85,46 @@ public final class JsonValue implements JsonSerializable<JsonValue> {
      *
      * @return the value value.
      */
-    @Generated
     public Map<String, Object> getValue() {
+        String rawValue = this.rawValue;
+        if (rawValue != null) {
+            try (JsonReader reader = JsonProviders.createReader(rawValue)) {
+                this.value = reader.readMap(JsonReader::readUntyped);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.rawValue = null;
+        }
+
         return this.value;
     }
 
+    /**
+     * Get a single element of the value property addressed by a JSON Pointer (RFC 6901), for example
+     * {@code /address/street} or {@code /lines/0}. When the value has not been parsed yet only the addressed element
+     * is read, and the value is kept unparsed. The empty pointer addresses the whole value, as {@link #getValue()}.
+     *
+     * @param jsonPointer the JSON pointer, relative to the value property.
+     * @return the element (a map, list, string, number or boolean), or null if it does not exist.
+     */
+    public Object getValueAt(String jsonPointer) {
+        String rawValue = this.rawValue;
+        if (rawValue != null && jsonPointer != null && !jsonPointer.isEmpty()) {
+            return JsonPointerUtils.readValueAt(rawValue, jsonPointer);
+        }
+
+        return JsonPointerUtils.getValueAt(this.getValue(), jsonPointer);
+    }
+
     /**
      * Set the value property: json value filled that complain with the related json schema.
      *
      * @param value the value value to set.
      * @return the JsonValue object itself.
      */
-    @Generated
     public JsonValue setValue(Map<String, Object> value) {
         this.value = value;
+        this.rawValue = null;
         return this;
     }
 
@@ -100,19 +133,31 @@ public final class JsonValue implements JsonSerializable<JsonValue> {
      *
      * @return the errors value.
      */
-    @Generated
     public List<JsonValueError> getErrors() {
         return this.errors;
     }
 
+    /**
+     * Get the raw JSON of the value property.
+     *
+     * @return the raw JSON, or null once the value has been parsed or set.
+     */
+    String getRawValue() {
+        return this.rawValue;
+    }
+
     /**
      * {@inheritDoc}
      */
-    @Generated
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeMapField("value", this.value, (writer, element) -> writer.writeUntyped(element));
+        String rawValue = this.rawValue;
+        if (rawValue != null) {
+            jsonWriter.writeRawField("value", rawValue);
+        } else {
+            jsonWriter.writeMapField("value", this.value, (writer, element) -> writer.writeUntyped(element));
+        }
         return jsonWriter.writeEndObject();
     }
 
@@ -125,7 +170,6 @@ public final class JsonValue implements JsonSerializable<JsonValue> {
      * @throws IllegalStateException If the deserialized JSON object was missing any required properties.
      * @throws IOException If an error occurs while reading the JsonValue.
      */
-    @Generated
     public static JsonValue fromJson(JsonReader jsonReader) throws IOException {
         return jsonReader.readObject(reader -> {
             JsonValue deserializedJsonValue = new JsonValue();
@@ -134,8 +178,10 @@ public final class JsonValue implements JsonSerializable<JsonValue> {
                 reader.nextToken();
 
                 if ("value".equals(fieldName)) {
-                    Map<String, Object> value = reader.readMap(reader1 -> reader1.readUntyped());
-                    deserializedJsonValue.value = value;
+                    // The value is copied as it is, it is only parsed when it is requested
+                    if (reader.currentToken() != JsonToken.NULL) {
+                        deserializedJsonValue.rawValue = reader.readChildren();
+                    }
                 } else if ("valid".equals(fieldName)) {
                     deserializedJsonValue.valid = reader.getNullable(JsonReader::getBoolean);
                 } else if ("errors".equals(fieldName)) {
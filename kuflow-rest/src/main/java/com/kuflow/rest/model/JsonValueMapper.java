@@ -0,0 +1,84 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.model;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Binds the content of a {@link JsonValue} to user types. A value that has not been parsed yet is read straight from
+ * its raw JSON into the type, with a reader cached per type, so the intermediate map is never built.
+ */
+public final class JsonValueMapper {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+        .addModule(new JavaTimeModule())
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .build();
+
+    private static final Map<Class<?>, ObjectReader> OBJECT_READERS = new ConcurrentHashMap<>();
+
+    private JsonValueMapper() {}
+
+    /**
+     * Get the value property of a {@link JsonValue} bound to the given type. Unknown properties are ignored and
+     * {@code java.time} types are supported. A value that has not been parsed yet is kept unparsed.
+     *
+     * @param jsonValue the json value (may be {@code null}).
+     * @param type the type of the value, usually a POJO or record mirroring the json schema.
+     * @param <T> the type of the value.
+     * @return the value, or null if there is no value.
+     */
+    public static <T> T getValueAs(JsonValue jsonValue, Class<T> type) {
+        Objects.requireNonNull(type, "'type' is required");
+
+        if (jsonValue == null) {
+            return null;
+        }
+
+        String rawValue = jsonValue.getRawValue();
+        if (rawValue != null) {
+            try {
+                return OBJECT_READERS.computeIfAbsent(type, OBJECT_MAPPER::readerFor).readValue(rawValue);
+            } catch (JsonProcessingException e) {
+                // Same exception as convertValue, whatever the state of the value
+                throw new IllegalArgumentException(e.getMessage(), e);
+            }
+        }
+
+        Map<String, Object> value = jsonValue.getValue();
+        if (value == null) {
+            return null;
+        }
+
+        return OBJECT_MAPPER.convertValue(value, type);
+    }
+}
@@ -84,6 +84,18 @@ public class ProcessItemFindOptions {
      */
     private final List<String> processDefinitionCodes = new LinkedList<>();
 
+    /**
+     * Maximum number of pages retrieved concurrently when streaming. Only used by the stream methods, once the first
+     * page is received the remaining pages are retrieved with this degree of parallelism.
+     */
+    private Integer pageConcurrency;
+
+    /**
+     * When pages are retrieved concurrently, whether the items are streamed in page order (default) or as soon as
+     * each page is received.
+     */
+    private boolean preserveOrder = true;
+
     public Integer getSize() {
         return this.size;
     }
@@ -403,4 +415,27 @@ public class ProcessItemFindOptions {
 
         return this;
     }
+
+    public Integer getPageConcurrency() {
+        return this.pageConcurrency;
+    }
+
+    public ProcessItemFindOptions setPageConcurrency(Integer pageConcurrency) {
+        if (pageConcurrency != null && pageConcurrency < 1) {
+            throw new IllegalArgumentException("'pageConcurrency' must be greater than 0");
+        }
+        this.pageConcurrency = pageConcurrency;
+
+        return this;
+    }
+
+    public boolean isPreserveOrder() {
+        return this.preserveOrder;
+    }
+
+    public ProcessItemFindOptions setPreserveOrder(boolean preserveOrder) {
+        this.preserveOrder = preserveOrder;
+
+        return this;
+    }
 }
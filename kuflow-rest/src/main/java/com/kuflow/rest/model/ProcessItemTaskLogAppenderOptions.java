@@ -0,0 +1,117 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.model;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Options of the buffer that sends the task logs of process items in the background.
+ *
+ * <p>Consecutive entries of the same process item and level are merged into a single log, separated by new lines, as
+ * long as the merged message does not exceed the maximum length.
+ */
+public class ProcessItemTaskLogAppenderOptions {
+
+    private static final int DEFAULT_CAPACITY = 10_000;
+
+    private static final int DEFAULT_MAX_BATCH_ENTRIES = 50;
+
+    private static final int DEFAULT_MAX_MESSAGE_LENGTH = 4_000;
+
+    private static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(1);
+
+    /**
+     * Maximum number of entries waiting to be sent, across all the process items.
+     */
+    private int capacity = DEFAULT_CAPACITY;
+
+    /**
+     * Number of entries of a process item that triggers a flush, and maximum number of entries merged in a log.
+     */
+    private int maxBatchEntries = DEFAULT_MAX_BATCH_ENTRIES;
+
+    /**
+     * Maximum length of a merged log message. Longer entries are sent alone.
+     */
+    private int maxMessageLength = DEFAULT_MAX_MESSAGE_LENGTH;
+
+    /**
+     * Interval of the periodic flush of all the process items.
+     */
+    private Duration flushInterval = DEFAULT_FLUSH_INTERVAL;
+
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    public ProcessItemTaskLogAppenderOptions setCapacity(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("'capacity' must be greater than 0");
+        }
+        this.capacity = capacity;
+
+        return this;
+    }
+
+    public int getMaxBatchEntries() {
+        return this.maxBatchEntries;
+    }
+
+    public ProcessItemTaskLogAppenderOptions setMaxBatchEntries(int maxBatchEntries) {
+        if (maxBatchEntries < 1) {
+            throw new IllegalArgumentException("'maxBatchEntries' must be greater than 0");
+        }
+        this.maxBatchEntries = maxBatchEntries;
+
+        return this;
+    }
+
+    public int getMaxMessageLength() {
+        return this.maxMessageLength;
+    }
+
+    public ProcessItemTaskLogAppenderOptions setMaxMessageLength(int maxMessageLength) {
+        if (maxMessageLength < 1) {
+            throw new IllegalArgumentException("'maxMessageLength' must be greater than 0");
+        }
+        this.maxMessageLength = maxMessageLength;
+
+        return this;
+    }
+
+    public Duration getFlushInterval() {
+        return this.flushInterval;
+    }
+
+    public ProcessItemTaskLogAppenderOptions setFlushInterval(Duration flushInterval) {
+        Objects.requireNonNull(flushInterval, "'flushInterval' is required");
+        if (flushInterval.isNegative() || flushInterval.isZero()) {
+            throw new IllegalArgumentException("'flushInterval' must be greater than 0");
+        }
+        this.flushInterval = flushInterval;
+
+        return this;
+    }
+}
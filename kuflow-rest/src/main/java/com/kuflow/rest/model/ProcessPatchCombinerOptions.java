@@ -0,0 +1,77 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.model;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Options of the combiner that merges the patches of the same process into a single request.
+ *
+ * <p>The patches received for a process are held for the given window, counted from the first one, and then sent
+ * together. A batch is sent earlier when it reaches the maximum number of operations.
+ */
+public class ProcessPatchCombinerOptions {
+
+    private static final Duration DEFAULT_WINDOW = Duration.ofMillis(20);
+
+    private static final int DEFAULT_MAX_OPERATIONS = 256;
+
+    /**
+     * Time that the patches of a process are held waiting for more patches.
+     */
+    private Duration window = DEFAULT_WINDOW;
+
+    /**
+     * Maximum number of operations sent in a single request.
+     */
+    private int maxOperations = DEFAULT_MAX_OPERATIONS;
+
+    public Duration getWindow() {
+        return this.window;
+    }
+
+    public ProcessPatchCombinerOptions setWindow(Duration window) {
+        Objects.requireNonNull(window, "'window' is required");
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("'window' must be greater than or equal to 0");
+        }
+        this.window = window;
+
+        return this;
+    }
+
+    public int getMaxOperations() {
+        return this.maxOperations;
+    }
+
+    public ProcessPatchCombinerOptions setMaxOperations(int maxOperations) {
+        if (maxOperations < 1) {
+            throw new IllegalArgumentException("'maxOperations' must be greater than 0");
+        }
+        this.maxOperations = maxOperations;
+
+        return this;
+    }
+}
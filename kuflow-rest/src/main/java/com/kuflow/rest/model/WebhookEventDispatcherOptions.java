@@ -0,0 +1,117 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.model;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Options of the dispatcher of webhook events.
+ *
+ * <p>Events are handled in parallel, except those of the same process that are handled one at a time in the order they
+ * were received. Event ids already received are remembered for a while to ignore the retries of a delivery.
+ */
+public class WebhookEventDispatcherOptions {
+
+    private static final int DEFAULT_CAPACITY = 10_000;
+
+    private static final int DEFAULT_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+    private static final int DEFAULT_DEDUPLICATION_SIZE = 100_000;
+
+    private static final Duration DEFAULT_DEDUPLICATION_TTL = Duration.ofHours(1);
+
+    /**
+     * Maximum number of events waiting to be handled, across all the processes.
+     */
+    private int capacity = DEFAULT_CAPACITY;
+
+    /**
+     * Number of threads handling events.
+     */
+    private int parallelism = DEFAULT_PARALLELISM;
+
+    /**
+     * Maximum number of event ids remembered. The oldest ones are forgotten first.
+     */
+    private int deduplicationSize = DEFAULT_DEDUPLICATION_SIZE;
+
+    /**
+     * Time an event id is remembered since it was received.
+     */
+    private Duration deduplicationTtl = DEFAULT_DEDUPLICATION_TTL;
+
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    public WebhookEventDispatcherOptions setCapacity(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("'capacity' must be greater than 0");
+        }
+        this.capacity = capacity;
+
+        return this;
+    }
+
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    public WebhookEventDispatcherOptions setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("'parallelism' must be greater than 0");
+        }
+        this.parallelism = parallelism;
+
+        return this;
+    }
+
+    public int getDeduplicationSize() {
+        return this.deduplicationSize;
+    }
+
+    public WebhookEventDispatcherOptions setDeduplicationSize(int deduplicationSize) {
+        if (deduplicationSize < 0) {
+            throw new IllegalArgumentException("'deduplicationSize' must be greater than or equal to 0");
+        }
+        this.deduplicationSize = deduplicationSize;
+
+        return this;
+    }
+
+    public Duration getDeduplicationTtl() {
+        return this.deduplicationTtl;
+    }
+
+    public WebhookEventDispatcherOptions setDeduplicationTtl(Duration deduplicationTtl) {
+        Objects.requireNonNull(deduplicationTtl, "'deduplicationTtl' is required");
+        if (deduplicationTtl.isNegative()) {
+            throw new IllegalArgumentException("'deduplicationTtl' must be greater than or equal to 0");
+        }
+        this.deduplicationTtl = deduplicationTtl;
+
+        return this;
+    }
+}
@@ -0,0 +1,707 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.operation;
+
+import com.azure.core.annotation.ReturnType;
+import com.azure.core.annotation.ServiceMethod;
+import com.azure.core.http.rest.PagedFlux;
+import com.azure.core.http.rest.Response;
+import com.azure.core.util.BinaryData;
+import com.azure.core.util.Context;
+import com.azure.core.util.CoreUtils;
+import com.azure.core.util.FluxUtil;
+import com.kuflow.rest.implementation.BusinessArtifactOperationsImpl;
+import com.kuflow.rest.implementation.KuFlowClientImpl;
+import com.kuflow.rest.model.BusinessArtifact;
+import com.kuflow.rest.model.BusinessArtifactAction;
+import com.kuflow.rest.model.BusinessArtifactActionCreateParams;
+import com.kuflow.rest.model.BusinessArtifactCreateArtifactPrepare;
+import com.kuflow.rest.model.BusinessArtifactCreateArtifactPrepareParams;
+import com.kuflow.rest.model.BusinessArtifactCreateParams;
+import com.kuflow.rest.model.BusinessArtifactDataUpdateParams;
+import com.kuflow.rest.model.BusinessArtifactFindOptions;
+import com.kuflow.rest.model.BusinessArtifactPage;
+import com.kuflow.rest.model.BusinessArtifactPageItem;
+import com.kuflow.rest.model.DefaultErrorException;
+import com.kuflow.rest.model.Document;
+import com.kuflow.rest.model.DocumentReference;
+import com.kuflow.rest.model.JsonPatchOperation;
+import com.kuflow.rest.model.JsonValue;
+import com.kuflow.rest.model.JsonValueMapper;
+import com.kuflow.rest.policy.TraceContextPropagation;
+import com.kuflow.rest.util.JsonPatchUtils;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import reactor.core.publisher.Mono;
+
+/** An instance of this class provides asynchronous access to all the operations defined in BusinessArtifactOperations. */
+public class BusinessArtifactAsyncOperations {
+
+    static final QuerySplitter<BusinessArtifactFindOptions, BusinessArtifactPageItem> QUERY_SPLITTER = new QuerySplitter<>(
+        BusinessArtifactAsyncOperations::copyFindOptions,
+        BusinessArtifactPageItem::getId,
+        QuerySplitter.filter("tenantId", BusinessArtifactFindOptions::getTenantIds, BusinessArtifactFindOptions::setTenantIds),
+        QuerySplitter.filter(
+            "businessArtifactDefinitionId",
+            BusinessArtifactFindOptions::getBusinessArtifactDefinitionIds,
+            BusinessArtifactFindOptions::setBusinessArtifactDefinitionIds
+        ),
+        QuerySplitter.filter(
+            "businessArtifactDefinitionCode",
+            BusinessArtifactFindOptions::getBusinessArtifactDefinitionCodes,
+            BusinessArtifactFindOptions::setBusinessArtifactDefinitionCodes
+        )
+    );
+
+    /** The service. */
+    private final BusinessArtifactOperationsImpl service;
+
+    /**
+     * Initializes an instance of BusinessArtifactAsyncOperations.
+     *
+     * @param client the instance of the service client containing this operation class.
+     */
+    public BusinessArtifactAsyncOperations(KuFlowClientImpl client) {
+        this.service = client.getBusinessArtifactOperations();
+    }
+
+    /**
+     * Find all accessible Business Artifacts
+     * <p>
+     * List all the Business Artifacts that have been created and the credentials has access.
+     * <p>
+     * Available sort query values: id, createdAt, lastModifiedAt.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<BusinessArtifactPage>> findBusinessArtifactsWithResponse(BusinessArtifactFindOptions options) {
+        BusinessArtifactFindOptions findOptions = options != null ? options : new BusinessArtifactFindOptions();
+
+        List<BusinessArtifactFindOptions> queries = QUERY_SPLITTER.split(findOptions);
+        if (queries.size() > 1) {
+            return this.findBusinessArtifactsWithResponse(queries, findOptions, Context.NONE);
+        }
+
+        return this.findBusinessArtifactsWithResponse(findOptions, findOptions.getPage());
+    }
+
+    /**
+     * Find the business artifacts of a query that was split because its filters do not fit in a single URL.
+     *
+     * @param queries The queries the options were split in.
+     * @param findOptions The options parameters.
+     * @param context The context to associate with the requests of the queries.
+     * @return the merged page along with {@link Response} on successful completion of {@link Mono}.
+     */
+    Mono<Response<BusinessArtifactPage>> findBusinessArtifactsWithResponse(
+        List<BusinessArtifactFindOptions> queries,
+        BusinessArtifactFindOptions findOptions,
+        Context context
+    ) {
+        return QUERY_SPLITTER.find(
+            queries,
+            findOptions.getPage(),
+            findOptions.getSorts(),
+            (query, page) -> this.findBusinessArtifactsWithResponse(query, page, context),
+            BusinessArtifactPage::getContent,
+            (content, metadata) -> new BusinessArtifactPage().setContent(content).setMetadata(metadata)
+        );
+    }
+
+    private Mono<Response<BusinessArtifactPage>> findBusinessArtifactsWithResponse(BusinessArtifactFindOptions findOptions, Integer page) {
+        return this.findBusinessArtifactsWithResponse(findOptions, page, Context.NONE);
+    }
+
+    private Mono<Response<BusinessArtifactPage>> findBusinessArtifactsWithResponse(
+        BusinessArtifactFindOptions findOptions,
+        Integer page,
+        Context context
+    ) {
+        Integer size = findOptions.getSize();
+        List<String> sort = !findOptions.getSorts().isEmpty() ? findOptions.getSorts() : null;
+        List<UUID> tenantId = !findOptions.getTenantIds().isEmpty() ? findOptions.getTenantIds() : null;
+        List<UUID> businessArtifactDefinitionId = !findOptions.getBusinessArtifactDefinitionIds().isEmpty()
+            ? findOptions.getBusinessArtifactDefinitionIds()
+            : null;
+        List<String> businessArtifactDefinitionCode = !findOptions.getBusinessArtifactDefinitionCodes().isEmpty()
+            ? findOptions.getBusinessArtifactDefinitionCodes()
+            : null;
+        List<String> value = !findOptions.getValues().isEmpty() ? findOptions.getValues() : null;
+
+        return TraceContextPropagation.withCurrentContext(
+            FluxUtil.withContext(subscriberContext ->
+                this.service.findBusinessArtifactsWithResponseAsync(
+                    size,
+                    page,
+                    sort,
+                    tenantId,
+                    businessArtifactDefinitionId,
+                    businessArtifactDefinitionCode,
+                    value,
+                    CoreUtils.mergeContexts(subscriberContext, context)
+                )
+            )
+        );
+    }
+
+    private static BusinessArtifactFindOptions copyFindOptions(BusinessArtifactFindOptions findOptions) {
+        return new BusinessArtifactFindOptions()
+            .setSize(findOptions.getSize())
+            .setPage(findOptions.getPage())
+            .setSorts(findOptions.getSorts())
+            .setTenantIds(findOptions.getTenantIds())
+            .setBusinessArtifactDefinitionIds(findOptions.getBusinessArtifactDefinitionIds())
+            .setBusinessArtifactDefinitionCodes(findOptions.getBusinessArtifactDefinitionCodes())
+            .setValues(findOptions.getValues());
+    }
+
+    /**
+     * Find all accessible Business Artifacts
+     * <p>
+     * List all the Business Artifacts that have been created and the credentials has access.
+     * <p>
+     * Available sort query values: id, createdAt, lastModifiedAt.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<BusinessArtifactPage> findBusinessArtifacts(BusinessArtifactFindOptions options) {
+        return this.findBusinessArtifactsWithResponse(options).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Find all accessible Business Artifacts
+     * <p>
+     * List all the Business Artifacts that have been created and the credentials has access.
+     * <p>
+     * Available sort query values: id, createdAt, lastModifiedAt.
+     *
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<BusinessArtifactPage> findBusinessArtifacts() {
+        return this.findBusinessArtifacts(null);
+    }
+
+    /**
+     * Stream all accessible Business Artifacts
+     *
+     * <p>Pages are retrieved lazily, starting from the page requested in the options. Each page is requested as soon as
+     * the previous one is emitted, so it is retrieved while the items of the previous one are being consumed.
+     * Cancelling the subscription stops the paging.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedFlux}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedFlux<BusinessArtifactPageItem> streamBusinessArtifacts(BusinessArtifactFindOptions options) {
+        BusinessArtifactFindOptions findOptions = options != null ? options : new BusinessArtifactFindOptions();
+
+        List<BusinessArtifactFindOptions> queries = QUERY_SPLITTER.split(findOptions);
+        if (queries.size() > 1) {
+            return QUERY_SPLITTER.stream(
+                queries,
+                findOptions.getPage(),
+                findOptions.getSorts(),
+                this::findBusinessArtifactsWithResponse,
+                BusinessArtifactPage::getContent
+            );
+        }
+
+        return PagedResponses.pagedFlux(
+            findOptions.getPage(),
+            page -> this.findBusinessArtifactsWithResponse(findOptions, page),
+            BusinessArtifactPage::getContent
+        );
+    }
+
+    /**
+     * Stream all accessible Business Artifacts
+     *
+     * <p>Pages are retrieved lazily. Each page is requested as soon as the previous one is emitted, so it is retrieved
+     * while the items of the previous one are being consumed. Cancelling the subscription stops the paging.
+     *
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedFlux}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedFlux<BusinessArtifactPageItem> streamBusinessArtifacts() {
+        return this.streamBusinessArtifacts(null);
+    }
+
+    /**
+     * Create a new Business Artifact
+     * <p>
+     * Creates a Business Artifact.
+     *
+     * @param params Business Artifact to create.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<BusinessArtifact>> createBusinessArtifactWithResponse(BusinessArtifactCreateParams params) {
+        return TraceContextPropagation.withCurrentContext(this.service.createBusinessArtifactWithResponseAsync(params));
+    }
+
+    /**
+     * Create a new Business Artifact
+     * <p>
+     * Creates a Business Artifact.
+     *
+     * @param params Business Artifact to create.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<BusinessArtifact> createBusinessArtifact(BusinessArtifactCreateParams params) {
+        return this.createBusinessArtifactWithResponse(params).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Get a Business Artifact by ID
+     * <p>
+     * Returns the requested Business Artifact when has access to do it.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<BusinessArtifact>> retrieveBusinessArtifactWithResponse(UUID id) {
+        return TraceContextPropagation.withCurrentContext(this.service.retrieveBusinessArtifactWithResponseAsync(id));
+    }
+
+    /**
+     * Get a Business Artifact by ID
+     * <p>
+     * Returns the requested Business Artifact when has access to do it.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<BusinessArtifact> retrieveBusinessArtifact(UUID id) {
+        return this.retrieveBusinessArtifactWithResponse(id).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Get the data of a business artifact given it ID
+     * <p>
+     * Allow to get the data of a business artifact bound to a user type, without building the intermediate map.
+     *
+     * @param id The resource ID.
+     * @param type The type to bind the data to.
+     * @param <T> The type of the data.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the data on successful completion of {@link Mono}, empty if the business artifact has no data.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public <T> Mono<T> retrieveBusinessArtifactData(UUID id, Class<T> type) {
+        return this.retrieveBusinessArtifact(id).mapNotNull(businessArtifact ->
+            JsonValueMapper.getValueAs(businessArtifact.getData(), type)
+        );
+    }
+
+    /**
+     * Delete a Business Artifact by ID
+     * <p>
+     * Deletes the requested Business Artifact.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<Void>> deleteBusinessArtifactWithResponse(UUID id) {
+        return TraceContextPropagation.withCurrentContext(this.service.deleteBusinessArtifactWithResponseAsync(id));
+    }
+
+    /**
+     * Delete a Business Artifact by ID
+     * <p>
+     * Deletes the requested Business Artifact.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return a {@link Mono} that completes when the Business Artifact is deleted.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Void> deleteBusinessArtifact(UUID id) {
+        return this.deleteBusinessArtifactWithResponse(id).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Save JSON data
+     * <p>
+     * Allow to save a JSON data validating that the data follow the related schema. If the data is invalid, then
+     * the json form is marked as invalid.
+     *
+     * @param id The resource ID.
+     * @param params Params used to update the JSON value.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<BusinessArtifact>> updateBusinessArtifactDataWithResponse(UUID id, BusinessArtifactDataUpdateParams params) {
+        return TraceContextPropagation.withCurrentContext(this.service.updateBusinessArtifactDataWithResponseAsync(id, params));
+    }
+
+    /**
+     * Save JSON data
+     * <p>
+     * Allow to save a JSON data validating that the data follow the related schema. If the data is invalid, then
+     * the json form is marked as invalid.
+     *
+     * @param id The resource ID.
+     * @param params Params used to update the JSON value.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<BusinessArtifact> updateBusinessArtifactData(UUID id, BusinessArtifactDataUpdateParams params) {
+        return this.updateBusinessArtifactDataWithResponse(id, params).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Patch JSON data
+     * <p>
+     * Allow to patch a JSON data validating that the data follow the related schema. If the data is invalid, then
+     * the json is marked as invalid.
+     *
+     * @param id The resource ID.
+     * @param jsonPatch Array of JsonPatchOperation.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<BusinessArtifact>> patchBusinessArtifactDataWithResponse(UUID id, List<JsonPatchOperation> jsonPatch) {
+        return TraceContextPropagation.withCurrentContext(this.service.patchBusinessArtifactDataWithResponseAsync(id, jsonPatch));
+    }
+
+    /**
+     * Patch JSON data
+     * <p>
+     * Allow to patch a JSON data validating that the data follow the related schema. If the data is invalid, then
+     * the json is marked as invalid.
+     *
+     * @param id The resource ID.
+     * @param jsonPatch Array of JsonPatchOperation.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<BusinessArtifact> patchBusinessArtifactData(UUID id, List<JsonPatchOperation> jsonPatch) {
+        return this.patchBusinessArtifactDataWithResponse(id, jsonPatch).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Save the data of a business artifact
+     * <p>
+     * Allow to save the data sending only the changes from the previous data when they are smaller than the whole
+     * data, see {@link JsonPatchUtils#diff(JsonValue, JsonValue)}.
+     *
+     * @param id The resource ID.
+     * @param previous The data as it was retrieved.
+     * @param desired The data to save.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<BusinessArtifact> updateBusinessArtifactData(UUID id, JsonValue previous, JsonValue desired) {
+        List<JsonPatchOperation> jsonPatch = JsonPatchUtils.diff(previous, desired);
+        if (JsonPatchUtils.isPatchPreferred(jsonPatch, desired)) {
+            return this.patchBusinessArtifactData(id, jsonPatch);
+        }
+
+        return this.updateBusinessArtifactData(id, new BusinessArtifactDataUpdateParams().setData(desired));
+    }
+
+    /**
+     * Upload a temporal document
+     *
+     * <p>Upload a temporal document that can be later linked to a business artifact.
+     *
+     * @param id The resource ID.
+     * @param document Document to upload.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<DocumentReference>> uploadBusinessArtifactDocumentWithResponse(UUID id, Document document) {
+        return Mono.defer(() -> {
+            Objects.requireNonNull(document, "'document' is required");
+            Objects.requireNonNull(document.getFileContent(), "'document.fileContent' is required");
+            Objects.requireNonNull(document.getFileContent().getLength(), "'document.fileContent.length' is required");
+            Objects.requireNonNull(document.getFileName(), "'document.fileName' is required");
+            Objects.requireNonNull(document.getContentType(), "'document.contentType' is required");
+            if (document.getFileContent().getLength() == 0) {
+                throw new IllegalArgumentException("File size must be greater that 0");
+            }
+
+            String fileContentType = document.getContentType();
+            String fileName = document.getFileName();
+            BinaryData file = document.getFileContent();
+            long contentLength = file.getLength();
+
+            return this.service.uploadBusinessArtifactDocumentWithResponseAsync(id, fileContentType, fileName, file, contentLength);
+        }).contextWrite(TraceContextPropagation.captureCurrentContext());
+    }
+
+    /**
+     * Upload a temporal document
+     *
+     * <p>Upload a temporal document that can be later linked to a business artifact.
+     *
+     * @param id The resource ID.
+     * @param document Document to upload.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<DocumentReference> uploadBusinessArtifactDocument(UUID id, Document document) {
+        return this.uploadBusinessArtifactDocumentWithResponse(id, document).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Download document
+     * <p>
+     * Given a document uri, download a document from a business artifact.
+     *
+     * @param id The resource ID.
+     * @param documentUri Document URI to download.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<BinaryData>> downloadBusinessArtifactDocumentWithResponse(UUID id, String documentUri) {
+        return TraceContextPropagation.withCurrentContext(this.service.downloadBusinessArtifactDocumentWithResponseAsync(id, documentUri));
+    }
+
+    /**
+     * Download document
+     * <p>
+     * Given a document uri, download a document from a business artifact.
+     *
+     * @param id The resource ID.
+     * @param documentUri Document URI to download.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<BinaryData> downloadBusinessArtifactDocument(UUID id, String documentUri) {
+        return this.downloadBusinessArtifactDocumentWithResponse(id, documentUri).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Create a Business Artifact Action.
+     * <p>
+     * Triggers an action defined in the Business Artifact definition. Asynchronous actions return {@code status=REQUESTED};
+     * poll {@code retrieveBusinessArtifactAction} to track progress.
+     *
+     * @param id The Business Artifact ID.
+     * @param params Action create parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<BusinessArtifactAction>> createBusinessArtifactActionWithResponse(
+        UUID id,
+        BusinessArtifactActionCreateParams params
+    ) {
+        return TraceContextPropagation.withCurrentContext(this.service.createBusinessArtifactActionWithResponseAsync(id, params));
+    }
+
+    /**
+     * Create a Business Artifact Action.
+     * <p>
+     * Triggers an action defined in the Business Artifact definition. Asynchronous actions return {@code status=REQUESTED};
+     * poll {@code retrieveBusinessArtifactAction} to track progress.
+     *
+     * @param id The Business Artifact ID.
+     * @param params Action create parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<BusinessArtifactAction> createBusinessArtifactAction(UUID id, BusinessArtifactActionCreateParams params) {
+        return this.createBusinessArtifactActionWithResponse(id, params).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Retrieve a Business Artifact Action.
+     *
+     * @param id The Business Artifact ID.
+     * @param actionId The Action ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<BusinessArtifactAction>> retrieveBusinessArtifactActionWithResponse(UUID id, UUID actionId) {
+        return TraceContextPropagation.withCurrentContext(this.service.retrieveBusinessArtifactActionWithResponseAsync(id, actionId));
+    }
+
+    /**
+     * Retrieve a Business Artifact Action.
+     *
+     * @param id The Business Artifact ID.
+     * @param actionId The Action ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<BusinessArtifactAction> retrieveBusinessArtifactAction(UUID id, UUID actionId) {
+        return this.retrieveBusinessArtifactActionWithResponse(id, actionId).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Cancel a Business Artifact Action.
+     * <p>
+     * Cancels asynchronous actions in {@code REQUESTED} state. Terminal-state actions are returned unchanged.
+     *
+     * @param id The Business Artifact ID.
+     * @param actionId The Action ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<BusinessArtifactAction>> cancelBusinessArtifactActionWithResponse(UUID id, UUID actionId) {
+        return TraceContextPropagation.withCurrentContext(this.service.cancelBusinessArtifactActionWithResponseAsync(id, actionId));
+    }
+
+    /**
+     * Cancel a Business Artifact Action.
+     * <p>
+     * Cancels asynchronous actions in {@code REQUESTED} state. Terminal-state actions are returned unchanged.
+     *
+     * @param id The Business Artifact ID.
+     * @param actionId The Action ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<BusinessArtifactAction> cancelBusinessArtifactAction(UUID id, UUID actionId) {
+        return this.cancelBusinessArtifactActionWithResponse(id, actionId).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Prepare the value that a {@code CREATE_BUSINESS_ARTIFACT} action would produce.
+     * <p>
+     * Computes the pre-filled artifact value without persisting any state, so it can be reviewed before creating it.
+     *
+     * @param id The Business Artifact ID.
+     * @param params Prepare parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<BusinessArtifactCreateArtifactPrepare>> prepareBusinessArtifactCreateArtifactWithResponse(
+        UUID id,
+        BusinessArtifactCreateArtifactPrepareParams params
+    ) {
+        return TraceContextPropagation.withCurrentContext(this.service.prepareBusinessArtifactCreateArtifactWithResponseAsync(id, params));
+    }
+
+    /**
+     * Prepare the value that a {@code CREATE_BUSINESS_ARTIFACT} action would produce.
+     * <p>
+     * Computes the pre-filled artifact value without persisting any state, so it can be reviewed before creating it.
+     *
+     * @param id The Business Artifact ID.
+     * @param params Prepare parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<BusinessArtifactCreateArtifactPrepare> prepareBusinessArtifactCreateArtifact(
+        UUID id,
+        BusinessArtifactCreateArtifactPrepareParams params
+    ) {
+        return this.prepareBusinessArtifactCreateArtifactWithResponse(id, params).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+}
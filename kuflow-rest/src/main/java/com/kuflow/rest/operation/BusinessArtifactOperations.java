@@ -25,9 +25,11 @@ package com.kuflow.rest.operation;
 
 import com.azure.core.annotation.ReturnType;
 import com.azure.core.annotation.ServiceMethod;
+import com.azure.core.http.rest.PagedIterable;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.Context;
+import com.kuflow.rest.KuFlowRestClientException;
 import com.kuflow.rest.implementation.BusinessArtifactOperationsImpl;
 import com.kuflow.rest.implementation.KuFlowClientImpl;
 import com.kuflow.rest.model.BusinessArtifact;
@@ -39,10 +41,18 @@ import com.kuflow.rest.model.BusinessArtifactCreateParams;
 import com.kuflow.rest.model.BusinessArtifactDataUpdateParams;
 import com.kuflow.rest.model.BusinessArtifactFindOptions;
 import com.kuflow.rest.model.BusinessArtifactPage;
+import com.kuflow.rest.model.BusinessArtifactPageItem;
 import com.kuflow.rest.model.DefaultErrorException;
 import com.kuflow.rest.model.Document;
 import com.kuflow.rest.model.DocumentReference;
+import com.kuflow.rest.model.DownloadOptions;
 import com.kuflow.rest.model.JsonPatchOperation;
+import com.kuflow.rest.model.JsonValue;
+import com.kuflow.rest.model.JsonValueMapper;
+import com.kuflow.rest.util.JsonPatchUtils;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -53,13 +63,31 @@ public class BusinessArtifactOperations {
     /** The service. */
     private final BusinessArtifactOperationsImpl service;
 
+    /** The asynchronous operations used to stream the pages. */
+    private final BusinessArtifactAsyncOperations asyncOperations;
+
+    /** The downloader used for the downloads by ranges. */
+    private final RangeDownloader rangeDownloader;
+
     /**
      * Initializes an instance of BusinessArtifactOperations.
      *
      * @param client the instance of the service client containing this operation class.
      */
     public BusinessArtifactOperations(KuFlowClientImpl client) {
+        this(client, new BusinessArtifactAsyncOperations(client));
+    }
+
+    /**
+     * Initializes an instance of BusinessArtifactOperations.
+     *
+     * @param client the instance of the service client containing this operation class.
+     * @param asyncOperations the asynchronous operations of the same client, used to stream the pages.
+     */
+    public BusinessArtifactOperations(KuFlowClientImpl client, BusinessArtifactAsyncOperations asyncOperations) {
         this.service = client.getBusinessArtifactOperations();
+        this.asyncOperations = asyncOperations;
+        this.rangeDownloader = new RangeDownloader(client);
     }
 
     /**
@@ -79,6 +107,11 @@ public class BusinessArtifactOperations {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<BusinessArtifactPage> findBusinessArtifactsWithResponse(BusinessArtifactFindOptions options, Context context) {
         options = options != null ? options : new BusinessArtifactFindOptions();
+        List<BusinessArtifactFindOptions> queries = BusinessArtifactAsyncOperations.QUERY_SPLITTER.split(options);
+        if (queries.size() > 1) {
+            // Filters too long for a single URL are split in several concurrent requests
+            return this.asyncOperations.findBusinessArtifactsWithResponse(queries, options, context).block();
+        }
 
         Integer size = options.getSize();
         Integer page = options.getPage();
@@ -138,6 +171,39 @@ public class BusinessArtifactOperations {
         return this.findBusinessArtifactsWithResponse(null, Context.NONE).getValue();
     }
 
+    /**
+     * Stream all accessible Business Artifacts
+     *
+     * <p>Pages are retrieved lazily, starting from the page requested in the options. While the items of a page are
+     * being consumed, the next page is already being retrieved. Stop iterating, or close the stream, to stop the
+     * paging.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedIterable}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedIterable<BusinessArtifactPageItem> streamBusinessArtifacts(BusinessArtifactFindOptions options) {
+        return new PagedIterable<>(this.asyncOperations.streamBusinessArtifacts(options));
+    }
+
+    /**
+     * Stream all accessible Business Artifacts
+     *
+     * <p>Pages are retrieved lazily. While the items of a page are being consumed, the next page is already being
+     * retrieved. Stop iterating, or close the stream, to stop the paging.
+     *
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedIterable}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedIterable<BusinessArtifactPageItem> streamBusinessArtifacts() {
+        return this.streamBusinessArtifacts(null);
+    }
+
     /**
      * Create a new Business Artifact
      * <p>
@@ -208,6 +274,26 @@ public class BusinessArtifactOperations {
         return this.retrieveBusinessArtifactWithResponse(id, Context.NONE).getValue();
     }
 
+    /**
+     * Get the data of a business artifact given it ID
+     * <p>
+     * Allow to get the data of a business artifact bound to a user type, without building the intermediate map.
+     *
+     * @param id The resource ID.
+     * @param type The type to bind the data to.
+     * @param <T> The type of the data.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the data, or null if the business artifact has no data.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public <T> T retrieveBusinessArtifactData(UUID id, Class<T> type) {
+        JsonValue data = this.retrieveBusinessArtifact(id).getData();
+
+        return JsonValueMapper.getValueAs(data, type);
+    }
+
     /**
      * Delete a Business Artifact by ID
      * <p>
@@ -318,6 +404,30 @@ public class BusinessArtifactOperations {
         return this.patchBusinessArtifactDataWithResponse(id, jsonPatch, Context.NONE).getValue();
     }
 
+    /**
+     * Save the data of a business artifact
+     * <p>
+     * Allow to save the data sending only the changes from the previous data when they are smaller than the whole
+     * data, see {@link JsonPatchUtils#diff(JsonValue, JsonValue)}.
+     *
+     * @param id The resource ID.
+     * @param previous The data as it was retrieved.
+     * @param desired The data to save.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public BusinessArtifact updateBusinessArtifactData(UUID id, JsonValue previous, JsonValue desired) {
+        List<JsonPatchOperation> jsonPatch = JsonPatchUtils.diff(previous, desired);
+        if (JsonPatchUtils.isPatchPreferred(jsonPatch, desired)) {
+            return this.patchBusinessArtifactData(id, jsonPatch);
+        }
+
+        return this.updateBusinessArtifactData(id, new BusinessArtifactDataUpdateParams().setData(desired));
+    }
+
     /**
      * Upload a temporal document
      *
@@ -550,4 +660,86 @@ public class BusinessArtifactOperations {
     ) {
         return this.prepareBusinessArtifactCreateArtifactWithResponse(id, params, Context.NONE).getValue();
     }
+
+    /**
+     * Download document
+     * <p>
+     * Given a document uri download a document, streaming it to the given sink.
+     *
+     * @param id The resource ID.
+     * @param documentUri Document URI to download.
+     * @param path The file where the content is written, it is created or truncated.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws KuFlowRestClientException thrown if the content cannot be written.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public void downloadBusinessArtifactDocumentTo(UUID id, String documentUri, Path path) {
+        Downloads.writeTo(() -> this.downloadBusinessArtifactDocumentWithResponse(id, documentUri, Context.NONE).getValue(), path);
+    }
+
+    /**
+     * Download document
+     * <p>
+     * Given a document uri download a document, streaming it to the given sink.
+     *
+     * @param id The resource ID.
+     * @param documentUri Document URI to download.
+     * @param outputStream The stream where the content is written, it is not closed.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws KuFlowRestClientException thrown if the content cannot be written.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public void downloadBusinessArtifactDocumentTo(UUID id, String documentUri, OutputStream outputStream) {
+        Downloads.writeTo(() -> this.downloadBusinessArtifactDocumentWithResponse(id, documentUri, Context.NONE).getValue(), outputStream);
+    }
+
+    /**
+     * Download document
+     * <p>
+     * Given a document uri download a document, streaming it to the given sink.
+     *
+     * @param id The resource ID.
+     * @param documentUri Document URI to download.
+     * @param channel The channel where the content is written, it is not closed.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws KuFlowRestClientException thrown if the content cannot be written.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public void downloadBusinessArtifactDocumentTo(UUID id, String documentUri, WritableByteChannel channel) {
+        Downloads.writeTo(() -> this.downloadBusinessArtifactDocumentWithResponse(id, documentUri, Context.NONE).getValue(), channel);
+    }
+
+    /**
+     * Download document
+     * <p>
+     * Given a document uri download a document to a file using HTTP Range requests. The transfer is resumed from the last
+     * byte written if the connection drops and, depending on the options, the document is downloaded in segments in
+     * parallel.
+     *
+     * @param id The resource ID.
+     * @param documentUri Document URI to download.
+     * @param path The file where the content is written, it is created or truncated.
+     * @param options The download options, the defaults are used if null.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws KuFlowRestClientException thrown if the content cannot be written or the download cannot be completed.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public void downloadBusinessArtifactDocumentTo(UUID id, String documentUri, Path path, DownloadOptions options) {
+        Objects.requireNonNull(id, "'id' is required");
+        Objects.requireNonNull(documentUri, "'documentUri' is required");
+
+        this.rangeDownloader.download(
+            () -> this.downloadBusinessArtifactDocumentWithResponse(id, documentUri, Context.NONE),
+            path,
+            options
+        );
+    }
 }
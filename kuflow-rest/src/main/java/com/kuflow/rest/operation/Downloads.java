@@ -0,0 +1,86 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.operation;
+
+import com.azure.core.util.BinaryData;
+import com.kuflow.rest.KuFlowRestClientException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Writes downloaded contents to a sink. The {@link BinaryData} returned by the download operations is backed by the
+ * response stream, so the content is copied chunk by chunk as it is received instead of being buffered on the heap.
+ *
+ * <p>The sink is validated before the download is requested.
+ */
+final class Downloads {
+
+    private Downloads() {}
+
+    static void writeTo(Supplier<BinaryData> download, Path path) {
+        Objects.requireNonNull(path, "'path' is required");
+
+        BinaryData content = download.get();
+        try (
+            FileChannel channel = FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE
+            )
+        ) {
+            content.writeTo(channel);
+        } catch (IOException e) {
+            throw new KuFlowRestClientException("Error, writing the downloaded content to " + path, e);
+        }
+    }
+
+    static void writeTo(Supplier<BinaryData> download, OutputStream outputStream) {
+        Objects.requireNonNull(outputStream, "'outputStream' is required");
+
+        BinaryData content = download.get();
+        try {
+            content.writeTo(outputStream);
+        } catch (IOException e) {
+            throw new KuFlowRestClientException("Error, writing the downloaded content", e);
+        }
+    }
+
+    static void writeTo(Supplier<BinaryData> download, WritableByteChannel channel) {
+        Objects.requireNonNull(channel, "'channel' is required");
+
+        BinaryData content = download.get();
+        try {
+            content.writeTo(channel);
+        } catch (IOException e) {
+            throw new KuFlowRestClientException("Error, writing the downloaded content", e);
+        }
+    }
+}
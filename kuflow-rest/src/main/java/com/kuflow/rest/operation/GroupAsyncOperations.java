@@ -0,0 +1,161 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.operation;
+
+import com.azure.core.annotation.ReturnType;
+import com.azure.core.annotation.ServiceMethod;
+import com.azure.core.http.rest.PagedFlux;
+import com.azure.core.http.rest.Response;
+import com.kuflow.rest.implementation.GroupOperationsImpl;
+import com.kuflow.rest.implementation.KuFlowClientImpl;
+import com.kuflow.rest.model.DefaultErrorException;
+import com.kuflow.rest.model.GroupFindOptions;
+import com.kuflow.rest.model.GroupPage;
+import com.kuflow.rest.model.GroupPageItem;
+import com.kuflow.rest.policy.TraceContextPropagation;
+import java.util.List;
+import java.util.UUID;
+import reactor.core.publisher.Mono;
+
+/** An instance of this class provides asynchronous access to all the operations defined in GroupOperations. */
+public class GroupAsyncOperations {
+
+    /** The service. */
+    private final GroupOperationsImpl service;
+
+    /**
+     * Initializes an instance of GroupAsyncOperations.
+     *
+     * @param client the instance of the service client containing this operation class.
+     */
+    public GroupAsyncOperations(KuFlowClientImpl client) {
+        this.service = client.getGroupOperations();
+    }
+
+    /**
+     * Find all accessible Groups
+     * <p>
+     * List all the Groups that the credential has access to.
+     * <p>
+     * Available sort query values: id, name.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<GroupPage>> findGroupsWithResponse(GroupFindOptions options) {
+        GroupFindOptions findOptions = options != null ? options : new GroupFindOptions();
+
+        return this.findGroupsWithResponse(findOptions, findOptions.getPage());
+    }
+
+    private Mono<Response<GroupPage>> findGroupsWithResponse(GroupFindOptions findOptions, Integer page) {
+        Integer size = findOptions.getSize();
+        List<String> sort = !findOptions.getSorts().isEmpty() ? findOptions.getSorts() : null;
+        UUID principalId = findOptions.getPrincipalId();
+        List<UUID> tenantId = !findOptions.getTenantIds().isEmpty() ? findOptions.getTenantIds() : null;
+        List<UUID> groupId = !findOptions.getGroupIds().isEmpty() ? findOptions.getGroupIds() : null;
+        List<String> groupCode = !findOptions.getGroupCodes().isEmpty() ? findOptions.getGroupCodes() : null;
+
+        return TraceContextPropagation.withCurrentContext(
+            this.service.findGroupsWithResponseAsync(size, page, sort, tenantId, principalId, groupId, groupCode)
+        );
+    }
+
+    /**
+     * Find all accessible Groups
+     * <p>
+     * List all the Groups that the credential has access to.
+     * <p>
+     * Available sort query values: id, name.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<GroupPage> findGroups(GroupFindOptions options) {
+        return this.findGroupsWithResponse(options).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Find all accessible Groups
+     * <p>
+     * List all the Groups that the credential has access to.
+     * <p>
+     * Available sort query values: id, name.
+     *
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<GroupPage> findGroups() {
+        return this.findGroups(null);
+    }
+
+    /**
+     * Stream all accessible Groups
+     *
+     * <p>Pages are retrieved lazily, starting from the page requested in the options. Each page is requested as soon as
+     * the previous one is emitted, so it is retrieved while the items of the previous one are being consumed.
+     * Cancelling the subscription stops the paging.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedFlux}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedFlux<GroupPageItem> streamGroups(GroupFindOptions options) {
+        GroupFindOptions findOptions = options != null ? options : new GroupFindOptions();
+
+        return PagedResponses.pagedFlux(
+            findOptions.getPage(),
+            page -> this.findGroupsWithResponse(findOptions, page),
+            GroupPage::getContent
+        );
+    }
+
+    /**
+     * Stream all accessible Groups
+     *
+     * <p>Pages are retrieved lazily. Each page is requested as soon as the previous one is emitted, so it is retrieved
+     * while the items of the previous one are being consumed. Cancelling the subscription stops the paging.
+     *
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedFlux}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedFlux<GroupPageItem> streamGroups() {
+        return this.streamGroups(null);
+    }
+}
@@ -25,6 +25,7 @@ package com.kuflow.rest.operation;
 
 import com.azure.core.annotation.ReturnType;
 import com.azure.core.annotation.ServiceMethod;
+import com.azure.core.http.rest.PagedIterable;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.Context;
 import com.kuflow.rest.implementation.GroupOperationsImpl;
@@ -32,6 +33,7 @@ import com.kuflow.rest.implementation.KuFlowClientImpl;
 import com.kuflow.rest.model.DefaultErrorException;
 import com.kuflow.rest.model.GroupFindOptions;
 import com.kuflow.rest.model.GroupPage;
+import com.kuflow.rest.model.GroupPageItem;
 import java.util.List;
 import java.util.UUID;
 
@@ -41,13 +43,27 @@ public class GroupOperations {
     /** The service. */
     private final GroupOperationsImpl service;
 
+    /** The asynchronous operations used to stream the pages. */
+    private final GroupAsyncOperations asyncOperations;
+
     /**
      * Initializes an instance of GroupOperationsImpl.
      *
      * @param client the instance of the service client containing this operation class.
      */
     public GroupOperations(KuFlowClientImpl client) {
+        this(client, new GroupAsyncOperations(client));
+    }
+
+    /**
+     * Initializes an instance of GroupOperationsImpl.
+     *
+     * @param client the instance of the service client containing this operation class.
+     * @param asyncOperations the asynchronous operations of the same client, used to stream the pages.
+     */
+    public GroupOperations(KuFlowClientImpl client, GroupAsyncOperations asyncOperations) {
         this.service = client.getGroupOperations();
+        this.asyncOperations = asyncOperations;
     }
 
     /**
@@ -110,4 +126,37 @@ public class GroupOperations {
     public GroupPage findGroups() {
         return this.findGroupsWithResponse(null, Context.NONE).getValue();
     }
+
+    /**
+     * Stream all accessible Groups
+     *
+     * <p>Pages are retrieved lazily, starting from the page requested in the options. While the items of a page are
+     * being consumed, the next page is already being retrieved. Stop iterating, or close the stream, to stop the
+     * paging.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedIterable}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedIterable<GroupPageItem> streamGroups(GroupFindOptions options) {
+        return new PagedIterable<>(this.asyncOperations.streamGroups(options));
+    }
+
+    /**
+     * Stream all accessible Groups
+     *
+     * <p>Pages are retrieved lazily. While the items of a page are being consumed, the next page is already being
+     * retrieved. Stop iterating, or close the stream, to stop the paging.
+     *
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedIterable}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedIterable<GroupPageItem> streamGroups() {
+        return this.streamGroups(null);
+    }
 }
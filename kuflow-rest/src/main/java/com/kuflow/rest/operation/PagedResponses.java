@@ -0,0 +1,234 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.operation;
+
+import com.azure.core.http.rest.PagedFlux;
+import com.azure.core.http.rest.PagedResponse;
+import com.azure.core.http.rest.PagedResponseBase;
+import com.azure.core.http.rest.Response;
+import com.kuflow.rest.model.Page;
+import com.kuflow.rest.model.PageMetadata;
+import com.kuflow.rest.policy.TraceContextPropagation;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Adapts the page number based pagination of the KuFlow API to the azure-core {@link PagedFlux} model.
+ *
+ * <p>The continuation token of each page is the number of the next page, so {@link PagedFlux#byPage(String)} can be used
+ * to resume a scan from any page.
+ */
+final class PagedResponses {
+
+    private PagedResponses() {}
+
+    /**
+     * Create a {@link PagedFlux} that requests pages lazily, one after another, until the last page is reached. Each
+     * page is requested as soon as the previous one is received, so it is retrieved while the items of the previous one
+     * are being consumed.
+     *
+     * @param firstPage the first page to retrieve, {@code null} to start from the beginning.
+     * @param pageRetriever retrieves the requested page number.
+     * @param contentMapper extracts the items of a page.
+     * @param <P> the page type.
+     * @param <T> the item type.
+     * @return the paged flux.
+     */
+    static <P extends Page, T> PagedFlux<T> pagedFlux(
+        Integer firstPage,
+        Function<Integer, Mono<Response<P>>> pageRetriever,
+        Function<P, List<T>> contentMapper
+    ) {
+        int initialPage = firstPage != null ? firstPage : 0;
+        Function<Integer, Mono<Response<P>>> prefetchingPageRetriever = new PagePrefetcher<>(traced(pageRetriever));
+
+        return new PagedFlux<>(
+            () -> retrievePage(initialPage, prefetchingPageRetriever, contentMapper),
+            continuationToken -> retrievePage(Integer.valueOf(continuationToken), prefetchingPageRetriever, contentMapper)
+        );
+    }
+
+    private static <P extends Page, T> Mono<PagedResponse<T>> retrievePage(
+        int page,
+        Function<Integer, Mono<Response<P>>> pageRetriever,
+        Function<P, List<T>> contentMapper
+    ) {
+        return pageRetriever.apply(page).map(response -> toPagedResponse(response, contentMapper));
+    }
+
+    /**
+     * Create a {@link PagedFlux} that retrieves the first page and then, once the total number of pages is known,
+     * retrieves the remaining pages concurrently.
+     *
+     * <p>When {@code pageConcurrency} is {@code null} or lower than 2 the pages are requested one after another, see
+     * {@link #pagedFlux(Integer, Function, Function)}.
+     *
+     * @param firstPage the first page to retrieve, {@code null} to start from the beginning.
+     * @param pageConcurrency maximum number of pages retrieved at the same time.
+     * @param preserveOrder if {@code true} the pages are emitted in page order, otherwise as soon as they are retrieved.
+     * @param pageRetriever retrieves the requested page number.
+     * @param contentMapper extracts the items of a page.
+     * @param <P> the page type.
+     * @param <T> the item type.
+     * @return the paged flux.
+     */
+    static <P extends Page, T> PagedFlux<T> pagedFlux(
+        Integer firstPage,
+        Integer pageConcurrency,
+        boolean preserveOrder,
+        Function<Integer, Mono<Response<P>>> pageRetriever,
+        Function<P, List<T>> contentMapper
+    ) {
+        if (pageConcurrency == null || pageConcurrency < 2) {
+            return pagedFlux(firstPage, pageRetriever, contentMapper);
+        }
+
+        int initialPage = firstPage != null ? firstPage : 0;
+        Function<Integer, Mono<Response<P>>> tracedPageRetriever = traced(pageRetriever);
+
+        return PagedFlux.create(() ->
+            (continuationToken, pageSize) -> {
+                int startPage = continuationToken != null ? Integer.parseInt(continuationToken) : initialPage;
+
+                return tracedPageRetriever
+                    .apply(startPage)
+                    .flatMapMany(response -> {
+                        PagedResponse<T> pagedResponse = toPagedResponse(response, contentMapper, false);
+                        PageMetadata metadata = response.getValue() != null ? response.getValue().getMetadata() : null;
+                        if (metadata == null || pagedResponse.getValue().isEmpty()) {
+                            return Flux.just(pagedResponse);
+                        }
+
+                        int remainingPages = Math.max(0, metadata.getTotalPages() - metadata.getPage() - 1);
+                        Flux<Integer> pages = Flux.range(metadata.getPage() + 1, remainingPages);
+                        Function<Integer, Mono<PagedResponse<T>>> retriever = page ->
+                            tracedPageRetriever.apply(page).map(pageResponse -> toPagedResponse(pageResponse, contentMapper, false));
+
+                        Flux<PagedResponse<T>> nextPagedResponses = preserveOrder
+                            ? pages.flatMapSequential(retriever, pageConcurrency)
+                            : pages.flatMap(retriever, pageConcurrency);
+
+                        return Flux.concat(Flux.just(pagedResponse), nextPagedResponses);
+                    });
+            }
+        );
+    }
+
+    /**
+     * Bind the pages to the trace context of the caller, the pages are retrieved when the flux is subscribed.
+     */
+    private static <P extends Page> Function<Integer, Mono<Response<P>>> traced(Function<Integer, Mono<Response<P>>> pageRetriever) {
+        Function<Context, Context> traceContext = TraceContextPropagation.captureCurrentContext();
+
+        return page -> pageRetriever.apply(page).contextWrite(traceContext);
+    }
+
+    /**
+     * Convert a page response to a {@link PagedResponse}. The continuation token points to the next page, or is
+     * {@code null} when the current page is the last one or is empty.
+     *
+     * @param response the page response.
+     * @param contentMapper extracts the items of a page.
+     * @param <P> the page type.
+     * @param <T> the item type.
+     * @return the paged response.
+     */
+    static <P extends Page, T> PagedResponse<T> toPagedResponse(Response<P> response, Function<P, List<T>> contentMapper) {
+        return toPagedResponse(response, contentMapper, true);
+    }
+
+    private static <P extends Page, T> PagedResponse<T> toPagedResponse(
+        Response<P> response,
+        Function<P, List<T>> contentMapper,
+        boolean continuable
+    ) {
+        P value = response.getValue();
+
+        List<T> items = value != null ? contentMapper.apply(value) : null;
+        if (items == null) {
+            items = Collections.emptyList();
+        }
+
+        String continuationToken = null;
+        PageMetadata metadata = value != null ? value.getMetadata() : null;
+        if (continuable && metadata != null && !items.isEmpty() && metadata.getPage() + 1 < metadata.getTotalPages()) {
+            continuationToken = String.valueOf(metadata.getPage() + 1);
+        }
+
+        return new PagedResponseBase<>(
+            response.getRequest(),
+            response.getStatusCode(),
+            response.getHeaders(),
+            items,
+            continuationToken,
+            null
+        );
+    }
+
+    /**
+     * Requests the next page as soon as a page is received, and serves it when that page is requested. This way the
+     * next page is retrieved while the items of the current one are being consumed, whatever the consumer is: a
+     * subscriber of the {@link PagedFlux} or a {@code PagedIterable} that pulls the pages one by one.
+     *
+     * <p>A failure of a prefetched page is signaled when that page is requested. Only the page that follows the last
+     * received one is retrieved ahead, so stopping the iteration wastes a single request at most.
+     */
+    private static final class PagePrefetcher<P extends Page> implements Function<Integer, Mono<Response<P>>> {
+
+        private final Function<Integer, Mono<Response<P>>> pageRetriever;
+
+        private final Map<Integer, Mono<Response<P>>> prefetchedPages = new ConcurrentHashMap<>();
+
+        private PagePrefetcher(Function<Integer, Mono<Response<P>>> pageRetriever) {
+            this.pageRetriever = pageRetriever;
+        }
+
+        @Override
+        public Mono<Response<P>> apply(Integer page) {
+            return Mono.defer(() -> {
+                Mono<Response<P>> prefetchedPage = this.prefetchedPages.remove(page);
+                Mono<Response<P>> response = prefetchedPage != null ? prefetchedPage : this.pageRetriever.apply(page);
+
+                return response.doOnNext(this::prefetchNextPage);
+            });
+        }
+
+        private void prefetchNextPage(Response<P> response) {
+            PageMetadata metadata = response.getValue() != null ? response.getValue().getMetadata() : null;
+            if (metadata == null || metadata.getPage() + 1 >= metadata.getTotalPages()) {
+                return;
+            }
+
+            Mono<Response<P>> nextPage = this.pageRetriever.apply(metadata.getPage() + 1).cache();
+            this.prefetchedPages.put(metadata.getPage() + 1, nextPage);
+            nextPage.subscribe(nextResponse -> {}, error -> {});
+        }
+    }
+}
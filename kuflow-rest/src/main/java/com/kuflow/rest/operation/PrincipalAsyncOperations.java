@@ -0,0 +1,195 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.operation;
+
+import com.azure.core.annotation.ReturnType;
+import com.azure.core.annotation.ServiceMethod;
+import com.azure.core.http.rest.PagedFlux;
+import com.azure.core.http.rest.Response;
+import com.kuflow.rest.implementation.KuFlowClientImpl;
+import com.kuflow.rest.implementation.PrincipalOperationsImpl;
+import com.kuflow.rest.model.DefaultErrorException;
+import com.kuflow.rest.model.Principal;
+import com.kuflow.rest.model.PrincipalFindOptions;
+import com.kuflow.rest.model.PrincipalPage;
+import com.kuflow.rest.model.PrincipalPageItem;
+import com.kuflow.rest.model.PrincipalType;
+import com.kuflow.rest.policy.TraceContextPropagation;
+import java.util.List;
+import java.util.UUID;
+import reactor.core.publisher.Mono;
+
+/** An instance of this class provides asynchronous access to all the operations defined in PrincipalOperations. */
+public class PrincipalAsyncOperations {
+
+    /** The service. */
+    private final PrincipalOperationsImpl service;
+
+    /**
+     * Initializes an instance of PrincipalAsyncOperations.
+     *
+     * @param client the instance of the service client containing this operation class.
+     */
+    public PrincipalAsyncOperations(KuFlowClientImpl client) {
+        this.service = client.getPrincipalOperations();
+    }
+
+    /**
+     * Find all accessible Principals
+     * <p>
+     * List all the Principals that are part of the credential organization.
+     * <p>
+     * Available sort query values: id, name.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<PrincipalPage>> findPrincipalsWithResponse(PrincipalFindOptions options) {
+        PrincipalFindOptions findOptions = options != null ? options : new PrincipalFindOptions();
+
+        return this.findPrincipalsWithResponse(findOptions, findOptions.getPage());
+    }
+
+    private Mono<Response<PrincipalPage>> findPrincipalsWithResponse(PrincipalFindOptions findOptions, Integer page) {
+        Integer size = findOptions.getSize();
+        List<String> sort = !findOptions.getSorts().isEmpty() ? findOptions.getSorts() : null;
+        PrincipalType type = findOptions.getType();
+        List<UUID> groupId = !findOptions.getGroupIds().isEmpty() ? findOptions.getGroupIds() : null;
+        List<String> groupCode = !findOptions.getGroupCodes().isEmpty() ? findOptions.getGroupCodes() : null;
+        List<UUID> tenantId = !findOptions.getTenantIds().isEmpty() ? findOptions.getTenantIds() : null;
+
+        return TraceContextPropagation.withCurrentContext(
+            this.service.findPrincipalsWithResponseAsync(size, page, sort, type, groupId, groupCode, tenantId)
+        );
+    }
+
+    /**
+     * Find all accessible Principals
+     * <p>
+     * List all the Principals that are part of the credential organization.
+     * <p>
+     * Available sort query values: id, name.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<PrincipalPage> findPrincipals(PrincipalFindOptions options) {
+        return this.findPrincipalsWithResponse(options).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Find all accessible Principals
+     * <p>
+     * List all the Principals that are part of the credential organization.
+     * <p>
+     * Available sort query values: id, name.
+     *
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<PrincipalPage> findPrincipals() {
+        return this.findPrincipals(null);
+    }
+
+    /**
+     * Stream all accessible Principals
+     *
+     * <p>Pages are retrieved lazily, starting from the page requested in the options. Each page is requested as soon as
+     * the previous one is emitted, so it is retrieved while the items of the previous one are being consumed.
+     * Cancelling the subscription stops the paging.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedFlux}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedFlux<PrincipalPageItem> streamPrincipals(PrincipalFindOptions options) {
+        PrincipalFindOptions findOptions = options != null ? options : new PrincipalFindOptions();
+
+        return PagedResponses.pagedFlux(
+            findOptions.getPage(),
+            page -> this.findPrincipalsWithResponse(findOptions, page),
+            PrincipalPage::getContent
+        );
+    }
+
+    /**
+     * Stream all accessible Principals
+     *
+     * <p>Pages are retrieved lazily. Each page is requested as soon as the previous one is emitted, so it is retrieved
+     * while the items of the previous one are being consumed. Cancelling the subscription stops the paging.
+     *
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedFlux}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedFlux<PrincipalPageItem> streamPrincipals() {
+        return this.streamPrincipals(null);
+    }
+
+    /**
+     * Get a Principal by ID
+     * <p>
+     * Returns the requested Principal when has access to do it.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<Principal>> retrievePrincipalWithResponse(UUID id) {
+        return TraceContextPropagation.withCurrentContext(this.service.retrievePrincipalWithResponseAsync(id));
+    }
+
+    /**
+     * Get a Principal by ID
+     * <p>
+     * Returns the requested Principal when has access to do it.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Principal> retrievePrincipal(UUID id) {
+        return this.retrievePrincipalWithResponse(id).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+}
@@ -25,6 +25,7 @@ package com.kuflow.rest.operation;
 
 import com.azure.core.annotation.ReturnType;
 import com.azure.core.annotation.ServiceMethod;
+import com.azure.core.http.rest.PagedIterable;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.Context;
 import com.kuflow.rest.implementation.KuFlowClientImpl;
@@ -33,6 +34,7 @@ import com.kuflow.rest.model.DefaultErrorException;
 import com.kuflow.rest.model.Principal;
 import com.kuflow.rest.model.PrincipalFindOptions;
 import com.kuflow.rest.model.PrincipalPage;
+import com.kuflow.rest.model.PrincipalPageItem;
 import com.kuflow.rest.model.PrincipalType;
 import java.util.List;
 import java.util.UUID;
@@ -43,13 +45,27 @@ public class PrincipalOperations {
     /** The service. */
     private final PrincipalOperationsImpl service;
 
+    /** The asynchronous operations used to stream the pages. */
+    private final PrincipalAsyncOperations asyncOperations;
+
     /**
      * Initializes an instance of PrincipalOperationsImpl.
      *
      * @param client the instance of the service client containing this operation class.
      */
     public PrincipalOperations(KuFlowClientImpl client) {
+        this(client, new PrincipalAsyncOperations(client));
+    }
+
+    /**
+     * Initializes an instance of PrincipalOperationsImpl.
+     *
+     * @param client the instance of the service client containing this operation class.
+     * @param asyncOperations the asynchronous operations of the same client, used to stream the pages.
+     */
+    public PrincipalOperations(KuFlowClientImpl client, PrincipalAsyncOperations asyncOperations) {
         this.service = client.getPrincipalOperations();
+        this.asyncOperations = asyncOperations;
     }
 
     /**
@@ -115,6 +131,39 @@ public class PrincipalOperations {
         return this.findPrincipalsWithResponse(null, Context.NONE).getValue();
     }
 
+    /**
+     * Stream all accessible Principals
+     *
+     * <p>Pages are retrieved lazily, starting from the page requested in the options. While the items of a page are
+     * being consumed, the next page is already being retrieved. Stop iterating, or close the stream, to stop the
+     * paging.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedIterable}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedIterable<PrincipalPageItem> streamPrincipals(PrincipalFindOptions options) {
+        return new PagedIterable<>(this.asyncOperations.streamPrincipals(options));
+    }
+
+    /**
+     * Stream all accessible Principals
+     *
+     * <p>Pages are retrieved lazily. While the items of a page are being consumed, the next page is already being
+     * retrieved. Stop iterating, or close the stream, to stop the paging.
+     *
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedIterable}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedIterable<PrincipalPageItem> streamPrincipals() {
+        return this.streamPrincipals(null);
+    }
+
     /**
      * Get a Principal by ID
      *
@@ -0,0 +1,962 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.operation;
+
+import com.azure.core.annotation.ReturnType;
+import com.azure.core.annotation.ServiceMethod;
+import com.azure.core.http.rest.PagedFlux;
+import com.azure.core.http.rest.Response;
+import com.azure.core.util.BinaryData;
+import com.azure.core.util.Context;
+import com.azure.core.util.CoreUtils;
+import com.azure.core.util.FluxUtil;
+import com.kuflow.rest.implementation.KuFlowClientImpl;
+import com.kuflow.rest.implementation.ProcessOperationsImpl;
+import com.kuflow.rest.model.DefaultErrorException;
+import com.kuflow.rest.model.Document;
+import com.kuflow.rest.model.DocumentReference;
+import com.kuflow.rest.model.JsonPatchOperation;
+import com.kuflow.rest.model.JsonValue;
+import com.kuflow.rest.model.JsonValueMapper;
+import com.kuflow.rest.model.Process;
+import com.kuflow.rest.model.ProcessAction;
+import com.kuflow.rest.model.ProcessActionCreateParams;
+import com.kuflow.rest.model.ProcessChangeInitiatorParams;
+import com.kuflow.rest.model.ProcessCreateParams;
+import com.kuflow.rest.model.ProcessEntityUpdateParams;
+import com.kuflow.rest.model.ProcessFindOptions;
+import com.kuflow.rest.model.ProcessMetadataUpdateParams;
+import com.kuflow.rest.model.ProcessPage;
+import com.kuflow.rest.model.ProcessPageItem;
+import com.kuflow.rest.model.ProcessState;
+import com.kuflow.rest.policy.TraceContextPropagation;
+import com.kuflow.rest.util.JsonPatchUtils;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import reactor.core.publisher.Mono;
+
+/** An instance of this class provides asynchronous access to all the operations defined in ProcessOperations. */
+public class ProcessAsyncOperations {
+
+    static final QuerySplitter<ProcessFindOptions, ProcessPageItem> QUERY_SPLITTER = new QuerySplitter<>(
+        ProcessAsyncOperations::copyFindOptions,
+        ProcessPageItem::getId,
+        QuerySplitter.filter("tenantId", ProcessFindOptions::getTenantIds, ProcessFindOptions::setTenantIds),
+        QuerySplitter.filter(
+            "processDefinitionId",
+            ProcessFindOptions::getProcessDefinitionIds,
+            ProcessFindOptions::setProcessDefinitionIds
+        ),
+        QuerySplitter.filter(
+            "processDefinitionCode",
+            ProcessFindOptions::getProcessDefinitionCodes,
+            ProcessFindOptions::setProcessDefinitionCodes
+        ),
+        QuerySplitter.filter("state", ProcessFindOptions::getStates, ProcessFindOptions::setStates),
+        QuerySplitter.filter("initiatorId", ProcessFindOptions::getInitiatorIds, ProcessFindOptions::setInitiatorIds),
+        QuerySplitter.filter("initiatorEmail", ProcessFindOptions::getInitiatorEmails, ProcessFindOptions::setInitiatorEmails)
+    );
+
+    /** The service. */
+    private final ProcessOperationsImpl service;
+
+    /**
+     * Initializes an instance of ProcessAsyncOperations.
+     *
+     * @param client the instance of the service client containing this operation class.
+     */
+    public ProcessAsyncOperations(KuFlowClientImpl client) {
+        this.service = client.getProcessOperations();
+    }
+
+    /**
+     * Find all accessible Processes
+     *
+     * <p>List all the Processes that have been created and the credentials has access.
+     *
+     * <p>Available sort query values: id, createdAt, lastModifiedAt.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<ProcessPage>> findProcessesWithResponse(ProcessFindOptions options) {
+        ProcessFindOptions findOptions = options != null ? options : new ProcessFindOptions();
+
+        List<ProcessFindOptions> queries = QUERY_SPLITTER.split(findOptions);
+        if (queries.size() > 1) {
+            return this.findProcessesWithResponse(queries, findOptions, Context.NONE);
+        }
+
+        return this.findProcessesWithResponse(findOptions, findOptions.getPage());
+    }
+
+    /**
+     * Find the processes of a query that was split because its filters do not fit in a single URL.
+     *
+     * @param queries The queries the options were split in.
+     * @param findOptions The options parameters.
+     * @param context The context to associate with the requests of the queries.
+     * @return the merged page along with {@link Response} on successful completion of {@link Mono}.
+     */
+    Mono<Response<ProcessPage>> findProcessesWithResponse(
+        List<ProcessFindOptions> queries,
+        ProcessFindOptions findOptions,
+        Context context
+    ) {
+        return QUERY_SPLITTER.find(
+            queries,
+            findOptions.getPage(),
+            findOptions.getSorts(),
+            (query, page) -> this.findProcessesWithResponse(query, page, context),
+            ProcessPage::getContent,
+            (content, metadata) -> new ProcessPage().setContent(content).setMetadata(metadata)
+        );
+    }
+
+    private Mono<Response<ProcessPage>> findProcessesWithResponse(ProcessFindOptions findOptions, Integer page) {
+        return this.findProcessesWithResponse(findOptions, page, Context.NONE);
+    }
+
+    private Mono<Response<ProcessPage>> findProcessesWithResponse(ProcessFindOptions findOptions, Integer page, Context context) {
+        Integer size = findOptions.getSize();
+        List<String> sort = !findOptions.getSorts().isEmpty() ? findOptions.getSorts() : null;
+        List<UUID> tenantId = !findOptions.getTenantIds().isEmpty() ? findOptions.getTenantIds() : null;
+        List<UUID> processDefinitionId = !findOptions.getProcessDefinitionIds().isEmpty() ? findOptions.getProcessDefinitionIds() : null;
+        List<String> processDefinitionCode = !findOptions.getProcessDefinitionCodes().isEmpty()
+            ? findOptions.getProcessDefinitionCodes()
+            : null;
+        List<ProcessState> state = !findOptions.getStates().isEmpty() ? findOptions.getStates() : null;
+        List<UUID> initiatorId = !findOptions.getInitiatorIds().isEmpty() ? findOptions.getInitiatorIds() : null;
+        List<String> initiatorEmail = !findOptions.getInitiatorEmails().isEmpty() ? findOptions.getInitiatorEmails() : null;
+        List<String> metadata = !findOptions.getMetadata().isEmpty() ? findOptions.getMetadata() : null;
+
+        return TraceContextPropagation.withCurrentContext(
+            FluxUtil.withContext(subscriberContext ->
+                this.service.findProcessesWithResponseAsync(
+                    size,
+                    page,
+                    sort,
+                    tenantId,
+                    processDefinitionId,
+                    processDefinitionCode,
+                    state,
+                    initiatorId,
+                    initiatorEmail,
+                    metadata,
+                    CoreUtils.mergeContexts(subscriberContext, context)
+                )
+            )
+        );
+    }
+
+    private static ProcessFindOptions copyFindOptions(ProcessFindOptions findOptions) {
+        return new ProcessFindOptions()
+            .setSize(findOptions.getSize())
+            .setPage(findOptions.getPage())
+            .setSorts(findOptions.getSorts())
+            .setTenantIds(findOptions.getTenantIds())
+            .setProcessDefinitionIds(findOptions.getProcessDefinitionIds())
+            .setProcessDefinitionCodes(findOptions.getProcessDefinitionCodes())
+            .setStates(findOptions.getStates())
+            .setInitiatorIds(findOptions.getInitiatorIds())
+            .setInitiatorEmails(findOptions.getInitiatorEmails())
+            .setMetadata(findOptions.getMetadata())
+            .setPageConcurrency(findOptions.getPageConcurrency())
+            .setPreserveOrder(findOptions.isPreserveOrder());
+    }
+
+    /**
+     * Find all accessible Processes
+     *
+     * <p>List all the Processes that have been created and the credentials has access.
+     *
+     * <p>Available sort query values: id, createdAt, lastModifiedAt.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<ProcessPage> findProcesses(ProcessFindOptions options) {
+        return this.findProcessesWithResponse(options).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Find all accessible Processes
+     *
+     * <p>List all the Processes that have been created and the credentials has access.
+     *
+     * <p>Available sort query values: id, createdAt, lastModifiedAt.
+     *
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<ProcessPage> findProcesses() {
+        return this.findProcesses(null);
+    }
+
+    /**
+     * Stream all accessible Processes
+     *
+     * <p>Pages are retrieved lazily, starting from the page requested in the options. Each page is requested as soon as
+     * the previous one is emitted, so it is retrieved while the items of the previous one are being consumed.
+     * Cancelling the subscription stops the paging.
+     *
+     * <p>When {@link ProcessFindOptions#getPageConcurrency()} is greater than 1, the remaining pages are retrieved
+     * concurrently once the first page is received.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedFlux}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedFlux<ProcessPageItem> streamProcesses(ProcessFindOptions options) {
+        ProcessFindOptions findOptions = options != null ? options : new ProcessFindOptions();
+
+        List<ProcessFindOptions> queries = QUERY_SPLITTER.split(findOptions);
+        if (queries.size() > 1) {
+            return QUERY_SPLITTER.stream(
+                queries,
+                findOptions.getPage(),
+                findOptions.getSorts(),
+                this::findProcessesWithResponse,
+                ProcessPage::getContent
+            );
+        }
+
+        return PagedResponses.pagedFlux(
+            findOptions.getPage(),
+            findOptions.getPageConcurrency(),
+            findOptions.isPreserveOrder(),
+            page -> this.findProcessesWithResponse(findOptions, page),
+            ProcessPage::getContent
+        );
+    }
+
+    /**
+     * Stream all accessible Processes
+     *
+     * <p>Pages are retrieved lazily. Each page is requested as soon as the previous one is emitted, so it is retrieved
+     * while the items of the previous one are being consumed. Cancelling the subscription stops the paging.
+     *
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedFlux}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedFlux<ProcessPageItem> streamProcesses() {
+        return this.streamProcesses(null);
+    }
+
+    /**
+     * Create a new process
+     * <p>
+     * Creates a process. This option has direct correspondence to the action of starting a process in the Kuflow GUI.
+     * <p>
+     * If you want the method to be idempotent, please specify the `id` field in the request body.
+     *
+     * @param processCreateParams Process to create.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<Process>> createProcessWithResponse(ProcessCreateParams processCreateParams) {
+        return TraceContextPropagation.withCurrentContext(this.service.createProcessWithResponseAsync(processCreateParams));
+    }
+
+    /**
+     * Create a new process
+     * <p>
+     * Creates a process. This option has direct correspondence to the action of starting a process in the Kuflow GUI.
+     * <p>
+     * If you want the method to be idempotent, please specify the `id` field in the request body.
+     *
+     * @param processCreateParams Process to create.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Process> createProcess(ProcessCreateParams processCreateParams) {
+        return this.createProcessWithResponse(processCreateParams).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Get a Process by ID
+     *
+     * <p>Returns the requested Process when has access to do it.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<Process>> retrieveProcessWithResponse(UUID id) {
+        return TraceContextPropagation.withCurrentContext(this.service.retrieveProcessWithResponseAsync(id));
+    }
+
+    /**
+     * Get a Process by ID
+     *
+     * <p>Returns the requested Process when has access to do it.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Process> retrieveProcess(UUID id) {
+        return this.retrieveProcessWithResponse(id).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Get the entity of a process given it ID
+     * <p>
+     * Allow to get the entity of a process bound to a user type, without building the intermediate map.
+     *
+     * @param id The resource ID.
+     * @param type The type to bind the entity to.
+     * @param <T> The type of the entity.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the entity on successful completion of {@link Mono}, empty if the process has no entity.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public <T> Mono<T> retrieveProcessEntity(UUID id, Class<T> type) {
+        return this.retrieveProcess(id).mapNotNull(process -> JsonValueMapper.getValueAs(process.getEntity(), type));
+    }
+
+    /**
+     * Create a Process Action.
+     * <p>
+     * Invokes an action on the process. Asynchronous action types ({@code START_WORKFLOW}, {@code DOWNLOADABLE})
+     * return {@code status=REQUESTED}; poll {@code retrieveProcessAction} to track progress. The remaining types
+     * complete synchronously.
+     *
+     * @param id The Process ID.
+     * @param params Action create parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<ProcessAction>> createProcessActionWithResponse(UUID id, ProcessActionCreateParams params) {
+        return TraceContextPropagation.withCurrentContext(this.service.createProcessActionWithResponseAsync(id, params));
+    }
+
+    /**
+     * Create a Process Action.
+     *
+     * @param id The Process ID.
+     * @param params Action create parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<ProcessAction> createProcessAction(UUID id, ProcessActionCreateParams params) {
+        return this.createProcessActionWithResponse(id, params).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Retrieve a Process Action.
+     *
+     * @param id The Process ID.
+     * @param actionId The Action ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<ProcessAction>> retrieveProcessActionWithResponse(UUID id, UUID actionId) {
+        return TraceContextPropagation.withCurrentContext(this.service.retrieveProcessActionWithResponseAsync(id, actionId));
+    }
+
+    /**
+     * Retrieve a Process Action.
+     *
+     * @param id The Process ID.
+     * @param actionId The Action ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<ProcessAction> retrieveProcessAction(UUID id, UUID actionId) {
+        return this.retrieveProcessActionWithResponse(id, actionId).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Cancel a Process Action.
+     * <p>
+     * Cancels asynchronous actions in {@code REQUESTED} state. Terminal-state actions are returned unchanged.
+     *
+     * @param id The Process ID.
+     * @param actionId The Action ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<ProcessAction>> cancelProcessActionWithResponse(UUID id, UUID actionId) {
+        return TraceContextPropagation.withCurrentContext(this.service.cancelProcessActionWithResponseAsync(id, actionId));
+    }
+
+    /**
+     * Cancel a Process Action.
+     *
+     * @param id The Process ID.
+     * @param actionId The Action ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<ProcessAction> cancelProcessAction(UUID id, UUID actionId) {
+        return this.cancelProcessActionWithResponse(id, actionId).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Upload the document produced by a DOWNLOADABLE Process action.
+     * <p>
+     * Uploads the document and completes the action with it. Only meaningful for actions still in
+     * {@code REQUESTED} state.
+     *
+     * @param id The Process ID.
+     * @param actionId The Action ID.
+     * @param document Document to upload.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<ProcessAction>> uploadProcessActionDocumentWithResponse(UUID id, UUID actionId, Document document) {
+        return Mono.defer(() -> {
+            Objects.requireNonNull(document, "'document' is required");
+            Objects.requireNonNull(document.getFileContent(), "'document.fileContent' is required");
+            Objects.requireNonNull(document.getFileContent().getLength(), "'document.fileContent.length' is required");
+            Objects.requireNonNull(document.getFileName(), "'document.fileName' is required");
+            Objects.requireNonNull(document.getContentType(), "'document.contentType' is required");
+            if (document.getFileContent().getLength() == 0) {
+                throw new IllegalArgumentException("File size must be greater that 0");
+            }
+
+            String fileContentType = document.getContentType();
+            String fileName = document.getFileName();
+            BinaryData file = document.getFileContent();
+            long contentLength = file.getLength();
+
+            return this.service.uploadProcessActionDocumentWithResponseAsync(id, actionId, fileContentType, fileName, file, contentLength);
+        }).contextWrite(TraceContextPropagation.captureCurrentContext());
+    }
+
+    /**
+     * Upload the document produced by a DOWNLOADABLE Process action.
+     *
+     * @param id The Process ID.
+     * @param actionId The Action ID.
+     * @param document Document to upload.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<ProcessAction> uploadProcessActionDocument(UUID id, UUID actionId, Document document) {
+        return this.uploadProcessActionDocumentWithResponse(id, actionId, document).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Complete a Process
+     *
+     * <p>Complete a Process. The state of Process is set to 'completed'.
+     *
+     * <p>If you are already in this state, no action is taken.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<Process>> completeProcessWithResponse(UUID id) {
+        return TraceContextPropagation.withCurrentContext(this.service.completeProcessWithResponseAsync(id));
+    }
+
+    /**
+     * Complete a Process
+     *
+     * <p>Complete a Process. The state of Process is set to 'completed'.
+     *
+     * <p>If you are already in this state, no action is taken.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Process> completeProcess(UUID id) {
+        return this.completeProcessWithResponse(id).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Cancel a Process
+     *
+     * <p>Cancel a Process. The Process state is set to 'cancelled'.
+     *
+     * <p>All the active tasks will be marked as cancelled too.
+     *
+     * <p>If you are already in this state, no action is taken.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<Process>> cancelProcessWithResponse(UUID id) {
+        return TraceContextPropagation.withCurrentContext(this.service.cancelProcessWithResponseAsync(id));
+    }
+
+    /**
+     * Cancel a Process
+     *
+     * <p>Cancel a Process. The Process state is set to 'cancelled'.
+     *
+     * <p>All the active tasks will be marked as cancelled too.
+     *
+     * <p>If you are already in this state, no action is taken.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Process> cancelProcess(UUID id) {
+        return this.cancelProcessWithResponse(id).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Cancel Process Items
+     *
+     * <p>Cancel Process Items in a Process.
+     *
+     * <p>When processItemId is provided, only those specific process items are cancelled.
+     * When omitted, all active process items in the process are cancelled.
+     *
+     * @param id The resource ID.
+     * @param processItemId Optional list of process item IDs to cancel. If omitted, all active process items are
+     * cancelled.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<Process>> cancelProcessItemsWithResponse(UUID id, List<UUID> processItemId) {
+        return TraceContextPropagation.withCurrentContext(this.service.cancelProcessItemsWithResponseAsync(id, processItemId));
+    }
+
+    /**
+     * Cancel Process Items
+     *
+     * <p>Cancel Process Items in a Process.
+     *
+     * @param id The resource ID.
+     * @param processItemId Optional list of process item IDs to cancel. If omitted, all active process items are
+     * cancelled.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Process> cancelProcessItems(UUID id, List<UUID> processItemId) {
+        return this.cancelProcessItemsWithResponse(id, processItemId).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Cancel Process Items
+     *
+     * <p>Cancel all active Process Items in a Process.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Process> cancelProcessItems(UUID id) {
+        return this.cancelProcessItems(id, null);
+    }
+
+    /**
+     * Change process initiator
+     *
+     * <p>Change the current initiator of a process.
+     *
+     * <p>Allows you to choose a user (by email or principal identifier) or an application (principal identifier). Only
+     * one option will be necessary.
+     *
+     * @param id The resource ID.
+     * @param processChangeInitiatorParams Params to change the process initiator.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<Process>> changeProcessInitiatorWithResponse(UUID id, ProcessChangeInitiatorParams processChangeInitiatorParams) {
+        return TraceContextPropagation.withCurrentContext(
+            this.service.changeProcessInitiatorWithResponseAsync(id, processChangeInitiatorParams)
+        );
+    }
+
+    /**
+     * Change process initiator
+     *
+     * <p>Change the current initiator of a process.
+     *
+     * <p>Allows you to choose a user (by email or principal identifier) or an application (principal identifier). Only
+     * one option will be necessary.
+     *
+     * @param id The resource ID.
+     * @param processChangeInitiatorParams Params to change the process initiator.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Process> changeProcessInitiator(UUID id, ProcessChangeInitiatorParams processChangeInitiatorParams) {
+        return this.changeProcessInitiatorWithResponse(id, processChangeInitiatorParams).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Save process metadata.
+     *
+     * @param id The resource ID.
+     * @param processMetadataUpdateParams Params to save de entity data.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<Process>> updateProcessMetadataWithResponse(UUID id, ProcessMetadataUpdateParams processMetadataUpdateParams) {
+        return TraceContextPropagation.withCurrentContext(
+            this.service.updateProcessMetadataWithResponseAsync(id, processMetadataUpdateParams)
+        );
+    }
+
+    /**
+     * Save process metadata.
+     *
+     * @param id The resource ID.
+     * @param processMetadataUpdateParams Params to save de entity data.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Process> updateProcessMetadata(UUID id, ProcessMetadataUpdateParams processMetadataUpdateParams) {
+        return this.updateProcessMetadataWithResponse(id, processMetadataUpdateParams).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Patch JSON data
+     * <p>
+     * Allow to patch a JSON data validating that the data follow the related schema. If the data is invalid, then
+     * the json is marked as invalid.
+     *
+     * @param id The resource ID.
+     * @param jsonPatch Array of JsonPatchOperation.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<Process>> patchProcessMetadataWithResponse(UUID id, List<JsonPatchOperation> jsonPatch) {
+        return TraceContextPropagation.withCurrentContext(this.service.patchProcessMetadataWithResponseAsync(id, jsonPatch));
+    }
+
+    /**
+     * Patch JSON data
+     * <p>
+     * Allow to patch a JSON data validating that the data follow the related schema. If the data is invalid, then
+     * the json is marked as invalid.
+     *
+     * @param id The resource ID.
+     * @param jsonPatch Array of JsonPatchOperation.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Process> patchProcessMetadata(UUID id, List<JsonPatchOperation> jsonPatch) {
+        return this.patchProcessMetadataWithResponse(id, jsonPatch).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Save the metadata of a process
+     * <p>
+     * Allow to save the metadata sending only the changes from the previous metadata when they are smaller than the whole
+     * metadata, see {@link JsonPatchUtils#diff(JsonValue, JsonValue)}.
+     *
+     * @param id The resource ID.
+     * @param previous The metadata as it was retrieved.
+     * @param desired The metadata to save.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Process> updateProcessMetadata(UUID id, JsonValue previous, JsonValue desired) {
+        List<JsonPatchOperation> jsonPatch = JsonPatchUtils.diff(previous, desired);
+        if (JsonPatchUtils.isPatchPreferred(jsonPatch, desired)) {
+            return this.patchProcessMetadata(id, jsonPatch);
+        }
+
+        return this.updateProcessMetadata(id, new ProcessMetadataUpdateParams().setMetadata(desired));
+    }
+
+    /**
+     * Save JSON data
+     * <p>
+     * Allow to save a JSON validating that the data follow the related schema. If the data is invalid, then
+     * the json form is marked as invalid.
+     *
+     * @param id The resource ID.
+     * @param processEntityUpdateParams Params to save the JSON value.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<Process>> updateProcessEntityWithResponse(UUID id, ProcessEntityUpdateParams processEntityUpdateParams) {
+        return TraceContextPropagation.withCurrentContext(this.service.updateProcessEntityWithResponseAsync(id, processEntityUpdateParams));
+    }
+
+    /**
+     * Save JSON data
+     * <p>
+     * Allow to save a JSON validating that the data follow the related schema. If the data is invalid, then
+     * the json form is marked as invalid.
+     *
+     * @param id The resource ID.
+     * @param processEntityUpdateParams Params to save the JSON value.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Process> updateProcessEntity(UUID id, ProcessEntityUpdateParams processEntityUpdateParams) {
+        return this.updateProcessEntityWithResponse(id, processEntityUpdateParams).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Patch JSON data
+     * <p>
+     * Allow to patch a JSON data validating that the data follow the related schema. If the data is invalid, then
+     * the json is marked as invalid.
+     *
+     * @param id The resource ID.
+     * @param jsonPatch Array of JsonPatchOperation.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<Process>> patchProcessEntityWithResponse(UUID id, List<JsonPatchOperation> jsonPatch) {
+        return TraceContextPropagation.withCurrentContext(this.service.patchProcessEntityWithResponseAsync(id, jsonPatch));
+    }
+
+    /**
+     * Patch JSON data
+     * <p>
+     * Allow to patch a JSON data validating that the data follow the related schema. If the data is invalid, then
+     * the json is marked as invalid.
+     *
+     * @param id The resource ID.
+     * @param jsonPatch Array of JsonPatchOperation.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Process> patchProcessEntity(UUID id, List<JsonPatchOperation> jsonPatch) {
+        return this.patchProcessEntityWithResponse(id, jsonPatch).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Save the entity of a process
+     * <p>
+     * Allow to save the entity sending only the changes from the previous entity when they are smaller than the whole
+     * entity, see {@link JsonPatchUtils#diff(JsonValue, JsonValue)}.
+     *
+     * @param id The resource ID.
+     * @param previous The entity as it was retrieved.
+     * @param desired The entity to save.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Process> updateProcessEntity(UUID id, JsonValue previous, JsonValue desired) {
+        List<JsonPatchOperation> jsonPatch = JsonPatchUtils.diff(previous, desired);
+        if (JsonPatchUtils.isPatchPreferred(jsonPatch, desired)) {
+            return this.patchProcessEntity(id, jsonPatch);
+        }
+
+        return this.updateProcessEntity(id, new ProcessEntityUpdateParams().setEntity(desired));
+    }
+
+    /**
+     * Upload a temporal document into the process that later on must be linked with a process domain resource
+     * <p>
+     * Documents uploaded with this API will be deleted after 24 hours as long as they have not been linked to a
+     * process or process item.
+     *
+     * @param id The resource ID.
+     * @param document Document to upload.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<DocumentReference>> uploadProcessDocumentWithResponse(UUID id, Document document) {
+        return Mono.defer(() -> {
+            Objects.requireNonNull(document, "'document' is required");
+            Objects.requireNonNull(document.getFileContent(), "'document.fileContent' is required");
+            Objects.requireNonNull(document.getFileContent().getLength(), "'document.fileContent.length' is required");
+            Objects.requireNonNull(document.getFileName(), "'document.fileName' is required");
+            Objects.requireNonNull(document.getContentType(), "'document.contentType' is required");
+            if (document.getFileContent().getLength() == 0) {
+                throw new IllegalArgumentException("File size must be greater that 0");
+            }
+
+            String fileContentType = document.getContentType();
+            String fileName = document.getFileName();
+            BinaryData file = document.getFileContent();
+            long contentLength = file.getLength();
+
+            return this.service.uploadProcessDocumentWithResponseAsync(id, fileContentType, fileName, file, contentLength);
+        }).contextWrite(TraceContextPropagation.captureCurrentContext());
+    }
+
+    /**
+     * Upload a temporal document into the process that later on must be linked with a process domain resource
+     * <p>
+     * Documents uploaded with this API will be deleted after 24 hours as long as they have not been linked to a
+     * process or process item.
+     *
+     * @param id The resource ID.
+     * @param document Document to upload.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<DocumentReference> uploadProcessDocument(UUID id, Document document) {
+        return this.uploadProcessDocumentWithResponse(id, document).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Download document
+     * <p>
+     * Given a document uri download a document.
+     *
+     * @param id The resource ID.
+     * @param documentUri Document URI to download.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<BinaryData>> downloadProcessDocumentWithResponse(UUID id, String documentUri) {
+        return TraceContextPropagation.withCurrentContext(this.service.downloadProcessDocumentWithResponseAsync(id, documentUri));
+    }
+
+    /**
+     * Download document
+     * <p>
+     * Given a document uri download a document.
+     *
+     * @param id The resource ID.
+     * @param documentUri Document URI to download.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<BinaryData> downloadProcessDocument(UUID id, String documentUri) {
+        return this.downloadProcessDocumentWithResponse(id, documentUri).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+}
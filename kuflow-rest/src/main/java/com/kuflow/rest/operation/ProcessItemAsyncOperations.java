@@ -0,0 +1,791 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.operation;
+
+import com.azure.core.annotation.ReturnType;
+import com.azure.core.annotation.ServiceMethod;
+import com.azure.core.http.rest.PagedFlux;
+import com.azure.core.http.rest.Response;
+import com.azure.core.util.BinaryData;
+import com.azure.core.util.Context;
+import com.azure.core.util.CoreUtils;
+import com.azure.core.util.FluxUtil;
+import com.kuflow.rest.implementation.KuFlowClientImpl;
+import com.kuflow.rest.implementation.ProcessItemOperationsImpl;
+import com.kuflow.rest.model.DefaultErrorException;
+import com.kuflow.rest.model.JsonPatchOperation;
+import com.kuflow.rest.model.JsonValue;
+import com.kuflow.rest.model.JsonValueMapper;
+import com.kuflow.rest.model.ProcessItem;
+import com.kuflow.rest.model.ProcessItemAiAssistance;
+import com.kuflow.rest.model.ProcessItemAiAssistanceGenerateParams;
+import com.kuflow.rest.model.ProcessItemCreateParams;
+import com.kuflow.rest.model.ProcessItemFindOptions;
+import com.kuflow.rest.model.ProcessItemPage;
+import com.kuflow.rest.model.ProcessItemPageItem;
+import com.kuflow.rest.model.ProcessItemTask;
+import com.kuflow.rest.model.ProcessItemTaskAppendLogParams;
+import com.kuflow.rest.model.ProcessItemTaskAssignParams;
+import com.kuflow.rest.model.ProcessItemTaskContextDataUpdateParams;
+import com.kuflow.rest.model.ProcessItemTaskDataUpdateParams;
+import com.kuflow.rest.model.ProcessItemTaskState;
+import com.kuflow.rest.model.ProcessItemType;
+import com.kuflow.rest.policy.TraceContextPropagation;
+import com.kuflow.rest.util.JsonPatchUtils;
+import java.util.List;
+import java.util.UUID;
+import reactor.core.publisher.Mono;
+
+/** An instance of this class provides asynchronous access to all the operations defined in ProcessItemOperations. */
+public class ProcessItemAsyncOperations {
+
+    static final QuerySplitter<ProcessItemFindOptions, ProcessItemPageItem> QUERY_SPLITTER = new QuerySplitter<>(
+        ProcessItemAsyncOperations::copyFindOptions,
+        ProcessItemPageItem::getId,
+        QuerySplitter.filter("tenantId", ProcessItemFindOptions::getTenantIds, ProcessItemFindOptions::setTenantIds),
+        QuerySplitter.filter("processId", ProcessItemFindOptions::getProcessIds, ProcessItemFindOptions::setProcessIds),
+        QuerySplitter.filter("type", ProcessItemFindOptions::getTypes, ProcessItemFindOptions::setTypes),
+        QuerySplitter.filter("taskState", ProcessItemFindOptions::getTaskStates, ProcessItemFindOptions::setTaskStates),
+        QuerySplitter.filter(
+            "processItemDefinitionCode",
+            ProcessItemFindOptions::getProcessItemDefinitionCode,
+            ProcessItemFindOptions::setProcessItemDefinitionCode
+        ),
+        QuerySplitter.filter(
+            "processDefinitionId",
+            ProcessItemFindOptions::getProcessDefinitionIds,
+            ProcessItemFindOptions::setProcessDefinitionIds
+        ),
+        QuerySplitter.filter(
+            "processDefinitionCode",
+            ProcessItemFindOptions::getProcessDefinitionCodes,
+            ProcessItemFindOptions::setProcessDefinitionCodes
+        )
+    );
+
+    /** The service. */
+    private final ProcessItemOperationsImpl service;
+
+    /**
+     * Initializes an instance of ProcessItemAsyncOperations.
+     *
+     * @param client the instance of the service client containing this operation class.
+     */
+    public ProcessItemAsyncOperations(KuFlowClientImpl client) {
+        this.service = client.getProcessItemOperations();
+    }
+
+    /**
+     * Find all accessible Process Items
+     * <p>
+     * List all Process Items that have been created and the credentials has access.
+     * <p>
+     * Available sort query values: id, createdAt, lastModifiedAt, claimedAt, completedAt, cancelledAt.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<ProcessItemPage>> findProcessItemsWithResponse(ProcessItemFindOptions options) {
+        ProcessItemFindOptions findOptions = options != null ? options : new ProcessItemFindOptions();
+
+        List<ProcessItemFindOptions> queries = QUERY_SPLITTER.split(findOptions);
+        if (queries.size() > 1) {
+            return this.findProcessItemsWithResponse(queries, findOptions, Context.NONE);
+        }
+
+        return this.findProcessItemsWithResponse(findOptions, findOptions.getPage());
+    }
+
+    /**
+     * Find the process items of a query that was split because its filters do not fit in a single URL.
+     *
+     * @param queries The queries the options were split in.
+     * @param findOptions The options parameters.
+     * @param context The context to associate with the requests of the queries.
+     * @return the merged page along with {@link Response} on successful completion of {@link Mono}.
+     */
+    Mono<Response<ProcessItemPage>> findProcessItemsWithResponse(
+        List<ProcessItemFindOptions> queries,
+        ProcessItemFindOptions findOptions,
+        Context context
+    ) {
+        return QUERY_SPLITTER.find(
+            queries,
+            findOptions.getPage(),
+            findOptions.getSorts(),
+            (query, page) -> this.findProcessItemsWithResponse(query, page, context),
+            ProcessItemPage::getContent,
+            (content, metadata) -> new ProcessItemPage().setContent(content).setMetadata(metadata)
+        );
+    }
+
+    private Mono<Response<ProcessItemPage>> findProcessItemsWithResponse(ProcessItemFindOptions findOptions, Integer page) {
+        return this.findProcessItemsWithResponse(findOptions, page, Context.NONE);
+    }
+
+    private Mono<Response<ProcessItemPage>> findProcessItemsWithResponse(
+        ProcessItemFindOptions findOptions,
+        Integer page,
+        Context context
+    ) {
+        Integer size = findOptions.getSize();
+        List<String> sort = !findOptions.getSorts().isEmpty() ? findOptions.getSorts() : null;
+        List<UUID> processId = !findOptions.getProcessIds().isEmpty() ? findOptions.getProcessIds() : null;
+        List<ProcessItemType> type = !findOptions.getTypes().isEmpty() ? findOptions.getTypes() : null;
+        List<ProcessItemTaskState> taskState = !findOptions.getTaskStates().isEmpty() ? findOptions.getTaskStates() : null;
+        List<String> processItemDefinitionCode = !findOptions.getProcessItemDefinitionCode().isEmpty()
+            ? findOptions.getProcessItemDefinitionCode()
+            : null;
+        List<UUID> processDefinitionId = !findOptions.getProcessDefinitionIds().isEmpty() ? findOptions.getProcessDefinitionIds() : null;
+        List<String> processDefinitionCode = !findOptions.getProcessDefinitionCodes().isEmpty()
+            ? findOptions.getProcessDefinitionCodes()
+            : null;
+        List<UUID> tenantId = !findOptions.getTenantIds().isEmpty() ? findOptions.getTenantIds() : null;
+
+        return TraceContextPropagation.withCurrentContext(
+            FluxUtil.withContext(subscriberContext ->
+                this.service.findProcessItemsWithResponseAsync(
+                    size,
+                    page,
+                    sort,
+                    processId,
+                    type,
+                    taskState,
+                    processItemDefinitionCode,
+                    processDefinitionId,
+                    processDefinitionCode,
+                    tenantId,
+                    CoreUtils.mergeContexts(subscriberContext, context)
+                )
+            )
+        );
+    }
+
+    private static ProcessItemFindOptions copyFindOptions(ProcessItemFindOptions findOptions) {
+        return new ProcessItemFindOptions()
+            .setSize(findOptions.getSize())
+            .setPage(findOptions.getPage())
+            .setSorts(findOptions.getSorts())
+            .setTenantIds(findOptions.getTenantIds())
+            .setProcessIds(findOptions.getProcessIds())
+            .setTypes(findOptions.getTypes())
+            .setTaskStates(findOptions.getTaskStates())
+            .setProcessItemDefinitionCode(findOptions.getProcessItemDefinitionCode())
+            .setProcessDefinitionIds(findOptions.getProcessDefinitionIds())
+            .setProcessDefinitionCodes(findOptions.getProcessDefinitionCodes())
+            .setPageConcurrency(findOptions.getPageConcurrency())
+            .setPreserveOrder(findOptions.isPreserveOrder());
+    }
+
+    /**
+     * Find all accessible Process Items
+     * <p>
+     * List all Process Items that have been created and the credentials has access.
+     * <p>
+     * Available sort query values: id, createdAt, lastModifiedAt, claimedAt, completedAt, cancelledAt.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<ProcessItemPage> findProcessItems(ProcessItemFindOptions options) {
+        return this.findProcessItemsWithResponse(options).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Find all accessible Process Items
+     * <p>
+     * List all Process Items that have been created and the credentials has access.
+     * <p>
+     * Available sort query values: id, createdAt, lastModifiedAt, claimedAt, completedAt, cancelledAt.
+     *
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<ProcessItemPage> findProcessItems() {
+        return this.findProcessItems(null);
+    }
+
+    /**
+     * Stream all accessible Process Items
+     *
+     * <p>Pages are retrieved lazily, starting from the page requested in the options. Each page is requested as soon as
+     * the previous one is emitted, so it is retrieved while the items of the previous one are being consumed.
+     * Cancelling the subscription stops the paging.
+     *
+     * <p>When {@link ProcessItemFindOptions#getPageConcurrency()} is greater than 1, the remaining pages are retrieved
+     * concurrently once the first page is received.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedFlux}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedFlux<ProcessItemPageItem> streamProcessItems(ProcessItemFindOptions options) {
+        ProcessItemFindOptions findOptions = options != null ? options : new ProcessItemFindOptions();
+
+        List<ProcessItemFindOptions> queries = QUERY_SPLITTER.split(findOptions);
+        if (queries.size() > 1) {
+            return QUERY_SPLITTER.stream(
+                queries,
+                findOptions.getPage(),
+                findOptions.getSorts(),
+                this::findProcessItemsWithResponse,
+                ProcessItemPage::getContent
+            );
+        }
+
+        return PagedResponses.pagedFlux(
+            findOptions.getPage(),
+            findOptions.getPageConcurrency(),
+            findOptions.isPreserveOrder(),
+            page -> this.findProcessItemsWithResponse(findOptions, page),
+            ProcessItemPage::getContent
+        );
+    }
+
+    /**
+     * Stream all accessible Process Items
+     *
+     * <p>Pages are retrieved lazily. Each page is requested as soon as the previous one is emitted, so it is retrieved
+     * while the items of the previous one are being consumed. Cancelling the subscription stops the paging.
+     *
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedFlux}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedFlux<ProcessItemPageItem> streamProcessItems() {
+        return this.streamProcessItems(null);
+    }
+
+    /**
+     * Create a Process Item
+     * <p>
+     * Create a Process Item and optionally fill its value.
+     * <p>
+     * If you want the method to be idempotent, please specify the `id` field in the request body.
+     *
+     * @param processItemCreateParams Process Item to be created.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<ProcessItem>> createProcessItemWithResponse(ProcessItemCreateParams processItemCreateParams) {
+        return TraceContextPropagation.withCurrentContext(this.service.createProcessItemWithResponseAsync(processItemCreateParams));
+    }
+
+    /**
+     * Create a Process Item
+     * <p>
+     * Create a Process Item and optionally fill its value.
+     * <p>
+     * If you want the method to be idempotent, please specify the `id` field in the request body.
+     *
+     * @param processItemCreateParams Process Item to be created.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<ProcessItem> createProcessItem(ProcessItemCreateParams processItemCreateParams) {
+        return this.createProcessItemWithResponse(processItemCreateParams).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Get a process item given it ID
+     * <p>
+     * Allow to get a process item by ID.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<ProcessItem>> retrieveProcessItemWithResponse(UUID id) {
+        return TraceContextPropagation.withCurrentContext(this.service.retrieveProcessItemWithResponseAsync(id));
+    }
+
+    /**
+     * Get a process item given it ID
+     * <p>
+     * Allow to get a process item by ID.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<ProcessItem> retrieveProcessItem(UUID id) {
+        return this.retrieveProcessItemWithResponse(id).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Get the task data of a process item given it ID
+     * <p>
+     * Allow to get the task data of a process item bound to a user type, without building the intermediate map.
+     *
+     * @param id The resource ID.
+     * @param type The type to bind the task data to.
+     * @param <T> The type of the task data.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the task data on successful completion of {@link Mono}, empty if the process item has no task data.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public <T> Mono<T> retrieveProcessItemTaskData(UUID id, Class<T> type) {
+        return this.retrieveProcessItem(id).mapNotNull(processItem -> {
+            ProcessItemTask task = processItem.getTask();
+
+            return task != null ? JsonValueMapper.getValueAs(task.getData(), type) : null;
+        });
+    }
+
+    /**
+     * Claim a process item task
+     * <p>
+     * Allow to claim a task.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<ProcessItem>> claimProcessItemTaskWithResponse(UUID id) {
+        return TraceContextPropagation.withCurrentContext(this.service.claimProcessItemTaskWithResponseAsync(id));
+    }
+
+    /**
+     * Claim a process item task
+     * <p>
+     * Allow to claim a task.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<ProcessItem> claimProcessItemTask(UUID id) {
+        return this.claimProcessItemTaskWithResponse(id).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Assign a process item task
+     * <p>
+     * Allow to assign a process item task to a user or application. Only one option will be necessary.
+     *
+     * @param id The resource ID.
+     * @param processItemTaskAssignParams Params to change the process item task owner.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<ProcessItem>> assignProcessItemTaskWithResponse(UUID id, ProcessItemTaskAssignParams processItemTaskAssignParams) {
+        return TraceContextPropagation.withCurrentContext(
+            this.service.assignProcessItemTaskWithResponseAsync(id, processItemTaskAssignParams)
+        );
+    }
+
+    /**
+     * Assign a process item task
+     * <p>
+     * Allow to assign a process item task to a user or application. Only one option will be necessary.
+     *
+     * @param id The resource ID.
+     * @param processItemTaskAssignParams Params to change the process item task owner.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<ProcessItem> assignProcessItemTask(UUID id, ProcessItemTaskAssignParams processItemTaskAssignParams) {
+        return this.assignProcessItemTaskWithResponse(id, processItemTaskAssignParams).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Complete a process item task
+     * <p>
+     * Allow to complete a claimed task by the principal.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<ProcessItem>> completeProcessItemTaskWithResponse(UUID id) {
+        return TraceContextPropagation.withCurrentContext(this.service.completeProcessItemTaskWithResponseAsync(id));
+    }
+
+    /**
+     * Complete a process item task
+     * <p>
+     * Allow to complete a claimed task by the principal.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<ProcessItem> completeProcessItemTask(UUID id) {
+        return this.completeProcessItemTaskWithResponse(id).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Append a log to the process item task
+     * <p>
+     * A log entry is added to the task. If the number of log entries is reached, the oldest log entry is removed.
+     *
+     * @param id The resource ID.
+     * @param processItemTaskAppendLogParams Log to be created.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<ProcessItem>> appendProcessItemTaskLogWithResponse(
+        UUID id,
+        ProcessItemTaskAppendLogParams processItemTaskAppendLogParams
+    ) {
+        return TraceContextPropagation.withCurrentContext(
+            this.service.appendProcessItemTaskLogWithResponseAsync(id, processItemTaskAppendLogParams)
+        );
+    }
+
+    /**
+     * Append a log to the process item task
+     * <p>
+     * A log entry is added to the task. If the number of log entries is reached, the oldest log entry is removed.
+     *
+     * @param id The resource ID.
+     * @param processItemTaskAppendLogParams Log to be created.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<ProcessItem> appendProcessItemTaskLog(UUID id, ProcessItemTaskAppendLogParams processItemTaskAppendLogParams) {
+        return this.appendProcessItemTaskLogWithResponse(id, processItemTaskAppendLogParams).flatMap(res ->
+            Mono.justOrEmpty(res.getValue())
+        );
+    }
+
+    /**
+     * Save JSON data
+     * <p>
+     * Allow to save a JSON data validating that the data follow the related schema. If the data is invalid, then
+     * the json form is marked as invalid.
+     *
+     * @param id The resource ID.
+     * @param processItemTaskDataUpdateParams Params used to update the JSON value.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<ProcessItem>> updateProcessItemTaskDataWithResponse(
+        UUID id,
+        ProcessItemTaskDataUpdateParams processItemTaskDataUpdateParams
+    ) {
+        return TraceContextPropagation.withCurrentContext(
+            this.service.updateProcessItemTaskDataWithResponseAsync(id, processItemTaskDataUpdateParams)
+        );
+    }
+
+    /**
+     * Save JSON data
+     * <p>
+     * Allow to save a JSON data validating that the data follow the related schema. If the data is invalid, then
+     * the json form is marked as invalid.
+     *
+     * @param id The resource ID.
+     * @param processItemTaskDataUpdateParams Params used to update the JSON value.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<ProcessItem> updateProcessItemTaskData(UUID id, ProcessItemTaskDataUpdateParams processItemTaskDataUpdateParams) {
+        return this.updateProcessItemTaskDataWithResponse(id, processItemTaskDataUpdateParams).flatMap(res ->
+            Mono.justOrEmpty(res.getValue())
+        );
+    }
+
+    /**
+     * Patch JSON data
+     * <p>
+     * Allow to patch a JSON data validating that the data follow the related schema. If the data is invalid, then
+     * the json is marked as invalid.
+     *
+     * @param id The resource ID.
+     * @param jsonPatch Array of JsonPatchOperation.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<ProcessItem>> patchProcessItemTaskDataWithResponse(UUID id, List<JsonPatchOperation> jsonPatch) {
+        return TraceContextPropagation.withCurrentContext(this.service.patchProcessItemTaskDataWithResponseAsync(id, jsonPatch));
+    }
+
+    /**
+     * Patch JSON data
+     * <p>
+     * Allow to patch a JSON data validating that the data follow the related schema. If the data is invalid, then
+     * the json is marked as invalid.
+     *
+     * @param id The resource ID.
+     * @param jsonPatch Array of JsonPatchOperation.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<ProcessItem> patchProcessItemTaskData(UUID id, List<JsonPatchOperation> jsonPatch) {
+        return this.patchProcessItemTaskDataWithResponse(id, jsonPatch).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Save JSON data
+     * <p>
+     * Allow to save the task data sending only the changes from the previous task data when they are smaller than the whole
+     * task data, see {@link JsonPatchUtils#diff(JsonValue, JsonValue)}.
+     *
+     * @param id The resource ID.
+     * @param previous The task data as it was retrieved.
+     * @param desired The task data to save.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<ProcessItem> updateProcessItemTaskData(UUID id, JsonValue previous, JsonValue desired) {
+        List<JsonPatchOperation> jsonPatch = JsonPatchUtils.diff(previous, desired);
+        if (JsonPatchUtils.isPatchPreferred(jsonPatch, desired)) {
+            return this.patchProcessItemTaskData(id, jsonPatch);
+        }
+
+        return this.updateProcessItemTaskData(id, new ProcessItemTaskDataUpdateParams().setData(desired));
+    }
+
+    /**
+     * Save JSON context data
+     * <p>
+     * Allow to save a JSON context data validating that the data follow the related schema. If the data is invalid, then
+     * the json form is marked as invalid.
+     *
+     * @param id The resource ID.
+     * @param processItemTaskContextDataUpdateParams Params used to update the JSON context data value.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<ProcessItem>> updateProcessItemTaskContextDataWithResponse(
+        UUID id,
+        ProcessItemTaskContextDataUpdateParams processItemTaskContextDataUpdateParams
+    ) {
+        return TraceContextPropagation.withCurrentContext(
+            this.service.updateProcessItemTaskContextDataWithResponseAsync(id, processItemTaskContextDataUpdateParams)
+        );
+    }
+
+    /**
+     * Save JSON context data
+     * <p>
+     * Allow to save a JSON context data validating that the data follow the related schema. If the data is invalid, then
+     * the json form is marked as invalid.
+     *
+     * @param id The resource ID.
+     * @param processItemTaskContextDataUpdateParams Params used to update the JSON context data value.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<ProcessItem> updateProcessItemTaskContextData(
+        UUID id,
+        ProcessItemTaskContextDataUpdateParams processItemTaskContextDataUpdateParams
+    ) {
+        return this.updateProcessItemTaskContextDataWithResponse(id, processItemTaskContextDataUpdateParams).flatMap(res ->
+            Mono.justOrEmpty(res.getValue())
+        );
+    }
+
+    /**
+     * Download a Form rendered as PDF or Zip of PDFs (when the element is multiple)
+     * <p>
+     * Given a task, generate a PDF from a Form type element with the data filled in, if any. If there are multiple form
+     * values, they are packed into a ZIP.
+     *
+     * @param id The resource ID.
+     * @param propertyPath JSON pointer to the property with the error. See: <a href="https://datatracker.ietf.org/doc/html/rfc6901">...</a>
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<BinaryData>> downloadProcessItemTaskDataWebformsAsDocumentWithResponse(UUID id, String propertyPath) {
+        return TraceContextPropagation.withCurrentContext(
+            this.service.downloadProcessItemTaskDataWebformsAsDocumentWithResponseAsync(id, propertyPath)
+        );
+    }
+
+    /**
+     * Download a Form rendered as PDF or Zip of PDFs (when the element is multiple)
+     * <p>
+     * Given a task, generate a PDF from a Form type element with the data filled in, if any. If there are multiple form
+     * values, they are packed into a ZIP.
+     *
+     * @param id The resource ID.
+     * @param propertyPath JSON pointer to the property with the error. See: <a href="https://datatracker.ietf.org/doc/html/rfc6901">...</a>
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<BinaryData> downloadProcessItemTaskDataWebformsAsDocument(UUID id, String propertyPath) {
+        return this.downloadProcessItemTaskDataWebformsAsDocumentWithResponse(id, propertyPath).flatMap(res ->
+            Mono.justOrEmpty(res.getValue())
+        );
+    }
+
+    /**
+     * Trigger or poll AI assistance for a process item
+     * <p>
+     * Trigger an asynchronous AI assistance run for a process item and return its current state, identified by a
+     * client-supplied {@code requestId} (UUID).
+     *
+     * @param id The resource ID.
+     * @param processItemAiAssistanceGenerateParams Params identifying this AI assistance attempt.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<ProcessItemAiAssistance>> generateProcessItemAiAssistanceWithResponse(
+        UUID id,
+        ProcessItemAiAssistanceGenerateParams processItemAiAssistanceGenerateParams
+    ) {
+        return TraceContextPropagation.withCurrentContext(
+            this.service.generateProcessItemAiAssistanceWithResponseAsync(id, processItemAiAssistanceGenerateParams)
+        );
+    }
+
+    /**
+     * Trigger or poll AI assistance for a process item
+     * <p>
+     * Trigger an asynchronous AI assistance run for a process item and return its current state, identified by a
+     * client-supplied {@code requestId} (UUID).
+     *
+     * @param id The resource ID.
+     * @param processItemAiAssistanceGenerateParams Params identifying this AI assistance attempt.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<ProcessItemAiAssistance> generateProcessItemAiAssistance(
+        UUID id,
+        ProcessItemAiAssistanceGenerateParams processItemAiAssistanceGenerateParams
+    ) {
+        return this.generateProcessItemAiAssistanceWithResponse(id, processItemAiAssistanceGenerateParams).flatMap(res ->
+            Mono.justOrEmpty(res.getValue())
+        );
+    }
+
+    /**
+     * Get the current AI assistance run status for a process item
+     * <p>
+     * Return the status of the latest AI assistance run for the given process item.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<ProcessItemAiAssistance>> retrieveProcessItemAiAssistanceWithResponse(UUID id) {
+        return TraceContextPropagation.withCurrentContext(this.service.retrieveProcessItemAiAssistanceWithResponseAsync(id));
+    }
+
+    /**
+     * Get the current AI assistance run status for a process item
+     * <p>
+     * Return the status of the latest AI assistance run for the given process item.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<ProcessItemAiAssistance> retrieveProcessItemAiAssistance(UUID id) {
+        return this.retrieveProcessItemAiAssistanceWithResponse(id).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+}
@@ -25,6 +25,7 @@ package com.kuflow.rest.operation;
 
 import com.azure.core.annotation.ReturnType;
 import com.azure.core.annotation.ServiceMethod;
+import com.azure.core.http.rest.PagedIterable;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.Context;
@@ -32,18 +33,23 @@ import com.kuflow.rest.implementation.KuFlowClientImpl;
 import com.kuflow.rest.implementation.ProcessItemOperationsImpl;
 import com.kuflow.rest.model.DefaultErrorException;
 import com.kuflow.rest.model.JsonPatchOperation;
+import com.kuflow.rest.model.JsonValue;
+import com.kuflow.rest.model.JsonValueMapper;
 import com.kuflow.rest.model.ProcessItem;
 import com.kuflow.rest.model.ProcessItemAiAssistance;
 import com.kuflow.rest.model.ProcessItemAiAssistanceGenerateParams;
 import com.kuflow.rest.model.ProcessItemCreateParams;
 import com.kuflow.rest.model.ProcessItemFindOptions;
 import com.kuflow.rest.model.ProcessItemPage;
+import com.kuflow.rest.model.ProcessItemPageItem;
+import com.kuflow.rest.model.ProcessItemTask;
 import com.kuflow.rest.model.ProcessItemTaskAppendLogParams;
 import com.kuflow.rest.model.ProcessItemTaskAssignParams;
 import com.kuflow.rest.model.ProcessItemTaskContextDataUpdateParams;
 import com.kuflow.rest.model.ProcessItemTaskDataUpdateParams;
 import com.kuflow.rest.model.ProcessItemTaskState;
 import com.kuflow.rest.model.ProcessItemType;
+import com.kuflow.rest.util.JsonPatchUtils;
 import java.util.List;
 import java.util.UUID;
 import reactor.core.publisher.Mono;
@@ -54,13 +60,27 @@ public class ProcessItemOperations {
     /** The service. */
     private final ProcessItemOperationsImpl service;
 
+    /** The asynchronous operations used to stream the pages. */
+    private final ProcessItemAsyncOperations asyncOperations;
+
     /**
      * Initializes an instance of TaskOperationsImpl.
      *
      * @param client the instance of the service client containing this operation class.
      */
     public ProcessItemOperations(KuFlowClientImpl client) {
+        this(client, new ProcessItemAsyncOperations(client));
+    }
+
+    /**
+     * Initializes an instance of TaskOperationsImpl.
+     *
+     * @param client the instance of the service client containing this operation class.
+     * @param asyncOperations the asynchronous operations of the same client, used to stream the pages.
+     */
+    public ProcessItemOperations(KuFlowClientImpl client, ProcessItemAsyncOperations asyncOperations) {
         this.service = client.getProcessItemOperations();
+        this.asyncOperations = asyncOperations;
     }
 
     /**
@@ -80,6 +100,11 @@ public class ProcessItemOperations {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<ProcessItemPage> findProcessItemsWithResponse(ProcessItemFindOptions options, Context context) {
         options = options != null ? options : new ProcessItemFindOptions();
+        List<ProcessItemFindOptions> queries = ProcessItemAsyncOperations.QUERY_SPLITTER.split(options);
+        if (queries.size() > 1) {
+            // Filters too long for a single URL are split in several concurrent requests
+            return this.asyncOperations.findProcessItemsWithResponse(queries, options, context).block();
+        }
 
         Integer size = options.getSize();
         Integer page = options.getPage();
@@ -143,6 +168,42 @@ public class ProcessItemOperations {
         return this.findProcessItemsWithResponse(null, Context.NONE).getValue();
     }
 
+    /**
+     * Stream all accessible Process Items
+     *
+     * <p>Pages are retrieved lazily, starting from the page requested in the options. While the items of a page are
+     * being consumed, the next page is already being retrieved. Stop iterating, or close the stream, to stop the
+     * paging.
+     *
+     * <p>When {@link ProcessItemFindOptions#getPageConcurrency()} is greater than 1, the remaining pages are retrieved
+     * concurrently once the first page is received.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedIterable}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedIterable<ProcessItemPageItem> streamProcessItems(ProcessItemFindOptions options) {
+        return new PagedIterable<>(this.asyncOperations.streamProcessItems(options));
+    }
+
+    /**
+     * Stream all accessible Process Items
+     *
+     * <p>Pages are retrieved lazily. While the items of a page are being consumed, the next page is already being
+     * retrieved. Stop iterating, or close the stream, to stop the paging.
+     *
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedIterable}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedIterable<ProcessItemPageItem> streamProcessItems() {
+        return this.streamProcessItems(null);
+    }
+
     /**
      * Create a new Process Item in the selected Process
      * <p>
@@ -221,6 +282,26 @@ public class ProcessItemOperations {
         return this.retrieveProcessItemWithResponse(id, Context.NONE).getValue();
     }
 
+    /**
+     * Get the task data of a process item given it ID
+     * <p>
+     * Allow to get the task data of a process item bound to a user type, without building the intermediate map.
+     *
+     * @param id The resource ID.
+     * @param type The type to bind the task data to.
+     * @param <T> The type of the task data.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the task data, or null if the process item has no task data.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public <T> T retrieveProcessItemTaskData(UUID id, Class<T> type) {
+        ProcessItemTask task = this.retrieveProcessItem(id).getTask();
+
+        return task != null ? JsonValueMapper.getValueAs(task.getData(), type) : null;
+    }
+
     /**
      * Claim a process item task
      * <p>
@@ -443,6 +524,30 @@ public class ProcessItemOperations {
         return this.patchProcessItemTaskDataWithResponse(id, jsonPatch, Context.NONE).getValue();
     }
 
+    /**
+     * Save JSON data
+     * <p>
+     * Allow to save the task data sending only the changes from the previous task data when they are smaller than the whole
+     * task data, see {@link JsonPatchUtils#diff(JsonValue, JsonValue)}.
+     *
+     * @param id The resource ID.
+     * @param previous The task data as it was retrieved.
+     * @param desired The task data to save.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public ProcessItem updateProcessItemTaskData(UUID id, JsonValue previous, JsonValue desired) {
+        List<JsonPatchOperation> jsonPatch = JsonPatchUtils.diff(previous, desired);
+        if (JsonPatchUtils.isPatchPreferred(jsonPatch, desired)) {
+            return this.patchProcessItemTaskData(id, jsonPatch);
+        }
+
+        return this.updateProcessItemTaskData(id, new ProcessItemTaskDataUpdateParams().setData(desired));
+    }
+
     /**
      * Save JSON context data
      * <p>
@@ -0,0 +1,232 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.operation;
+
+import com.azure.core.util.logging.ClientLogger;
+import com.kuflow.rest.model.ProcessItemTaskAppendLogParams;
+import com.kuflow.rest.model.ProcessItemTaskLogAppenderOptions;
+import com.kuflow.rest.model.ProcessItemTaskLogLevel;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Non-blocking buffer of process item task logs.
+ *
+ * <p>Entries are queued per process item and sent in the background, in order, by one request at a time per process
+ * item. Consecutive entries with the same level are merged into a single log. A process item is flushed when it
+ * reaches the configured number of entries, on every flush interval, and when {@link #flush()} or {@link #close()} is
+ * called.
+ *
+ * <p>The buffer is bounded: {@link #offer(UUID, ProcessItemTaskAppendLogParams)} returns {@code false} instead of
+ * blocking when it is full, so that callers can decide whether to drop the entry, wait or log it elsewhere. Entries that
+ * fail to be sent are logged and discarded.
+ */
+public class ProcessItemTaskLogAppender implements AutoCloseable {
+
+    private static final ClientLogger LOGGER = new ClientLogger(ProcessItemTaskLogAppender.class);
+
+    private final ProcessItemAsyncOperations processItemAsyncOperations;
+
+    private final ProcessItemTaskLogAppenderOptions options;
+
+    private final Map<UUID, ItemQueue> queues = new ConcurrentHashMap<>();
+
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final Disposable flushTimer;
+
+    private volatile boolean closed;
+
+    public ProcessItemTaskLogAppender(ProcessItemAsyncOperations processItemAsyncOperations) {
+        this(processItemAsyncOperations, new ProcessItemTaskLogAppenderOptions());
+    }
+
+    public ProcessItemTaskLogAppender(
+        ProcessItemAsyncOperations processItemAsyncOperations,
+        ProcessItemTaskLogAppenderOptions options
+    ) {
+        this.processItemAsyncOperations = Objects.requireNonNull(processItemAsyncOperations, "'processItemAsyncOperations' is required");
+        this.options = Objects.requireNonNull(options, "'options' is required");
+        this.flushTimer = Flux.interval(options.getFlushInterval(), options.getFlushInterval(), Schedulers.parallel()).subscribe(tick ->
+            this.queues.keySet().forEach(this::drain)
+        );
+    }
+
+    /**
+     * Queue a log of a process item task.
+     *
+     * @param id The process item ID.
+     * @param processItemTaskAppendLogParams Log to be created.
+     * @return {@code true} if the log was queued, {@code false} if the buffer is full.
+     * @throws IllegalStateException if the appender is closed.
+     */
+    public boolean offer(UUID id, ProcessItemTaskAppendLogParams processItemTaskAppendLogParams) {
+        Objects.requireNonNull(id, "'id' is required");
+        Objects.requireNonNull(processItemTaskAppendLogParams, "'processItemTaskAppendLogParams' is required");
+        if (this.closed) {
+            throw new IllegalStateException("The appender is closed");
+        }
+
+        if (this.pending.incrementAndGet() > this.options.getCapacity()) {
+            this.pending.decrementAndGet();
+
+            return false;
+        }
+
+        Entry entry = new Entry(processItemTaskAppendLogParams.getLevel(), processItemTaskAppendLogParams.getMessage());
+        boolean[] full = { false };
+        this.queues.compute(id, (key, queue) -> {
+            ItemQueue target = queue != null ? queue : new ItemQueue();
+            target.entries.add(entry);
+            full[0] = target.entries.size() >= this.options.getMaxBatchEntries();
+
+            return target;
+        });
+
+        if (full[0]) {
+            this.drain(id);
+        }
+
+        return true;
+    }
+
+    /**
+     * Get the number of entries waiting to be sent.
+     *
+     * @return the number of entries.
+     */
+    public int getPending() {
+        return this.pending.get();
+    }
+
+    /**
+     * Send all the queued entries.
+     *
+     * @return completes when every entry queued before the call has been sent or discarded.
+     */
+    public Mono<Void> flush() {
+        return Flux.fromIterable(List.copyOf(this.queues.keySet())).flatMap(this::drain).then();
+    }
+
+    /**
+     * Stop accepting entries, and send the queued ones waiting for them.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        this.flushTimer.dispose();
+        this.flush().block();
+    }
+
+    private Mono<Void> drain(UUID id) {
+        Object[] drain = { null, null };
+        this.queues.computeIfPresent(id, (key, queue) -> {
+            if (queue.drain == null) {
+                queue.drain = this.sendAll(id).cache();
+                drain[1] = queue.drain;
+            }
+            drain[0] = queue.drain;
+
+            return queue;
+        });
+
+        if (drain[1] != null) {
+            ((Mono<?>) drain[1]).subscribe();
+        }
+
+        return drain[0] != null ? ((Mono<?>) drain[0]).then() : Mono.empty();
+    }
+
+    private Mono<Void> sendAll(UUID id) {
+        return Mono.defer(() -> {
+            Batch batch = this.nextBatch(id);
+            if (batch == null) {
+                return Mono.empty();
+            }
+
+            ProcessItemTaskAppendLogParams params = new ProcessItemTaskAppendLogParams()
+                .setLevel(batch.level())
+                .setMessage(batch.message());
+
+            return this.processItemAsyncOperations.appendProcessItemTaskLog(id, params)
+                .doOnError(e -> LOGGER.warning("Error appending {} logs to the process item {}", batch.entries(), id, e))
+                .onErrorResume(e -> Mono.empty())
+                .doFinally(signal -> this.pending.addAndGet(-batch.entries()))
+                .then(this.sendAll(id));
+        });
+    }
+
+    private Batch nextBatch(UUID id) {
+        Batch[] batch = { null };
+        // The queue is removed when it is empty, a later entry starts a new queue and a new drain
+        this.queues.computeIfPresent(id, (key, queue) -> {
+            Entry first = queue.entries.poll();
+            if (first == null) {
+                return null;
+            }
+
+            StringBuilder message = new StringBuilder(first.message() != null ? first.message() : "");
+            int entries = 1;
+            while (entries < this.options.getMaxBatchEntries()) {
+                Entry next = queue.entries.peek();
+                if (
+                    next == null ||
+                    !Objects.equals(next.level(), first.level()) ||
+                    next.message() == null ||
+                    message.length() + 1 + next.message().length() > this.options.getMaxMessageLength()
+                ) {
+                    break;
+                }
+                queue.entries.poll();
+                message.append('\n').append(next.message());
+                entries++;
+            }
+            batch[0] = new Batch(first.level(), message.toString(), entries);
+
+            return queue;
+        });
+
+        return batch[0];
+    }
+
+    private record Entry(ProcessItemTaskLogLevel level, String message) {}
+
+    private record Batch(ProcessItemTaskLogLevel level, String message, int entries) {}
+
+    private static final class ItemQueue {
+
+        private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+
+        private Mono<Void> drain;
+    }
+}
@@ -25,15 +25,20 @@ package com.kuflow.rest.operation;
 
 import com.azure.core.annotation.ReturnType;
 import com.azure.core.annotation.ServiceMethod;
+import com.azure.core.http.rest.PagedIterable;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.Context;
+import com.kuflow.rest.KuFlowRestClientException;
 import com.kuflow.rest.implementation.KuFlowClientImpl;
 import com.kuflow.rest.implementation.ProcessOperationsImpl;
 import com.kuflow.rest.model.DefaultErrorException;
 import com.kuflow.rest.model.Document;
 import com.kuflow.rest.model.DocumentReference;
+import com.kuflow.rest.model.DownloadOptions;
 import com.kuflow.rest.model.JsonPatchOperation;
+import com.kuflow.rest.model.JsonValue;
+import com.kuflow.rest.model.JsonValueMapper;
 import com.kuflow.rest.model.Process;
 import com.kuflow.rest.model.ProcessAction;
 import com.kuflow.rest.model.ProcessActionCreateParams;
@@ -43,7 +48,12 @@ import com.kuflow.rest.model.ProcessEntityUpdateParams;
 import com.kuflow.rest.model.ProcessFindOptions;
 import com.kuflow.rest.model.ProcessMetadataUpdateParams;
 import com.kuflow.rest.model.ProcessPage;
+import com.kuflow.rest.model.ProcessPageItem;
 import com.kuflow.rest.model.ProcessState;
+import com.kuflow.rest.util.JsonPatchUtils;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -54,13 +64,31 @@ public class ProcessOperations {
     /** The service. */
     private final ProcessOperationsImpl service;
 
+    /** The asynchronous operations used to stream the pages. */
+    private final ProcessAsyncOperations asyncOperations;
+
+    /** The downloader used for the downloads by ranges. */
+    private final RangeDownloader rangeDownloader;
+
     /**
      * Initializes an instance of ProcessOperationsImpl.
      *
      * @param client the instance of the service client containing this operation class.
      */
     public ProcessOperations(KuFlowClientImpl client) {
+        this(client, new ProcessAsyncOperations(client));
+    }
+
+    /**
+     * Initializes an instance of ProcessOperationsImpl.
+     *
+     * @param client the instance of the service client containing this operation class.
+     * @param asyncOperations the asynchronous operations of the same client, used to stream the pages.
+     */
+    public ProcessOperations(KuFlowClientImpl client, ProcessAsyncOperations asyncOperations) {
         this.service = client.getProcessOperations();
+        this.asyncOperations = asyncOperations;
+        this.rangeDownloader = new RangeDownloader(client);
     }
 
     /**
@@ -80,6 +108,11 @@ public class ProcessOperations {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<ProcessPage> findProcessesWithResponse(ProcessFindOptions options, Context context) {
         options = options != null ? options : new ProcessFindOptions();
+        List<ProcessFindOptions> queries = ProcessAsyncOperations.QUERY_SPLITTER.split(options);
+        if (queries.size() > 1) {
+            // Filters too long for a single URL are split in several concurrent requests
+            return this.asyncOperations.findProcessesWithResponse(queries, options, context).block();
+        }
 
         Integer size = options.getSize();
         Integer page = options.getPage();
@@ -141,6 +174,42 @@ public class ProcessOperations {
         return this.findProcessesWithResponse(null, Context.NONE).getValue();
     }
 
+    /**
+     * Stream all accessible Processes
+     *
+     * <p>Pages are retrieved lazily, starting from the page requested in the options. While the items of a page are
+     * being consumed, the next page is already being retrieved. Stop iterating, or close the stream, to stop the
+     * paging.
+     *
+     * <p>When {@link ProcessFindOptions#getPageConcurrency()} is greater than 1, the remaining pages are retrieved
+     * concurrently once the first page is received.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedIterable}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedIterable<ProcessPageItem> streamProcesses(ProcessFindOptions options) {
+        return new PagedIterable<>(this.asyncOperations.streamProcesses(options));
+    }
+
+    /**
+     * Stream all accessible Processes
+     *
+     * <p>Pages are retrieved lazily. While the items of a page are being consumed, the next page is already being
+     * retrieved. Stop iterating, or close the stream, to stop the paging.
+     *
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedIterable}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedIterable<ProcessPageItem> streamProcesses() {
+        return this.streamProcesses(null);
+    }
+
     /**
      * Create a new process
      * <p>
@@ -211,6 +280,26 @@ public class ProcessOperations {
         return this.retrieveProcessWithResponse(id, Context.NONE).getValue();
     }
 
+    /**
+     * Get the entity of a process given it ID
+     * <p>
+     * Allow to get the entity of a process bound to a user type, without building the intermediate map.
+     *
+     * @param id The resource ID.
+     * @param type The type to bind the entity to.
+     * @param <T> The type of the entity.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the entity, or null if the process has no entity.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public <T> T retrieveProcessEntity(UUID id, Class<T> type) {
+        JsonValue entity = this.retrieveProcess(id).getEntity();
+
+        return JsonValueMapper.getValueAs(entity, type);
+    }
+
     /**
      * Create a Process Action.
      * <p>
@@ -643,6 +732,30 @@ public class ProcessOperations {
         return this.patchProcessMetadataWithResponse(id, jsonPatch, Context.NONE).getValue();
     }
 
+    /**
+     * Save the metadata of a process
+     * <p>
+     * Allow to save the metadata sending only the changes from the previous metadata when they are smaller than the whole
+     * metadata, see {@link JsonPatchUtils#diff(JsonValue, JsonValue)}.
+     *
+     * @param id The resource ID.
+     * @param previous The metadata as it was retrieved.
+     * @param desired The metadata to save.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Process updateProcessMetadata(UUID id, JsonValue previous, JsonValue desired) {
+        List<JsonPatchOperation> jsonPatch = JsonPatchUtils.diff(previous, desired);
+        if (JsonPatchUtils.isPatchPreferred(jsonPatch, desired)) {
+            return this.patchProcessMetadata(id, jsonPatch);
+        }
+
+        return this.updateProcessMetadata(id, new ProcessMetadataUpdateParams().setMetadata(desired));
+    }
+
     /**
      * Save JSON data
      * <p>
@@ -721,6 +834,30 @@ public class ProcessOperations {
         return this.patchProcessEntityWithResponse(id, jsonPatch, Context.NONE).getValue();
     }
 
+    /**
+     * Save the entity of a process
+     * <p>
+     * Allow to save the entity sending only the changes from the previous entity when they are smaller than the whole
+     * entity, see {@link JsonPatchUtils#diff(JsonValue, JsonValue)}.
+     *
+     * @param id The resource ID.
+     * @param previous The entity as it was retrieved.
+     * @param desired The entity to save.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Process updateProcessEntity(UUID id, JsonValue previous, JsonValue desired) {
+        List<JsonPatchOperation> jsonPatch = JsonPatchUtils.diff(previous, desired);
+        if (JsonPatchUtils.isPatchPreferred(jsonPatch, desired)) {
+            return this.patchProcessEntity(id, jsonPatch);
+        }
+
+        return this.updateProcessEntity(id, new ProcessEntityUpdateParams().setEntity(desired));
+    }
+
     /**
      * Upload a temporal document into the process that later on must be linked with a process domain resource
      * <p>
@@ -809,4 +946,82 @@ public class ProcessOperations {
     public BinaryData downloadProcessDocument(UUID id, String documentUri) {
         return this.downloadProcessDocumentWithResponse(id, documentUri, Context.NONE).getValue();
     }
+
+    /**
+     * Download document
+     * <p>
+     * Given a document uri download a document, streaming it to the given sink.
+     *
+     * @param id The resource ID.
+     * @param documentUri Document URI to download.
+     * @param path The file where the content is written, it is created or truncated.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws KuFlowRestClientException thrown if the content cannot be written.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public void downloadProcessDocumentTo(UUID id, String documentUri, Path path) {
+        Downloads.writeTo(() -> this.downloadProcessDocumentWithResponse(id, documentUri, Context.NONE).getValue(), path);
+    }
+
+    /**
+     * Download document
+     * <p>
+     * Given a document uri download a document, streaming it to the given sink.
+     *
+     * @param id The resource ID.
+     * @param documentUri Document URI to download.
+     * @param outputStream The stream where the content is written, it is not closed.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws KuFlowRestClientException thrown if the content cannot be written.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public void downloadProcessDocumentTo(UUID id, String documentUri, OutputStream outputStream) {
+        Downloads.writeTo(() -> this.downloadProcessDocumentWithResponse(id, documentUri, Context.NONE).getValue(), outputStream);
+    }
+
+    /**
+     * Download document
+     * <p>
+     * Given a document uri download a document, streaming it to the given sink.
+     *
+     * @param id The resource ID.
+     * @param documentUri Document URI to download.
+     * @param channel The channel where the content is written, it is not closed.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws KuFlowRestClientException thrown if the content cannot be written.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public void downloadProcessDocumentTo(UUID id, String documentUri, WritableByteChannel channel) {
+        Downloads.writeTo(() -> this.downloadProcessDocumentWithResponse(id, documentUri, Context.NONE).getValue(), channel);
+    }
+
+    /**
+     * Download document
+     * <p>
+     * Given a document uri download a document to a file using HTTP Range requests. The transfer is resumed from the last
+     * byte written if the connection drops and, depending on the options, the document is downloaded in segments in
+     * parallel.
+     *
+     * @param id The resource ID.
+     * @param documentUri Document URI to download.
+     * @param path The file where the content is written, it is created or truncated.
+     * @param options The download options, the defaults are used if null.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws KuFlowRestClientException thrown if the content cannot be written or the download cannot be completed.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public void downloadProcessDocumentTo(UUID id, String documentUri, Path path, DownloadOptions options) {
+        Objects.requireNonNull(id, "'id' is required");
+        Objects.requireNonNull(documentUri, "'documentUri' is required");
+
+        this.rangeDownloader.download(() -> this.downloadProcessDocumentWithResponse(id, documentUri, Context.NONE), path, options);
+    }
 }
@@ -0,0 +1,208 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.operation;
+
+import com.kuflow.rest.model.JsonPatchOperation;
+import com.kuflow.rest.model.Process;
+import com.kuflow.rest.model.ProcessPatchCombinerOptions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Write-behind combiner of the metadata and entity patches of processes.
+ *
+ * <p>Patches of the same process and document received within the configured window are concatenated, in arrival
+ * order, into a single {@code PATCH} request, and every caller receives the process returned by that request. As the
+ * operations are applied together, an invalid operation fails the whole batch and every caller receives the error.
+ *
+ * <p>The batches of the same process and document are sent one at a time, in the order they were created: a batch is
+ * only sent once the request of the previous one has completed, so that the patches are never applied out of order.
+ *
+ * <p>Unlike the rest of the asynchronous operations, the patches are queued when the methods are called, not when the
+ * returned {@link Mono} is subscribed. Call {@link #flush()} or {@link #close()} to send the pending batches without
+ * waiting for the window.
+ */
+public class ProcessPatchCombiner implements AutoCloseable {
+
+    private final ProcessAsyncOperations processAsyncOperations;
+
+    private final ProcessPatchCombinerOptions options;
+
+    private final Map<BatchKey, Batch> batches = new ConcurrentHashMap<>();
+
+    private final Map<BatchKey, Mono<Void>> inFlight = new ConcurrentHashMap<>();
+
+    public ProcessPatchCombiner(ProcessAsyncOperations processAsyncOperations) {
+        this(processAsyncOperations, new ProcessPatchCombinerOptions());
+    }
+
+    public ProcessPatchCombiner(ProcessAsyncOperations processAsyncOperations, ProcessPatchCombinerOptions options) {
+        this.processAsyncOperations = Objects.requireNonNull(processAsyncOperations, "'processAsyncOperations' is required");
+        this.options = Objects.requireNonNull(options, "'options' is required");
+    }
+
+    /**
+     * Queue a patch of the metadata of a process.
+     *
+     * @param id The process ID.
+     * @param jsonPatch Array of JsonPatchOperation.
+     * @return the process once the batch containing the patch has been applied.
+     */
+    public Mono<Process> patchProcessMetadata(UUID id, List<JsonPatchOperation> jsonPatch) {
+        return this.enqueue(new BatchKey(id, Target.METADATA), jsonPatch);
+    }
+
+    /**
+     * Queue a patch of the entity of a process.
+     *
+     * @param id The process ID.
+     * @param jsonPatch Array of JsonPatchOperation.
+     * @return the process once the batch containing the patch has been applied.
+     */
+    public Mono<Process> patchProcessEntity(UUID id, List<JsonPatchOperation> jsonPatch) {
+        return this.enqueue(new BatchKey(id, Target.ENTITY), jsonPatch);
+    }
+
+    /**
+     * Send all the pending batches.
+     *
+     * @return completes when every pending batch has been sent, whatever its result.
+     */
+    public Mono<Void> flush() {
+        return Flux.fromIterable(List.copyOf(this.batches.values())).flatMap(this::send).then();
+    }
+
+    /**
+     * Send all the pending batches and wait for them.
+     */
+    @Override
+    public void close() {
+        this.flush().block();
+    }
+
+    private Mono<Process> enqueue(BatchKey key, List<JsonPatchOperation> jsonPatch) {
+        Objects.requireNonNull(key.id(), "'id' is required");
+        Objects.requireNonNull(jsonPatch, "'jsonPatch' is required");
+
+        Sinks.One<Process> sink = Sinks.one();
+        boolean[] created = { false };
+        boolean[] full = { false };
+        Batch batch = this.batches.compute(key, (k, current) -> {
+            Batch target = current;
+            if (target == null) {
+                target = new Batch(k);
+                created[0] = true;
+            }
+            target.operations.addAll(jsonPatch);
+            target.sinks.add(sink);
+            full[0] = target.operations.size() >= this.options.getMaxOperations();
+
+            return target;
+        });
+
+        if (full[0]) {
+            this.send(batch).subscribe();
+        } else if (created[0]) {
+            Mono.delay(this.options.getWindow(), Schedulers.parallel()).flatMap(tick -> this.send(batch)).subscribe();
+        }
+
+        return sink.asMono();
+    }
+
+    private Mono<Void> send(Batch batch) {
+        Sinks.Empty<Void> sent = Sinks.empty();
+        Mono<Void> completion = sent.asMono();
+        AtomicReference<Mono<Void>> previous = new AtomicReference<>();
+        boolean[] removed = { false };
+        // Only the first of the window timer, the size trigger and flush sends the batch, later patches start a new one.
+        // The batch is queued behind the previous one while the key is locked, so no later batch can overtake it
+        this.batches.computeIfPresent(batch.key, (key, current) -> {
+            if (current != batch) {
+                return current;
+            }
+            removed[0] = true;
+            previous.set(this.inFlight.put(key, completion));
+
+            return null;
+        });
+        if (!removed[0]) {
+            return Mono.empty();
+        }
+
+        return Objects.requireNonNullElse(previous.get(), Mono.<Void>empty())
+            .then(Mono.defer(() -> this.request(batch)))
+            .doFinally(signal -> {
+                this.inFlight.remove(batch.key, completion);
+                sent.tryEmitEmpty();
+            });
+    }
+
+    private Mono<Void> request(Batch batch) {
+        BiFunction<UUID, List<JsonPatchOperation>, Mono<Process>> patch = batch.key.target() == Target.METADATA
+            ? this.processAsyncOperations::patchProcessMetadata
+            : this.processAsyncOperations::patchProcessEntity;
+
+        return patch
+            .apply(batch.key.id(), batch.operations)
+            .doOnNext(process -> batch.sinks.forEach(sink -> sink.tryEmitValue(process)))
+            .doOnError(error -> batch.sinks.forEach(sink -> sink.tryEmitError(error)))
+            .doOnSuccess(process -> {
+                if (process == null) {
+                    batch.sinks.forEach(Sinks.Empty::tryEmitEmpty);
+                }
+            })
+            .onErrorResume(error -> Mono.empty())
+            .then();
+    }
+
+    private enum Target {
+        METADATA,
+        ENTITY,
+    }
+
+    private record BatchKey(UUID id, Target target) {}
+
+    private static final class Batch {
+
+        private final BatchKey key;
+
+        private final List<JsonPatchOperation> operations = new ArrayList<>();
+
+        private final List<Sinks.One<Process>> sinks = new ArrayList<>();
+
+        private Batch(BatchKey key) {
+            this.key = key;
+        }
+    }
+}
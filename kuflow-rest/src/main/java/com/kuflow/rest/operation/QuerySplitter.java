@@ -0,0 +1,396 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.operation;
+
+import com.azure.core.http.rest.PagedFlux;
+import com.azure.core.http.rest.PagedResponse;
+import com.azure.core.http.rest.PagedResponseBase;
+import com.azure.core.http.rest.Response;
+import com.azure.core.http.rest.SimpleResponse;
+import com.kuflow.rest.model.AbstractAudited;
+import com.kuflow.rest.model.Page;
+import com.kuflow.rest.model.PageMetadata;
+import com.kuflow.rest.policy.TraceContextPropagation;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Splits the find queries whose filters do not fit in the URL into several queries, and merges their results.
+ *
+ * <p>Only filters that match a single value of each item are split, so that the results of the queries are disjoint.
+ * The queries are run concurrently and their items are merged respecting the requested sort.
+ *
+ * @param <O> the find options type.
+ * @param <T> the item type.
+ */
+final class QuerySplitter<O, T extends AbstractAudited> {
+
+    /**
+     * Maximum length of the split filters in the query string, leaving room for the rest of the URL within the 8 KB
+     * limit of most servers and proxies.
+     */
+    static final int MAX_QUERY_LENGTH = 4_000;
+
+    /**
+     * Maximum number of queries run at the same time when the results are not sorted. Sorted results need all of them.
+     */
+    private static final int UNSORTED_CONCURRENCY = 8;
+
+    private final UnaryOperator<O> optionsCopier;
+
+    private final Function<T, UUID> idMapper;
+
+    private final List<Filter<O>> filters;
+
+    /**
+     * Create a splitter.
+     *
+     * @param optionsCopier creates a copy of the find options.
+     * @param idMapper extracts the id of an item, used when sorting by id.
+     * @param filters filters that can be split.
+     */
+    @SafeVarargs
+    QuerySplitter(UnaryOperator<O> optionsCopier, Function<T, UUID> idMapper, Filter<O>... filters) {
+        this.optionsCopier = optionsCopier;
+        this.idMapper = idMapper;
+        this.filters = List.of(filters);
+    }
+
+    /**
+     * Describe a filter that can be split.
+     *
+     * @param name the query parameter name.
+     * @param getter gets the values of the filter.
+     * @param setter sets the values of the filter.
+     * @param <O> the find options type.
+     * @param <V> the value type.
+     * @return the filter.
+     */
+    @SuppressWarnings("unchecked")
+    static <O, V> Filter<O> filter(String name, Function<O, List<V>> getter, BiConsumer<O, List<V>> setter) {
+        return new Filter<>(name, getter::apply, (options, values) -> setter.accept(options, (List<V>) values));
+    }
+
+    /**
+     * Split the options in queries whose filters fit in the URL.
+     *
+     * @param options the find options.
+     * @return the queries, a single one with the same options when they fit in the URL.
+     */
+    List<O> split(O options) {
+        List<O> queries = new ArrayList<>();
+        Deque<O> pending = new ArrayDeque<>();
+        pending.add(options);
+        while (!pending.isEmpty()) {
+            O query = pending.poll();
+
+            int[] lengths = new int[this.filters.size()];
+            int totalLength = 0;
+            int largest = -1;
+            for (int i = 0; i < lengths.length; i++) {
+                Filter<O> filter = this.filters.get(i);
+                List<?> values = filter.getter().apply(query);
+                lengths[i] = queryLength(filter.name(), values);
+                totalLength += lengths[i];
+                if (values.size() > 1 && (largest < 0 || lengths[i] > lengths[largest])) {
+                    largest = i;
+                }
+            }
+
+            if (totalLength <= MAX_QUERY_LENGTH || largest < 0) {
+                queries.add(query);
+                continue;
+            }
+
+            // When the other filters are too long they are split in the next iterations
+            Filter<O> filter = this.filters.get(largest);
+            int budget = Math.max(MAX_QUERY_LENGTH - (totalLength - lengths[largest]), MAX_QUERY_LENGTH / 2);
+            for (List<?> chunk : chunks(filter.name(), filter.getter().apply(query), budget)) {
+                O chunkQuery = this.optionsCopier.apply(query);
+                filter.setter().accept(chunkQuery, chunk);
+                pending.add(chunkQuery);
+            }
+        }
+
+        return queries;
+    }
+
+    /**
+     * Retrieve a page of the merged results of the queries.
+     *
+     * <p>Each query is paged with the requested page size until the requested page of the merged results is complete,
+     * so the cost grows with the page number.
+     *
+     * @param queries the queries.
+     * @param page the page number, {@code null} for the first page.
+     * @param sorts the sorting criteria.
+     * @param pageRetriever retrieves a page of a query.
+     * @param contentMapper extracts the items of a page.
+     * @param pageFactory creates the merged page.
+     * @param <P> the page type.
+     * @return the merged page, with the request and headers of the first query.
+     */
+    <P extends Page> Mono<Response<P>> find(
+        List<O> queries,
+        Integer page,
+        List<String> sorts,
+        BiFunction<O, Integer, Mono<Response<P>>> pageRetriever,
+        Function<P, List<T>> contentMapper,
+        BiFunction<List<T>, PageMetadata, P> pageFactory
+    ) {
+        return Mono.<Response<P>>defer(() -> {
+            Comparator<T> comparator = this.comparator(sorts);
+            List<Mono<Response<P>>> firstPages = firstPages(queries, pageRetriever);
+
+            return Mono.zip(firstPages, Function.identity()).flatMap(responses -> {
+                @SuppressWarnings("unchecked")
+                Response<P> first = (Response<P>) responses[0];
+                int size = pageSize(first);
+                long totalElements = 0;
+                for (Object response : responses) {
+                    @SuppressWarnings("unchecked")
+                    P value = ((Response<P>) response).getValue();
+                    totalElements += value != null && value.getMetadata() != null ? value.getMetadata().getTotalElements() : 0;
+                }
+
+                int pageNumber = page != null ? page : 0;
+                PageMetadata metadata = new PageMetadata()
+                    .setSize(size)
+                    .setPage(pageNumber)
+                    .setTotalElements(totalElements)
+                    .setTotalPages(size > 0 ? (int) ((totalElements + size - 1) / size) : 0);
+
+                return merge(firstPages, queries, comparator, pageRetriever, contentMapper)
+                    .skip((long) pageNumber * size)
+                    .take(size)
+                    .collectList()
+                    .map(items -> {
+                        P value = pageFactory.apply(items, metadata);
+
+                        return new SimpleResponse<>(first.getRequest(), first.getStatusCode(), first.getHeaders(), value);
+                    });
+            });
+        }).contextWrite(TraceContextPropagation.captureCurrentContext());
+    }
+
+    /**
+     * Stream the merged results of the queries. The items are grouped in pages of the size returned by the first
+     * query, and the pages are not continuable.
+     *
+     * @param queries the queries.
+     * @param page the first page number, {@code null} to start from the beginning.
+     * @param sorts the sorting criteria.
+     * @param pageRetriever retrieves a page of a query.
+     * @param contentMapper extracts the items of a page.
+     * @param <P> the page type.
+     * @return the merged items.
+     */
+    <P extends Page> PagedFlux<T> stream(
+        List<O> queries,
+        Integer page,
+        List<String> sorts,
+        BiFunction<O, Integer, Mono<Response<P>>> pageRetriever,
+        Function<P, List<T>> contentMapper
+    ) {
+        Function<Context, Context> traceContext = TraceContextPropagation.captureCurrentContext();
+
+        return PagedFlux.create(() ->
+            (continuationToken, pageSize) ->
+                Flux.defer(() -> {
+                    Comparator<T> comparator = this.comparator(sorts);
+                    List<Mono<Response<P>>> firstPages = firstPages(queries, pageRetriever);
+
+                    return firstPages
+                        .get(0)
+                        .flatMapMany(first -> {
+                            int size = pageSize(first);
+
+                            return merge(firstPages, queries, comparator, pageRetriever, contentMapper)
+                                .skip(page != null ? (long) page * size : 0)
+                                .buffer(Math.max(size, 1))
+                                .map(items -> toPagedResponse(first, items));
+                        });
+                }).contextWrite(traceContext)
+        );
+    }
+
+    private static <O, P extends Page> List<Mono<Response<P>>> firstPages(
+        List<O> queries,
+        BiFunction<O, Integer, Mono<Response<P>>> pageRetriever
+    ) {
+        List<Mono<Response<P>>> firstPages = new ArrayList<>(queries.size());
+        for (O query : queries) {
+            firstPages.add(pageRetriever.apply(query, 0).cache());
+        }
+
+        return firstPages;
+    }
+
+    private static <O, P extends Page, T> Flux<T> merge(
+        List<Mono<Response<P>>> firstPages,
+        List<O> queries,
+        Comparator<T> comparator,
+        BiFunction<O, Integer, Mono<Response<P>>> pageRetriever,
+        Function<P, List<T>> contentMapper
+    ) {
+        List<Flux<T>> sources = new ArrayList<>(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            O query = queries.get(i);
+            sources.add(firstPages.get(i).flatMapMany(first -> items(first, page -> pageRetriever.apply(query, page), contentMapper)));
+        }
+
+        // Pages are requested as their items are consumed, not ahead
+        if (comparator == null) {
+            return Flux.mergeSequential(sources, UNSORTED_CONCURRENCY, 1);
+        }
+
+        @SuppressWarnings("unchecked")
+        Flux<T>[] sortedSources = sources.toArray(new Flux[0]);
+
+        return Flux.mergeComparing(1, comparator, sortedSources);
+    }
+
+    private static <P extends Page, T> Flux<T> items(
+        Response<P> first,
+        Function<Integer, Mono<Response<P>>> pageRetriever,
+        Function<P, List<T>> contentMapper
+    ) {
+        List<T> content = content(first, contentMapper);
+        PageMetadata metadata = first.getValue() != null ? first.getValue().getMetadata() : null;
+        if (metadata == null || content.isEmpty()) {
+            return Flux.fromIterable(content);
+        }
+
+        Flux<T> nextItems = Flux.range(metadata.getPage() + 1, Math.max(0, metadata.getTotalPages() - metadata.getPage() - 1))
+            .concatMap(pageRetriever::apply)
+            .map(response -> content(response, contentMapper))
+            .takeWhile(pageContent -> !pageContent.isEmpty())
+            .concatMapIterable(Function.identity(), 1);
+
+        return Flux.concat(Flux.fromIterable(content), nextItems);
+    }
+
+    private static <P extends Page, T> List<T> content(Response<P> response, Function<P, List<T>> contentMapper) {
+        List<T> content = response.getValue() != null ? contentMapper.apply(response.getValue()) : null;
+
+        return content != null ? content : Collections.emptyList();
+    }
+
+    private static int pageSize(Response<? extends Page> response) {
+        PageMetadata metadata = response.getValue() != null ? response.getValue().getMetadata() : null;
+
+        return metadata != null ? metadata.getSize() : 0;
+    }
+
+    private static <T> PagedResponse<T> toPagedResponse(Response<?> response, List<T> items) {
+        return new PagedResponseBase<>(response.getRequest(), response.getStatusCode(), response.getHeaders(), items, null, null);
+    }
+
+    private Comparator<T> comparator(List<String> sorts) {
+        Comparator<T> comparator = null;
+        for (String sort : sorts) {
+            String[] parts = sort.split(",");
+            String property = parts[0].trim();
+            boolean descending = parts.length > 1 && "desc".equalsIgnoreCase(parts[1].trim());
+
+            Comparator<T> propertyComparator = switch (property) {
+                // The API sorts UUIDs as unsigned bytes, like their textual representation
+                case "id" -> Comparator.comparing(item -> this.idMapper.apply(item).toString());
+                case "createdAt" -> Comparator.comparing(AbstractAudited::getCreatedAt, Comparator.nullsLast(OffsetDateTime::compareTo));
+                case "lastModifiedAt" -> Comparator.comparing(
+                    AbstractAudited::getLastModifiedAt,
+                    Comparator.nullsLast(OffsetDateTime::compareTo)
+                );
+                default -> throw new IllegalArgumentException(
+                    "Sort by '" + property + "' is not supported when the filters are split in several requests"
+                );
+            };
+            if (descending) {
+                propertyComparator = propertyComparator.reversed();
+            }
+
+            comparator = comparator != null ? comparator.thenComparing(propertyComparator) : propertyComparator;
+        }
+
+        return comparator;
+    }
+
+    private static int queryLength(String name, List<?> values) {
+        int length = 0;
+        for (Object value : values) {
+            length += valueLength(name, value);
+        }
+
+        return length;
+    }
+
+    private static int valueLength(String name, Object value) {
+        // name=value&
+        return name.length() + URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8).length() + 2;
+    }
+
+    private static List<List<?>> chunks(String name, List<?> values, int budget) {
+        List<List<?>> chunks = new ArrayList<>();
+        List<Object> chunk = new ArrayList<>();
+        int chunkLength = 0;
+        for (Object value : values) {
+            int length = valueLength(name, value);
+            if (!chunk.isEmpty() && chunkLength + length > budget) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+                chunkLength = 0;
+            }
+            chunk.add(value);
+            chunkLength += length;
+        }
+        chunks.add(chunk);
+
+        return chunks;
+    }
+
+    /**
+     * A filter that can be split.
+     *
+     * @param name the query parameter name.
+     * @param getter gets the values of the filter.
+     * @param setter sets the values of the filter.
+     * @param <O> the find options type.
+     */
+    record Filter<O>(String name, Function<O, List<?>> getter, BiConsumer<O, List<?>> setter) {}
+}
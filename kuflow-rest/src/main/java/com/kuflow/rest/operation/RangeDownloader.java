@@ -0,0 +1,344 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.operation;
+
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.rest.Response;
+import com.azure.core.util.BinaryData;
+import com.azure.core.util.Context;
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.kuflow.rest.KuFlowRestClientException;
+import com.kuflow.rest.implementation.KuFlowClientImpl;
+import com.kuflow.rest.model.DefaultError;
+import com.kuflow.rest.model.DefaultErrorException;
+import com.kuflow.rest.model.DownloadOptions;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Downloads contents to a file, resuming the transfer with HTTP Range requests.
+ *
+ * <p>The first request is sent by the generated download operation, so the url of the following range requests is
+ * taken from it. The range requests are sent through the pipeline of the client, keeping the authentication, retry and
+ * logging policies. An interrupted transfer is resumed from the last byte written, sending the ETag (or Last-Modified) of
+ * the first response in the If-Range header so that a content that changed in the meanwhile is never mixed with the
+ * bytes already written. When the first response has no validator the content is always downloaded with a single
+ * request, and an interrupted transfer is started over.
+ *
+ * <p>In the segmented mode only the first segment is read from the first response, the file is preallocated with the
+ * size of the content and the remaining segments are downloaded in parallel, each one written at its own position.
+ */
+final class RangeDownloader {
+
+    private static final ClientLogger LOGGER = new ClientLogger(RangeDownloader.class);
+
+    private static final String ACCEPT = "application/octet-stream, application/json";
+
+    private static final Pattern CONTENT_RANGE = Pattern.compile("^bytes (\\d+)-(\\d+)/(\\d+|\\*)$");
+
+    private final HttpPipeline pipeline;
+
+    RangeDownloader(KuFlowClientImpl client) {
+        this.pipeline = client.getHttpPipeline();
+    }
+
+    /**
+     * Download a content to a file.
+     *
+     * @param download Sends the first request of the download, with the generated operation.
+     * @param path The file where the content is written, it is created or truncated.
+     * @param options The download options, the defaults are used if null.
+     */
+    void download(Supplier<Response<BinaryData>> download, Path path, DownloadOptions options) {
+        Objects.requireNonNull(path, "'path' is required");
+        DownloadOptions downloadOptions = options != null ? options : new DownloadOptions();
+
+        try (
+            FileChannel channel = FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE
+            )
+        ) {
+            long length = this.download(download, channel, downloadOptions);
+            channel.truncate(length);
+        } catch (IOException e) {
+            throw new KuFlowRestClientException("Error, writing the downloaded content to " + path, e);
+        }
+    }
+
+    private long download(Supplier<Response<BinaryData>> download, FileChannel channel, DownloadOptions options) {
+        int attempts = 0;
+        while (true) {
+            Response<BinaryData> response = download.get();
+            String url = response.getRequest().getUrl().toString();
+            String validator = validator(response.getHeaders());
+            long length = contentLength(response.getHeaders());
+            boolean segmented =
+                validator != null &&
+                acceptsRanges(response.getHeaders()) &&
+                options.getSegmentConcurrency() > 1 &&
+                length > options.getSegmentSize();
+
+            long limit = segmented ? options.getSegmentSize() : length;
+            long position;
+            Throwable cause = null;
+            try {
+                // In the segmented mode the response is closed after the first segment, aborting the rest of the transfer
+                position = transfer(response.getValue(), channel, 0, segmented ? limit : -1);
+            } catch (InterruptedTransferException e) {
+                position = e.getPosition();
+                cause = e.getCause();
+            }
+
+            if (cause == null && (limit < 0 || position >= limit)) {
+                if (!segmented) {
+                    return position;
+                }
+            } else if (validator == null) {
+                // Without a validator a range could be served from a different content, start over.
+                attempts++;
+                if (attempts > options.getMaxResumeAttempts()) {
+                    throw new KuFlowRestClientException("Error, the download could not be completed", cause);
+                }
+                LOGGER.warning("Download of {} interrupted at byte {}, starting over", url, position, cause);
+                continue;
+            } else {
+                LOGGER.warning("Download of {} interrupted at byte {}", url, position, cause);
+                position = this.downloadRange(url, channel, position, segmented ? limit - 1 : -1, validator, options);
+                if (!segmented) {
+                    return position;
+                }
+            }
+
+            this.downloadSegments(url, channel, length, validator, options);
+
+            return length;
+        }
+    }
+
+    private void downloadSegments(String url, FileChannel channel, long length, String validator, DownloadOptions options) {
+        long segmentSize = options.getSegmentSize();
+
+        write(channel, ByteBuffer.wrap(new byte[1]), length - 1);
+
+        List<Long> starts = new ArrayList<>();
+        for (long start = segmentSize; start < length; start += segmentSize) {
+            starts.add(start);
+        }
+
+        Flux.fromIterable(starts)
+            .flatMap(
+                start ->
+                    Mono.fromRunnable(() -> {
+                        long end = Math.min(start + segmentSize, length) - 1;
+                        this.downloadRange(url, channel, start, end, validator, options);
+                    }).subscribeOn(Schedulers.boundedElastic()),
+                options.getSegmentConcurrency()
+            )
+            .then()
+            .block();
+    }
+
+    /**
+     * Download a range of the content, resuming the transfer when it is interrupted.
+     *
+     * @param start First byte of the range.
+     * @param end Last byte of the range (inclusive), or -1 to download until the end of the content.
+     * @param validator Validator sent in the If-Range header.
+     * @return the position after the last byte written.
+     */
+    private long downloadRange(String url, FileChannel channel, long start, long end, String validator, DownloadOptions options) {
+        long position = start;
+        int attempts = 0;
+        while (true) {
+            HttpRequest request = new HttpRequest(HttpMethod.GET, url)
+                .setHeader(HttpHeaderName.ACCEPT, ACCEPT)
+                .setHeader(HttpHeaderName.RANGE, "bytes=" + position + "-" + (end >= 0 ? end : ""))
+                .setHeader(HttpHeaderName.IF_RANGE, validator);
+
+            long resumedAt = position;
+            Throwable cause = null;
+            try (HttpResponse response = this.pipeline.sendSync(request, Context.NONE)) {
+                int statusCode = response.getStatusCode();
+                if (statusCode >= 400) {
+                    throw toException(response);
+                }
+                if (statusCode != 206) {
+                    // The If-Range validator did not match, or the range was ignored by the server.
+                    throw new KuFlowRestClientException("Error, the content changed while it was being downloaded");
+                }
+
+                Matcher matcher = CONTENT_RANGE.matcher(contentRange(response));
+                if (!matcher.matches() || Long.parseLong(matcher.group(1)) != position) {
+                    throw new KuFlowRestClientException("Error, unexpected Content-Range: " + contentRange(response));
+                }
+                long length = "*".equals(matcher.group(3)) ? -1 : Long.parseLong(matcher.group(3));
+                long expectedPosition = Long.parseLong(matcher.group(2)) + 1;
+
+                position = transfer(response.getBodyAsBinaryData(), channel, position, -1);
+                if (position >= expectedPosition) {
+                    long target = end >= 0 ? end + 1 : length;
+                    if (length >= 0 && target > length) {
+                        target = length;
+                    }
+                    if (target < 0 || position >= target) {
+                        return position;
+                    }
+                    // The server answered with a shorter range than the requested one, ask for the rest.
+                    attempts = 0;
+                    continue;
+                }
+                LOGGER.warning("Download of {} interrupted at byte {}, the response ended prematurely", url, position);
+            } catch (InterruptedTransferException e) {
+                position = e.getPosition();
+                cause = e.getCause();
+                LOGGER.warning("Download of {} interrupted at byte {}", url, position, cause);
+            }
+
+            attempts = position > resumedAt ? 1 : attempts + 1;
+            if (attempts > options.getMaxResumeAttempts()) {
+                throw new KuFlowRestClientException("Error, the download could not be completed", cause);
+            }
+        }
+    }
+
+    /**
+     * Copy a content to the channel as it is received, cancelling the response once the limit is reached.
+     *
+     * @param limit Maximum number of bytes copied, or -1 to copy the whole content.
+     * @return the position after the last byte written.
+     */
+    private static long transfer(BinaryData content, FileChannel channel, long position, long limit)
+        throws InterruptedTransferException {
+        long last = limit >= 0 ? position + limit : Long.MAX_VALUE;
+        AtomicLong current = new AtomicLong(position);
+        try {
+            content
+                .toFluxByteBuffer()
+                .takeWhile(buffer -> current.get() < last)
+                .doOnNext(buffer -> {
+                    ByteBuffer slice = buffer.duplicate();
+                    if (slice.remaining() > last - current.get()) {
+                        slice.limit(slice.position() + (int) (last - current.get()));
+                    }
+                    int length = slice.remaining();
+                    write(channel, slice, current.get());
+                    current.addAndGet(length);
+                })
+                .takeUntil(buffer -> current.get() >= last)
+                .blockLast();
+        } catch (KuFlowRestClientException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new InterruptedTransferException(current.get(), Exceptions.unwrap(e));
+        }
+
+        return current.get();
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer, long position) {
+        try {
+            long current = position;
+            while (buffer.hasRemaining()) {
+                current += channel.write(buffer, current);
+            }
+        } catch (IOException e) {
+            throw new KuFlowRestClientException("Error, writing the downloaded content", e);
+        }
+    }
+
+    private static String contentRange(HttpResponse response) {
+        String contentRange = response.getHeaderValue(HttpHeaderName.CONTENT_RANGE);
+
+        return contentRange != null ? contentRange.trim() : "";
+    }
+
+    private static long contentLength(HttpHeaders headers) {
+        String contentLength = headers.getValue(HttpHeaderName.CONTENT_LENGTH);
+
+        return contentLength != null ? Long.parseLong(contentLength.trim()) : -1;
+    }
+
+    private static boolean acceptsRanges(HttpHeaders headers) {
+        return "bytes".equalsIgnoreCase(headers.getValue(HttpHeaderName.ACCEPT_RANGES));
+    }
+
+    private static String validator(HttpHeaders headers) {
+        String etag = headers.getValue(HttpHeaderName.ETAG);
+        if (etag != null && !etag.startsWith("W/")) {
+            return etag;
+        }
+
+        return headers.getValue(HttpHeaderName.LAST_MODIFIED);
+    }
+
+    private static DefaultErrorException toException(HttpResponse response) {
+        BinaryData body = response.getBodyAsBinaryData();
+        DefaultError value = null;
+        try (JsonReader jsonReader = JsonProviders.createReader(body.toBytes())) {
+            value = DefaultError.fromJson(jsonReader);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.verbose("The error response could not be deserialized", e);
+        }
+
+        return new DefaultErrorException("Status code " + response.getStatusCode() + ", \"" + body + "\"", response, value);
+    }
+
+    private static final class InterruptedTransferException extends Exception {
+
+        private final long position;
+
+        InterruptedTransferException(long position, Throwable cause) {
+            super(cause);
+            this.position = position;
+        }
+
+        long getPosition() {
+            return this.position;
+        }
+    }
+}
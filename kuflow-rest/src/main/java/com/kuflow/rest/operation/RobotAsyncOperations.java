@@ -0,0 +1,285 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.operation;
+
+import com.azure.core.annotation.ReturnType;
+import com.azure.core.annotation.ServiceMethod;
+import com.azure.core.http.rest.PagedFlux;
+import com.azure.core.http.rest.Response;
+import com.azure.core.util.BinaryData;
+import com.kuflow.rest.implementation.KuFlowClientImpl;
+import com.kuflow.rest.implementation.RobotOperationsImpl;
+import com.kuflow.rest.model.DefaultErrorException;
+import com.kuflow.rest.model.Robot;
+import com.kuflow.rest.model.RobotAssetArchitecture;
+import com.kuflow.rest.model.RobotAssetPlatform;
+import com.kuflow.rest.model.RobotAssetType;
+import com.kuflow.rest.model.RobotFilterContext;
+import com.kuflow.rest.model.RobotFindOptions;
+import com.kuflow.rest.model.RobotPage;
+import com.kuflow.rest.model.RobotPageItem;
+import com.kuflow.rest.policy.TraceContextPropagation;
+import java.util.List;
+import java.util.UUID;
+import reactor.core.publisher.Mono;
+
+/** An instance of this class provides asynchronous access to all the operations defined in RobotOperations. */
+public class RobotAsyncOperations {
+
+    /** The service. */
+    private final RobotOperationsImpl service;
+
+    /**
+     * Initializes an instance of RobotAsyncOperations.
+     *
+     * @param client the instance of the service client containing this operation class.
+     */
+    public RobotAsyncOperations(KuFlowClientImpl client) {
+        this.service = client.getRobotOperations();
+    }
+
+    /**
+     * Find all accessible Robots
+     * <p>
+     * List all the Robots that have been created and the credentials has access.
+     * <p>
+     * Available sort query values: id, createdAt, lastModifiedAt.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<RobotPage>> findRobotsWithResponse(RobotFindOptions options) {
+        RobotFindOptions findOptions = options != null ? options : new RobotFindOptions();
+
+        return this.findRobotsWithResponse(findOptions, findOptions.getPage());
+    }
+
+    private Mono<Response<RobotPage>> findRobotsWithResponse(RobotFindOptions findOptions, Integer page) {
+        Integer size = findOptions.getSize();
+        List<String> sort = !findOptions.getSorts().isEmpty() ? findOptions.getSorts() : null;
+        List<UUID> tenantId = !findOptions.getTenantIds().isEmpty() ? findOptions.getTenantIds() : null;
+        RobotFilterContext filterContext = findOptions.getFilterContext();
+
+        return TraceContextPropagation.withCurrentContext(
+            this.service.findRobotsWithResponseAsync(size, page, sort, tenantId, filterContext)
+        );
+    }
+
+    /**
+     * Find all accessible Robots
+     * <p>
+     * List all the Robots that have been created and the credentials has access.
+     * <p>
+     * Available sort query values: id, createdAt, lastModifiedAt.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<RobotPage> findRobots(RobotFindOptions options) {
+        return this.findRobotsWithResponse(options).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Find all accessible Robots
+     * <p>
+     * List all the Robots that have been created and the credentials has access.
+     * <p>
+     * Available sort query values: id, createdAt, lastModifiedAt.
+     *
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<RobotPage> findRobots() {
+        return this.findRobots(null);
+    }
+
+    /**
+     * Stream all accessible Robots
+     *
+     * <p>Pages are retrieved lazily, starting from the page requested in the options. Each page is requested as soon as
+     * the previous one is emitted, so it is retrieved while the items of the previous one are being consumed.
+     * Cancelling the subscription stops the paging.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedFlux}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedFlux<RobotPageItem> streamRobots(RobotFindOptions options) {
+        RobotFindOptions findOptions = options != null ? options : new RobotFindOptions();
+
+        return PagedResponses.pagedFlux(
+            findOptions.getPage(),
+            page -> this.findRobotsWithResponse(findOptions, page),
+            RobotPage::getContent
+        );
+    }
+
+    /**
+     * Stream all accessible Robots
+     *
+     * <p>Pages are retrieved lazily. Each page is requested as soon as the previous one is emitted, so it is retrieved
+     * while the items of the previous one are being consumed. Cancelling the subscription stops the paging.
+     *
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedFlux}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedFlux<RobotPageItem> streamRobots() {
+        return this.streamRobots(null);
+    }
+
+    /**
+     * Get a Robot by ID
+     * <p>
+     * Returns the requested Robot when has access to do it.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<Robot>> retrieveRobotWithResponse(UUID id) {
+        return TraceContextPropagation.withCurrentContext(this.service.retrieveRobotWithResponseAsync(id));
+    }
+
+    /**
+     * Get a Robot by ID
+     * <p>
+     * Returns the requested Robot when has access to do it.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Robot> retrieveRobot(UUID id) {
+        return this.retrieveRobotWithResponse(id).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Download Robot source code
+     * <p>
+     * Given a Robot, download the source code.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<BinaryData>> downloadRobotSourceCodeWithResponse(UUID id) {
+        return TraceContextPropagation.withCurrentContext(this.service.downloadRobotSourceCodeWithResponseAsync(id));
+    }
+
+    /**
+     * Download Robot source code
+     * <p>
+     * Given a Robot, download the source code.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<BinaryData> downloadRobotSourceCode(UUID id) {
+        return this.downloadRobotSourceCodeWithResponse(id).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Download robot asset
+     * <p>
+     * Given a Robot, download the requested asset.
+     *
+     * @param id The resource ID.
+     * @param type The type of the asset.
+     * @param version The version of the asset.
+     * @param platform The platform of the asset.
+     * @param architecture The architecture of the asset.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<BinaryData>> downloadRobotAssetWithResponse(
+        UUID id,
+        RobotAssetType type,
+        String version,
+        RobotAssetPlatform platform,
+        RobotAssetArchitecture architecture
+    ) {
+        return TraceContextPropagation.withCurrentContext(
+            this.service.downloadRobotAssetWithResponseAsync(id, type, version, platform, architecture)
+        );
+    }
+
+    /**
+     * Download robot asset
+     * <p>
+     * Given a Robot, download the requested asset.
+     *
+     * @param id The resource ID.
+     * @param type The type of the asset.
+     * @param version The version of the asset.
+     * @param platform The platform of the asset.
+     * @param architecture The architecture of the asset.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<BinaryData> downloadRobotAsset(
+        UUID id,
+        RobotAssetType type,
+        String version,
+        RobotAssetPlatform platform,
+        RobotAssetArchitecture architecture
+    ) {
+        return this.downloadRobotAssetWithResponse(id, type, version, platform, architecture).flatMap(res ->
+            Mono.justOrEmpty(res.getValue())
+        );
+    }
+}
@@ -25,12 +25,15 @@ package com.kuflow.rest.operation;
 
 import com.azure.core.annotation.ReturnType;
 import com.azure.core.annotation.ServiceMethod;
+import com.azure.core.http.rest.PagedIterable;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.Context;
+import com.kuflow.rest.KuFlowRestClientException;
 import com.kuflow.rest.implementation.KuFlowClientImpl;
 import com.kuflow.rest.implementation.RobotOperationsImpl;
 import com.kuflow.rest.model.DefaultErrorException;
+import com.kuflow.rest.model.DownloadOptions;
 import com.kuflow.rest.model.Robot;
 import com.kuflow.rest.model.RobotAssetArchitecture;
 import com.kuflow.rest.model.RobotAssetPlatform;
@@ -38,7 +41,12 @@ import com.kuflow.rest.model.RobotAssetType;
 import com.kuflow.rest.model.RobotFilterContext;
 import com.kuflow.rest.model.RobotFindOptions;
 import com.kuflow.rest.model.RobotPage;
+import com.kuflow.rest.model.RobotPageItem;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import reactor.core.publisher.Mono;
 
@@ -48,13 +56,31 @@ public class RobotOperations {
     /** The service. */
     private final RobotOperationsImpl service;
 
+    /** The asynchronous operations used to stream the pages. */
+    private final RobotAsyncOperations asyncOperations;
+
+    /** The downloader used for the downloads by ranges. */
+    private final RangeDownloader rangeDownloader;
+
     /**
      * Initializes an instance of RobotOperationsImpl.
      *
      * @param client the instance of the service client containing this operation class.
      */
     public RobotOperations(KuFlowClientImpl client) {
+        this(client, new RobotAsyncOperations(client));
+    }
+
+    /**
+     * Initializes an instance of RobotOperationsImpl.
+     *
+     * @param client the instance of the service client containing this operation class.
+     * @param asyncOperations the asynchronous operations of the same client, used to stream the pages.
+     */
+    public RobotOperations(KuFlowClientImpl client, RobotAsyncOperations asyncOperations) {
         this.service = client.getRobotOperations();
+        this.asyncOperations = asyncOperations;
+        this.rangeDownloader = new RangeDownloader(client);
     }
 
     /**
@@ -119,6 +145,39 @@ public class RobotOperations {
         return this.findRobotsWithResponse(null, Context.NONE).getValue();
     }
 
+    /**
+     * Stream all accessible Robots
+     *
+     * <p>Pages are retrieved lazily, starting from the page requested in the options. While the items of a page are
+     * being consumed, the next page is already being retrieved. Stop iterating, or close the stream, to stop the
+     * paging.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedIterable}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedIterable<RobotPageItem> streamRobots(RobotFindOptions options) {
+        return new PagedIterable<>(this.asyncOperations.streamRobots(options));
+    }
+
+    /**
+     * Stream all accessible Robots
+     *
+     * <p>Pages are retrieved lazily. While the items of a page are being consumed, the next page is already being
+     * retrieved. Stop iterating, or close the stream, to stop the paging.
+     *
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedIterable}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedIterable<RobotPageItem> streamRobots() {
+        return this.streamRobots(null);
+    }
+
     /**
      * Get a Robot by ID
      * <p>
@@ -238,4 +297,212 @@ public class RobotOperations {
     ) {
         return this.downloadRobotAssetWithResponse(id, type, version, platform, architecture, Context.NONE).getValue();
     }
+
+    /**
+     * Download robot code
+     * <br>
+     * Given a robot, download the source code, streaming it to the given sink.
+     *
+     * @param id The resource ID.
+     * @param path The file where the content is written, it is created or truncated.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws KuFlowRestClientException thrown if the content cannot be written.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public void downloadRobotSourceCodeTo(UUID id, Path path) {
+        Downloads.writeTo(() -> this.downloadRobotSourceCodeWithResponse(id, Context.NONE).getValue(), path);
+    }
+
+    /**
+     * Download robot code
+     * <br>
+     * Given a robot, download the source code, streaming it to the given sink.
+     *
+     * @param id The resource ID.
+     * @param outputStream The stream where the content is written, it is not closed.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws KuFlowRestClientException thrown if the content cannot be written.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public void downloadRobotSourceCodeTo(UUID id, OutputStream outputStream) {
+        Downloads.writeTo(() -> this.downloadRobotSourceCodeWithResponse(id, Context.NONE).getValue(), outputStream);
+    }
+
+    /**
+     * Download robot code
+     * <br>
+     * Given a robot, download the source code, streaming it to the given sink.
+     *
+     * @param id The resource ID.
+     * @param channel The channel where the content is written, it is not closed.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws KuFlowRestClientException thrown if the content cannot be written.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public void downloadRobotSourceCodeTo(UUID id, WritableByteChannel channel) {
+        Downloads.writeTo(() -> this.downloadRobotSourceCodeWithResponse(id, Context.NONE).getValue(), channel);
+    }
+
+    /**
+     * Download robot asset
+     * <br>
+     * Given a robot, download the requested asset, streaming it to the given sink.
+     *
+     * @param id The resource ID.
+     * @param type The asset type.
+     * @param version The asset version.
+     * @param platform The asset platform.
+     * @param architecture The asset platform architecture.
+     * @param path The file where the content is written, it is created or truncated.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws KuFlowRestClientException thrown if the content cannot be written.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public void downloadRobotAssetTo(
+        UUID id,
+        RobotAssetType type,
+        String version,
+        RobotAssetPlatform platform,
+        RobotAssetArchitecture architecture,
+        Path path
+    ) {
+        Downloads.writeTo(
+            () -> this.downloadRobotAssetWithResponse(id, type, version, platform, architecture, Context.NONE).getValue(),
+            path
+        );
+    }
+
+    /**
+     * Download robot asset
+     * <br>
+     * Given a robot, download the requested asset, streaming it to the given sink.
+     *
+     * @param id The resource ID.
+     * @param type The asset type.
+     * @param version The asset version.
+     * @param platform The asset platform.
+     * @param architecture The asset platform architecture.
+     * @param outputStream The stream where the content is written, it is not closed.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws KuFlowRestClientException thrown if the content cannot be written.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public void downloadRobotAssetTo(
+        UUID id,
+        RobotAssetType type,
+        String version,
+        RobotAssetPlatform platform,
+        RobotAssetArchitecture architecture,
+        OutputStream outputStream
+    ) {
+        Downloads.writeTo(
+            () -> this.downloadRobotAssetWithResponse(id, type, version, platform, architecture, Context.NONE).getValue(),
+            outputStream
+        );
+    }
+
+    /**
+     * Download robot asset
+     * <br>
+     * Given a robot, download the requested asset, streaming it to the given sink.
+     *
+     * @param id The resource ID.
+     * @param type The asset type.
+     * @param version The asset version.
+     * @param platform The asset platform.
+     * @param architecture The asset platform architecture.
+     * @param channel The channel where the content is written, it is not closed.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws KuFlowRestClientException thrown if the content cannot be written.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public void downloadRobotAssetTo(
+        UUID id,
+        RobotAssetType type,
+        String version,
+        RobotAssetPlatform platform,
+        RobotAssetArchitecture architecture,
+        WritableByteChannel channel
+    ) {
+        Downloads.writeTo(
+            () -> this.downloadRobotAssetWithResponse(id, type, version, platform, architecture, Context.NONE).getValue(),
+            channel
+        );
+    }
+
+    /**
+     * Download robot code
+     * <br>
+     * Given a robot, download the source code to a file using HTTP Range requests. The transfer is resumed from the last
+     * byte written if the connection drops and, depending on the options, the content is downloaded in segments in
+     * parallel.
+     *
+     * @param id The resource ID.
+     * @param path The file where the content is written, it is created or truncated.
+     * @param options The download options, the defaults are used if null.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws KuFlowRestClientException thrown if the content cannot be written or the download cannot be completed.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public void downloadRobotSourceCodeTo(UUID id, Path path, DownloadOptions options) {
+        Objects.requireNonNull(id, "'id' is required");
+
+        this.rangeDownloader.download(() -> this.downloadRobotSourceCodeWithResponse(id, Context.NONE), path, options);
+    }
+
+    /**
+     * Download robot asset
+     * <br>
+     * Given a robot, download the requested asset to a file using HTTP Range requests. The transfer is resumed from the
+     * last byte written if the connection drops and, depending on the options, the asset is downloaded in segments in
+     * parallel.
+     *
+     * @param id The resource ID.
+     * @param type The asset type.
+     * @param version The asset version.
+     * @param platform The asset platform.
+     * @param architecture The asset platform architecture.
+     * @param path The file where the content is written, it is created or truncated.
+     * @param options The download options, the defaults are used if null.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws KuFlowRestClientException thrown if the content cannot be written or the download cannot be completed.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public void downloadRobotAssetTo(
+        UUID id,
+        RobotAssetType type,
+        String version,
+        RobotAssetPlatform platform,
+        RobotAssetArchitecture architecture,
+        Path path,
+        DownloadOptions options
+    ) {
+        Objects.requireNonNull(id, "'id' is required");
+        Objects.requireNonNull(type, "'type' is required");
+        Objects.requireNonNull(version, "'version' is required");
+        Objects.requireNonNull(platform, "'platform' is required");
+        Objects.requireNonNull(architecture, "'architecture' is required");
+
+        this.rangeDownloader.download(
+            () -> this.downloadRobotAssetWithResponse(id, type, version, platform, architecture, Context.NONE),
+            path,
+            options
+        );
+    }
 }
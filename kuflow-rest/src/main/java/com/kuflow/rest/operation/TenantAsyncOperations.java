@@ -0,0 +1,189 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.operation;
+
+import com.azure.core.annotation.ReturnType;
+import com.azure.core.annotation.ServiceMethod;
+import com.azure.core.http.rest.PagedFlux;
+import com.azure.core.http.rest.Response;
+import com.kuflow.rest.implementation.KuFlowClientImpl;
+import com.kuflow.rest.implementation.TenantOperationsImpl;
+import com.kuflow.rest.model.DefaultErrorException;
+import com.kuflow.rest.model.Tenant;
+import com.kuflow.rest.model.TenantFindOptions;
+import com.kuflow.rest.model.TenantPage;
+import com.kuflow.rest.model.TenantPageItem;
+import com.kuflow.rest.policy.TraceContextPropagation;
+import java.util.List;
+import java.util.UUID;
+import reactor.core.publisher.Mono;
+
+/** An instance of this class provides asynchronous access to all the operations defined in TenantOperations. */
+public class TenantAsyncOperations {
+
+    /** The service. */
+    private final TenantOperationsImpl service;
+
+    /**
+     * Initializes an instance of TenantAsyncOperations.
+     *
+     * @param client the instance of the service client containing this operation class.
+     */
+    public TenantAsyncOperations(KuFlowClientImpl client) {
+        this.service = client.getTenantOperations();
+    }
+
+    /**
+     * Find all accessible Tenants
+     * <p>
+     * List all the Tenants that the credential has access to.
+     * <p>
+     * Available sort query values: id, name.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<TenantPage>> findTenantsWithResponse(TenantFindOptions options) {
+        TenantFindOptions findOptions = options != null ? options : new TenantFindOptions();
+
+        return this.findTenantsWithResponse(findOptions, findOptions.getPage());
+    }
+
+    private Mono<Response<TenantPage>> findTenantsWithResponse(TenantFindOptions findOptions, Integer page) {
+        Integer size = findOptions.getSize();
+        List<String> sort = !findOptions.getSorts().isEmpty() ? findOptions.getSorts() : null;
+        List<UUID> tenantId = !findOptions.getTenantIds().isEmpty() ? findOptions.getTenantIds() : null;
+
+        return TraceContextPropagation.withCurrentContext(this.service.findTenantsWithResponseAsync(size, page, sort, tenantId));
+    }
+
+    /**
+     * Find all accessible Tenants
+     * <p>
+     * List all the Tenants that the credential has access to.
+     * <p>
+     * Available sort query values: id, name.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<TenantPage> findTenants(TenantFindOptions options) {
+        return this.findTenantsWithResponse(options).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+
+    /**
+     * Find all accessible Tenants
+     * <p>
+     * List all the Tenants that the credential has access to.
+     * <p>
+     * Available sort query values: id, name.
+     *
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<TenantPage> findTenants() {
+        return this.findTenants(null);
+    }
+
+    /**
+     * Stream all accessible Tenants
+     *
+     * <p>Pages are retrieved lazily, starting from the page requested in the options. Each page is requested as soon as
+     * the previous one is emitted, so it is retrieved while the items of the previous one are being consumed.
+     * Cancelling the subscription stops the paging.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedFlux}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedFlux<TenantPageItem> streamTenants(TenantFindOptions options) {
+        TenantFindOptions findOptions = options != null ? options : new TenantFindOptions();
+
+        return PagedResponses.pagedFlux(
+            findOptions.getPage(),
+            page -> this.findTenantsWithResponse(findOptions, page),
+            TenantPage::getContent
+        );
+    }
+
+    /**
+     * Stream all accessible Tenants
+     *
+     * <p>Pages are retrieved lazily. Each page is requested as soon as the previous one is emitted, so it is retrieved
+     * while the items of the previous one are being consumed. Cancelling the subscription stops the paging.
+     *
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedFlux}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedFlux<TenantPageItem> streamTenants() {
+        return this.streamTenants(null);
+    }
+
+    /**
+     * Get a Tenant by ID
+     * <p>
+     * Returns the requested Tenant when has access to do it.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body along with {@link Response} on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Response<Tenant>> retrieveTenantWithResponse(UUID id) {
+        return TraceContextPropagation.withCurrentContext(this.service.retrieveTenantWithResponseAsync(id));
+    }
+
+    /**
+     * Get a Tenant by ID
+     * <p>
+     * Returns the requested Tenant when has access to do it.
+     *
+     * @param id The resource ID.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the response body on successful completion of {@link Mono}.
+     */
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public Mono<Tenant> retrieveTenant(UUID id) {
+        return this.retrieveTenantWithResponse(id).flatMap(res -> Mono.justOrEmpty(res.getValue()));
+    }
+}
@@ -25,6 +25,7 @@ package com.kuflow.rest.operation;
 
 import com.azure.core.annotation.ReturnType;
 import com.azure.core.annotation.ServiceMethod;
+import com.azure.core.http.rest.PagedIterable;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.Context;
 import com.kuflow.rest.implementation.KuFlowClientImpl;
@@ -33,6 +34,7 @@ import com.kuflow.rest.model.DefaultErrorException;
 import com.kuflow.rest.model.Tenant;
 import com.kuflow.rest.model.TenantFindOptions;
 import com.kuflow.rest.model.TenantPage;
+import com.kuflow.rest.model.TenantPageItem;
 import java.util.List;
 import java.util.UUID;
 
@@ -44,13 +46,27 @@ public class TenantOperations {
     /** The service. */
     private final TenantOperationsImpl service;
 
+    /** The asynchronous operations used to stream the pages. */
+    private final TenantAsyncOperations asyncOperations;
+
     /**
      * Initializes an instance of TenantOperationsImpl.
      *
      * @param client the instance of the service client containing this operation class.
      */
     public TenantOperations(KuFlowClientImpl client) {
+        this(client, new TenantAsyncOperations(client));
+    }
+
+    /**
+     * Initializes an instance of TenantOperationsImpl.
+     *
+     * @param client the instance of the service client containing this operation class.
+     * @param asyncOperations the asynchronous operations of the same client, used to stream the pages.
+     */
+    public TenantOperations(KuFlowClientImpl client, TenantAsyncOperations asyncOperations) {
         this.service = client.getTenantOperations();
+        this.asyncOperations = asyncOperations;
     }
 
     /**
@@ -113,6 +129,39 @@ public class TenantOperations {
         return this.findTenantsWithResponse(null, Context.NONE).getValue();
     }
 
+    /**
+     * Stream all accessible Tenants
+     *
+     * <p>Pages are retrieved lazily, starting from the page requested in the options. While the items of a page are
+     * being consumed, the next page is already being retrieved. Stop iterating, or close the stream, to stop the
+     * paging.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedIterable}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedIterable<TenantPageItem> streamTenants(TenantFindOptions options) {
+        return new PagedIterable<>(this.asyncOperations.streamTenants(options));
+    }
+
+    /**
+     * Stream all accessible Tenants
+     *
+     * <p>Pages are retrieved lazily. While the items of a page are being consumed, the next page is already being
+     * retrieved. Stop iterating, or close the stream, to stop the paging.
+     *
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedIterable}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedIterable<TenantPageItem> streamTenants() {
+        return this.streamTenants(null);
+    }
+
     /**
      * Get a Tenant by ID
      *
@@ -25,6 +25,7 @@ package com.kuflow.rest.operation;
 
 import com.azure.core.annotation.ReturnType;
 import com.azure.core.annotation.ServiceMethod;
+import com.azure.core.http.rest.PagedIterable;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.Context;
 import com.kuflow.rest.implementation.KuFlowClientImpl;
@@ -33,6 +34,7 @@ import com.kuflow.rest.model.DefaultErrorException;
 import com.kuflow.rest.model.TenantUser;
 import com.kuflow.rest.model.TenantUserFindOptions;
 import com.kuflow.rest.model.TenantUserPage;
+import com.kuflow.rest.model.TenantUserPageItem;
 import java.util.List;
 import java.util.UUID;
 import reactor.core.publisher.Mono;
@@ -45,13 +47,27 @@ public class TenantUserOperations {
     /** The service. */
     private final TenantUserOperationsImpl service;
 
+    /** The asynchronous operations used to stream the pages. */
+    private final TenantUserAsyncOperations asyncOperations;
+
     /**
      * Initializes an instance of PrincipalOperationsImpl.
      *
      * @param client the instance of the service client containing this operation class.
      */
     public TenantUserOperations(KuFlowClientImpl client) {
+        this(client, new TenantUserAsyncOperations(client));
+    }
+
+    /**
+     * Initializes an instance of PrincipalOperationsImpl.
+     *
+     * @param client the instance of the service client containing this operation class.
+     * @param asyncOperations the asynchronous operations of the same client, used to stream the pages.
+     */
+    public TenantUserOperations(KuFlowClientImpl client, TenantUserAsyncOperations asyncOperations) {
         this.service = client.getTenantUserOperations();
+        this.asyncOperations = asyncOperations;
     }
 
     /**
@@ -116,6 +132,39 @@ public class TenantUserOperations {
         return this.findTenantUsersWithResponse(null, Context.NONE).getValue();
     }
 
+    /**
+     * Stream all accessible Tenant Users
+     *
+     * <p>Pages are retrieved lazily, starting from the page requested in the options. While the items of a page are
+     * being consumed, the next page is already being retrieved. Stop iterating, or close the stream, to stop the
+     * paging.
+     *
+     * @param options The options parameters.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedIterable}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedIterable<TenantUserPageItem> streamTenantUsers(TenantUserFindOptions options) {
+        return new PagedIterable<>(this.asyncOperations.streamTenantUsers(options));
+    }
+
+    /**
+     * Stream all accessible Tenant Users
+     *
+     * <p>Pages are retrieved lazily. While the items of a page are being consumed, the next page is already being
+     * retrieved. Stop iterating, or close the stream, to stop the paging.
+     *
+     * @throws DefaultErrorException thrown if the request is rejected by server.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the items of all the pages as {@link PagedIterable}.
+     */
+    @ServiceMethod(returns = ReturnType.COLLECTION)
+    public PagedIterable<TenantUserPageItem> streamTenantUsers() {
+        return this.streamTenantUsers(null);
+    }
+
     /**
      * Get a Tenant User by ID
      * <p>
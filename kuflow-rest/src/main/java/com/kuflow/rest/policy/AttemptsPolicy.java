@@ -0,0 +1,85 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.policy;
+
+import com.azure.core.http.HttpPipelineCallContext;
+import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpPipelineNextSyncPolicy;
+import com.azure.core.http.HttpPipelinePosition;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.policy.HttpPipelinePolicy;
+import java.util.concurrent.atomic.AtomicInteger;
+import reactor.core.publisher.Mono;
+
+/**
+ * Counts the times that a request is sent, used by the {@link MetricsPolicy} and the {@link TracingPolicy} to report
+ * the retries. It must be placed after the retry policy.
+ */
+public class AttemptsPolicy implements HttpPipelinePolicy {
+
+    private static final String ATTEMPTS_KEY = "kuflow-rest-attempts";
+
+    @Override
+    public HttpPipelinePosition getPipelinePosition() {
+        return HttpPipelinePosition.PER_RETRY;
+    }
+
+    @Override
+    public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
+        return Mono.defer(() -> {
+            countAttempt(context);
+
+            return next.process();
+        });
+    }
+
+    @Override
+    public HttpResponse processSync(HttpPipelineCallContext context, HttpPipelineNextSyncPolicy next) {
+        countAttempt(context);
+
+        return next.processSync();
+    }
+
+    /**
+     * Get the attempts counter of the request, it is created on the first call.
+     *
+     * @param context the context of the request.
+     * @return the counter.
+     */
+    static AtomicInteger attempts(HttpPipelineCallContext context) {
+        return context
+            .getData(ATTEMPTS_KEY)
+            .map(AtomicInteger.class::cast)
+            .orElseGet(() -> {
+                AtomicInteger attempts = new AtomicInteger();
+                context.setData(ATTEMPTS_KEY, attempts);
+
+                return attempts;
+            });
+    }
+
+    private static void countAttempt(HttpPipelineCallContext context) {
+        context.getData(ATTEMPTS_KEY).ifPresent(attempts -> ((AtomicInteger) attempts).incrementAndGet());
+    }
+}
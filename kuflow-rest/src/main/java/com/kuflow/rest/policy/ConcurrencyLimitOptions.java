@@ -0,0 +1,121 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.policy;
+
+/**
+ * Options of the {@link ConcurrencyLimitPolicy}.
+ */
+public class ConcurrencyLimitOptions {
+
+    /**
+     * Number of requests allowed in flight when the client is created.
+     */
+    private int initialLimit = 20;
+
+    /**
+     * The limit is never decreased below this value.
+     */
+    private int minLimit = 1;
+
+    /**
+     * The limit is never increased above this value.
+     */
+    private int maxLimit = 200;
+
+    /**
+     * Ratio applied to the limit when the server throttles a request (429 or 503).
+     */
+    private double backoffRatio = 0.5;
+
+    /**
+     * A response whose latency is greater than the baseline multiplied by this value is considered slow, and slow
+     * responses do not increase the limit.
+     */
+    private double latencyTolerance = 2.0;
+
+    public int getInitialLimit() {
+        return this.initialLimit;
+    }
+
+    public ConcurrencyLimitOptions setInitialLimit(int initialLimit) {
+        if (initialLimit < 1) {
+            throw new IllegalArgumentException("'initialLimit' must be greater than 0");
+        }
+        this.initialLimit = initialLimit;
+
+        return this;
+    }
+
+    public int getMinLimit() {
+        return this.minLimit;
+    }
+
+    public ConcurrencyLimitOptions setMinLimit(int minLimit) {
+        if (minLimit < 1) {
+            throw new IllegalArgumentException("'minLimit' must be greater than 0");
+        }
+        this.minLimit = minLimit;
+
+        return this;
+    }
+
+    public int getMaxLimit() {
+        return this.maxLimit;
+    }
+
+    public ConcurrencyLimitOptions setMaxLimit(int maxLimit) {
+        if (maxLimit < 1) {
+            throw new IllegalArgumentException("'maxLimit' must be greater than 0");
+        }
+        this.maxLimit = maxLimit;
+
+        return this;
+    }
+
+    public double getBackoffRatio() {
+        return this.backoffRatio;
+    }
+
+    public ConcurrencyLimitOptions setBackoffRatio(double backoffRatio) {
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("'backoffRatio' must be greater than 0 and lower than 1");
+        }
+        this.backoffRatio = backoffRatio;
+
+        return this;
+    }
+
+    public double getLatencyTolerance() {
+        return this.latencyTolerance;
+    }
+
+    public ConcurrencyLimitOptions setLatencyTolerance(double latencyTolerance) {
+        if (latencyTolerance < 1) {
+            throw new IllegalArgumentException("'latencyTolerance' must be greater than or equal to 1");
+        }
+        this.latencyTolerance = latencyTolerance;
+
+        return this;
+    }
+}
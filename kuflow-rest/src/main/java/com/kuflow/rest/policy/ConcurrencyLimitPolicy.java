@@ -0,0 +1,343 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.policy;
+
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpPipelineCallContext;
+import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpPipelineNextSyncPolicy;
+import com.azure.core.http.HttpPipelinePosition;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.policy.HttpPipelinePolicy;
+import com.azure.core.util.logging.ClientLogger;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Limits the number of requests in flight with an adaptive limit (additive increase, multiplicative decrease).
+ *
+ * <p>Each request waits for a permit before being sent, permits are granted in arrival order while the number of
+ * requests in flight is lower than the limit. The limit is adjusted with every response:
+ * <ul>
+ *     <li>A throttled response ({@code 429} or {@code 503}) multiplies the limit by
+ *     {@link ConcurrencyLimitOptions#getBackoffRatio()}. If it carries a {@code Retry-After} header, no permit is
+ *     granted until the delay elapses.</li>
+ *     <li>Any other response increases the limit by one if at least half of the permits are in use and its latency
+ *     is not greater than the baseline latency multiplied by {@link ConcurrencyLimitOptions#getLatencyTolerance()}.
+ *     The baseline follows the lowest latencies observed, so the limit only grows back once the latency recovers.</li>
+ * </ul>
+ *
+ * <p>The policy is placed after the retry policy, so every attempt takes its own permit and the retries of a throttled
+ * request are also limited.
+ */
+public class ConcurrencyLimitPolicy implements HttpPipelinePolicy {
+
+    private static final ClientLogger LOGGER = new ClientLogger(ConcurrencyLimitPolicy.class);
+
+    private static final HttpHeaderName RETRY_AFTER_MS = HttpHeaderName.fromString("retry-after-ms");
+
+    private static final HttpHeaderName X_MS_RETRY_AFTER_MS = HttpHeaderName.fromString("x-ms-retry-after-ms");
+
+    /**
+     * Weight of a sample greater than the baseline latency, the baseline drifts slowly upwards so that a permanent
+     * change of the latency of the server eventually becomes the new baseline.
+     */
+    private static final double BASELINE_DRIFT = 0.01;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final double backoffRatio;
+
+    private final double latencyTolerance;
+
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+
+    private int limit;
+
+    private int inFlight;
+
+    private double baselineLatencyNanos = -1;
+
+    private boolean blocked;
+
+    private long blockedUntilNanos;
+
+    public ConcurrencyLimitPolicy(ConcurrencyLimitOptions options) {
+        Objects.requireNonNull(options, "'options' is required");
+        if (options.getMinLimit() > options.getMaxLimit()) {
+            throw new IllegalArgumentException("'minLimit' must be lower than or equal to 'maxLimit'");
+        }
+        if (options.getInitialLimit() < options.getMinLimit() || options.getInitialLimit() > options.getMaxLimit()) {
+            throw new IllegalArgumentException("'initialLimit' must be between 'minLimit' and 'maxLimit'");
+        }
+
+        this.minLimit = options.getMinLimit();
+        this.maxLimit = options.getMaxLimit();
+        this.backoffRatio = options.getBackoffRatio();
+        this.latencyTolerance = options.getLatencyTolerance();
+        this.limit = options.getInitialLimit();
+    }
+
+    @Override
+    public HttpPipelinePosition getPipelinePosition() {
+        return HttpPipelinePosition.PER_RETRY;
+    }
+
+    /**
+     * @return the current limit of requests in flight.
+     */
+    public synchronized int getLimit() {
+        return this.limit;
+    }
+
+    /**
+     * @return the number of requests in flight.
+     */
+    public synchronized int getInFlight() {
+        return this.inFlight;
+    }
+
+    /**
+     * @return the number of requests waiting for a permit.
+     */
+    public synchronized int getQueued() {
+        return this.waiters.size();
+    }
+
+    @Override
+    public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
+        return Mono.<Permit>create(this::acquire).flatMap(permit -> {
+            long start = System.nanoTime();
+
+            return next
+                .process()
+                .doOnNext(response -> permit.release(response, System.nanoTime() - start))
+                .doFinally(signal -> permit.release(null, 0));
+        });
+    }
+
+    @Override
+    public HttpResponse processSync(HttpPipelineCallContext context, HttpPipelineNextSyncPolicy next) {
+        Permit permit = Mono.<Permit>create(this::acquire).block();
+        Objects.requireNonNull(permit);
+        try {
+            long start = System.nanoTime();
+            HttpResponse response = next.processSync();
+            permit.release(response, System.nanoTime() - start);
+
+            return response;
+        } finally {
+            permit.release(null, 0);
+        }
+    }
+
+    private void acquire(MonoSink<Permit> sink) {
+        synchronized (this) {
+            if (!this.waiters.isEmpty() || this.inFlight >= this.limit || this.isBlocked()) {
+                Waiter waiter = new Waiter(sink);
+                this.waiters.add(waiter);
+                sink.onCancel(() -> this.cancel(waiter));
+
+                return;
+            }
+            this.inFlight++;
+        }
+
+        sink.success(new Permit());
+    }
+
+    private void cancel(Waiter waiter) {
+        Permit permit;
+        synchronized (this) {
+            if (this.waiters.remove(waiter)) {
+                return;
+            }
+            permit = waiter.permit;
+        }
+
+        // The permit was granted at the same time that the request was cancelled.
+        if (permit != null) {
+            permit.release(null, 0);
+        }
+    }
+
+    private void onRelease(HttpResponse response, long latencyNanos) {
+        List<Waiter> granted;
+        synchronized (this) {
+            int used = this.inFlight;
+            this.inFlight--;
+            if (response != null) {
+                int statusCode = response.getStatusCode();
+                if (statusCode == 429 || statusCode == 503) {
+                    this.onThrottled(response.getHeaders());
+                } else {
+                    this.onSample(used, latencyNanos);
+                }
+            }
+            granted = this.grant();
+        }
+
+        granted.forEach(waiter -> waiter.sink.success(waiter.permit));
+    }
+
+    private void onThrottled(HttpHeaders headers) {
+        int decreasedLimit = Math.max(this.minLimit, (int) (this.limit * this.backoffRatio));
+        if (decreasedLimit != this.limit) {
+            this.limit = decreasedLimit;
+            LOGGER.verbose("Concurrency limit decreased to {}", decreasedLimit);
+        }
+
+        long retryAfterNanos = retryAfterNanos(headers);
+        if (retryAfterNanos > 0) {
+            long blockedUntilNanos = System.nanoTime() + retryAfterNanos;
+            if (!this.isBlocked() || blockedUntilNanos - this.blockedUntilNanos > 0) {
+                this.blocked = true;
+                this.blockedUntilNanos = blockedUntilNanos;
+                Schedulers.parallel().schedule(this::drain, retryAfterNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private void onSample(int used, long latencyNanos) {
+        boolean slow = this.baselineLatencyNanos >= 0 && latencyNanos > this.baselineLatencyNanos * this.latencyTolerance;
+        if (this.baselineLatencyNanos < 0 || latencyNanos < this.baselineLatencyNanos) {
+            this.baselineLatencyNanos = latencyNanos;
+        } else {
+            this.baselineLatencyNanos += (latencyNanos - this.baselineLatencyNanos) * BASELINE_DRIFT;
+        }
+
+        if (!slow && used * 2 >= this.limit && this.limit < this.maxLimit) {
+            this.limit++;
+            LOGGER.verbose("Concurrency limit increased to {}", this.limit);
+        }
+    }
+
+    private void drain() {
+        List<Waiter> granted;
+        synchronized (this) {
+            granted = this.grant();
+        }
+
+        granted.forEach(waiter -> waiter.sink.success(waiter.permit));
+    }
+
+    private List<Waiter> grant() {
+        if (this.waiters.isEmpty() || this.isBlocked()) {
+            return List.of();
+        }
+
+        List<Waiter> granted = new ArrayList<>();
+        while (this.inFlight < this.limit && !this.waiters.isEmpty()) {
+            Waiter waiter = this.waiters.poll();
+            waiter.permit = new Permit();
+            this.inFlight++;
+            granted.add(waiter);
+        }
+
+        return granted;
+    }
+
+    private boolean isBlocked() {
+        if (this.blocked && System.nanoTime() - this.blockedUntilNanos >= 0) {
+            this.blocked = false;
+        }
+
+        return this.blocked;
+    }
+
+    private static long retryAfterNanos(HttpHeaders headers) {
+        for (HttpHeaderName headerName : List.of(RETRY_AFTER_MS, X_MS_RETRY_AFTER_MS)) {
+            String value = headers.getValue(headerName);
+            if (value != null) {
+                try {
+                    return TimeUnit.MILLISECONDS.toNanos(Long.parseLong(value.trim()));
+                } catch (NumberFormatException e) {
+                    LOGGER.verbose("Ignored invalid {} header: {}", headerName, value);
+                }
+            }
+        }
+
+        String retryAfter = headers.getValue(HttpHeaderName.RETRY_AFTER);
+        if (retryAfter == null) {
+            return 0;
+        }
+        try {
+            return TimeUnit.SECONDS.toNanos(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                OffsetDateTime date = OffsetDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+
+                return Duration.between(OffsetDateTime.now(), date).toNanos();
+            } catch (DateTimeParseException ex) {
+                LOGGER.verbose("Ignored invalid Retry-After header: {}", retryAfter);
+
+                return 0;
+            }
+        }
+    }
+
+    private static final class Waiter {
+
+        private final MonoSink<Permit> sink;
+
+        /** Assigned while holding the lock of the policy, once the waiter is removed from the queue. */
+        private Permit permit;
+
+        private Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+    }
+
+    private final class Permit {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        /**
+         * Release the permit, only the first call has effect.
+         *
+         * @param response The response received, or null if the request failed or was cancelled.
+         * @param latencyNanos The latency of the response.
+         */
+        private void release(HttpResponse response, long latencyNanos) {
+            if (this.released.compareAndSet(false, true)) {
+                ConcurrencyLimitPolicy.this.onRelease(response, latencyNanos);
+            }
+        }
+    }
+}
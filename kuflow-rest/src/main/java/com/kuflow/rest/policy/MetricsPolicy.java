@@ -0,0 +1,176 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.policy;
+
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpPipelineCallContext;
+import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpPipelineNextSyncPolicy;
+import com.azure.core.http.HttpPipelinePosition;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.policy.HttpPipelinePolicy;
+import com.azure.core.util.BinaryData;
+import com.azure.core.util.logging.ClientLogger;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import reactor.core.publisher.Mono;
+
+/**
+ * Collects the metrics of each request and publishes them to a {@link RequestMetricsRecorder}: the operation invoked
+ * (see {@link RequestMetrics#getOperation()}), the latency until the response is received, the status code, the number
+ * of attempts and the size of the request and response bodies.
+ *
+ * <p>The number of attempts is counted by the {@link AttemptsPolicy}, that must be placed after the retry policy. Both
+ * are added by the {@code KuFlowRestClientBuilder} when a recorder is configured.
+ */
+public class MetricsPolicy implements HttpPipelinePolicy {
+
+    private static final ClientLogger LOGGER = new ClientLogger(MetricsPolicy.class);
+
+    private final RequestMetricsRecorder recorder;
+
+    public MetricsPolicy(RequestMetricsRecorder recorder) {
+        this.recorder = Objects.requireNonNull(recorder, "'recorder' is required");
+    }
+
+    @Override
+    public HttpPipelinePosition getPipelinePosition() {
+        return HttpPipelinePosition.PER_CALL;
+    }
+
+    @Override
+    public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
+        return Mono.defer(() -> {
+            Measurement measurement = this.start(context);
+
+            return next
+                .process()
+                .doOnNext(measurement::complete)
+                .doOnError(measurement::fail)
+                .doOnCancel(() -> measurement.fail(null));
+        });
+    }
+
+    @Override
+    public HttpResponse processSync(HttpPipelineCallContext context, HttpPipelineNextSyncPolicy next) {
+        Measurement measurement = this.start(context);
+        try {
+            HttpResponse response = next.processSync();
+            measurement.complete(response);
+
+            return response;
+        } catch (RuntimeException | Error e) {
+            measurement.fail(e);
+            throw e;
+        }
+    }
+
+    private Measurement start(HttpPipelineCallContext context) {
+        HttpRequest request = context.getHttpRequest();
+        Measurement measurement = new Measurement(request, AttemptsPolicy.attempts(context));
+        try {
+            this.recorder.recordRequestStarted(measurement.operation);
+        } catch (RuntimeException e) {
+            LOGGER.warning("Error recording the metrics of the request", e);
+        }
+
+        return measurement;
+    }
+
+    private final class Measurement {
+
+        private final String operation;
+
+        private final String method;
+
+        private final long requestBytes;
+
+        private final long startNanos = System.nanoTime();
+
+        private final AtomicInteger attempts;
+
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private Measurement(HttpRequest request, AtomicInteger attempts) {
+            this.operation = ResourcePaths.operationName(request.getHttpMethod(), request.getUrl());
+            this.method = request.getHttpMethod().toString();
+            this.requestBytes = requestBytes(request);
+            this.attempts = attempts;
+        }
+
+        private void complete(HttpResponse response) {
+            this.record(response.getStatusCode(), null, contentLength(response.getHeaderValue(HttpHeaderName.CONTENT_LENGTH)));
+        }
+
+        private void fail(Throwable error) {
+            this.record(null, error != null ? error.getClass().getName() : "cancelled", -1);
+        }
+
+        private void record(Integer statusCode, String errorType, long responseBytes) {
+            if (!this.completed.compareAndSet(false, true)) {
+                return;
+            }
+
+            Duration duration = Duration.ofNanos(System.nanoTime() - this.startNanos);
+            RequestMetrics metrics = new RequestMetrics(
+                this.operation,
+                this.method,
+                statusCode,
+                errorType,
+                duration,
+                Math.max(1, this.attempts.get()),
+                this.requestBytes,
+                responseBytes
+            );
+            try {
+                MetricsPolicy.this.recorder.recordRequestCompleted(metrics);
+            } catch (RuntimeException e) {
+                LOGGER.warning("Error recording the metrics of the request", e);
+            }
+        }
+    }
+
+    private static long requestBytes(HttpRequest request) {
+        BinaryData body = request.getBodyAsBinaryData();
+        if (body != null && body.getLength() != null) {
+            return body.getLength();
+        }
+
+        return body == null ? 0 : contentLength(request.getHeaders().getValue(HttpHeaderName.CONTENT_LENGTH));
+    }
+
+    private static long contentLength(String contentLength) {
+        if (contentLength == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(contentLength.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.policy;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link RequestMetricsRecorder} that publishes the metrics to a Micrometer {@link MeterRegistry}:
+ * <ul>
+ *     <li>{@code kuflow.rest.client.requests}: timer of the requests, with percentile histograms, tagged by
+ *     {@code operation}, {@code method}, {@code status} and {@code outcome}.</li>
+ *     <li>{@code kuflow.rest.client.retries}: counter of the retries, tagged by {@code operation}.</li>
+ *     <li>{@code kuflow.rest.client.request.size} and {@code kuflow.rest.client.response.size}: distribution of the
+ *     body sizes in bytes, tagged by {@code operation}.</li>
+ *     <li>{@code kuflow.rest.client.requests.active}: gauge of the requests in flight, tagged by {@code operation}.</li>
+ *     <li>{@code kuflow.rest.client.concurrency.limit}, {@code kuflow.rest.client.concurrency.in.flight} and
+ *     {@code kuflow.rest.client.concurrency.queued}: gauges of the {@link ConcurrencyLimitPolicy}, if enabled.</li>
+ * </ul>
+ *
+ * <p>Micrometer is an optional dependency of the client, it must be added to the application to use this recorder.
+ */
+public class MicrometerRequestMetricsRecorder implements RequestMetricsRecorder {
+
+    private static final String DEFAULT_PREFIX = "kuflow.rest.client";
+
+    private final MeterRegistry registry;
+
+    private final String prefix;
+
+    private final Tags tags;
+
+    private final Map<String, AtomicInteger> activeRequests = new ConcurrentHashMap<>();
+
+    public MicrometerRequestMetricsRecorder(MeterRegistry registry) {
+        this(registry, DEFAULT_PREFIX, Tags.empty());
+    }
+
+    /**
+     * @param registry the registry where the meters are registered.
+     * @param prefix the prefix of the meter names.
+     * @param tags common tags added to every meter, ie: to tell apart several clients.
+     */
+    public MicrometerRequestMetricsRecorder(MeterRegistry registry, String prefix, Tags tags) {
+        this.registry = Objects.requireNonNull(registry, "'registry' is required");
+        this.prefix = Objects.requireNonNull(prefix, "'prefix' is required");
+        this.tags = Objects.requireNonNull(tags, "'tags' is required");
+    }
+
+    @Override
+    public void recordRequestStarted(String operation) {
+        this.activeRequests(operation).incrementAndGet();
+    }
+
+    @Override
+    public void recordRequestCompleted(RequestMetrics metrics) {
+        String operation = metrics.getOperation();
+        this.activeRequests(operation).decrementAndGet();
+
+        Tags operationTags = this.tags.and("operation", operation);
+        Timer.builder(this.prefix + ".requests")
+            .description("Requests sent to the KuFlow API")
+            .tags(operationTags)
+            .tag("method", metrics.getMethod())
+            .tag("status", metrics.getStatusCode() != null ? metrics.getStatusCode().toString() : "NONE")
+            .tag("outcome", outcome(metrics))
+            .publishPercentileHistogram()
+            .register(this.registry)
+            .record(metrics.getDuration());
+
+        if (metrics.getAttempts() > 1) {
+            Counter.builder(this.prefix + ".retries")
+                .description("Retries of the requests sent to the KuFlow API")
+                .tags(operationTags)
+                .register(this.registry)
+                .increment(metrics.getAttempts() - 1);
+        }
+        if (metrics.getRequestBytes() >= 0) {
+            DistributionSummary.builder(this.prefix + ".request.size")
+                .baseUnit("bytes")
+                .tags(operationTags)
+                .register(this.registry)
+                .record(metrics.getRequestBytes());
+        }
+        if (metrics.getResponseBytes() >= 0) {
+            DistributionSummary.builder(this.prefix + ".response.size")
+                .baseUnit("bytes")
+                .tags(operationTags)
+                .register(this.registry)
+                .record(metrics.getResponseBytes());
+        }
+    }
+
+    @Override
+    public void registerConcurrencyLimit(ConcurrencyLimitPolicy policy) {
+        Gauge.builder(this.prefix + ".concurrency.limit", policy, ConcurrencyLimitPolicy::getLimit)
+            .description("Current limit of requests in flight")
+            .tags(this.tags)
+            .register(this.registry);
+        Gauge.builder(this.prefix + ".concurrency.in.flight", policy, ConcurrencyLimitPolicy::getInFlight)
+            .tags(this.tags)
+            .register(this.registry);
+        Gauge.builder(this.prefix + ".concurrency.queued", policy, ConcurrencyLimitPolicy::getQueued)
+            .tags(this.tags)
+            .register(this.registry);
+    }
+
+    private AtomicInteger activeRequests(String operation) {
+        return this.activeRequests.computeIfAbsent(operation, key -> {
+            AtomicInteger activeRequests = new AtomicInteger();
+            Gauge.builder(this.prefix + ".requests.active", activeRequests, AtomicInteger::get)
+                .description("Requests in flight to the KuFlow API")
+                .tags(this.tags.and("operation", key))
+                .register(this.registry);
+
+            return activeRequests;
+        });
+    }
+
+    private static String outcome(RequestMetrics metrics) {
+        Integer statusCode = metrics.getStatusCode();
+        if (statusCode == null) {
+            return "ERROR";
+        }
+        if (statusCode >= 500) {
+            return "SERVER_ERROR";
+        }
+        if (statusCode >= 400) {
+            return "CLIENT_ERROR";
+        }
+
+        return "SUCCESS";
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.policy;
+
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipelineCallContext;
+import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpPipelineNextSyncPolicy;
+import com.azure.core.http.HttpPipelinePosition;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.policy.HttpPipelinePolicy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import reactor.core.publisher.Mono;
+
+/**
+ * Coalesces concurrent identical {@code GET} requests: while a request is in flight, any other request to the same URL
+ * waits for it instead of being sent, and all of them receive the same response.
+ *
+ * <p>Only requests that accept {@code application/json} are coalesced, the responses are buffered in memory to be
+ * shared, so document downloads are always sent on their own.
+ */
+public class RequestCoalescingPolicy implements HttpPipelinePolicy {
+
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    private final Map<String, Mono<SharedResponse>> inFlightRequests = new ConcurrentHashMap<>();
+
+    @Override
+    public HttpPipelinePosition getPipelinePosition() {
+        return HttpPipelinePosition.PER_CALL;
+    }
+
+    @Override
+    public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
+        HttpRequest request = context.getHttpRequest();
+        if (!this.isCoalescible(request)) {
+            return next.process();
+        }
+
+        return Mono.defer(() -> {
+            String key = request.getUrl().toString();
+            Mono<SharedResponse> sharedResponse = next.process().flatMap(RequestCoalescingPolicy::shareAsync).cache();
+
+            Mono<SharedResponse> inFlightRequest = this.inFlightRequests.putIfAbsent(key, sharedResponse);
+            if (inFlightRequest != null) {
+                return inFlightRequest.map(response -> response.toResponse(request));
+            }
+
+            return sharedResponse
+                .doFinally(signal -> this.inFlightRequests.remove(key, sharedResponse))
+                .map(response -> response.toResponse(request));
+        });
+    }
+
+    @Override
+    public HttpResponse processSync(HttpPipelineCallContext context, HttpPipelineNextSyncPolicy next) {
+        HttpRequest request = context.getHttpRequest();
+        if (!this.isCoalescible(request)) {
+            return next.processSync();
+        }
+
+        String key = request.getUrl().toString();
+        Mono<SharedResponse> sharedResponse = Mono.fromCallable(() -> share(next.processSync())).cache();
+
+        Mono<SharedResponse> inFlightRequest = this.inFlightRequests.putIfAbsent(key, sharedResponse);
+        if (inFlightRequest != null) {
+            return inFlightRequest.map(response -> response.toResponse(request)).block();
+        }
+
+        try {
+            return sharedResponse.map(response -> response.toResponse(request)).block();
+        } finally {
+            this.inFlightRequests.remove(key, sharedResponse);
+        }
+    }
+
+    private boolean isCoalescible(HttpRequest request) {
+        if (request.getHttpMethod() != HttpMethod.GET) {
+            return false;
+        }
+
+        HttpHeaders headers = request.getHeaders();
+
+        return "application/json".equals(headers.getValue(HttpHeaderName.ACCEPT)) && headers.getValue(HttpHeaderName.RANGE) == null;
+    }
+
+    private static Mono<SharedResponse> shareAsync(HttpResponse response) {
+        return response
+            .getBodyAsByteArray()
+            .defaultIfEmpty(EMPTY_BODY)
+            .map(body -> new SharedResponse(response.getStatusCode(), response.getHeaders(), body));
+    }
+
+    private static SharedResponse share(HttpResponse response) {
+        return new SharedResponse(response.getStatusCode(), response.getHeaders(), response.getBodyAsBinaryData().toBytes());
+    }
+
+    private static final class SharedResponse {
+
+        private final int statusCode;
+
+        private final HttpHeaders headers;
+
+        private final byte[] body;
+
+        private SharedResponse(int statusCode, HttpHeaders headers, byte[] body) {
+            this.statusCode = statusCode;
+            this.headers = new HttpHeaders(headers);
+            this.body = body;
+        }
+
+        private HttpResponse toResponse(HttpRequest request) {
+            return new BufferedHttpResponse(request, this.statusCode, new HttpHeaders(this.headers), this.body);
+        }
+    }
+}
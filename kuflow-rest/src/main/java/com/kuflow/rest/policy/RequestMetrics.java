@@ -0,0 +1,124 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.policy;
+
+import java.time.Duration;
+
+/**
+ * Metrics of a completed request, see {@link MetricsPolicy}.
+ */
+public class RequestMetrics {
+
+    private final String operation;
+
+    private final String method;
+
+    private final Integer statusCode;
+
+    private final String errorType;
+
+    private final Duration duration;
+
+    private final int attempts;
+
+    private final long requestBytes;
+
+    private final long responseBytes;
+
+    RequestMetrics(
+        String operation,
+        String method,
+        Integer statusCode,
+        String errorType,
+        Duration duration,
+        int attempts,
+        long requestBytes,
+        long responseBytes
+    ) {
+        this.operation = operation;
+        this.method = method;
+        this.statusCode = statusCode;
+        this.errorType = errorType;
+        this.duration = duration;
+        this.attempts = attempts;
+        this.requestBytes = requestBytes;
+        this.responseBytes = responseBytes;
+    }
+
+    /**
+     * @return the name of the operation, ie: {@code ProcessItems.claimTask}.
+     */
+    public String getOperation() {
+        return this.operation;
+    }
+
+    /**
+     * @return the http method.
+     */
+    public String getMethod() {
+        return this.method;
+    }
+
+    /**
+     * @return the status code of the last response, or {@code null} if no response was received.
+     */
+    public Integer getStatusCode() {
+        return this.statusCode;
+    }
+
+    /**
+     * @return the class name of the error if the request failed without a response, otherwise {@code null}.
+     */
+    public String getErrorType() {
+        return this.errorType;
+    }
+
+    /**
+     * @return the time elapsed until the response headers were received, retries included.
+     */
+    public Duration getDuration() {
+        return this.duration;
+    }
+
+    /**
+     * @return the number of times the request was sent, the retries are {@code attempts - 1}.
+     */
+    public int getAttempts() {
+        return this.attempts;
+    }
+
+    /**
+     * @return the size of the request body, or -1 if unknown.
+     */
+    public long getRequestBytes() {
+        return this.requestBytes;
+    }
+
+    /**
+     * @return the size of the response body as declared by its {@code Content-Length}, or -1 if unknown.
+     */
+    public long getResponseBytes() {
+        return this.responseBytes;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.policy;
+
+/**
+ * Sink of the metrics collected by the {@link MetricsPolicy}. The methods are invoked on the threads that send the
+ * requests, so the implementations must be thread safe and must not block.
+ *
+ * @see MicrometerRequestMetricsRecorder
+ */
+public interface RequestMetricsRecorder {
+    /**
+     * Invoked before a request is sent for the first time.
+     *
+     * @param operation the name of the operation, ie: {@code ProcessItems.claimTask}.
+     */
+    void recordRequestStarted(String operation);
+
+    /**
+     * Invoked once per request, when the response is received, the request fails or it is cancelled.
+     *
+     * @param metrics the metrics of the request.
+     */
+    void recordRequestCompleted(RequestMetrics metrics);
+
+    /**
+     * Invoked when the client is built with a {@link ConcurrencyLimitPolicy}, to expose the current limit.
+     *
+     * @param policy the concurrency limit policy.
+     */
+    default void registerConcurrencyLimit(ConcurrencyLimitPolicy policy) {}
+}
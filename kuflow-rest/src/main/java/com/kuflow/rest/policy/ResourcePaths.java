@@ -0,0 +1,198 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.policy;
+
+import com.azure.core.http.HttpMethod;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Helpers to classify the KuFlow API URLs, like {@code /v2024-06-14/processes/{id}/actions/{actionId}}.
+ */
+final class ResourcePaths {
+
+    private static final Pattern API_VERSION_PATTERN = Pattern.compile("v\\d{4}-\\d{2}-\\d{2}");
+
+    private static final Pattern UUID_PATTERN = Pattern.compile(
+        "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}"
+    );
+
+    /**
+     * Collections whose members are addressed by IDs that are not UUIDs, ie: {@code /kms/keys/{keyId}}.
+     */
+    private static final Set<String> IDENTIFIED_COLLECTIONS = Set.of("keys", "actions");
+
+    private ResourcePaths() {}
+
+    /**
+     * Get the path segments of the URL, skipping the API version segment.
+     *
+     * @param url the url.
+     * @return the path segments.
+     */
+    static List<String> segments(URL url) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : url.getPath().split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        if (!segments.isEmpty() && API_VERSION_PATTERN.matcher(segments.get(0)).matches()) {
+            segments.remove(0);
+        }
+
+        return segments;
+    }
+
+    /**
+     * Check if the URL addresses a single resource, that is, its route ends with a resource ID, ie:
+     * {@code /processes/{id}}, {@code /processes/{id}/actions/{actionId}} or {@code /kms/keys/{keyId}}, instead of a
+     * collection or an action ({@code ~actions}).
+     *
+     * @param url the url.
+     * @return {@code true} if the URL addresses a single resource.
+     */
+    static boolean isSingleResource(URL url) {
+        if (url.getQuery() != null && !url.getQuery().isEmpty()) {
+            return false;
+        }
+
+        List<String> segments = segments(url);
+        if (segments.size() < 2 || segments.stream().anyMatch(segment -> segment.startsWith("~"))) {
+            return false;
+        }
+
+        return isIdentifier(segments, segments.size() - 1);
+    }
+
+    /**
+     * Get the path of the root resource affected by a request, ie: {@code /processes/{id}} for
+     * {@code /processes/{id}/~actions/complete}.
+     *
+     * @param url the url.
+     * @return the root resource path, or {@code null} if the URL addresses a collection.
+     */
+    static String rootResourcePath(URL url) {
+        List<String> segments = segments(url);
+        if (segments.size() < 2) {
+            return null;
+        }
+
+        return "/" + segments.get(0) + "/" + segments.get(1);
+    }
+
+    /**
+     * Get the path of the resource without the API version.
+     *
+     * @param url the url.
+     * @return the resource path.
+     */
+    static String resourcePath(URL url) {
+        return "/" + String.join("/", segments(url));
+    }
+
+    /**
+     * Get a low cardinality name of the operation invoked by a request, ie: {@code ProcessItems.claimTask} for
+     * {@code POST /process-items/{id}/task/~actions/claim} or {@code Processes.retrieve} for {@code GET /processes/{id}}.
+     *
+     * @param method the http method.
+     * @param url the url.
+     * @return the operation name.
+     */
+    static String operationName(HttpMethod method, URL url) {
+        List<String> segments = segments(url);
+        if (segments.isEmpty()) {
+            return method.toString();
+        }
+
+        StringBuilder qualifier = new StringBuilder();
+        String action = null;
+        boolean single = false;
+        for (int i = 1; i < segments.size(); i++) {
+            String segment = segments.get(i);
+            if (isIdentifier(segments, i)) {
+                single = true;
+                continue;
+            }
+            single = false;
+            if (segment.equals("~actions") && i + 1 < segments.size()) {
+                action = segments.get(i + 1);
+                break;
+            }
+            qualifier.append(pascalCase(segment));
+        }
+
+        String verb;
+        if (action != null) {
+            String pascalCaseAction = pascalCase(action);
+            verb = Character.toLowerCase(pascalCaseAction.charAt(0)) + pascalCaseAction.substring(1);
+        } else if (method == HttpMethod.GET) {
+            verb = single ? "retrieve" : "find";
+        } else if (method == HttpMethod.POST) {
+            verb = "create";
+        } else if (method == HttpMethod.PUT) {
+            verb = "update";
+        } else {
+            verb = method.toString().toLowerCase(Locale.ROOT);
+        }
+
+        return pascalCase(segments.get(0)) + "." + verb + qualifier;
+    }
+
+    /**
+     * Get the ID of the root resource addressed by the URL, ie: the process ID for {@code /processes/{id}/entity}.
+     *
+     * @param url the url.
+     * @return the resource ID, or {@code null} if the URL addresses a collection.
+     */
+    static String rootResourceId(URL url) {
+        List<String> segments = segments(url);
+        for (int i = 1; i < segments.size(); i++) {
+            if (isIdentifier(segments, i)) {
+                return segments.get(i);
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean isIdentifier(List<String> segments, int index) {
+        return UUID_PATTERN.matcher(segments.get(index)).matches() || IDENTIFIED_COLLECTIONS.contains(segments.get(index - 1));
+    }
+
+    private static String pascalCase(String segment) {
+        StringBuilder pascalCase = new StringBuilder();
+        for (String word : segment.replace("~", "").split("-")) {
+            if (!word.isEmpty()) {
+                pascalCase.append(Character.toUpperCase(word.charAt(0))).append(word.substring(1));
+            }
+        }
+
+        return pascalCase.toString();
+    }
+}
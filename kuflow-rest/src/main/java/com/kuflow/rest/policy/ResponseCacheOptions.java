@@ -0,0 +1,71 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.policy;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Options of the {@link ResponseCachePolicy}.
+ */
+public class ResponseCacheOptions {
+
+    /**
+     * Maximum number of responses kept in the cache, the least recently used are evicted first.
+     */
+    private int maxEntries = 1000;
+
+    /**
+     * Time during which a cached response is served without contacting the server. Once expired, responses with an
+     * {@code ETag} or {@code Last-Modified} header are revalidated with a conditional request.
+     */
+    private Duration timeToLive = Duration.ofSeconds(30);
+
+    public int getMaxEntries() {
+        return this.maxEntries;
+    }
+
+    public ResponseCacheOptions setMaxEntries(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("'maxEntries' must be greater than 0");
+        }
+        this.maxEntries = maxEntries;
+
+        return this;
+    }
+
+    public Duration getTimeToLive() {
+        return this.timeToLive;
+    }
+
+    public ResponseCacheOptions setTimeToLive(Duration timeToLive) {
+        Objects.requireNonNull(timeToLive, "'timeToLive' is required");
+        if (timeToLive.isNegative()) {
+            throw new IllegalArgumentException("'timeToLive' must not be negative");
+        }
+        this.timeToLive = timeToLive;
+
+        return this;
+    }
+}
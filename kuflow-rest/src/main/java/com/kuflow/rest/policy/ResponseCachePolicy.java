@@ -0,0 +1,319 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.policy;
+
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipelineCallContext;
+import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpPipelineNextSyncPolicy;
+import com.azure.core.http.HttpPipelinePosition;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.policy.HttpPipelinePolicy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import reactor.core.publisher.Mono;
+
+/**
+ * Client side cache of the responses of the {@code GET} requests that address a single resource, ie: retrieve a
+ * process, a principal or a KMS key.
+ *
+ * <p>The cache is bounded in size (least recently used entries are evicted first) and in time: while an entry is
+ * younger than {@link ResponseCacheOptions#getTimeToLive()} it is served without contacting the server. Once expired,
+ * entries with an {@code ETag} or {@code Last-Modified} header are revalidated using {@code If-None-Match} and
+ * {@code If-Modified-Since}, and entries without validators are discarded.
+ *
+ * <p>Any other request ({@code POST}, {@code PUT}, {@code PATCH}, {@code DELETE}) invalidates the cached entries of the
+ * resource it targets, ie: completing a process invalidates {@code /processes/{id}} and all its sub-resources. Changes
+ * made by other clients, or side effects on other resources, are only observed once the entries expire.
+ */
+public class ResponseCachePolicy implements HttpPipelinePolicy {
+
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    private final long timeToLiveNanos;
+
+    private final Map<String, CacheEntry> entries;
+
+    /**
+     * Incremented on each invalidation, responses received while an invalidation was in progress are not stored
+     * because they could be older than the invalidation itself.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ResponseCachePolicy(ResponseCacheOptions options) {
+        Objects.requireNonNull(options, "'options' is required");
+
+        int maxEntries = options.getMaxEntries();
+        this.timeToLiveNanos = options.getTimeToLive().toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                return this.size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public HttpPipelinePosition getPipelinePosition() {
+        return HttpPipelinePosition.PER_CALL;
+    }
+
+    @Override
+    public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
+        HttpRequest request = context.getHttpRequest();
+        if (request.getHttpMethod() != HttpMethod.GET) {
+            return next.process().doFinally(signal -> this.invalidate(request));
+        }
+        if (!this.isCacheable(request)) {
+            return next.process();
+        }
+
+        String key = request.getUrl().toString();
+        CacheEntry entry = this.prepareRequest(key, request);
+        if (entry != null && entry.isFresh(System.nanoTime())) {
+            return Mono.just(entry.toResponse(request));
+        }
+
+        long generation = this.invalidations.get();
+
+        return next
+            .process()
+            .flatMap(response -> {
+                if (response.getStatusCode() == 304 && entry != null) {
+                    response.close();
+
+                    return Mono.just(this.revalidated(key, entry, generation).toResponse(request));
+                }
+                if (!this.isStorable(response)) {
+                    this.remove(key, entry);
+
+                    return Mono.just(response);
+                }
+
+                return response
+                    .getBodyAsByteArray()
+                    .defaultIfEmpty(EMPTY_BODY)
+                    .map(body -> this.store(key, response, body, generation).toResponse(request));
+            });
+    }
+
+    @Override
+    public HttpResponse processSync(HttpPipelineCallContext context, HttpPipelineNextSyncPolicy next) {
+        HttpRequest request = context.getHttpRequest();
+        if (request.getHttpMethod() != HttpMethod.GET) {
+            try {
+                return next.processSync();
+            } finally {
+                this.invalidate(request);
+            }
+        }
+        if (!this.isCacheable(request)) {
+            return next.processSync();
+        }
+
+        String key = request.getUrl().toString();
+        CacheEntry entry = this.prepareRequest(key, request);
+        if (entry != null && entry.isFresh(System.nanoTime())) {
+            return entry.toResponse(request);
+        }
+
+        long generation = this.invalidations.get();
+
+        HttpResponse response = next.processSync();
+        if (response.getStatusCode() == 304 && entry != null) {
+            response.close();
+
+            return this.revalidated(key, entry, generation).toResponse(request);
+        }
+        if (!this.isStorable(response)) {
+            this.remove(key, entry);
+
+            return response;
+        }
+
+        byte[] body = response.getBodyAsBinaryData().toBytes();
+
+        return this.store(key, response, body, generation).toResponse(request);
+    }
+
+    /**
+     * Remove all the cached responses.
+     */
+    public void clear() {
+        synchronized (this.entries) {
+            this.invalidations.incrementAndGet();
+            this.entries.clear();
+        }
+    }
+
+    private boolean isCacheable(HttpRequest request) {
+        HttpHeaders headers = request.getHeaders();
+
+        return (
+            headers.getValue(HttpHeaderName.IF_NONE_MATCH) == null &&
+            headers.getValue(HttpHeaderName.IF_MODIFIED_SINCE) == null &&
+            headers.getValue(HttpHeaderName.RANGE) == null &&
+            ResourcePaths.isSingleResource(request.getUrl())
+        );
+    }
+
+    private boolean isStorable(HttpResponse response) {
+        if (response.getStatusCode() != 200) {
+            return false;
+        }
+
+        String contentType = response.getHeaderValue(HttpHeaderName.CONTENT_TYPE);
+        if (contentType == null || !contentType.contains("json")) {
+            return false;
+        }
+
+        String cacheControl = response.getHeaderValue(HttpHeaderName.CACHE_CONTROL);
+
+        return cacheControl == null || !cacheControl.contains("no-store");
+    }
+
+    private CacheEntry prepareRequest(String key, HttpRequest request) {
+        CacheEntry entry;
+        synchronized (this.entries) {
+            entry = this.entries.get(key);
+        }
+        if (entry == null || entry.isFresh(System.nanoTime())) {
+            return entry;
+        }
+        if (!entry.hasValidators()) {
+            this.remove(key, entry);
+
+            return null;
+        }
+
+        if (entry.etag != null) {
+            request.setHeader(HttpHeaderName.IF_NONE_MATCH, entry.etag);
+        }
+        if (entry.lastModified != null) {
+            request.setHeader(HttpHeaderName.IF_MODIFIED_SINCE, entry.lastModified);
+        }
+
+        return entry;
+    }
+
+    private CacheEntry store(String key, HttpResponse response, byte[] body, long generation) {
+        CacheEntry entry = new CacheEntry(
+            ResourcePaths.resourcePath(response.getRequest().getUrl()),
+            response.getStatusCode(),
+            new HttpHeaders(response.getHeaders()),
+            body,
+            System.nanoTime() + this.timeToLiveNanos
+        );
+        this.put(key, entry, generation);
+
+        return entry;
+    }
+
+    private CacheEntry revalidated(String key, CacheEntry entry, long generation) {
+        CacheEntry revalidated = entry.withExpiration(System.nanoTime() + this.timeToLiveNanos);
+        this.put(key, revalidated, generation);
+
+        return revalidated;
+    }
+
+    private void put(String key, CacheEntry entry, long generation) {
+        synchronized (this.entries) {
+            if (this.invalidations.get() == generation) {
+                this.entries.put(key, entry);
+            }
+        }
+    }
+
+    private void remove(String key, CacheEntry entry) {
+        if (entry == null) {
+            return;
+        }
+
+        synchronized (this.entries) {
+            this.entries.remove(key, entry);
+        }
+    }
+
+    private void invalidate(HttpRequest request) {
+        String rootResourcePath = ResourcePaths.rootResourcePath(request.getUrl());
+        if (rootResourcePath == null) {
+            return;
+        }
+
+        synchronized (this.entries) {
+            this.invalidations.incrementAndGet();
+            this.entries
+                .values()
+                .removeIf(entry -> entry.resourcePath.equals(rootResourcePath) || entry.resourcePath.startsWith(rootResourcePath + "/"));
+        }
+    }
+
+    private static final class CacheEntry {
+
+        private final String resourcePath;
+
+        private final int statusCode;
+
+        private final HttpHeaders headers;
+
+        private final byte[] body;
+
+        private final String etag;
+
+        private final String lastModified;
+
+        private final long expiresAt;
+
+        private CacheEntry(String resourcePath, int statusCode, HttpHeaders headers, byte[] body, long expiresAt) {
+            this.resourcePath = resourcePath;
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.body = body;
+            this.etag = headers.getValue(HttpHeaderName.ETAG);
+            this.lastModified = headers.getValue(HttpHeaderName.LAST_MODIFIED);
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isFresh(long now) {
+            return now - this.expiresAt < 0;
+        }
+
+        private boolean hasValidators() {
+            return this.etag != null || this.lastModified != null;
+        }
+
+        private CacheEntry withExpiration(long expiresAt) {
+            return new CacheEntry(this.resourcePath, this.statusCode, this.headers, this.body, expiresAt);
+        }
+
+        private HttpResponse toResponse(HttpRequest request) {
+            return new BufferedHttpResponse(request, this.statusCode, new HttpHeaders(this.headers), this.body);
+        }
+    }
+}
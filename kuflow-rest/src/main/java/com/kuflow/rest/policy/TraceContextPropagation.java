@@ -0,0 +1,95 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.policy;
+
+import java.util.function.Function;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Captures the current OpenTelemetry context when an asynchronous operation is invoked.
+ *
+ * <p>The {@link TracingPolicy} runs when the returned {@link Mono} is subscribed, which may happen on a Reactor thread
+ * where the context of the caller is no longer current. The context captured at call time is written in the
+ * {@code trace-context} key of the Reactor context, that the client copies to the request context, so the span keeps
+ * the right parent.
+ *
+ * <p>When OpenTelemetry is not in the classpath nothing is captured.
+ */
+public final class TraceContextPropagation {
+
+    static final String TRACE_CONTEXT_KEY = "trace-context";
+
+    private static final boolean OPEN_TELEMETRY_PRESENT = isOpenTelemetryPresent();
+
+    private TraceContextPropagation() {}
+
+    /**
+     * Capture the OpenTelemetry context that is current in the calling thread. The returned function writes it in the
+     * Reactor context of the requests, unless a context is already present in the subscriber context.
+     *
+     * @return the function to pass to {@code contextWrite}, a no-op when there is no current context.
+     */
+    public static Function<Context, Context> captureCurrentContext() {
+        Object traceContext = OPEN_TELEMETRY_PRESENT ? OpenTelemetryContext.current() : null;
+        if (traceContext == null) {
+            return Function.identity();
+        }
+
+        return context -> context.hasKey(TRACE_CONTEXT_KEY) ? context : context.put(TRACE_CONTEXT_KEY, traceContext);
+    }
+
+    /**
+     * Bind the OpenTelemetry context that is current in the calling thread to the request sent by {@code mono}.
+     *
+     * @param mono the request
+     * @param <T> type of the response
+     * @return the request bound to the current OpenTelemetry context
+     */
+    public static <T> Mono<T> withCurrentContext(Mono<T> mono) {
+        return mono.contextWrite(captureCurrentContext());
+    }
+
+    private static boolean isOpenTelemetryPresent() {
+        try {
+            Class.forName("io.opentelemetry.context.Context", false, TraceContextPropagation.class.getClassLoader());
+
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Isolates the references to OpenTelemetry, so this class is only loaded when OpenTelemetry is present.
+     */
+    private static final class OpenTelemetryContext {
+
+        private static Object current() {
+            io.opentelemetry.context.Context current = io.opentelemetry.context.Context.current();
+
+            return current == io.opentelemetry.context.Context.root() ? null : current;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.policy;
+
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpPipelineCallContext;
+import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpPipelineNextSyncPolicy;
+import com.azure.core.http.HttpPipelinePosition;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.policy.HttpPipelinePolicy;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import reactor.core.publisher.Mono;
+
+/**
+ * Creates an OpenTelemetry client span for each request, named after the operation invoked, ie:
+ * {@code ProcessItems.claimTask}. The span covers the retries and the wait for a permit of the
+ * {@link ConcurrencyLimitPolicy}, and it only carries low cardinality attributes: the operation, the id of the resource,
+ * the http method, the status code and the number of retries. The trace context is propagated to the server using the
+ * propagators of the {@link OpenTelemetry} instance.
+ *
+ * <p>The parent of the span is the OpenTelemetry {@link Context} stored in the {@code trace-context} key of the request
+ * context, the same key used by the Azure SDK, or the current context otherwise. The asynchronous operations capture
+ * the context when they are invoked, see {@link TraceContextPropagation}, so the parent is kept even when the request
+ * is subscribed on another thread. So when a request is sent by a Temporal activity that is traced (ie: with the
+ * Temporal OpenTracing interceptor over the OpenTelemetry shim), its span is a child of the activity span.
+ *
+ * <p>OpenTelemetry is an optional dependency of the client, it must be added to the application to use this policy.
+ */
+public class TracingPolicy implements HttpPipelinePolicy {
+
+    private static final String INSTRUMENTATION_SCOPE = "com.kuflow.rest";
+
+    private static final String PARENT_TRACE_CONTEXT_KEY = TraceContextPropagation.TRACE_CONTEXT_KEY;
+
+    private static final AttributeKey<String> OPERATION = AttributeKey.stringKey("kuflow.operation");
+
+    private static final AttributeKey<String> RESOURCE_ID = AttributeKey.stringKey("kuflow.resource.id");
+
+    private static final AttributeKey<String> HTTP_REQUEST_METHOD = AttributeKey.stringKey("http.request.method");
+
+    private static final AttributeKey<Long> HTTP_RESPONSE_STATUS_CODE = AttributeKey.longKey("http.response.status_code");
+
+    private static final AttributeKey<Long> HTTP_REQUEST_RESEND_COUNT = AttributeKey.longKey("http.request.resend_count");
+
+    private static final AttributeKey<String> SERVER_ADDRESS = AttributeKey.stringKey("server.address");
+
+    private final Tracer tracer;
+
+    private final TextMapPropagator propagator;
+
+    public TracingPolicy(TracingOptions options) {
+        Objects.requireNonNull(options, "'options' is required");
+
+        OpenTelemetry openTelemetry = options.getOpenTelemetry();
+        this.tracer = openTelemetry.getTracer(INSTRUMENTATION_SCOPE);
+        this.propagator = openTelemetry.getPropagators().getTextMapPropagator();
+    }
+
+    @Override
+    public HttpPipelinePosition getPipelinePosition() {
+        return HttpPipelinePosition.PER_CALL;
+    }
+
+    @Override
+    public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
+        return Mono.defer(() -> {
+            TracedRequest tracedRequest = this.start(context);
+
+            return next
+                .process()
+                .doOnNext(tracedRequest::end)
+                .doOnError(tracedRequest::fail)
+                .doOnCancel(() -> tracedRequest.fail(null));
+        });
+    }
+
+    @Override
+    public HttpResponse processSync(HttpPipelineCallContext context, HttpPipelineNextSyncPolicy next) {
+        TracedRequest tracedRequest = this.start(context);
+        try (Scope ignored = tracedRequest.span.makeCurrent()) {
+            HttpResponse response = next.processSync();
+            tracedRequest.end(response);
+
+            return response;
+        } catch (RuntimeException | Error e) {
+            tracedRequest.fail(e);
+            throw e;
+        }
+    }
+
+    private TracedRequest start(HttpPipelineCallContext context) {
+        HttpRequest request = context.getHttpRequest();
+        Context parentContext = context
+            .getData(PARENT_TRACE_CONTEXT_KEY)
+            .filter(Context.class::isInstance)
+            .map(Context.class::cast)
+            .orElseGet(Context::current);
+
+        String operation = ResourcePaths.operationName(request.getHttpMethod(), request.getUrl());
+        Span span = this.tracer.spanBuilder(operation)
+            .setParent(parentContext)
+            .setSpanKind(SpanKind.CLIENT)
+            .setAttribute(OPERATION, operation)
+            .setAttribute(HTTP_REQUEST_METHOD, request.getHttpMethod().toString())
+            .setAttribute(SERVER_ADDRESS, request.getUrl().getHost())
+            .startSpan();
+        String resourceId = ResourcePaths.rootResourceId(request.getUrl());
+        if (resourceId != null) {
+            span.setAttribute(RESOURCE_ID, resourceId);
+        }
+
+        this.propagator.inject(parentContext.with(span), request, (carrier, key, value) ->
+            carrier.setHeader(HttpHeaderName.fromString(key), value)
+        );
+
+        return new TracedRequest(span, AttemptsPolicy.attempts(context));
+    }
+
+    private static final class TracedRequest {
+
+        private final Span span;
+
+        private final AtomicInteger attempts;
+
+        private final AtomicBoolean ended = new AtomicBoolean();
+
+        private TracedRequest(Span span, AtomicInteger attempts) {
+            this.span = span;
+            this.attempts = attempts;
+        }
+
+        private void end(HttpResponse response) {
+            if (!this.ended.compareAndSet(false, true)) {
+                return;
+            }
+
+            int statusCode = response.getStatusCode();
+            this.span.setAttribute(HTTP_RESPONSE_STATUS_CODE, statusCode);
+            if (statusCode >= 400) {
+                this.span.setStatus(StatusCode.ERROR);
+            }
+            this.recordRetries();
+            this.span.end();
+        }
+
+        private void fail(Throwable error) {
+            if (!this.ended.compareAndSet(false, true)) {
+                return;
+            }
+
+            if (error != null) {
+                this.span.recordException(error);
+                this.span.setStatus(StatusCode.ERROR, error.getClass().getName());
+            } else {
+                this.span.setStatus(StatusCode.ERROR, "cancelled");
+            }
+            this.recordRetries();
+            this.span.end();
+        }
+
+        private void recordRetries() {
+            int retries = this.attempts.get() - 1;
+            if (retries > 0) {
+                this.span.setAttribute(HTTP_REQUEST_RESEND_COUNT, retries);
+            }
+        }
+    }
+}
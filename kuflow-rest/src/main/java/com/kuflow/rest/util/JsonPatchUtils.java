@@ -0,0 +1,219 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.util;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonWriter;
+import com.kuflow.rest.model.JsonPatchOperation;
+import com.kuflow.rest.model.JsonPatchOperationType;
+import com.kuflow.rest.model.JsonValue;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public abstract class JsonPatchUtils {
+
+    /**
+     * Compute the JSON Patch (RFC 6902) that transforms the source value into the target value.
+     * <p>Objects are compared field by field and arrays element by element after skipping their common prefix and
+     * suffix, so a change of a single field produces a single operation.
+     * @param source the current value (may be {@code null})
+     * @param target the desired value (may be {@code null})
+     * @return the operations, empty when both values are equal
+     */
+    public static List<JsonPatchOperation> diff(JsonValue source, JsonValue target) {
+        return diff(source != null ? source.getValue() : null, target != null ? target.getValue() : null);
+    }
+
+    /**
+     * Compute the JSON Patch (RFC 6902) that transforms the source document into the target document.
+     * @param source the current document (may be {@code null})
+     * @param target the desired document (may be {@code null})
+     * @return the operations, empty when both documents are equal
+     */
+    public static List<JsonPatchOperation> diff(Map<String, Object> source, Map<String, Object> target) {
+        List<JsonPatchOperation> patch = new ArrayList<>();
+        diff(patch, "", source != null ? source : Map.of(), target != null ? target : Map.of());
+
+        return patch;
+    }
+
+    /**
+     * Decide whether it is worth sending the patch instead of the whole target value, comparing the size of both
+     * payloads. Patches that set a {@code null} value are never preferred because the value cannot be expressed in a
+     * {@link JsonPatchOperation}.
+     * @param patch the patch computed with {@link #diff(JsonValue, JsonValue)}
+     * @param target the desired value
+     * @return {@code true} if the patch should be sent
+     */
+    public static boolean isPatchPreferred(List<JsonPatchOperation> patch, JsonValue target) {
+        for (JsonPatchOperation operation : patch) {
+            boolean requiresValue =
+                JsonPatchOperationType.ADD.equals(operation.getOp()) || JsonPatchOperationType.REPLACE.equals(operation.getOp());
+            if (requiresValue && operation.getValue() == null) {
+                return false;
+            }
+        }
+
+        return jsonSize(writer -> writer.writeArray(patch, JsonWriter::writeJson)) < jsonSize(writer -> writer.writeJson(target));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void diff(List<JsonPatchOperation> patch, String path, Object source, Object target) {
+        if (jsonEquals(source, target)) {
+            return;
+        }
+
+        if (source instanceof Map<?, ?> sourceMap && target instanceof Map<?, ?> targetMap) {
+            diffObjects(patch, path, (Map<String, Object>) sourceMap, (Map<String, Object>) targetMap);
+        } else if (source instanceof List<?> sourceList && target instanceof List<?> targetList) {
+            diffArrays(patch, path, (List<Object>) sourceList, (List<Object>) targetList);
+        } else {
+            patch.add(operation(JsonPatchOperationType.REPLACE, path, target));
+        }
+    }
+
+    private static void diffObjects(List<JsonPatchOperation> patch, String path, Map<String, Object> source, Map<String, Object> target) {
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            String fieldPath = path + "/" + escape(entry.getKey());
+            if (!target.containsKey(entry.getKey())) {
+                patch.add(operation(JsonPatchOperationType.REMOVE, fieldPath, null));
+            } else {
+                diff(patch, fieldPath, entry.getValue(), target.get(entry.getKey()));
+            }
+        }
+        for (Map.Entry<String, Object> entry : target.entrySet()) {
+            if (!source.containsKey(entry.getKey())) {
+                patch.add(operation(JsonPatchOperationType.ADD, path + "/" + escape(entry.getKey()), entry.getValue()));
+            }
+        }
+    }
+
+    private static void diffArrays(List<JsonPatchOperation> patch, String path, List<Object> source, List<Object> target) {
+        int prefix = 0;
+        while (prefix < source.size() && prefix < target.size() && jsonEquals(source.get(prefix), target.get(prefix))) {
+            prefix++;
+        }
+
+        int sourceEnd = source.size();
+        int targetEnd = target.size();
+        while (sourceEnd > prefix && targetEnd > prefix && jsonEquals(source.get(sourceEnd - 1), target.get(targetEnd - 1))) {
+            sourceEnd--;
+            targetEnd--;
+        }
+
+        // Elements present in both sides are diffed in place, the rest are removed or inserted after them
+        int common = Math.min(sourceEnd, targetEnd) - prefix;
+        for (int i = prefix; i < prefix + common; i++) {
+            diff(patch, path + "/" + i, source.get(i), target.get(i));
+        }
+        for (int i = sourceEnd - 1; i >= prefix + common; i--) {
+            patch.add(operation(JsonPatchOperationType.REMOVE, path + "/" + i, null));
+        }
+        for (int i = prefix + common; i < targetEnd; i++) {
+            patch.add(operation(JsonPatchOperationType.ADD, path + "/" + i, target.get(i)));
+        }
+    }
+
+    private static boolean jsonEquals(Object source, Object target) {
+        if (
+            source instanceof Number sourceNumber &&
+            target instanceof Number targetNumber &&
+            Double.isFinite(sourceNumber.doubleValue()) &&
+            Double.isFinite(targetNumber.doubleValue())
+        ) {
+            return new BigDecimal(sourceNumber.toString()).compareTo(new BigDecimal(targetNumber.toString())) == 0;
+        }
+        if (source instanceof Map<?, ?> sourceMap && target instanceof Map<?, ?> targetMap) {
+            if (sourceMap.size() != targetMap.size()) {
+                return false;
+            }
+            for (Map.Entry<?, ?> entry : sourceMap.entrySet()) {
+                if (!targetMap.containsKey(entry.getKey()) || !jsonEquals(entry.getValue(), targetMap.get(entry.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (source instanceof List<?> sourceList && target instanceof List<?> targetList) {
+            if (sourceList.size() != targetList.size()) {
+                return false;
+            }
+            Iterator<?> targetIterator = targetList.iterator();
+            for (Object element : sourceList) {
+                if (!jsonEquals(element, targetIterator.next())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        return Objects.equals(source, target);
+    }
+
+    private static JsonPatchOperation operation(JsonPatchOperationType op, String path, Object value) {
+        return new JsonPatchOperation().setOp(op).setPath(path).setValue(value);
+    }
+
+    private static String escape(String referenceToken) {
+        return referenceToken.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static long jsonSize(JsonWriteCallback callback) {
+        CountingOutputStream outputStream = new CountingOutputStream();
+        try (JsonWriter writer = JsonProviders.createWriter(outputStream)) {
+            callback.write(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return outputStream.count;
+    }
+
+    @FunctionalInterface
+    private interface JsonWriteCallback {
+        void write(JsonWriter writer) throws IOException;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            this.count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            this.count += len;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.util;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonToken;
+import com.kuflow.rest.model.JsonValue;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public abstract class JsonPointerUtils {
+
+    /**
+     * Get a single element of a {@link JsonValue} addressed by a JSON Pointer (RFC 6901), for example
+     * {@code /address/street} or {@code /lines/0}. A value that has not been parsed yet is kept unparsed.
+     * @param jsonValue the json value (may be {@code null})
+     * @param jsonPointer the JSON pointer, relative to the value property
+     * @return the element (a map, list, string, number or boolean), or {@code null} if it does not exist
+     */
+    public static Object getValueAt(JsonValue jsonValue, String jsonPointer) {
+        if (jsonValue == null) {
+            return getValueAt((Map<String, Object>) null, jsonPointer);
+        }
+
+        return jsonValue.getValueAt(jsonPointer);
+    }
+
+    /**
+     * Get a single element of a document addressed by a JSON Pointer (RFC 6901).
+     * @param document the document (may be {@code null})
+     * @param jsonPointer the JSON pointer
+     * @return the element (a map, list, string, number or boolean), or {@code null} if it does not exist
+     */
+    public static Object getValueAt(Map<String, Object> document, String jsonPointer) {
+        List<String> referenceTokens = parseJsonPointer(jsonPointer);
+
+        Object element = document;
+        for (String referenceToken : referenceTokens) {
+            if (element instanceof Map<?, ?> map) {
+                element = map.get(referenceToken);
+            } else if (element instanceof List<?> list) {
+                int index = parseArrayIndex(referenceToken);
+                element = index >= 0 && index < list.size() ? list.get(index) : null;
+            } else {
+                return null;
+            }
+        }
+
+        return element;
+    }
+
+    /**
+     * Read a single element of a raw JSON document addressed by a JSON Pointer (RFC 6901). Only the addressed element
+     * is parsed, the siblings found on the way are skipped, so it is cheaper than parsing the whole document when only
+     * a few fields are needed, ie: from a webhook payload or a downloaded json.
+     * @param json the raw JSON document, it is not modified
+     * @param jsonPointer the JSON pointer
+     * @return the element (a map, list, string, number or boolean), or {@code null} if it does not exist
+     */
+    public static Object readValueAt(byte[] json, String jsonPointer) {
+        List<String> referenceTokens = parseJsonPointer(jsonPointer);
+
+        try (JsonReader reader = JsonProviders.createReader(json)) {
+            return readValueAt(reader, referenceTokens);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Read a single element of a raw JSON document addressed by a JSON Pointer (RFC 6901), see
+     * {@link #readValueAt(byte[], String)}.
+     * @param json the raw JSON document
+     * @param jsonPointer the JSON pointer
+     * @return the element (a map, list, string, number or boolean), or {@code null} if it does not exist
+     */
+    public static Object readValueAt(String json, String jsonPointer) {
+        List<String> referenceTokens = parseJsonPointer(jsonPointer);
+
+        try (JsonReader reader = JsonProviders.createReader(json)) {
+            return readValueAt(reader, referenceTokens);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Object readValueAt(JsonReader reader, List<String> referenceTokens) throws IOException {
+        reader.nextToken();
+        for (String referenceToken : referenceTokens) {
+            if (!seek(reader, referenceToken)) {
+                return null;
+            }
+        }
+
+        return reader.readUntyped();
+    }
+
+    private static boolean seek(JsonReader reader, String referenceToken) throws IOException {
+        if (reader.currentToken() == JsonToken.START_OBJECT) {
+            while (reader.nextToken() != JsonToken.END_OBJECT) {
+                String fieldName = reader.getFieldName();
+                reader.nextToken();
+                if (referenceToken.equals(fieldName)) {
+                    return true;
+                }
+                reader.skipChildren();
+            }
+        } else if (reader.currentToken() == JsonToken.START_ARRAY) {
+            int index = parseArrayIndex(referenceToken);
+            for (int i = 0; reader.nextToken() != JsonToken.END_ARRAY; i++) {
+                if (i == index) {
+                    return true;
+                }
+                reader.skipChildren();
+            }
+        }
+
+        return false;
+    }
+
+    private static List<String> parseJsonPointer(String jsonPointer) {
+        if (jsonPointer == null || (!jsonPointer.isEmpty() && !jsonPointer.startsWith("/"))) {
+            throw new IllegalArgumentException("'jsonPointer' must be empty or start with '/'");
+        }
+
+        List<String> referenceTokens = new ArrayList<>();
+        if (jsonPointer.isEmpty()) {
+            return referenceTokens;
+        }
+
+        for (String referenceToken : jsonPointer.substring(1).split("/", -1)) {
+            referenceTokens.add(referenceToken.replace("~1", "/").replace("~0", "~"));
+        }
+
+        return referenceTokens;
+    }
+
+    private static int parseArrayIndex(String referenceToken) {
+        if (referenceToken.isEmpty() || referenceToken.length() > 9 || (referenceToken.length() > 1 && referenceToken.charAt(0) == '0')) {
+            return -1;
+        }
+        for (int i = 0; i < referenceToken.length(); i++) {
+            if (!Character.isDigit(referenceToken.charAt(i))) {
+                return -1;
+            }
+        }
+
+        return Integer.parseInt(referenceToken);
+    }
+}
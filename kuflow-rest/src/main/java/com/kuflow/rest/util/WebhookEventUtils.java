@@ -0,0 +1,130 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.util;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.kuflow.rest.KuFlowRestClientException;
+import com.kuflow.rest.model.WebhookEvent;
+import com.kuflow.rest.model.WebhookEventProcessCreated;
+import com.kuflow.rest.model.WebhookEventProcessItemCreated;
+import com.kuflow.rest.model.WebhookEventProcessItemTaskStateChanged;
+import com.kuflow.rest.model.WebhookEventProcessStateChanged;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.UUID;
+
+public abstract class WebhookEventUtils {
+
+    /**
+     * Parse a webhook event from its JSON payload.
+     * @param payload the payload of the webhook
+     * @return the event, or {@code null} if the payload is the JSON null
+     * @throws KuFlowRestClientException if the payload is not a valid event
+     */
+    public static WebhookEvent parseWebhookEvent(String payload) {
+        Objects.requireNonNull(payload, "'payload' is required");
+        try (JsonReader jsonReader = JsonProviders.createReader(payload)) {
+            return WebhookEvent.fromJson(jsonReader);
+        } catch (IOException | RuntimeException e) {
+            throw new KuFlowRestClientException("Error, parsing webhook event", e);
+        }
+    }
+
+    /**
+     * Parse a webhook event from its UTF-8 encoded JSON payload, without decoding it into a String first.
+     * @param payload the payload of the webhook
+     * @return the event, or {@code null} if the payload is the JSON null
+     * @throws KuFlowRestClientException if the payload is not a valid event
+     */
+    public static WebhookEvent parseWebhookEvent(byte[] payload) {
+        Objects.requireNonNull(payload, "'payload' is required");
+        try (JsonReader jsonReader = JsonProviders.createReader(payload)) {
+            return WebhookEvent.fromJson(jsonReader);
+        } catch (IOException | RuntimeException e) {
+            throw new KuFlowRestClientException("Error, parsing webhook event", e);
+        }
+    }
+
+    /**
+     * Parse a webhook event from the remaining bytes of a buffer with the UTF-8 encoded JSON payload.
+     * <p>Heap buffers are read in place. The position of the buffer is not modified.
+     * @param payload the payload of the webhook
+     * @return the event, or {@code null} if the payload is the JSON null
+     * @throws KuFlowRestClientException if the payload is not a valid event
+     */
+    public static WebhookEvent parseWebhookEvent(ByteBuffer payload) {
+        Objects.requireNonNull(payload, "'payload' is required");
+        if (payload.hasArray()) {
+            int offset = payload.arrayOffset() + payload.position();
+
+            return parseWebhookEvent(new ByteArrayInputStream(payload.array(), offset, payload.remaining()));
+        }
+
+        byte[] bytes = new byte[payload.remaining()];
+        payload.duplicate().get(bytes);
+
+        return parseWebhookEvent(bytes);
+    }
+
+    /**
+     * Parse a webhook event from a stream with the UTF-8 encoded JSON payload.
+     * <p>Leaves the stream open when done.
+     * @param payload the payload of the webhook
+     * @return the event, or {@code null} if the payload is the JSON null
+     * @throws KuFlowRestClientException if the payload is not a valid event
+     */
+    public static WebhookEvent parseWebhookEvent(InputStream payload) {
+        Objects.requireNonNull(payload, "'payload' is required");
+        try {
+            JsonReader jsonReader = JsonProviders.createReader(payload);
+
+            return WebhookEvent.fromJson(jsonReader);
+        } catch (IOException | RuntimeException e) {
+            throw new KuFlowRestClientException("Error, parsing webhook event", e);
+        }
+    }
+
+    /**
+     * Get the process an event refers to.
+     * @param event the webhook event
+     * @return the process ID, or {@code null} if the event type is unknown
+     */
+    public static UUID getProcessId(WebhookEvent event) {
+        if (event instanceof WebhookEventProcessCreated created && created.getData() != null) {
+            return created.getData().getProcessId();
+        } else if (event instanceof WebhookEventProcessStateChanged stateChanged && stateChanged.getData() != null) {
+            return stateChanged.getData().getProcessId();
+        } else if (event instanceof WebhookEventProcessItemCreated itemCreated && itemCreated.getData() != null) {
+            return itemCreated.getData().getProcessId();
+        } else if (event instanceof WebhookEventProcessItemTaskStateChanged taskStateChanged && taskStateChanged.getData() != null) {
+            return taskStateChanged.getData().getProcessId();
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.kuflow.rest.model.WebhookEvent;
+import com.kuflow.rest.model.WebhookEventDispatcherOptions;
+import com.kuflow.rest.model.WebhookEventProcessItemTaskStateChanged;
+import com.kuflow.rest.model.WebhookType;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class WebhookEventDispatcherTest {
+
+    @Test
+    @DisplayName("GIVEN a webhook payload WHEN parse it from bytes, buffers or streams THEN the typed event is returned")
+    public void givenAWebhookPayloadWhenParseItFromBytesBuffersOrStreamsThenTheTypedEventIsReturned() {
+        UUID eventId = UUID.randomUUID();
+        byte[] payload = taskStateChanged(eventId, UUID.randomUUID(), 0);
+
+        ByteBuffer buffer = ByteBuffer.allocate(payload.length + 2);
+        buffer.put((byte) ' ').put(payload).flip().position(1);
+
+        KuFlowRestClient kuFlowRestClient = new KuFlowRestClientBuilder().clientId("CLIENT_ID").clientSecret("CLIENT_SECRET").buildClient();
+        List<WebhookEvent> events = List.of(
+            kuFlowRestClient.parseWebhookEvent(payload),
+            kuFlowRestClient.parseWebhookEvent(buffer),
+            kuFlowRestClient.parseWebhookEvent(ByteBuffer.allocateDirect(payload.length).put(payload).flip()),
+            kuFlowRestClient.parseWebhookEvent(new ByteArrayInputStream(payload))
+        );
+
+        assertThat(events).allSatisfy(event -> {
+            assertThat(event).isInstanceOf(WebhookEventProcessItemTaskStateChanged.class);
+            assertThat(event.getId()).isEqualTo(eventId);
+            assertThat(event.getType()).isEqualTo(WebhookType.PROCESS_ITEM_TASK_STATE_CHANGED);
+        });
+        assertThat(buffer.position()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GIVEN events of a process delivered twice WHEN dispatch them THEN each one is handled once and in order")
+    public void givenEventsOfAProcessDeliveredTwiceWhenDispatchThemThenEachOneIsHandledOnceAndInOrder() {
+        UUID processId = UUID.randomUUID();
+        List<Integer> handled = Collections.synchronizedList(new ArrayList<>());
+
+        WebhookEventDispatcherOptions options = new WebhookEventDispatcherOptions().setParallelism(4);
+        try (WebhookEventDispatcher dispatcher = new WebhookEventDispatcher(options)) {
+            dispatcher.onProcessItemTaskStateChanged(event -> handled.add(Integer.valueOf(event.getVersion())));
+
+            List<UUID> eventIds = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                eventIds.add(UUID.randomUUID());
+                assertThat(dispatcher.dispatch(taskStateChanged(eventIds.get(i), processId, i))).isTrue();
+            }
+            for (int i = 0; i < 500; i++) {
+                assertThat(dispatcher.dispatch(taskStateChanged(eventIds.get(i), processId, i))).isTrue();
+            }
+        }
+
+        assertThat(handled).hasSize(500).isSorted();
+    }
+
+    @Test
+    @DisplayName("GIVEN a full dispatcher WHEN dispatch an event THEN it is rejected and accepted when delivered again")
+    public void givenAFullDispatcherWhenDispatchAnEventThenItIsRejectedAndAcceptedWhenDeliveredAgain() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        List<UUID> handled = Collections.synchronizedList(new ArrayList<>());
+
+        WebhookEventDispatcherOptions options = new WebhookEventDispatcherOptions().setCapacity(1);
+        try (WebhookEventDispatcher dispatcher = new WebhookEventDispatcher(options)) {
+            dispatcher.onProcessItemTaskStateChanged(event -> {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                handled.add(event.getId());
+            });
+
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            assertThat(dispatcher.dispatch(taskStateChanged(first, UUID.randomUUID(), 0))).isTrue();
+            assertThat(dispatcher.dispatch(taskStateChanged(second, UUID.randomUUID(), 0))).isFalse();
+            assertThat(dispatcher.getPending()).isEqualTo(1);
+
+            release.countDown();
+            while (dispatcher.getPending() > 0) {
+                Thread.sleep(10);
+            }
+            assertThat(dispatcher.dispatch(taskStateChanged(second, UUID.randomUUID(), 0))).isTrue();
+        }
+
+        assertThat(handled).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("GIVEN a dispatcher closed while dispatching WHEN the event is rejected THEN its delivery can be retried")
+    public void givenADispatcherClosedWhileDispatchingWhenTheEventIsRejectedThenItsDeliveryCanBeRetried() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        // Simulates a close() racing with the dispatch, after the closed check
+        executor.shutdown();
+
+        List<UUID> handled = Collections.synchronizedList(new ArrayList<>());
+        WebhookEventDispatcher dispatcher = new WebhookEventDispatcher(new WebhookEventDispatcherOptions(), executor);
+        dispatcher.onProcessItemTaskStateChanged(event -> handled.add(event.getId()));
+
+        byte[] payload = taskStateChanged(UUID.randomUUID(), UUID.randomUUID(), 0);
+        assertThatThrownBy(() -> dispatcher.dispatch(payload)).isInstanceOf(IllegalStateException.class);
+        assertThat(dispatcher.getPending()).isZero();
+
+        // The event is not recorded as received, so the retry is not ignored as a duplicate
+        assertThatThrownBy(() -> dispatcher.dispatch(payload)).isInstanceOf(IllegalStateException.class);
+        assertThat(dispatcher.getPending()).isZero();
+        assertThat(handled).isEmpty();
+    }
+
+    private static byte[] taskStateChanged(UUID eventId, UUID processId, int version) {
+        String json =
+            "{\"id\":\"" +
+            eventId +
+            "\",\"version\":\"" +
+            version +
+            "\",\"timestamp\":\"2024-06-14T10:00:00Z\",\"type\":\"PROCESS_ITEM.TASK_STATE_CHANGED\",\"data\":{\"processId\":\"" +
+            processId +
+            "\",\"processItemId\":\"" +
+            UUID.randomUUID() +
+            "\",\"processItemType\":\"TASK\",\"processItemState\":\"COMPLETED\",\"processItemDefinitionCode\":\"TASK_0001\"}}";
+
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DocumentTest {
+
+    @Test
+    @DisplayName("GIVEN a file WHEN create a document from its path THEN the name, type and length are set")
+    public void givenAFileWhenCreateADocumentFromItsPathThenTheNameTypeAndLengthAreSet(@TempDir Path tempDir) throws IOException {
+        Path file = Files.writeString(tempDir.resolve("report.txt"), "Hello World");
+
+        Document document = Document.fromPath(file, "text/plain");
+
+        assertThat(document.getFileName()).isEqualTo("report.txt");
+        assertThat(document.getContentType()).isEqualTo("text/plain");
+        assertThat(document.getFileContent().getLength()).isEqualTo(11L);
+        assertThat(document.getFileContent().toString()).isEqualTo("Hello World");
+    }
+
+    @Test
+    @DisplayName("GIVEN a positioned channel WHEN create a document from it THEN the remaining content can be read many times")
+    public void givenAPositionedChannelWhenCreateADocumentFromItThenTheRemainingContentCanBeReadManyTimes(@TempDir Path tempDir)
+        throws IOException {
+        Path file = Files.writeString(tempDir.resolve("report.txt"), "Hello World");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            channel.position(6);
+
+            Document document = Document.fromChannel(channel, "report.txt", "text/plain");
+
+            assertThat(document.getFileContent().getLength()).isEqualTo(5L);
+            assertThat(new String(document.getFileContent().toBytes(), StandardCharsets.UTF_8)).isEqualTo("World");
+            assertThat(new String(document.getFileContent().toBytes(), StandardCharsets.UTF_8)).isEqualTo("World");
+            assertThat(channel.position()).isEqualTo(6);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class JsonValueMapperTest {
+
+    private static final String PROCESS_JSON =
+        "{\"id\":\"019f3bd5-23f3-7b27-8971-1493dbc4d361\",\"entity\":" +
+        "{\"valid\":true,\"value\":{\"name\":\"Homer\",\"birthDate\":\"1956-05-12\",\"tags\":[\"a\",\"b\"],\"unknown\":{\"x\":1}}}}";
+
+    @Test
+    @DisplayName("GIVEN a json value read from json WHEN is bound to a type THEN the map is never built")
+    public void givenAJsonValueReadFromJsonWhenIsBoundToATypeThenTheMapIsNeverBuilt() throws Exception {
+        JsonValue entity = this.readProcess(PROCESS_JSON).getEntity();
+
+        Person person = JsonValueMapper.getValueAs(entity, Person.class);
+
+        assertThat(person).isEqualTo(new Person("Homer", LocalDate.of(1956, 5, 12), List.of("a", "b")));
+        assertThat(entity.getRawValue()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("GIVEN a parsed json value WHEN is bound to a type THEN the map is converted")
+    public void givenAParsedJsonValueWhenIsBoundToATypeThenTheMapIsConverted() throws Exception {
+        JsonValue entity = this.readProcess(PROCESS_JSON).getEntity();
+        entity.getValue().put("name", "Marge");
+
+        Person person = JsonValueMapper.getValueAs(entity, Person.class);
+
+        assertThat(person).isEqualTo(new Person("Marge", LocalDate.of(1956, 5, 12), List.of("a", "b")));
+    }
+
+    @Test
+    @DisplayName("GIVEN json values without value WHEN are bound to a type THEN null is returned")
+    public void givenJsonValuesWithoutValueWhenAreBoundToATypeThenNullIsReturned() throws Exception {
+        assertThat(JsonValueMapper.getValueAs(null, Person.class)).isNull();
+        assertThat(JsonValueMapper.getValueAs(new JsonValue(), Person.class)).isNull();
+        assertThat(JsonValueMapper.getValueAs(this.readProcess("{\"entity\":{\"value\":null}}").getEntity(), Person.class)).isNull();
+    }
+
+    @Test
+    @DisplayName("GIVEN a json value that does not match the type WHEN is bound THEN an exception is thrown")
+    public void givenAJsonValueThatDoesNotMatchTheTypeWhenIsBoundThenAnExceptionIsThrown() throws Exception {
+        JsonValue entity = this.readProcess("{\"entity\":{\"value\":{\"birthDate\":\"not-a-date\"}}}").getEntity();
+
+        assertThatThrownBy(() -> JsonValueMapper.getValueAs(entity, Person.class)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Process readProcess(String json) throws Exception {
+        try (JsonReader reader = JsonProviders.createReader(json)) {
+            return Process.fromJson(reader);
+        }
+    }
+
+    private record Person(String name, LocalDate birthDate, List<String> tags) {}
+}
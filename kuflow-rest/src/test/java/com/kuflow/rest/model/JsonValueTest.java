@@ -0,0 +1,106 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonWriter;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class JsonValueTest {
+
+    private static final String PROCESS_ITEM_JSON =
+        "{\"id\":\"019f3bd5-23f3-7b27-8971-1493dbc4d361\",\"type\":\"TASK\",\"task\":{\"state\":\"READY\",\"data\":" +
+        "{\"valid\":true,\"value\":{\"text\":\"\\\"quoted\\\" ñ\",\"number\":42,\"list\":[\"a\",\"b\"],\"nested\":{\"key\":\"value\"}}}}}";
+
+    @Test
+    @DisplayName("GIVEN a model read from json WHEN the json value is not requested THEN the value is not parsed")
+    public void givenAModelReadFromJsonWhenTheJsonValueIsNotRequestedThenTheValueIsNotParsed() throws Exception {
+        JsonValue data = this.readProcessItem(PROCESS_ITEM_JSON).getTask().getData();
+
+        assertThat(data.isValid()).isTrue();
+        assertThat(data.getRawValue()).isNotNull();
+
+        // Single elements are read without parsing the value
+        assertThat(data.getValueAt("/list/1")).isEqualTo("b");
+        assertThat(data.getValueAt("/nested")).isEqualTo(Map.of("key", "value"));
+        assertThat(data.getValueAt("/missing")).isNull();
+        assertThat(data.getRawValue()).isNotNull();
+
+        // Parsed on first access
+        assertThat(data.getValue())
+            .containsEntry("text", "\"quoted\" ñ")
+            .containsEntry("number", 42)
+            .containsEntry("list", List.of("a", "b"));
+        assertThat(data.getRawValue()).isNull();
+        assertThat(data.getValueAt("/list/0")).isEqualTo("a");
+    }
+
+    @Test
+    @DisplayName("GIVEN a model read from json WHEN is written without requesting the json value THEN the value is the same")
+    public void givenAModelReadFromJsonWhenIsWrittenWithoutRequestingTheJsonValueThenTheValueIsTheSame() throws Exception {
+        ProcessItem processItem = this.readProcessItem(PROCESS_ITEM_JSON);
+
+        ProcessItem written = this.readProcessItem(this.writeProcessItem(processItem));
+
+        assertThat(processItem.getTask().getData().getRawValue()).isNotNull();
+        Map<String, Object> expected = this.readProcessItem(PROCESS_ITEM_JSON).getTask().getData().getValue();
+        assertThat(written.getTask().getData().getValue()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("GIVEN a json value read from json WHEN the value is set THEN the raw value is discarded")
+    public void givenAJsonValueReadFromJsonWhenTheValueIsSetThenTheRawValueIsDiscarded() throws Exception {
+        ProcessItem processItem = this.readProcessItem(PROCESS_ITEM_JSON);
+        JsonValue data = processItem.getTask().getData();
+
+        data.setValue(Map.of("other", true));
+
+        assertThat(data.getRawValue()).isNull();
+        assertThat(data.getValueAt("/other")).isEqualTo(true);
+        ProcessItem written = this.readProcessItem(this.writeProcessItem(processItem));
+        assertThat(written.getTask().getData().getValue()).isEqualTo(Map.of("other", true));
+    }
+
+    private ProcessItem readProcessItem(String json) throws Exception {
+        try (JsonReader reader = JsonProviders.createReader(json)) {
+            return ProcessItem.fromJson(reader);
+        }
+    }
+
+    private String writeProcessItem(ProcessItem processItem) throws Exception {
+        StringWriter json = new StringWriter();
+        try (JsonWriter writer = JsonProviders.createWriter(json)) {
+            processItem.toJson(writer);
+        }
+
+        return json.toString();
+    }
+}
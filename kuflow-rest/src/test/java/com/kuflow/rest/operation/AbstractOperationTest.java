@@ -31,6 +31,7 @@ import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.common.Slf4jNotifier;
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
 import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.kuflow.rest.KuFlowRestAsyncClient;
 import com.kuflow.rest.KuFlowRestClient;
 import com.kuflow.rest.KuFlowRestClientBuilder;
 import org.junit.jupiter.api.BeforeAll;
@@ -58,14 +59,17 @@ public abstract class AbstractOperationTest {
 
     protected KuFlowRestClient kuFlowRestClient;
 
+    protected KuFlowRestAsyncClient kuFlowRestAsyncClient;
+
     @BeforeEach
     public void setupTest() {
         WireMock.resetToDefault();
 
-        this.kuFlowRestClient = this.getKuFlowClient();
+        this.kuFlowRestClient = this.getKuFlowClientBuilder().buildClient();
+        this.kuFlowRestAsyncClient = this.getKuFlowClientBuilder().buildAsyncClient();
     }
 
-    private KuFlowRestClient getKuFlowClient() {
+    protected KuFlowRestClientBuilder getKuFlowClientBuilder() {
         WireMockRuntimeInfo wmRuntimeInfo = WIRE_MOCK_EXTENSION.getRuntimeInfo();
         String endpoint = String.format("http://localhost:%d/", wmRuntimeInfo.getHttpPort());
 
@@ -77,7 +81,6 @@ public abstract class AbstractOperationTest {
             .clientSecret("CLIENT_SECRET")
             .endpoint(endpoint)
             .allowInsecureConnection(true)
-            .httpLogOptions(logOptions)
-            .buildClient();
+            .httpLogOptions(logOptions);
     }
 }
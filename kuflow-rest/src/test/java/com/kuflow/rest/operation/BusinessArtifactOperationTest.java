@@ -39,10 +39,14 @@ import com.kuflow.rest.model.BusinessArtifactPage;
 import com.kuflow.rest.model.Document;
 import com.kuflow.rest.model.DocumentReference;
 import com.kuflow.rest.util.SearchCriteriaUtils;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class BusinessArtifactOperationTest extends AbstractOperationTest {
 
@@ -205,6 +209,29 @@ public class BusinessArtifactOperationTest extends AbstractOperationTest {
         assertThat(documentReference.getDocumentUri()).isEqualTo("kuflow-file:uri=aaa-bbb-ccc;type=text/plain;size=12;name=test.txt;");
     }
 
+    @Test
+    @DisplayName("GIVEN a document from a file WHEN upload document THEN the file content is streamed")
+    public void givenADocumentFromAFileWhenUploadDocumentThenTheFileContentIsStreamed(@TempDir Path tempDir) throws IOException {
+        UUID businessArtifactId = UUID.fromString("80d8c9a1-e3d2-4c35-a0a9-77ec21d28950");
+        Path file = Files.writeString(tempDir.resolve("test.txt"), "test content");
+
+        givenThat(
+            post(urlPathEqualTo("/v2024-06-14/business-artifacts/" + businessArtifactId + "/~actions/upload-document"))
+                .withQueryParam("fileContentType", equalTo("text/plain"))
+                .withQueryParam("fileName", equalTo("test.txt"))
+                .withRequestBody(equalTo("test content"))
+                .willReturn(
+                    ok().withHeader("Content-Type", "application/json").withBodyFile("business-artifacts-api.upload-document.ok.json")
+                )
+        );
+
+        DocumentReference documentReference = this.kuFlowRestClient
+            .getBusinessArtifactOperations()
+            .uploadBusinessArtifactDocument(businessArtifactId, Document.fromPath(file, "text/plain"));
+
+        assertThat(documentReference.getDocumentUri()).isEqualTo("kuflow-file:uri=aaa-bbb-ccc;type=text/plain;size=12;name=test.txt;");
+    }
+
     @Test
     @DisplayName("GIVEN a null document WHEN upload document THEN a NullPointerException is thrown")
     public void givenANullDocumentWhenUploadDocumentThenANullPointerExceptionIsThrown() {
@@ -0,0 +1,278 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.operation;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.findAll;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.givenThat;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.client.WireMock.patch;
+import static com.github.tomakehurst.wiremock.client.WireMock.patchRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import com.azure.core.http.rest.PagedFlux;
+import com.azure.core.http.rest.PagedResponse;
+import com.azure.core.util.BinaryData;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import com.kuflow.rest.model.Document;
+import com.kuflow.rest.model.JsonPatchOperation;
+import com.kuflow.rest.model.JsonPatchOperationType;
+import com.kuflow.rest.model.Process;
+import com.kuflow.rest.model.ProcessFindOptions;
+import com.kuflow.rest.model.ProcessPage;
+import com.kuflow.rest.model.ProcessPageItem;
+import com.kuflow.rest.model.ProcessPatchCombinerOptions;
+import com.kuflow.rest.model.ProcessState;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Mono;
+
+public class ProcessAsyncOperationTest extends AbstractOperationTest {
+
+    @Test
+    @DisplayName("GIVEN an authenticated user WHEN list processes asynchronously THEN body is parsed correctly")
+    public void givenAnAuthenticatedUserWhenListProcessesAsynchronouslyThenBodyIsParsedCorrectly() {
+        UUID tenantId = UUID.randomUUID();
+
+        givenThat(
+            get(urlPathEqualTo("/v2024-06-14/processes"))
+                .withQueryParam("size", equalTo("30"))
+                .withQueryParam("tenantId", equalTo(tenantId.toString()))
+                .willReturn(ok().withHeader("Content-Type", "application/json").withBodyFile("processes-api.list.ok.json"))
+        );
+
+        ProcessFindOptions options = new ProcessFindOptions().setSize(30).setTenantId(tenantId);
+
+        ProcessPage processes = this.kuFlowRestAsyncClient.getProcessAsyncOperations().findProcesses(options).block();
+
+        assertThat(processes).isNotNull();
+        assertThat(processes.getMetadata().getTotalElements()).isEqualTo(2);
+        assertThat(processes.getContent()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("GIVEN an authenticated user WHEN retrieve processes asynchronously THEN body is parsed correctly")
+    public void givenAnAuthenticatedUserWhenRetrieveProcessesAsynchronouslyThenBodyIsParsedCorrectly() {
+        UUID processId = UUID.fromString("80d8c9a1-e3d2-4c35-a0a9-77ec21d28950");
+
+        givenThat(
+            get("/v2024-06-14/processes/" + processId).willReturn(
+                ok().withHeader("Content-Type", "application/json").withBodyFile("processes-api.retrieve.ok.json")
+            )
+        );
+
+        Mono<Process> process = this.kuFlowRestAsyncClient.getProcessAsyncOperations().retrieveProcess(processId);
+
+        assertThat(process.block()).extracting(Process::getState).isEqualTo(ProcessState.RUNNING);
+    }
+
+    @Test
+    @DisplayName("GIVEN an empty document WHEN upload a process document asynchronously THEN the error is signaled on subscription")
+    public void givenAnEmptyDocumentWhenUploadAProcessDocumentAsynchronouslyThenTheErrorIsSignaledOnSubscription() {
+        UUID processId = UUID.randomUUID();
+
+        Document document = new Document()
+            .setFileContent(BinaryData.fromBytes(new byte[0]))
+            .setFileName("test.txt")
+            .setContentType("text/plain");
+
+        Mono<?> upload = this.kuFlowRestAsyncClient.getProcessAsyncOperations().uploadProcessDocument(processId, document);
+
+        assertThatThrownBy(upload::block).isInstanceOf(IllegalArgumentException.class).hasMessage("File size must be greater that 0");
+        verify(0, postRequestedFor(urlPathMatching(".*")));
+    }
+
+    @Test
+    @DisplayName("GIVEN an authenticated user WHEN stream processes and stop after the first item THEN only the next page is prefetched")
+    public void givenAnAuthenticatedUserWhenStreamProcessesAndStopAfterTheFirstItemThenOnlyTheNextPageIsPrefetched() {
+        List<UUID> processIds = List.of(UUID.fromString("80d8c9a1-e3d2-4c35-a0a9-77ec21d28950"), UUID.randomUUID(), UUID.randomUUID());
+        for (int page = 0; page < processIds.size(); page++) {
+            givenThat(
+                get(urlPathEqualTo("/v2024-06-14/processes"))
+                    .withQueryParam("page", equalTo(String.valueOf(page)))
+                    .willReturn(
+                        ok()
+                            .withHeader("Content-Type", "application/json")
+                            .withBody(processPageBody(page, processIds.size(), processIds.get(page)))
+                    )
+            );
+        }
+
+        PagedFlux<ProcessPageItem> processes = this.kuFlowRestAsyncClient.getProcessAsyncOperations().streamProcesses();
+
+        ProcessPageItem first = processes.blockFirst();
+
+        assertThat(first).isNotNull();
+        assertThat(first.getId()).isEqualTo(processIds.get(0));
+        await().atMost(Duration.ofSeconds(5)).until(() -> findAll(getRequestedFor(urlPathEqualTo("/v2024-06-14/processes"))).size() == 2);
+        verify(1, getRequestedFor(urlPathEqualTo("/v2024-06-14/processes")).withQueryParam("page", equalTo("1")));
+        verify(0, getRequestedFor(urlPathEqualTo("/v2024-06-14/processes")).withQueryParam("page", equalTo("2")));
+    }
+
+    @Test
+    @DisplayName("GIVEN several pages WHEN stream processes THEN the next page is requested before the current one is consumed")
+    public void givenSeveralPagesWhenStreamProcessesThenTheNextPageIsRequestedBeforeTheCurrentOneIsConsumed() {
+        List<UUID> processIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        for (int page = 0; page < processIds.size(); page++) {
+            givenThat(
+                get(urlPathEqualTo("/v2024-06-14/processes"))
+                    .withQueryParam("page", equalTo(String.valueOf(page)))
+                    .willReturn(
+                        ok()
+                            .withHeader("Content-Type", "application/json")
+                            .withBody(processPageBody(page, processIds.size(), processIds.get(page)))
+                    )
+            );
+        }
+
+        List<PagedResponse<ProcessPageItem>> pages = new CopyOnWriteArrayList<>();
+        BaseSubscriber<PagedResponse<ProcessPageItem>> subscriber = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                this.request(1);
+            }
+
+            @Override
+            protected void hookOnNext(PagedResponse<ProcessPageItem> page) {
+                pages.add(page);
+            }
+        };
+        PagedFlux<ProcessPageItem> processes = this.kuFlowRestAsyncClient.getProcessAsyncOperations()
+            .streamProcesses(new ProcessFindOptions().setSize(1));
+        processes.byPage().subscribe(subscriber);
+
+        // The first page has been emitted but not consumed, there is no demand for more pages
+        await().atMost(Duration.ofSeconds(5)).until(() -> findAll(getRequestedFor(urlPathEqualTo("/v2024-06-14/processes"))).size() == 2);
+        assertThat(pages).hasSize(1);
+        verify(1, getRequestedFor(urlPathEqualTo("/v2024-06-14/processes")).withQueryParam("page", equalTo("1")));
+        verify(0, getRequestedFor(urlPathEqualTo("/v2024-06-14/processes")).withQueryParam("page", equalTo("2")));
+
+        subscriber.request(Long.MAX_VALUE);
+
+        await().atMost(Duration.ofSeconds(5)).until(subscriber::isDisposed);
+        assertThat(pages)
+            .flatExtracting(PagedResponse::getValue)
+            .extracting(ProcessPageItem::getId)
+            .containsExactlyElementsOf(processIds);
+        verify(3, getRequestedFor(urlPathEqualTo("/v2024-06-14/processes")));
+    }
+
+    @Test
+    @DisplayName("GIVEN patches of the same process WHEN combined THEN a single request is sent and every caller gets the process")
+    public void givenPatchesOfTheSameProcessWhenCombinedThenASingleRequestIsSentAndEveryCallerGetsTheProcess() {
+        UUID processId = UUID.fromString("80d8c9a1-e3d2-4c35-a0a9-77ec21d28950");
+
+        givenThat(
+            patch(urlPathEqualTo("/v2024-06-14/processes/" + processId + "/metadata")).willReturn(
+                ok().withHeader("Content-Type", "application/json").withBodyFile("processes-api.retrieve.ok.json")
+            )
+        );
+
+        ProcessPatchCombinerOptions options = new ProcessPatchCombinerOptions().setWindow(Duration.ofMinutes(1));
+        ProcessPatchCombiner combiner = new ProcessPatchCombiner(this.kuFlowRestAsyncClient.getProcessAsyncOperations(), options);
+
+        Mono<Process> first = combiner.patchProcessMetadata(processId, List.of(replace("/key1", "value1")));
+        Mono<Process> second = combiner.patchProcessMetadata(processId, List.of(replace("/key2", "value2"), replace("/key3", "value3")));
+        combiner.close();
+
+        assertThat(first.block().getId()).isEqualTo(processId);
+        assertThat(second.block().getId()).isEqualTo(processId);
+        verify(
+            1,
+            patchRequestedFor(urlPathEqualTo("/v2024-06-14/processes/" + processId + "/metadata")).withRequestBody(
+                equalToJson(
+                    "[{\"op\":\"replace\",\"path\":\"/key1\",\"value\":\"value1\"}," +
+                    "{\"op\":\"replace\",\"path\":\"/key2\",\"value\":\"value2\"}," +
+                    "{\"op\":\"replace\",\"path\":\"/key3\",\"value\":\"value3\"}]"
+                )
+            )
+        );
+    }
+
+    @Test
+    @DisplayName("GIVEN a slow patch of a process WHEN a later batch is sent THEN it waits for the previous patch to be applied")
+    public void givenASlowPatchOfAProcessWhenALaterBatchIsSentThenItWaitsForThePreviousPatchToBeApplied() {
+        UUID processId = UUID.fromString("80d8c9a1-e3d2-4c35-a0a9-77ec21d28950");
+        String metadataPath = "/v2024-06-14/processes/" + processId + "/metadata";
+
+        givenThat(
+            patch(urlPathEqualTo(metadataPath))
+                .withRequestBody(containing("/key1"))
+                .willReturn(
+                    ok().withHeader("Content-Type", "application/json").withBodyFile("processes-api.retrieve.ok.json").withFixedDelay(500)
+                )
+        );
+        givenThat(
+            patch(urlPathEqualTo(metadataPath))
+                .withRequestBody(containing("/key2"))
+                .willReturn(ok().withHeader("Content-Type", "application/json").withBodyFile("processes-api.retrieve.ok.json"))
+        );
+
+        ProcessPatchCombinerOptions options = new ProcessPatchCombinerOptions().setMaxOperations(1);
+        ProcessPatchCombiner combiner = new ProcessPatchCombiner(this.kuFlowRestAsyncClient.getProcessAsyncOperations(), options);
+
+        Mono<Process> first = combiner.patchProcessMetadata(processId, List.of(replace("/key1", "value1")));
+        Mono<Process> second = combiner.patchProcessMetadata(processId, List.of(replace("/key2", "value2")));
+
+        assertThat(second.block().getId()).isEqualTo(processId);
+        assertThat(first.block().getId()).isEqualTo(processId);
+
+        List<LoggedRequest> requests = findAll(patchRequestedFor(urlPathEqualTo(metadataPath)));
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(0).getBodyAsString()).contains("/key1");
+        assertThat(requests.get(1).getBodyAsString()).contains("/key2");
+        assertThat(requests.get(1).getLoggedDate().getTime() - requests.get(0).getLoggedDate().getTime()).isGreaterThanOrEqualTo(500);
+    }
+
+    private static JsonPatchOperation replace(String path, Object value) {
+        return new JsonPatchOperation().setOp(JsonPatchOperationType.REPLACE).setPath(path).setValue(value);
+    }
+
+    private static String processPageBody(int page, int totalPages, UUID processId) {
+        return String.format(
+            "{\"metadata\":{\"size\":1,\"page\":%d,\"totalElements\":%d,\"totalPages\":%d}," +
+            "\"content\":[{\"id\":\"%s\",\"state\":\"RUNNING\"}]}",
+            page,
+            totalPages,
+            totalPages,
+            processId
+        );
+    }
+}
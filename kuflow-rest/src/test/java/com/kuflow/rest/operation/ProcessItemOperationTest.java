@@ -24,19 +24,32 @@
 package com.kuflow.rest.operation;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.givenThat;
 import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.client.WireMock.patch;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.put;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.kuflow.rest.model.JsonValue;
 import com.kuflow.rest.model.ProcessItem;
 import com.kuflow.rest.model.ProcessItemFindOptions;
+import com.kuflow.rest.model.ProcessItemTaskAppendLogParams;
 import com.kuflow.rest.model.ProcessItemTaskDataUpdateParams;
+import com.kuflow.rest.model.ProcessItemTaskLogAppenderOptions;
+import com.kuflow.rest.model.ProcessItemTaskLogLevel;
 import com.kuflow.rest.model.ProcessItemTaskState;
 import com.kuflow.rest.model.ProcessItemType;
+import com.kuflow.rest.util.JsonPointerUtils;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -176,4 +189,133 @@ public class ProcessItemOperationTest extends AbstractOperationTest {
             )
         );
     }
+
+    @Test
+    @DisplayName("GIVEN task requested WHEN get json forms data fields by json pointer THEN expected obtain the correct values")
+    public void givenTaskRequestedWhenGetJsonFormsDataFieldsByJsonPointerThenExpectedObtainTheCorrectValues() {
+        UUID processItemId = UUID.fromString("e2d0fdf9-0aae-4eed-9e07-8e4b76df733c");
+
+        givenThat(
+            get("/v2024-06-14/process-items/" + processItemId).willReturn(
+                ok().withHeader("Content-Type", "application/json").withBodyFile("process-items-api-json-forms.retrieve.ok.json")
+            )
+        );
+
+        ProcessItem processItem = this.kuFlowRestClient.getProcessItemOperations().retrieveProcessItem(processItemId);
+
+        JsonValue data = processItem.getTask().getData();
+        assertThat(JsonPointerUtils.getValueAt(data, "/key1")).isEqualTo("value1");
+        assertThat(JsonPointerUtils.getValueAt(data, "/key2/2")).isEqualTo(505);
+        assertThat(JsonPointerUtils.getValueAt(data, "/key3/1/key3_1")).isEqualTo("value3_1");
+        assertThat(JsonPointerUtils.getValueAt(data, "/key4")).isEqualTo(
+            Map.of("key4_child1", "value4_child1", "key4_child2", List.of("key4_child2_0", "key4_child2_1"))
+        );
+        assertThat(JsonPointerUtils.getValueAt(data, "/key2/3")).isNull();
+        assertThat(JsonPointerUtils.getValueAt(data, "/unknown/0")).isNull();
+        assertThatThrownBy(() -> JsonPointerUtils.getValueAt(data, "key1")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(JsonPointerUtils.getValueAt(data, "")).isSameAs(data.getValue());
+    }
+
+    @Test
+    @DisplayName("GIVEN task requested WHEN get json forms data as a type THEN expected obtain the correct values")
+    public void givenTaskRequestedWhenGetJsonFormsDataAsATypeThenExpectedObtainTheCorrectValues() {
+        UUID processItemId = UUID.fromString("e2d0fdf9-0aae-4eed-9e07-8e4b76df733c");
+
+        givenThat(
+            get("/v2024-06-14/process-items/" + processItemId).willReturn(
+                ok().withHeader("Content-Type", "application/json").withBodyFile("process-items-api-json-forms.retrieve.ok.json")
+            )
+        );
+
+        FormData formData = this.kuFlowRestClient.getProcessItemOperations().retrieveProcessItemTaskData(processItemId, FormData.class);
+
+        assertThat(formData.key1()).isEqualTo("value1");
+        assertThat(formData.key4().key4_child2()).containsExactly("key4_child2_0", "key4_child2_1");
+        assertThat(formData.key5()).isEqualTo(LocalDate.of(2022, 5, 5));
+        assertThat(formData.key8()).containsExactly(true, false);
+    }
+
+    @Test
+    @DisplayName("GIVEN task data with a field changed WHEN save it from the previous data THEN only the patch is sent")
+    public void givenTaskDataWithAFieldChangedWhenSaveItFromThePreviousDataThenOnlyThePatchIsSent() {
+        UUID processItemId = UUID.fromString("e2d0fdf9-0aae-4eed-9e07-8e4b76df733c");
+
+        givenThat(
+            get("/v2024-06-14/process-items/" + processItemId).willReturn(
+                ok().withHeader("Content-Type", "application/json").withBodyFile("process-items-api-json-forms.retrieve.ok.json")
+            )
+        );
+        givenThat(
+            patch(urlPathEqualTo("/v2024-06-14/process-items/" + processItemId + "/task/data"))
+                .withRequestBody(equalToJson("[{\"op\":\"replace\",\"path\":\"/key4/key4_child1\",\"value\":\"changed\"}]"))
+                .willReturn(ok().withHeader("Content-Type", "application/json").withBodyFile("process-items-api.retrieve.ok.json"))
+        );
+
+        ProcessItemOperations processItemOperations = this.kuFlowRestClient.getProcessItemOperations();
+        JsonValue previous = processItemOperations.retrieveProcessItem(processItemId).getTask().getData();
+        Map<String, Object> value = new HashMap<>(previous.getValue());
+        value.put("key4", Map.of("key4_child1", "changed", "key4_child2", List.of("key4_child2_0", "key4_child2_1")));
+        JsonValue desired = new JsonValue().setValue(value);
+
+        ProcessItem processItem = processItemOperations.updateProcessItemTaskData(processItemId, previous, desired);
+
+        assertThat(processItem.getId()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("GIVEN task logs of a process item WHEN appended in batch THEN consecutive logs of the same level are merged")
+    public void givenTaskLogsOfAProcessItemWhenAppendedInBatchThenConsecutiveLogsOfTheSameLevelAreMerged() {
+        UUID processItemId = UUID.fromString("e2d0fdf9-0aae-4eed-9e07-8e4b76df733c");
+        String url = "/v2024-06-14/process-items/" + processItemId + "/task/~actions/append-log";
+
+        givenThat(
+            post(urlPathEqualTo(url)).willReturn(
+                ok().withHeader("Content-Type", "application/json").withBodyFile("process-items-api.retrieve.ok.json")
+            )
+        );
+
+        ProcessItemTaskLogAppenderOptions options = new ProcessItemTaskLogAppenderOptions().setFlushInterval(Duration.ofMinutes(1));
+        try (
+            ProcessItemTaskLogAppender appender = new ProcessItemTaskLogAppender(
+                this.kuFlowRestAsyncClient.getProcessItemAsyncOperations(),
+                options
+            )
+        ) {
+            assertThat(appender.offer(processItemId, log(ProcessItemTaskLogLevel.INFO, "first"))).isTrue();
+            assertThat(appender.offer(processItemId, log(ProcessItemTaskLogLevel.INFO, "second"))).isTrue();
+            assertThat(appender.offer(processItemId, log(ProcessItemTaskLogLevel.ERROR, "third"))).isTrue();
+            assertThat(appender.getPending()).isEqualTo(3);
+        }
+
+        verify(2, postRequestedFor(urlPathEqualTo(url)));
+        verify(postRequestedFor(urlPathEqualTo(url)).withRequestBody(equalToJson("{\"level\":\"INFO\",\"message\":\"first\\nsecond\"}")));
+        verify(postRequestedFor(urlPathEqualTo(url)).withRequestBody(equalToJson("{\"level\":\"ERROR\",\"message\":\"third\"}")));
+    }
+
+    @Test
+    @DisplayName("GIVEN a full task log appender WHEN offer a log THEN it is rejected")
+    public void givenAFullTaskLogAppenderWhenOfferALogThenItIsRejected() {
+        UUID processItemId = UUID.randomUUID();
+
+        ProcessItemTaskLogAppenderOptions options = new ProcessItemTaskLogAppenderOptions()
+            .setCapacity(2)
+            .setFlushInterval(Duration.ofMinutes(1));
+        ProcessItemTaskLogAppender appender = new ProcessItemTaskLogAppender(
+            this.kuFlowRestAsyncClient.getProcessItemAsyncOperations(),
+            options
+        );
+
+        assertThat(appender.offer(processItemId, log(ProcessItemTaskLogLevel.INFO, "first"))).isTrue();
+        assertThat(appender.offer(processItemId, log(ProcessItemTaskLogLevel.INFO, "second"))).isTrue();
+        assertThat(appender.offer(processItemId, log(ProcessItemTaskLogLevel.INFO, "third"))).isFalse();
+        assertThat(appender.getPending()).isEqualTo(2);
+    }
+
+    private static ProcessItemTaskAppendLogParams log(ProcessItemTaskLogLevel level, String message) {
+        return new ProcessItemTaskAppendLogParams().setLevel(level).setMessage(message);
+    }
+
+    private record FormData(String key1, FormDataKey4 key4, LocalDate key5, List<Boolean> key8) {}
+
+    private record FormDataKey4(String key4_child1, List<String> key4_child2) {}
 }
@@ -23,17 +23,33 @@
 
 package com.kuflow.rest.operation;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.findAll;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.givenThat;
 import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
 import static com.github.tomakehurst.wiremock.client.WireMock.ok;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.policy.AddHeadersFromContextPolicy;
 import com.azure.core.util.BinaryData;
+import com.azure.core.util.Context;
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import com.kuflow.rest.KuFlowRestClientException;
 import com.kuflow.rest.model.Document;
+import com.kuflow.rest.model.DownloadOptions;
 import com.kuflow.rest.model.Process;
 import com.kuflow.rest.model.ProcessAction;
 import com.kuflow.rest.model.ProcessActionCreateParams;
@@ -44,10 +60,18 @@ import com.kuflow.rest.model.ProcessPage;
 import com.kuflow.rest.model.ProcessPageItem;
 import com.kuflow.rest.model.ProcessState;
 import com.kuflow.rest.util.SearchCriteriaUtils;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class ProcessOperationTest extends AbstractOperationTest {
 
@@ -265,4 +289,344 @@ public class ProcessOperationTest extends AbstractOperationTest {
         assertThat(processAction.getId()).isEqualTo(actionId);
         assertThat(processAction.getStatus()).isEqualTo(ProcessActionStatus.COMPLETED);
     }
+
+    @Test
+    @DisplayName("GIVEN filters too long for a single URL WHEN find processes with a context THEN every split request uses the context")
+    public void givenFiltersTooLongForASingleUrlWhenFindProcessesWithAContextThenEverySplitRequestUsesTheContext() {
+        UUID processId = UUID.fromString("80d8c9a1-e3d2-4c35-a0a9-77ec21d28950");
+        givenThat(
+            get(urlPathEqualTo("/v2024-06-14/processes")).willReturn(
+                ok().withHeader("Content-Type", "application/json").withBody(this.processPageBody(0, 1, processId))
+            )
+        );
+
+        List<UUID> tenantIds = Stream.generate(UUID::randomUUID).limit(300).toList();
+        ProcessFindOptions options = new ProcessFindOptions().setSize(10).setTenantIds(tenantIds);
+        Context context = new Context(
+            AddHeadersFromContextPolicy.AZURE_REQUEST_HTTP_HEADERS_KEY,
+            new HttpHeaders().set(HttpHeaderName.fromString("X-Request-Tag"), "split")
+        );
+
+        ProcessPage processPage = this.kuFlowRestClient.getProcessOperations().findProcessesWithResponse(options, context).getValue();
+
+        assertThat(processPage.getContent()).extracting(ProcessPageItem::getId).containsOnly(processId);
+        int queries = ProcessAsyncOperations.QUERY_SPLITTER.split(options).size();
+        assertThat(queries).isGreaterThan(1);
+        verify(queries, getRequestedFor(urlPathEqualTo("/v2024-06-14/processes")));
+        verify(queries, getRequestedFor(urlPathEqualTo("/v2024-06-14/processes")).withHeader("X-Request-Tag", equalTo("split")));
+    }
+
+    @Test
+    @DisplayName("GIVEN an authenticated user WHEN stream processes THEN all the pages are retrieved")
+    public void givenAnAuthenticatedUserWhenStreamProcessesThenAllThePagesAreRetrieved() {
+        givenThat(
+            get(urlPathEqualTo("/v2024-06-14/processes"))
+                .withQueryParam("size", equalTo("1"))
+                .withQueryParam("page", equalTo("0"))
+                .willReturn(ok().withHeader("Content-Type", "application/json").withBodyFile("processes-api.list.page-0.ok.json"))
+        );
+        givenThat(
+            get(urlPathEqualTo("/v2024-06-14/processes"))
+                .withQueryParam("size", equalTo("1"))
+                .withQueryParam("page", equalTo("1"))
+                .willReturn(ok().withHeader("Content-Type", "application/json").withBodyFile("processes-api.list.page-1.ok.json"))
+        );
+
+        ProcessFindOptions options = new ProcessFindOptions().setSize(1);
+
+        List<UUID> processIds = this.kuFlowRestClient
+            .getProcessOperations()
+            .streamProcesses(options)
+            .stream()
+            .map(ProcessPageItem::getId)
+            .toList();
+
+        assertThat(processIds).containsExactly(
+            UUID.fromString("80d8c9a1-e3d2-4c35-a0a9-77ec21d28950"),
+            UUID.fromString("c98dcbf3-2d64-475f-a6f2-bcc7b5c1a524")
+        );
+    }
+
+    @Test
+    @DisplayName("GIVEN several pages WHEN iterate streamed processes THEN the next page is retrieved while the current one is consumed")
+    public void givenSeveralPagesWhenIterateTheStreamedProcessesThenTheNextPageIsRetrievedWhileTheCurrentOneIsConsumed() {
+        List<UUID> processIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        for (int page = 0; page < processIds.size(); page++) {
+            givenThat(
+                get(urlPathEqualTo("/v2024-06-14/processes"))
+                    .withQueryParam("page", equalTo(String.valueOf(page)))
+                    .willReturn(
+                        ok()
+                            .withHeader("Content-Type", "application/json")
+                            .withBody(this.processPageBody(page, processIds.size(), processIds.get(page)))
+                    )
+            );
+        }
+
+        Iterator<ProcessPageItem> iterator = this.kuFlowRestClient
+            .getProcessOperations()
+            .streamProcesses(new ProcessFindOptions().setSize(1))
+            .iterator();
+
+        assertThat(iterator.next().getId()).isEqualTo(processIds.get(0));
+        await().atMost(Duration.ofSeconds(5)).until(() -> findAll(getRequestedFor(urlPathEqualTo("/v2024-06-14/processes"))).size() == 2);
+        verify(1, getRequestedFor(urlPathEqualTo("/v2024-06-14/processes")).withQueryParam("page", equalTo("1")));
+        verify(0, getRequestedFor(urlPathEqualTo("/v2024-06-14/processes")).withQueryParam("page", equalTo("2")));
+
+        assertThat(iterator.next().getId()).isEqualTo(processIds.get(1));
+        assertThat(iterator.next().getId()).isEqualTo(processIds.get(2));
+        assertThat(iterator.hasNext()).isFalse();
+        verify(3, getRequestedFor(urlPathEqualTo("/v2024-06-14/processes")));
+    }
+
+    @Test
+    @DisplayName("GIVEN an authenticated user WHEN stream processes with page concurrency THEN the items are returned in page order")
+    public void givenAnAuthenticatedUserWhenStreamProcessesWithPageConcurrencyThenTheItemsAreReturnedInPageOrder() {
+        List<UUID> expectedProcessIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        for (int page = 0; page < expectedProcessIds.size(); page++) {
+            givenThat(
+                get(urlPathEqualTo("/v2024-06-14/processes"))
+                    .withQueryParam("page", equalTo(String.valueOf(page)))
+                    .willReturn(
+                        ok()
+                            .withHeader("Content-Type", "application/json")
+                            .withBody(this.processPageBody(page, expectedProcessIds.size(), expectedProcessIds.get(page)))
+                            .withFixedDelay((expectedProcessIds.size() - page) * 50)
+                    )
+            );
+        }
+
+        ProcessFindOptions options = new ProcessFindOptions().setSize(1).setPageConcurrency(4);
+
+        List<UUID> processIds = this.kuFlowRestClient
+            .getProcessOperations()
+            .streamProcesses(options)
+            .stream()
+            .map(ProcessPageItem::getId)
+            .toList();
+
+        assertThat(processIds).containsExactlyElementsOf(expectedProcessIds);
+        verify(3, getRequestedFor(urlPathEqualTo("/v2024-06-14/processes")));
+    }
+
+    @Test
+    @DisplayName("GIVEN an authenticated user WHEN stream processes with page concurrency unordered THEN all the items are returned")
+    public void givenAnAuthenticatedUserWhenStreamProcessesWithPageConcurrencyUnorderedThenAllTheItemsAreReturned() {
+        List<UUID> expectedProcessIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        for (int page = 0; page < expectedProcessIds.size(); page++) {
+            givenThat(
+                get(urlPathEqualTo("/v2024-06-14/processes"))
+                    .withQueryParam("page", equalTo(String.valueOf(page)))
+                    .willReturn(
+                        ok()
+                            .withHeader("Content-Type", "application/json")
+                            .withBody(this.processPageBody(page, expectedProcessIds.size(), expectedProcessIds.get(page)))
+                    )
+            );
+        }
+
+        ProcessFindOptions options = new ProcessFindOptions().setSize(1).setPageConcurrency(2).setPreserveOrder(false);
+
+        List<UUID> processIds = this.kuFlowRestClient
+            .getProcessOperations()
+            .streamProcesses(options)
+            .stream()
+            .map(ProcessPageItem::getId)
+            .toList();
+
+        assertThat(processIds).containsExactlyInAnyOrderElementsOf(expectedProcessIds);
+    }
+
+    @Test
+    @DisplayName("GIVEN an authenticated user WHEN download a process document to a file THEN the content is written")
+    public void givenAnAuthenticatedUserWhenDownloadAProcessDocumentToAFileThenTheContentIsWritten(
+        @TempDir Path tempDir
+    ) throws IOException {
+        UUID processId = UUID.fromString("80d8c9a1-e3d2-4c35-a0a9-77ec21d28950");
+        String documentUri = "ku:process/" + processId + "/document/sample.txt";
+
+        givenThat(
+            get(urlPathEqualTo("/v2024-06-14/processes/" + processId + "/~actions/download-document"))
+                .withQueryParam("documentUri", equalTo(documentUri))
+                .willReturn(ok().withHeader("Content-Type", "application/octet-stream").withBodyFile("sample.txt"))
+        );
+
+        Path file = tempDir.resolve("sample.txt");
+        this.kuFlowRestClient.getProcessOperations().downloadProcessDocumentTo(processId, documentUri, file);
+
+        assertThat(file).hasContent("Hello World");
+    }
+
+    @Test
+    @DisplayName("GIVEN an authenticated user WHEN download a process document to a stream THEN the content is written")
+    public void givenAnAuthenticatedUserWhenDownloadAProcessDocumentToAStreamThenTheContentIsWritten() {
+        UUID processId = UUID.fromString("80d8c9a1-e3d2-4c35-a0a9-77ec21d28950");
+        String documentUri = "ku:process/" + processId + "/document/sample.txt";
+
+        givenThat(
+            get(urlPathEqualTo("/v2024-06-14/processes/" + processId + "/~actions/download-document"))
+                .withQueryParam("documentUri", equalTo(documentUri))
+                .willReturn(ok().withHeader("Content-Type", "application/octet-stream").withBodyFile("sample.txt"))
+        );
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        this.kuFlowRestClient.getProcessOperations().downloadProcessDocumentTo(processId, documentUri, outputStream);
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).startsWith("Hello World");
+    }
+
+    @Test
+    @DisplayName("GIVEN an authenticated user WHEN download a process document in segments THEN the ranges are written in place")
+    public void givenAnAuthenticatedUserWhenDownloadAProcessDocumentInSegmentsThenTheRangesAreWrittenInPlace(@TempDir Path tempDir) {
+        UUID processId = UUID.fromString("80d8c9a1-e3d2-4c35-a0a9-77ec21d28950");
+        String documentUri = "ku:process/" + processId + "/document/sample.txt";
+        String content = "Hello World by range";
+
+        givenThat(this.downloadDocument(processId, documentUri, content, content.length(), "\"v1\""));
+        givenThat(this.downloadDocumentRange(processId, documentUri, content, 8, 15, "\"v1\""));
+        givenThat(this.downloadDocumentRange(processId, documentUri, content, 16, 19, "\"v1\""));
+
+        Path file = tempDir.resolve("sample.txt");
+        DownloadOptions options = new DownloadOptions().setSegmentSize(8).setSegmentConcurrency(3);
+        this.kuFlowRestClient.getProcessOperations().downloadProcessDocumentTo(processId, documentUri, file, options);
+
+        assertThat(file).hasContent(content);
+        verify(3, getRequestedFor(urlPathEqualTo("/v2024-06-14/processes/" + processId + "/~actions/download-document")));
+    }
+
+    @Test
+    @DisplayName("GIVEN a response that ends prematurely WHEN download a process document THEN the transfer is resumed")
+    public void givenAResponseThatEndsPrematurelyWhenDownloadAProcessDocumentThenTheTransferIsResumed(@TempDir Path tempDir) {
+        UUID processId = UUID.fromString("80d8c9a1-e3d2-4c35-a0a9-77ec21d28950");
+        String documentUri = "ku:process/" + processId + "/document/sample.txt";
+        String content = "Hello World by range";
+
+        givenThat(this.downloadDocument(processId, documentUri, content.substring(0, 10), content.length(), "\"v1\""));
+        givenThat(this.downloadDocumentRange(processId, documentUri, content, 10, -1, "\"v1\""));
+
+        Path file = tempDir.resolve("sample.txt");
+        this.kuFlowRestClient.getProcessOperations().downloadProcessDocumentTo(processId, documentUri, file, new DownloadOptions());
+
+        assertThat(file).hasContent(content);
+    }
+
+    @Test
+    @DisplayName("GIVEN a server without range support WHEN download a process document in segments THEN the whole content is written")
+    public void givenAServerWithoutRangeSupportWhenDownloadAProcessDocumentInSegmentsThenTheWholeContentIsWritten(@TempDir Path tempDir) {
+        UUID processId = UUID.fromString("80d8c9a1-e3d2-4c35-a0a9-77ec21d28950");
+        String documentUri = "ku:process/" + processId + "/document/sample.txt";
+
+        givenThat(
+            get(urlPathEqualTo("/v2024-06-14/processes/" + processId + "/~actions/download-document"))
+                .withQueryParam("documentUri", equalTo(documentUri))
+                .willReturn(ok().withHeader("Content-Type", "application/octet-stream").withBodyFile("sample.txt"))
+        );
+
+        Path file = tempDir.resolve("sample.txt");
+        DownloadOptions options = new DownloadOptions().setSegmentSize(4).setSegmentConcurrency(2);
+        this.kuFlowRestClient.getProcessOperations().downloadProcessDocumentTo(processId, documentUri, file, options);
+
+        assertThat(file).hasContent("Hello World");
+        verify(1, getRequestedFor(urlPathEqualTo("/v2024-06-14/processes/" + processId + "/~actions/download-document")));
+    }
+
+    @Test
+    @DisplayName("GIVEN a response without validator that ends prematurely WHEN download a process document THEN the transfer is started over")
+    public void givenAResponseWithoutValidatorThatEndsPrematurelyWhenDownloadAProcessDocumentThenTheTransferIsStartedOver(
+        @TempDir Path tempDir
+    ) {
+        UUID processId = UUID.fromString("80d8c9a1-e3d2-4c35-a0a9-77ec21d28950");
+        String documentUri = "ku:process/" + processId + "/document/sample.txt";
+        String content = "Hello World by range";
+
+        givenThat(
+            this.downloadDocument(processId, documentUri, content.substring(0, 10), content.length(), null)
+                .inScenario("download")
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willSetStateTo("interrupted")
+        );
+        givenThat(
+            this.downloadDocument(processId, documentUri, content, content.length(), null)
+                .inScenario("download")
+                .whenScenarioStateIs("interrupted")
+        );
+
+        Path file = tempDir.resolve("sample.txt");
+        DownloadOptions options = new DownloadOptions().setSegmentSize(8).setSegmentConcurrency(3);
+        this.kuFlowRestClient.getProcessOperations().downloadProcessDocumentTo(processId, documentUri, file, options);
+
+        assertThat(file).hasContent(content);
+        verify(
+            2,
+            getRequestedFor(urlPathEqualTo("/v2024-06-14/processes/" + processId + "/~actions/download-document"))
+                .withoutHeader("Range")
+        );
+        verify(2, getRequestedFor(urlPathEqualTo("/v2024-06-14/processes/" + processId + "/~actions/download-document")));
+    }
+
+    @Test
+    @DisplayName("GIVEN a response without validator that always ends prematurely WHEN download a process document THEN it fails")
+    public void givenAResponseWithoutValidatorThatAlwaysEndsPrematurelyWhenDownloadAProcessDocumentThenItFails(@TempDir Path tempDir) {
+        UUID processId = UUID.fromString("80d8c9a1-e3d2-4c35-a0a9-77ec21d28950");
+        String documentUri = "ku:process/" + processId + "/document/sample.txt";
+        String content = "Hello World by range";
+
+        givenThat(this.downloadDocument(processId, documentUri, content.substring(0, 10), content.length(), null));
+
+        Path file = tempDir.resolve("sample.txt");
+        DownloadOptions options = new DownloadOptions().setMaxResumeAttempts(2);
+        assertThatThrownBy(() ->
+            this.kuFlowRestClient.getProcessOperations().downloadProcessDocumentTo(processId, documentUri, file, options)
+        )
+            .isInstanceOf(KuFlowRestClientException.class)
+            .hasMessageContaining("could not be completed");
+
+        verify(3, getRequestedFor(urlPathEqualTo("/v2024-06-14/processes/" + processId + "/~actions/download-document")));
+    }
+
+    private MappingBuilder downloadDocument(UUID processId, String documentUri, String body, int contentLength, String etag) {
+        ResponseDefinitionBuilder response = ok()
+            .withHeader("Content-Type", "application/octet-stream")
+            .withHeader("Content-Length", String.valueOf(contentLength))
+            .withHeader("Accept-Ranges", "bytes")
+            .withBody(body);
+        if (etag != null) {
+            response.withHeader("ETag", etag);
+        }
+
+        return get(urlPathEqualTo("/v2024-06-14/processes/" + processId + "/~actions/download-document"))
+            .withQueryParam("documentUri", equalTo(documentUri))
+            .withHeader("Range", absent())
+            .willReturn(response);
+    }
+
+    private MappingBuilder downloadDocumentRange(UUID processId, String documentUri, String content, int start, int end, String ifRange) {
+        int last = end >= 0 ? end : content.length() - 1;
+        MappingBuilder mappingBuilder = get(urlPathEqualTo("/v2024-06-14/processes/" + processId + "/~actions/download-document"))
+            .withQueryParam("documentUri", equalTo(documentUri))
+            .withHeader("Range", equalTo("bytes=" + start + "-" + (end >= 0 ? end : "")));
+        if (ifRange != null) {
+            mappingBuilder.withHeader("If-Range", equalTo(ifRange));
+        }
+
+        return mappingBuilder.willReturn(
+            aResponse()
+                .withStatus(206)
+                .withHeader("Content-Type", "application/octet-stream")
+                .withHeader("Content-Range", "bytes " + start + "-" + last + "/" + content.length())
+                .withHeader("ETag", "\"v1\"")
+                .withBody(content.substring(start, last + 1))
+        );
+    }
+
+    private String processPageBody(int page, int totalPages, UUID processId) {
+        return String.format(
+            "{\"metadata\":{\"size\":1,\"page\":%d,\"totalElements\":%d,\"totalPages\":%d}," +
+            "\"content\":[{\"id\":\"%s\",\"state\":\"RUNNING\"}]}",
+            page,
+            totalPages,
+            totalPages,
+            processId
+        );
+    }
 }
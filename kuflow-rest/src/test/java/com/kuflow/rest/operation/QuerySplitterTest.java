@@ -0,0 +1,205 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.operation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.azure.core.http.rest.Response;
+import com.azure.core.http.rest.SimpleResponse;
+import com.kuflow.rest.model.PageMetadata;
+import com.kuflow.rest.model.ProcessItemFindOptions;
+import com.kuflow.rest.model.ProcessItemPage;
+import com.kuflow.rest.model.ProcessItemPageItem;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+public class QuerySplitterTest {
+
+    private static final QuerySplitter<ProcessItemFindOptions, ProcessItemPageItem> QUERY_SPLITTER =
+        ProcessItemAsyncOperations.QUERY_SPLITTER;
+
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2024, 6, 14, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("GIVEN thousands of process ids WHEN split the options THEN every query fits in the URL and keeps every id")
+    public void givenThousandsOfProcessIdsWhenSplitTheOptionsThenEveryQueryFitsInTheUrlAndKeepsEveryId() {
+        List<UUID> processIds = processIds(5_000);
+        UUID tenantId = UUID.randomUUID();
+        ProcessItemFindOptions options = new ProcessItemFindOptions().setTenantId(tenantId).setProcessIds(processIds).setSize(50);
+
+        List<ProcessItemFindOptions> queries = QUERY_SPLITTER.split(options);
+
+        assertThat(queries).hasSizeGreaterThan(1);
+        assertThat(queries).allSatisfy(query -> {
+            assertThat(query.getTenantIds()).containsExactly(tenantId);
+            assertThat(query.getSize()).isEqualTo(50);
+            assertThat(queryLength(query)).isLessThanOrEqualTo(QuerySplitter.MAX_QUERY_LENGTH);
+        });
+        assertThat(queries.stream().flatMap(query -> query.getProcessIds().stream())).containsExactlyElementsOf(processIds);
+    }
+
+    @Test
+    @DisplayName("GIVEN a few process ids WHEN split the options THEN the same options are used")
+    public void givenAFewProcessIdsWhenSplitTheOptionsThenTheSameOptionsAreUsed() {
+        ProcessItemFindOptions options = new ProcessItemFindOptions().setProcessIds(processIds(10));
+
+        assertThat(QUERY_SPLITTER.split(options)).containsExactly(options);
+    }
+
+    @Test
+    @DisplayName("GIVEN split queries WHEN find a page sorted by creation THEN the page of the merged results is returned")
+    public void givenSplitQueriesWhenFindAPageSortedByCreationThenThePageOfTheMergedResultsIsReturned() {
+        List<UUID> processIds = processIds(1_000);
+        List<ProcessItemPageItem> items = items(processIds);
+        ProcessItemFindOptions options = new ProcessItemFindOptions()
+            .setProcessIds(processIds)
+            .setSize(7)
+            .setPage(3)
+            .setSort("createdAt,desc");
+        List<ProcessItemFindOptions> queries = QUERY_SPLITTER.split(options);
+        AtomicInteger requests = new AtomicInteger();
+
+        Response<ProcessItemPage> response = QUERY_SPLITTER.find(
+            queries,
+            options.getPage(),
+            options.getSorts(),
+            (query, page) -> {
+                requests.incrementAndGet();
+
+                return findPage(items, query, page);
+            },
+            ProcessItemPage::getContent,
+            (content, metadata) -> new ProcessItemPage().setContent(content).setMetadata(metadata)
+        ).block();
+
+        List<ProcessItemPageItem> expected = items
+            .stream()
+            .sorted(Comparator.comparing(ProcessItemPageItem::getCreatedAt).reversed())
+            .skip(21)
+            .limit(7)
+            .toList();
+        assertThat(response).isNotNull();
+        assertThat(response.getValue().getContent()).containsExactlyElementsOf(expected);
+        assertThat(response.getValue().getMetadata().getTotalElements()).isEqualTo(items.size());
+        assertThat(response.getValue().getMetadata().getTotalPages()).isEqualTo((items.size() + 6) / 7);
+        assertThat(response.getValue().getMetadata().getPage()).isEqualTo(3);
+        assertThat(requests.get()).isLessThan(queries.size() * 5);
+    }
+
+    @Test
+    @DisplayName("GIVEN split queries WHEN stream them sorted by id THEN all the items are streamed in order")
+    public void givenSplitQueriesWhenStreamThemSortedByIdThenAllTheItemsAreStreamedInOrder() {
+        List<UUID> processIds = processIds(1_000);
+        List<ProcessItemPageItem> items = items(processIds);
+        ProcessItemFindOptions options = new ProcessItemFindOptions().setProcessIds(processIds).setSize(20).setSort("id");
+
+        List<ProcessItemPageItem> streamed = QUERY_SPLITTER.stream(
+            QUERY_SPLITTER.split(options),
+            options.getPage(),
+            options.getSorts(),
+            (query, page) -> findPage(items, query, page),
+            ProcessItemPage::getContent
+        )
+            .collectList()
+            .block();
+
+        List<ProcessItemPageItem> expected = items.stream().sorted(Comparator.comparing(item -> item.getId().toString())).toList();
+        assertThat(streamed).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("GIVEN split queries WHEN sort by a property of the task THEN the error is signaled on subscription")
+    public void givenSplitQueriesWhenSortByAPropertyOfTheTaskThenTheErrorIsSignaledOnSubscription() {
+        ProcessItemFindOptions options = new ProcessItemFindOptions().setProcessIds(processIds(1_000)).setSort("claimedAt");
+
+        Mono<Response<ProcessItemPage>> response = QUERY_SPLITTER.find(
+            QUERY_SPLITTER.split(options),
+            null,
+            options.getSorts(),
+            (query, page) -> Mono.error(new AssertionError("Unexpected request")),
+            ProcessItemPage::getContent,
+            (content, metadata) -> new ProcessItemPage().setContent(content).setMetadata(metadata)
+        );
+
+        assertThatThrownBy(response::block)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Sort by 'claimedAt' is not supported when the filters are split in several requests");
+    }
+
+    private static Mono<Response<ProcessItemPage>> findPage(List<ProcessItemPageItem> items, ProcessItemFindOptions query, int page) {
+        int size = query.getSize();
+        Comparator<ProcessItemPageItem> comparator = query.getSorts().contains("id")
+            ? Comparator.comparing(item -> item.getId().toString())
+            : Comparator.comparing(ProcessItemPageItem::getCreatedAt).reversed();
+        List<ProcessItemPageItem> matching = items
+            .stream()
+            .filter(item -> query.getProcessIds().contains(item.getProcessId()))
+            .sorted(comparator)
+            .toList();
+        List<ProcessItemPageItem> content = matching.stream().skip((long) page * size).limit(size).toList();
+        PageMetadata metadata = new PageMetadata()
+            .setSize(size)
+            .setPage(page)
+            .setTotalElements(matching.size())
+            .setTotalPages((matching.size() + size - 1) / size);
+
+        return Mono.just(new SimpleResponse<>(null, 200, null, new ProcessItemPage().setContent(content).setMetadata(metadata)));
+    }
+
+    private static List<UUID> processIds(int count) {
+        List<UUID> processIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            processIds.add(UUID.randomUUID());
+        }
+
+        return processIds;
+    }
+
+    private static List<ProcessItemPageItem> items(List<UUID> processIds) {
+        List<ProcessItemPageItem> items = new ArrayList<>();
+        for (int i = 0; i < processIds.size(); i++) {
+            for (int j = 0; j < i % 3; j++) {
+                // Distinct creation dates, not correlated with the process ids
+                OffsetDateTime createdAt = NOW.plusSeconds(items.size() * 7_919L % 100_003);
+                items.add(new ProcessItemPageItem().setId(UUID.randomUUID()).setProcessId(processIds.get(i)).setCreatedAt(createdAt));
+            }
+        }
+
+        return items;
+    }
+
+    private static int queryLength(ProcessItemFindOptions query) {
+        // name=value&
+        return query.getProcessIds().size() * ("processId".length() + 38) + query.getTenantIds().size() * ("tenantId".length() + 38);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.policy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.util.Context;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class ConcurrencyLimitPolicyTest {
+
+    private static final String URL = "https://api.kuflow.com/v2024-06-14/processes";
+
+    @Test
+    @DisplayName("GIVEN a limit of two requests WHEN many requests are sent concurrently THEN at most two are in flight")
+    public void givenALimitOfTwoRequestsWhenManyRequestsAreSentConcurrentlyThenAtMostTwoAreInFlight() {
+        ConcurrencyLimitPolicy policy = new ConcurrencyLimitPolicy(
+            new ConcurrencyLimitOptions().setInitialLimit(2).setMinLimit(1).setMaxLimit(2)
+        );
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        HttpPipeline pipeline = new HttpPipelineBuilder()
+            .policies(policy)
+            .httpClient(request ->
+                Mono.fromCallable(() -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                    .delayElement(Duration.ofMillis(20))
+                    .map(ignored -> {
+                        inFlight.decrementAndGet();
+                        return response(request, 200, new HttpHeaders());
+                    })
+            )
+            .build();
+
+        Flux.range(0, 10).flatMap(i -> pipeline.send(new HttpRequest(HttpMethod.GET, URL))).blockLast();
+
+        assertThat(maxInFlight.get()).isEqualTo(2);
+        assertThat(policy.getInFlight()).isZero();
+        assertThat(policy.getQueued()).isZero();
+    }
+
+    @Test
+    @DisplayName("GIVEN a throttled response WHEN the request completes THEN the limit is decreased")
+    public void givenAThrottledResponseWhenTheRequestCompletesThenTheLimitIsDecreased() {
+        ConcurrencyLimitPolicy policy = new ConcurrencyLimitPolicy(new ConcurrencyLimitOptions().setInitialLimit(10));
+        HttpPipeline pipeline = new HttpPipelineBuilder()
+            .policies(policy)
+            .httpClient(request -> Mono.just(response(request, 429, new HttpHeaders())))
+            .build();
+
+        pipeline.sendSync(new HttpRequest(HttpMethod.GET, URL), Context.NONE).close();
+
+        assertThat(policy.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("GIVEN successful responses at the limit WHEN the latency does not degrade THEN the limit is increased")
+    public void givenSuccessfulResponsesAtTheLimitWhenTheLatencyDoesNotDegradeThenTheLimitIsIncreased() {
+        ConcurrencyLimitPolicy policy = new ConcurrencyLimitPolicy(new ConcurrencyLimitOptions().setInitialLimit(1).setMaxLimit(3));
+        HttpPipeline pipeline = new HttpPipelineBuilder()
+            .policies(policy)
+            .httpClient(request -> Mono.just(response(request, 200, new HttpHeaders())))
+            .build();
+
+        for (int i = 0; i < 5; i++) {
+            pipeline.send(new HttpRequest(HttpMethod.GET, URL)).block();
+        }
+
+        assertThat(policy.getLimit()).isBetween(2, 3);
+    }
+
+    @Test
+    @DisplayName("GIVEN a throttled response with Retry-After WHEN another request is sent THEN it waits for the delay")
+    public void givenAThrottledResponseWithRetryAfterWhenAnotherRequestIsSentThenItWaitsForTheDelay() {
+        ConcurrencyLimitPolicy policy = new ConcurrencyLimitPolicy(new ConcurrencyLimitOptions());
+        AtomicInteger requests = new AtomicInteger();
+        HttpPipeline pipeline = new HttpPipelineBuilder()
+            .policies(policy)
+            .httpClient(request -> {
+                if (requests.getAndIncrement() == 0) {
+                    return Mono.just(response(request, 429, new HttpHeaders().set(HttpHeaderName.fromString("retry-after-ms"), "300")));
+                }
+
+                return Mono.just(response(request, 200, new HttpHeaders()));
+            })
+            .build();
+
+        pipeline.send(new HttpRequest(HttpMethod.GET, URL)).block();
+        long start = System.nanoTime();
+        HttpResponse response = pipeline.send(new HttpRequest(HttpMethod.GET, URL)).block();
+
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(250));
+    }
+
+    private static HttpResponse response(HttpRequest request, int statusCode, HttpHeaders headers) {
+        return new BufferedHttpResponse(request, statusCode, headers, new byte[0]);
+    }
+}
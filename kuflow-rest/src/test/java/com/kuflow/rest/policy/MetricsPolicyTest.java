@@ -0,0 +1,149 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.policy;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.givenThat;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.serviceUnavailable;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.azure.core.http.policy.FixedDelayOptions;
+import com.azure.core.http.policy.RetryOptions;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import com.kuflow.rest.KuFlowRestClient;
+import com.kuflow.rest.operation.AbstractOperationTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class MetricsPolicyTest extends AbstractOperationTest {
+
+    private static final UUID PROCESS_ID = UUID.fromString("80d8c9a1-e3d2-4c35-a0a9-77ec21d28950");
+
+    private static final UUID PROCESS_ITEM_ID = UUID.fromString("e2d0fdf9-0aae-4eed-9e07-8e4b76df733c");
+
+    @Test
+    @DisplayName("GIVEN a metrics recorder WHEN retrieve a process THEN the metrics of the operation are recorded")
+    public void givenAMetricsRecorderWhenRetrieveAProcessThenTheMetricsOfTheOperationAreRecorded() {
+        givenThat(
+            get("/v2024-06-14/processes/" + PROCESS_ID).willReturn(
+                ok().withHeader("Content-Type", "application/json").withBodyFile("processes-api.retrieve.ok.json")
+            )
+        );
+
+        InMemoryRecorder recorder = new InMemoryRecorder();
+        KuFlowRestClient client = this.getKuFlowClientBuilder().metricsRecorder(recorder).buildClient();
+
+        client.getProcessOperations().retrieveProcess(PROCESS_ID);
+
+        assertThat(recorder.started.get()).isEqualTo(1);
+        assertThat(recorder.completed).hasSize(1);
+        RequestMetrics metrics = recorder.completed.get(0);
+        assertThat(metrics.getOperation()).isEqualTo("Processes.retrieve");
+        assertThat(metrics.getMethod()).isEqualTo("GET");
+        assertThat(metrics.getStatusCode()).isEqualTo(200);
+        assertThat(metrics.getErrorType()).isNull();
+        assertThat(metrics.getAttempts()).isEqualTo(1);
+        assertThat(metrics.getRequestBytes()).isZero();
+        assertThat(metrics.getDuration()).isPositive();
+    }
+
+    @Test
+    @DisplayName("GIVEN a request that is retried WHEN claim a task THEN the attempts are recorded")
+    public void givenARequestThatIsRetriedWhenClaimATaskThenTheAttemptsAreRecorded() {
+        String path = "/v2024-06-14/process-items/" + PROCESS_ITEM_ID + "/task/~actions/claim";
+        givenThat(
+            post(path).inScenario("retry").whenScenarioStateIs(Scenario.STARTED).willReturn(serviceUnavailable()).willSetStateTo("ok")
+        );
+        givenThat(
+            post(path)
+                .inScenario("retry")
+                .whenScenarioStateIs("ok")
+                .willReturn(ok().withHeader("Content-Type", "application/json").withBodyFile("process-items-api.retrieve.ok.json"))
+        );
+
+        InMemoryRecorder recorder = new InMemoryRecorder();
+        KuFlowRestClient client = this.getKuFlowClientBuilder()
+            .retryOptions(new RetryOptions(new FixedDelayOptions(3, Duration.ofMillis(10))))
+            .metricsRecorder(recorder)
+            .buildClient();
+
+        client.getProcessItemOperations().claimProcessItemTask(PROCESS_ITEM_ID);
+
+        assertThat(recorder.completed).hasSize(1);
+        RequestMetrics metrics = recorder.completed.get(0);
+        assertThat(metrics.getOperation()).isEqualTo("ProcessItems.claimTask");
+        assertThat(metrics.getStatusCode()).isEqualTo(200);
+        assertThat(metrics.getAttempts()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("GIVEN a Micrometer recorder WHEN retrieve a process THEN the meters are registered")
+    public void givenAMicrometerRecorderWhenRetrieveAProcessThenTheMetersAreRegistered() {
+        givenThat(
+            get("/v2024-06-14/processes/" + PROCESS_ID).willReturn(
+                ok().withHeader("Content-Type", "application/json").withBodyFile("processes-api.retrieve.ok.json")
+            )
+        );
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        KuFlowRestClient client = this.getKuFlowClientBuilder()
+            .metricsRecorder(new MicrometerRequestMetricsRecorder(registry))
+            .concurrencyLimitOptions(new ConcurrencyLimitOptions().setInitialLimit(10))
+            .buildClient();
+
+        client.getProcessOperations().retrieveProcess(PROCESS_ID);
+        client.getProcessOperations().retrieveProcess(PROCESS_ID);
+
+        assertThat(
+            registry.get("kuflow.rest.client.requests").tag("operation", "Processes.retrieve").tag("status", "200").timer().count()
+        ).isEqualTo(2);
+        assertThat(registry.get("kuflow.rest.client.requests.active").tag("operation", "Processes.retrieve").gauge().value()).isZero();
+        assertThat(registry.get("kuflow.rest.client.concurrency.limit").gauge().value()).isGreaterThanOrEqualTo(10);
+    }
+
+    private static final class InMemoryRecorder implements RequestMetricsRecorder {
+
+        private final AtomicInteger started = new AtomicInteger();
+
+        private final List<RequestMetrics> completed = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void recordRequestStarted(String operation) {
+            this.started.incrementAndGet();
+        }
+
+        @Override
+        public void recordRequestCompleted(RequestMetrics metrics) {
+            this.completed.add(metrics);
+        }
+    }
+}
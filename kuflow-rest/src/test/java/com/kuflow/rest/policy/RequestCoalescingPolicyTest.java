@@ -0,0 +1,127 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.policy;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.givenThat;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kuflow.rest.KuFlowRestAsyncClient;
+import com.kuflow.rest.KuFlowRestClient;
+import com.kuflow.rest.model.Process;
+import com.kuflow.rest.operation.AbstractOperationTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+public class RequestCoalescingPolicyTest extends AbstractOperationTest {
+
+    private static final UUID PROCESS_ID = UUID.fromString("80d8c9a1-e3d2-4c35-a0a9-77ec21d28950");
+
+    private static final String PROCESS_PATH = "/v2024-06-14/processes/" + PROCESS_ID;
+
+    @Test
+    @DisplayName("GIVEN concurrent asynchronous retrieves of the same process WHEN coalescing is enabled THEN only one request is sent")
+    public void givenConcurrentAsynchronousRetrievesOfTheSameProcessWhenCoalescingIsEnabledThenOnlyOneRequestIsSent() {
+        this.givenASlowProcess();
+
+        KuFlowRestAsyncClient client = this.getKuFlowClientBuilder().requestCoalescing(true).buildAsyncClient();
+
+        List<Process> processes = Flux.range(0, 20)
+            .flatMap(i -> client.getProcessAsyncOperations().retrieveProcess(PROCESS_ID))
+            .collectList()
+            .block();
+
+        assertThat(processes).hasSize(20).allSatisfy(process -> assertThat(process.getId()).isEqualTo(PROCESS_ID));
+        verify(1, getRequestedFor(urlPathEqualTo(PROCESS_PATH)));
+    }
+
+    @Test
+    @DisplayName("GIVEN concurrent synchronous retrieves of the same process WHEN coalescing is enabled THEN only one request is sent")
+    public void givenConcurrentSynchronousRetrievesOfTheSameProcessWhenCoalescingIsEnabledThenOnlyOneRequestIsSent() throws Exception {
+        this.givenASlowProcess();
+
+        KuFlowRestClient client = this.getKuFlowClientBuilder().requestCoalescing(true).buildClient();
+
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Process>> futures = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                futures.add(
+                    executor.submit(() -> {
+                        start.await();
+                        return client.getProcessOperations().retrieveProcess(PROCESS_ID);
+                    })
+                );
+            }
+            start.countDown();
+
+            for (Future<Process> future : futures) {
+                assertThat(future.get().getId()).isEqualTo(PROCESS_ID);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(1, getRequestedFor(urlPathEqualTo(PROCESS_PATH)));
+    }
+
+    @Test
+    @DisplayName("GIVEN sequential retrieves of the same process WHEN coalescing is enabled THEN every request is sent")
+    public void givenSequentialRetrievesOfTheSameProcessWhenCoalescingIsEnabledThenEveryRequestIsSent() {
+        givenThat(
+            get(PROCESS_PATH).willReturn(ok().withHeader("Content-Type", "application/json").withBodyFile("processes-api.retrieve.ok.json"))
+        );
+
+        KuFlowRestClient client = this.getKuFlowClientBuilder().requestCoalescing(true).buildClient();
+
+        client.getProcessOperations().retrieveProcess(PROCESS_ID);
+        client.getProcessOperations().retrieveProcess(PROCESS_ID);
+
+        verify(2, getRequestedFor(urlPathEqualTo(PROCESS_PATH)));
+    }
+
+    private void givenASlowProcess() {
+        givenThat(
+            get(PROCESS_PATH).willReturn(
+                ok()
+                    .withHeader("Content-Type", "application/json")
+                    .withBodyFile("processes-api.retrieve.ok.json")
+                    .withFixedDelay(1000)
+            )
+        );
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.policy;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.givenThat;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.status;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kuflow.rest.KuFlowRestClient;
+import com.kuflow.rest.model.KmsKey;
+import com.kuflow.rest.model.Process;
+import com.kuflow.rest.model.ProcessState;
+import com.kuflow.rest.operation.AbstractOperationTest;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ResponseCachePolicyTest extends AbstractOperationTest {
+
+    private static final UUID PROCESS_ID = UUID.fromString("80d8c9a1-e3d2-4c35-a0a9-77ec21d28950");
+
+    private static final String PROCESS_PATH = "/v2024-06-14/processes/" + PROCESS_ID;
+
+    @Test
+    @DisplayName("GIVEN a cached process WHEN retrieve the process again THEN the server is not called")
+    public void givenACachedProcessWhenRetrieveTheProcessAgainThenTheServerIsNotCalled() {
+        givenThat(
+            get(PROCESS_PATH).willReturn(ok().withHeader("Content-Type", "application/json").withBodyFile("processes-api.retrieve.ok.json"))
+        );
+
+        KuFlowRestClient client = this.getKuFlowClientBuilder().responseCacheOptions(new ResponseCacheOptions()).buildClient();
+
+        Process first = client.getProcessOperations().retrieveProcess(PROCESS_ID);
+        Process second = client.getProcessOperations().retrieveProcess(PROCESS_ID);
+
+        assertThat(first.getState()).isEqualTo(ProcessState.RUNNING);
+        assertThat(second.getState()).isEqualTo(ProcessState.RUNNING);
+        verify(1, getRequestedFor(urlPathEqualTo(PROCESS_PATH)));
+    }
+
+    @Test
+    @DisplayName("GIVEN an expired cached process with ETag WHEN retrieve the process again THEN it is revalidated")
+    public void givenAnExpiredCachedProcessWithEtagWhenRetrieveTheProcessAgainThenItIsRevalidated() {
+        givenThat(
+            get(PROCESS_PATH).willReturn(
+                ok()
+                    .withHeader("Content-Type", "application/json")
+                    .withHeader("ETag", "\"v1\"")
+                    .withBodyFile("processes-api.retrieve.ok.json")
+            )
+        );
+        givenThat(get(PROCESS_PATH).withHeader("If-None-Match", equalTo("\"v1\"")).willReturn(status(304)));
+
+        KuFlowRestClient client = this.getKuFlowClientBuilder()
+            .responseCacheOptions(new ResponseCacheOptions().setTimeToLive(Duration.ZERO))
+            .buildClient();
+
+        client.getProcessOperations().retrieveProcess(PROCESS_ID);
+        Process revalidated = client.getProcessOperations().retrieveProcess(PROCESS_ID);
+
+        assertThat(revalidated.getId()).isEqualTo(PROCESS_ID);
+        assertThat(revalidated.getState()).isEqualTo(ProcessState.RUNNING);
+        verify(1, getRequestedFor(urlPathEqualTo(PROCESS_PATH)).withHeader("If-None-Match", equalTo("\"v1\"")));
+    }
+
+    @Test
+    @DisplayName("GIVEN a cached process WHEN the process is completed THEN the cached process is invalidated")
+    public void givenACachedProcessWhenTheProcessIsCompletedThenTheCachedProcessIsInvalidated() {
+        givenThat(
+            get(PROCESS_PATH).willReturn(ok().withHeader("Content-Type", "application/json").withBodyFile("processes-api.retrieve.ok.json"))
+        );
+        givenThat(
+            post(PROCESS_PATH + "/~actions/complete").willReturn(
+                ok().withHeader("Content-Type", "application/json").withBodyFile("processes-api.retrieve.ok.json")
+            )
+        );
+
+        KuFlowRestClient client = this.getKuFlowClientBuilder().responseCacheOptions(new ResponseCacheOptions()).buildClient();
+
+        client.getProcessOperations().retrieveProcess(PROCESS_ID);
+        client.getProcessOperations().completeProcess(PROCESS_ID);
+        client.getProcessOperations().retrieveProcess(PROCESS_ID);
+
+        verify(2, getRequestedFor(urlPathEqualTo(PROCESS_PATH)));
+    }
+
+    @Test
+    @DisplayName("GIVEN a cached KMS key WHEN retrieve the KMS key again THEN the server is not called")
+    public void givenACachedKmsKeyWhenRetrieveTheKmsKeyAgainThenTheServerIsNotCalled() {
+        String kmsKeyPath = "/v2024-06-14/kms/keys/KEY_1";
+        givenThat(
+            get(kmsKeyPath).willReturn(ok().withHeader("Content-Type", "application/json").withBodyFile("kms-keys.retrieve.ok.json"))
+        );
+
+        KuFlowRestClient client = this.getKuFlowClientBuilder().responseCacheOptions(new ResponseCacheOptions()).buildClient();
+
+        KmsKey first = client.getKmsOperations().retrieveKmsKey("KEY_1");
+        KmsKey second = client.getKmsOperations().retrieveKmsKey("KEY_1");
+
+        assertThat(second.getId()).isEqualTo(first.getId());
+        verify(1, getRequestedFor(urlPathEqualTo(kmsKeyPath)));
+    }
+}
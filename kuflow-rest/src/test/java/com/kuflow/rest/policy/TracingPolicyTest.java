@@ -0,0 +1,149 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.policy;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.givenThat;
+import static com.github.tomakehurst.wiremock.client.WireMock.matching;
+import static com.github.tomakehurst.wiremock.client.WireMock.notFound;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.kuflow.rest.KuFlowRestAsyncClient;
+import com.kuflow.rest.KuFlowRestClient;
+import com.kuflow.rest.model.DefaultErrorException;
+import com.kuflow.rest.model.Process;
+import com.kuflow.rest.operation.AbstractOperationTest;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+public class TracingPolicyTest extends AbstractOperationTest {
+
+    private static final UUID PROCESS_ID = UUID.fromString("80d8c9a1-e3d2-4c35-a0a9-77ec21d28950");
+
+    private static final String PROCESS_PATH = "/v2024-06-14/processes/" + PROCESS_ID;
+
+    private InMemorySpanExporter spanExporter;
+
+    private OpenTelemetrySdk openTelemetry;
+
+    @BeforeEach
+    public void setupOpenTelemetry() {
+        this.spanExporter = InMemorySpanExporter.create();
+        this.openTelemetry = OpenTelemetrySdk.builder()
+            .setTracerProvider(SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(this.spanExporter)).build())
+            .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+            .build();
+    }
+
+    @Test
+    @DisplayName("GIVEN a parent span WHEN retrieve a process THEN a child client span is created and propagated")
+    public void givenAParentSpanWhenRetrieveAProcessThenAChildClientSpanIsCreatedAndPropagated() {
+        givenThat(
+            get(PROCESS_PATH).willReturn(ok().withHeader("Content-Type", "application/json").withBodyFile("processes-api.retrieve.ok.json"))
+        );
+
+        KuFlowRestClient client = this.getKuFlowClientBuilder().tracingOptions(new TracingOptions(this.openTelemetry)).buildClient();
+
+        Span parent = this.openTelemetry.getTracer("test").spanBuilder("activity").startSpan();
+        try (Scope ignored = parent.makeCurrent()) {
+            client.getProcessOperations().retrieveProcess(PROCESS_ID);
+        } finally {
+            parent.end();
+        }
+
+        List<SpanData> spans = this.spanExporter.getFinishedSpanItems();
+        SpanData span = spans.stream().filter(it -> it.getName().equals("Processes.retrieve")).findFirst().orElseThrow();
+        assertThat(span.getKind()).isEqualTo(SpanKind.CLIENT);
+        assertThat(span.getParentSpanId()).isEqualTo(parent.getSpanContext().getSpanId());
+        assertThat(span.getAttributes().get(AttributeKey.stringKey("kuflow.resource.id"))).isEqualTo(PROCESS_ID.toString());
+        assertThat(span.getAttributes().get(AttributeKey.longKey("http.response.status_code"))).isEqualTo(200);
+        verify(getRequestedFor(urlPathEqualTo(PROCESS_PATH)).withHeader("traceparent", matching(".*" + span.getSpanId() + ".*")));
+    }
+
+    @Test
+    @DisplayName("GIVEN a parent span WHEN retrieve a process asynchronously on another thread THEN the parent is kept")
+    public void givenAParentSpanWhenRetrieveAProcessAsynchronouslyOnAnotherThreadThenTheParentIsKept() {
+        givenThat(
+            get(PROCESS_PATH).willReturn(ok().withHeader("Content-Type", "application/json").withBodyFile("processes-api.retrieve.ok.json"))
+        );
+
+        KuFlowRestAsyncClient client = this.getKuFlowClientBuilder()
+            .tracingOptions(new TracingOptions(this.openTelemetry))
+            .buildAsyncClient();
+
+        Span parent = this.openTelemetry.getTracer("test").spanBuilder("activity").startSpan();
+        Mono<Process> retrieveProcess;
+        try (Scope ignored = parent.makeCurrent()) {
+            retrieveProcess = client.getProcessAsyncOperations().retrieveProcess(PROCESS_ID);
+        } finally {
+            parent.end();
+        }
+        retrieveProcess.subscribeOn(Schedulers.boundedElastic()).block();
+
+        SpanData span = this.spanExporter.getFinishedSpanItems()
+            .stream()
+            .filter(it -> it.getName().equals("Processes.retrieve"))
+            .findFirst()
+            .orElseThrow();
+        assertThat(span.getParentSpanId()).isEqualTo(parent.getSpanContext().getSpanId());
+        assertThat(span.getTraceId()).isEqualTo(parent.getSpanContext().getTraceId());
+    }
+
+    @Test
+    @DisplayName("GIVEN a rejected request WHEN retrieve a process THEN the span status is error")
+    public void givenARejectedRequestWhenRetrieveAProcessThenTheSpanStatusIsError() {
+        givenThat(get(PROCESS_PATH).willReturn(notFound().withHeader("Content-Type", "application/json").withBody("{}")));
+
+        KuFlowRestClient client = this.getKuFlowClientBuilder().tracingOptions(new TracingOptions(this.openTelemetry)).buildClient();
+
+        assertThatThrownBy(() -> client.getProcessOperations().retrieveProcess(PROCESS_ID)).isInstanceOf(DefaultErrorException.class);
+
+        SpanData span = this.spanExporter.getFinishedSpanItems().get(0);
+        assertThat(span.getName()).isEqualTo("Processes.retrieve");
+        assertThat(span.getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+        assertThat(span.getAttributes().get(AttributeKey.longKey("http.response.status_code"))).isEqualTo(404);
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kuflow.rest.model.JsonPatchOperation;
+import com.kuflow.rest.model.JsonPatchOperationType;
+import com.kuflow.rest.model.JsonValue;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class JsonPatchUtilsTest {
+
+    @Test
+    @DisplayName("GIVEN equal documents WHEN diff THEN the patch is empty")
+    public void givenEqualDocumentsWhenDiffThenThePatchIsEmpty() {
+        Map<String, Object> source = Map.of("number", 1, "list", List.of(1.0, "a"), "object", Map.of("key", true));
+        Map<String, Object> target = Map.of("number", 1L, "list", List.of(1, "a"), "object", Map.of("key", true));
+
+        assertThat(JsonPatchUtils.diff(source, target)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("GIVEN a nested field changed WHEN diff THEN only that field is replaced")
+    public void givenANestedFieldChangedWhenDiffThenOnlyThatFieldIsReplaced() {
+        Map<String, Object> source = Map.of("a/b", Map.of("c~d", "old", "other", 1), "untouched", "value");
+        Map<String, Object> target = Map.of("a/b", Map.of("c~d", "new", "other", 1), "untouched", "value");
+
+        List<JsonPatchOperation> patch = JsonPatchUtils.diff(source, target);
+
+        assertThat(patch).hasSize(1);
+        assertOperation(patch.get(0), JsonPatchOperationType.REPLACE, "/a~1b/c~0d", "new");
+    }
+
+    @Test
+    @DisplayName("GIVEN fields added and removed WHEN diff THEN add and remove operations are generated")
+    public void givenFieldsAddedAndRemovedWhenDiffThenAddAndRemoveOperationsAreGenerated() {
+        Map<String, Object> source = Map.of("removed", "value", "kept", "value");
+        Map<String, Object> target = Map.of("kept", "value", "added", List.of("x"));
+
+        List<JsonPatchOperation> patch = JsonPatchUtils.diff(source, target);
+
+        assertThat(patch).hasSize(2);
+        assertOperation(patch.get(0), JsonPatchOperationType.REMOVE, "/removed", null);
+        assertOperation(patch.get(1), JsonPatchOperationType.ADD, "/added", List.of("x"));
+    }
+
+    @Test
+    @DisplayName("GIVEN array elements inserted and removed WHEN patch is applied THEN the target is obtained")
+    public void givenArrayElementsInsertedAndRemovedWhenPatchIsAppliedThenTheTargetIsObtained() {
+        List<List<Object>> cases = List.of(
+            List.of(List.of(1, 2, 3, 4), List.of(1, 9, 2, 3, 4)),
+            List.of(List.of(1, 2, 3, 4), List.of(1, 4)),
+            List.of(List.of(1, 2, 3), List.of(1, 2, 3, 4, 5)),
+            List.of(List.of(1, 2, 3), List.of(7, 8)),
+            List.of(List.of(), List.of(Map.of("a", 1))),
+            List.of(List.of(Map.of("a", 1), Map.of("b", 2)), List.of(Map.of("a", 1), Map.of("b", 3)))
+        );
+
+        for (List<Object> testCase : cases) {
+            Map<String, Object> source = Map.of("list", testCase.get(0));
+            Map<String, Object> target = Map.of("list", testCase.get(1));
+
+            List<JsonPatchOperation> patch = JsonPatchUtils.diff(source, target);
+
+            assertThat(apply(source, patch)).isEqualTo(target);
+        }
+
+        List<JsonPatchOperation> patch = JsonPatchUtils.diff(Map.of("list", List.of(1, 2, 3, 4)), Map.of("list", List.of(1, 9, 2, 3, 4)));
+        assertThat(patch).hasSize(1);
+        assertOperation(patch.get(0), JsonPatchOperationType.ADD, "/list/1", 9);
+    }
+
+    @Test
+    @DisplayName("GIVEN a small change in a large value WHEN decide THEN the patch is preferred")
+    public void givenASmallChangeInALargeValueWhenDecideThenThePatchIsPreferred() {
+        Map<String, Object> source = new LinkedHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            source.put("field" + i, "value " + i);
+        }
+        Map<String, Object> target = new LinkedHashMap<>(source);
+        target.put("field50", "changed");
+
+        JsonValue desired = new JsonValue().setValue(target);
+        List<JsonPatchOperation> patch = JsonPatchUtils.diff(new JsonValue().setValue(source), desired);
+
+        assertThat(JsonPatchUtils.isPatchPreferred(patch, desired)).isTrue();
+        assertThat(JsonPatchUtils.isPatchPreferred(JsonPatchUtils.diff(null, desired), desired)).isFalse();
+
+        Map<String, Object> withNull = new HashMap<>(target);
+        withNull.put("field51", null);
+        JsonValue desiredWithNull = new JsonValue().setValue(withNull);
+        List<JsonPatchOperation> patchWithNull = JsonPatchUtils.diff(new JsonValue().setValue(source), desiredWithNull);
+        assertThat(JsonPatchUtils.isPatchPreferred(patchWithNull, desiredWithNull)).isFalse();
+    }
+
+    private static void assertOperation(JsonPatchOperation operation, JsonPatchOperationType op, String path, Object value) {
+        assertThat(operation.getOp()).isEqualTo(op);
+        assertThat(operation.getPath()).isEqualTo(path);
+        assertThat(operation.getValue()).isEqualTo(value);
+    }
+
+    /**
+     * Minimal JSON Patch application (add, remove and replace) used to check the generated patches.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> apply(Map<String, Object> document, List<JsonPatchOperation> patch) {
+        Map<String, Object> result = (Map<String, Object>) deepCopy(document);
+        for (JsonPatchOperation operation : patch) {
+            String[] tokens = operation.getPath().substring(1).split("/");
+            Object parent = result;
+            for (int i = 0; i < tokens.length - 1; i++) {
+                parent = parent instanceof Map<?, ?> map ? map.get(tokens[i]) : ((List<?>) parent).get(Integer.parseInt(tokens[i]));
+            }
+            String last = tokens[tokens.length - 1];
+            if (parent instanceof Map<?, ?> map) {
+                Map<String, Object> object = (Map<String, Object>) map;
+                if (JsonPatchOperationType.REMOVE.equals(operation.getOp())) {
+                    object.remove(last);
+                } else {
+                    object.put(last, operation.getValue());
+                }
+            } else {
+                List<Object> array = (List<Object>) parent;
+                int index = Integer.parseInt(last);
+                if (JsonPatchOperationType.REMOVE.equals(operation.getOp())) {
+                    array.remove(index);
+                } else if (JsonPatchOperationType.ADD.equals(operation.getOp())) {
+                    array.add(index, operation.getValue());
+                } else {
+                    array.set(index, operation.getValue());
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private static Object deepCopy(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> copy = new LinkedHashMap<>();
+            map.forEach((key, element) -> copy.put((String) key, deepCopy(element)));
+            return copy;
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>();
+            list.forEach(element -> copy.add(deepCopy(element)));
+            return copy;
+        }
+
+        return value;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.rest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class JsonPointerUtilsTest {
+
+    private static final byte[] JSON = """
+        {"a/b": {"c~d": "escaped"}, "list": [{"skipped": [1, 2]}, {"key": 42}], "flag": true, "empty": null}
+        """.getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    @DisplayName("GIVEN a raw json WHEN read values at json pointers THEN only the addressed elements are returned")
+    public void givenARawJsonWhenReadValuesAtJsonPointersThenOnlyTheAddressedElementsAreReturned() {
+        assertThat(JsonPointerUtils.readValueAt(JSON, "/a~1b/c~0d")).isEqualTo("escaped");
+        assertThat(JsonPointerUtils.readValueAt(JSON, "/list/1/key")).isEqualTo(42);
+        assertThat(JsonPointerUtils.readValueAt(JSON, "/list/0")).isEqualTo(Map.of("skipped", List.of(1, 2)));
+        assertThat(JsonPointerUtils.readValueAt(JSON, "/flag")).isEqualTo(true);
+        assertThat(JsonPointerUtils.readValueAt(JSON, "/empty")).isNull();
+        assertThat(JsonPointerUtils.readValueAt(JSON, "/list/2")).isNull();
+        assertThat(JsonPointerUtils.readValueAt(JSON, "/list/01")).isNull();
+        assertThat(JsonPointerUtils.readValueAt(JSON, "/flag/0")).isNull();
+    }
+
+    @Test
+    @DisplayName("GIVEN a document WHEN get values at json pointers THEN the addressed elements are returned")
+    public void givenADocumentWhenGetValuesAtJsonPointersThenTheAddressedElementsAreReturned() {
+        Map<String, Object> document = Map.of("a/b", Map.of("c~d", "escaped"), "list", List.of("x", "y"));
+
+        assertThat(JsonPointerUtils.getValueAt(document, "/a~1b/c~0d")).isEqualTo("escaped");
+        assertThat(JsonPointerUtils.getValueAt(document, "/list/1")).isEqualTo("y");
+        assertThat(JsonPointerUtils.getValueAt(document, "/list/-")).isNull();
+        assertThat(JsonPointerUtils.getValueAt(document, "")).isSameAs(document);
+        assertThatThrownBy(() -> JsonPointerUtils.getValueAt(document, "list")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
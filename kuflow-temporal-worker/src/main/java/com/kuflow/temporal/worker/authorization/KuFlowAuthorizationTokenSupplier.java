@@ -30,31 +30,102 @@ import com.kuflow.rest.model.AuthenticationEngineToken;
 import com.kuflow.rest.model.AuthenticationType;
 import com.kuflow.rest.operation.AuthenticationOperations;
 import com.kuflow.temporal.worker.connection.WorkerInformation;
+import com.uber.m3.tally.NoopScope;
+import com.uber.m3.tally.Scope;
+import com.uber.m3.tally.Stopwatch;
 import io.temporal.authorization.AuthorizationTokenSupplier;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class KuFlowAuthorizationTokenSupplier implements AuthorizationTokenSupplier {
+/**
+ * Supply KuFlow engine tokens, renewed in background before they expire. Callers only block when there is no usable token,
+ * that is, on the first request or when every background renewal failed until the token expired.
+ */
+public class KuFlowAuthorizationTokenSupplier implements AuthorizationTokenSupplier, AutoCloseable {
+
+    public static final String METRIC_REFRESH_LATENCY = "kuflow_authorization_token_refresh_latency";
+
+    public static final String METRIC_REFRESH_FAILURES = "kuflow_authorization_token_refresh_failures";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(KuFlowAuthorizationTokenSupplier.class);
 
-    private static final double EXPIRE_PERCENTAGE = 0.1;
+    private static final double REFRESH_PERCENTAGE = 0.1;
+
+    private static final Duration REFRESH_MAX_DURATION = Duration.ofMinutes(10);
 
-    private static final Duration EXPIRE_MAX_DURATION = Duration.ofMinutes(10);
+    private static final double REFRESH_JITTER_PERCENTAGE = 0.2;
+
+    private static final Duration EXPIRE_SAFETY_MARGIN = Duration.ofSeconds(30);
+
+    private static final Duration RETRY_INITIAL_BACKOFF = Duration.ofSeconds(1);
+
+    private static final Duration RETRY_MAX_BACKOFF = Duration.ofMinutes(1);
 
     private final AuthenticationOperations authenticationOperations;
 
-    private final WorkerInformation workerInformation;
+    private final Supplier<UUID> tenantIdSupplier;
+
+    private final Scope metricsScope;
 
-    private volatile String token;
+    // A lock instead of a monitor, the token request blocks on I/O and must not pin virtual thread carriers
+    private final ReentrantLock lock = new ReentrantLock();
 
-    private volatile Instant tokenExpireAt;
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean(false);
+
+    private final ScheduledExecutorService scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "kuflow-authorization-token-refresh");
+        thread.setDaemon(true);
+
+        return thread;
+    });
+
+    private volatile Token token;
+
+    private volatile boolean closed = false;
+
+    private int consecutiveFailures = 0;
 
     public KuFlowAuthorizationTokenSupplier(KuFlowRestClient kuFlowRestClient, WorkerInformation workerInformation) {
+        this(kuFlowRestClient, workerInformation::getTenantId);
+    }
+
+    /**
+     * Supply tokens of the tenant returned by the supplier, read every time a token is requested.
+     *
+     * @param kuFlowRestClient rest client to connect to KuFlow service.
+     * @param tenantIdSupplier supplies the tenant id, or {@code null} to use the tenant of the credentials.
+     */
+    public KuFlowAuthorizationTokenSupplier(KuFlowRestClient kuFlowRestClient, Supplier<UUID> tenantIdSupplier) {
+        this(kuFlowRestClient, tenantIdSupplier, null);
+    }
+
+    /**
+     * Supply tokens of the tenant returned by the supplier, read every time a token is requested.
+     *
+     * @param kuFlowRestClient rest client to connect to KuFlow service.
+     * @param tenantIdSupplier supplies the tenant id, or {@code null} to use the tenant of the credentials.
+     * @param metricsScope scope where the refresh latency and failures are reported, {@code null} to not report them.
+     */
+    public KuFlowAuthorizationTokenSupplier(
+        KuFlowRestClient kuFlowRestClient,
+        Supplier<UUID> tenantIdSupplier,
+        @Nullable Scope metricsScope
+    ) {
         this.authenticationOperations = kuFlowRestClient.getAuthenticationOperations();
-        this.workerInformation = workerInformation;
+        this.tenantIdSupplier = tenantIdSupplier;
+        this.metricsScope = metricsScope != null ? metricsScope : new NoopScope();
     }
 
     @Override
@@ -64,43 +135,158 @@ public class KuFlowAuthorizationTokenSupplier implements AuthorizationTokenSuppl
         return "Bearer " + token;
     }
 
+    /**
+     * Stop the background renewal. Tokens requested after closing are renewed on demand.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        this.scheduledExecutorService.shutdownNow();
+    }
+
     private String requestToken() {
-        String token = this.token;
-        Instant tokenExpireAt = this.tokenExpireAt;
-        if (isTokenNonExpired(token, tokenExpireAt)) {
-            return token;
+        // A usable token is served without the lock, also while it is being renewed in background
+        Token token = this.token;
+        if (token != null && token.isUsable()) {
+            return token.value();
         }
 
-        synchronized (this) {
+        this.lock.lock();
+        try {
             token = this.token;
-            tokenExpireAt = this.tokenExpireAt;
-            if (isTokenNonExpired(token, tokenExpireAt)) {
-                return token;
+            if (token != null && token.isUsable()) {
+                return token.value();
             }
 
+            token = this.refreshToken();
+            this.scheduleRefresh(Duration.between(Instant.now(), token.refreshAt()));
+
+            return token.value();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void refreshInBackground() {
+        if (this.closed) {
+            return;
+        }
+
+        Duration nextRefreshDelay;
+        try {
+            Token token = this.token;
+            if (token == null || token.isRefreshDue()) {
+                token = this.renewToken(token);
+            }
+            this.consecutiveFailures = 0;
+
+            nextRefreshDelay = Duration.between(Instant.now(), token.refreshAt());
+        } catch (RuntimeException e) {
+            this.consecutiveFailures++;
+
+            long backoffMillis = RETRY_INITIAL_BACKOFF.toMillis() << Math.min(this.consecutiveFailures - 1, 16);
+            nextRefreshDelay = withJitter(Duration.ofMillis(Math.min(backoffMillis, RETRY_MAX_BACKOFF.toMillis())));
+
+            LOGGER.warn("Unable to renew the JWT Temporal authorization token, retrying in {}", nextRefreshDelay, e);
+        }
+
+        // The flag is never cleared, so that callers cannot schedule a retry that skips the backoff
+        this.schedule(nextRefreshDelay);
+    }
+
+    private Token renewToken(Token token) {
+        if (token != null && token.isUsable()) {
+            // Callers keep using the current token, there is no need to make them wait for the new one
+            return this.refreshToken();
+        }
+
+        this.lock.lock();
+        try {
+            Token current = this.token;
+            if (current != null && current.isUsable() && !current.isRefreshDue()) {
+                return current;
+            }
+
+            return this.refreshToken();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private Token refreshToken() {
+        Stopwatch stopwatch = this.metricsScope.timer(METRIC_REFRESH_LATENCY).start();
+        Authentication authentication;
+        try {
             AuthenticationCreateParams params = new AuthenticationCreateParams()
                 .setType(AuthenticationType.ENGINE_TOKEN)
-                .setTenantId(this.workerInformation.getTenantId());
+                .setTenantId(this.tenantIdSupplier.get());
 
-            Authentication authentication = this.authenticationOperations.createAuthentication(params);
-            AuthenticationEngineToken authenticationEngineToken = authentication.getEngineToken();
+            authentication = this.authenticationOperations.createAuthentication(params);
+        } catch (RuntimeException e) {
+            this.metricsScope.counter(METRIC_REFRESH_FAILURES).inc(1);
+            throw e;
+        } finally {
+            stopwatch.stop();
+        }
 
-            Duration expireDuration = Duration.between(Instant.now(), authenticationEngineToken.getExpiredAt());
-            expireDuration = Duration.ofSeconds((long) (expireDuration.getSeconds() * EXPIRE_PERCENTAGE));
-            if (expireDuration.compareTo(EXPIRE_MAX_DURATION) > 0) {
-                expireDuration = EXPIRE_MAX_DURATION;
-            }
+        AuthenticationEngineToken authenticationEngineToken = authentication.getEngineToken();
+
+        Instant now = Instant.now();
+        Duration lifetime = Duration.between(now, authenticationEngineToken.getExpiredAt());
+        Duration refreshDuration = Duration.ofSeconds((long) (lifetime.getSeconds() * REFRESH_PERCENTAGE));
+        if (refreshDuration.compareTo(REFRESH_MAX_DURATION) > 0) {
+            refreshDuration = REFRESH_MAX_DURATION;
+        }
+        refreshDuration = withJitter(refreshDuration);
+
+        Instant refreshAt = now.plus(refreshDuration);
+        Instant expireAt = authenticationEngineToken.getExpiredAt().toInstant().minus(EXPIRE_SAFETY_MARGIN);
+        if (expireAt.isBefore(refreshAt)) {
+            expireAt = refreshAt;
+        }
+
+        Token token = new Token(authenticationEngineToken.getToken(), refreshAt, expireAt);
+        this.token = token;
 
-            this.token = token = authenticationEngineToken.getToken();
-            this.tokenExpireAt = tokenExpireAt = Instant.now().plus(expireDuration);
+        LOGGER.debug("Regenerated JWT Temporal authorization token. Refresh at: {}, expired at: {}", refreshAt, expireAt);
 
-            LOGGER.debug("Regenerated JWT Temporal authorization token. Expired at: {}", tokenExpireAt);
+        return token;
+    }
 
-            return token;
+    private void scheduleRefresh(Duration delay) {
+        // Only the first token starts the background renewal, then each renewal schedules the next one
+        if (this.closed || !this.refreshScheduled.compareAndSet(false, true)) {
+            return;
         }
+
+        this.schedule(delay);
     }
 
-    private static boolean isTokenNonExpired(String token, Instant tokenExpireAt) {
-        return token != null && tokenExpireAt != null && Instant.now().isBefore(tokenExpireAt);
+    private void schedule(Duration delay) {
+        if (this.closed) {
+            return;
+        }
+
+        try {
+            this.scheduledExecutorService.schedule(this::refreshInBackground, Math.max(delay.toMillis(), 0), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("The JWT Temporal authorization token renewal is not scheduled, the supplier is closed");
+        }
+    }
+
+    private static Duration withJitter(Duration duration) {
+        double jitter = 1 - ThreadLocalRandom.current().nextDouble(REFRESH_JITTER_PERCENTAGE);
+
+        return Duration.ofMillis((long) (duration.toMillis() * jitter));
+    }
+
+    private record Token(String value, Instant refreshAt, Instant expireAt) {
+        boolean isUsable() {
+            return Instant.now().isBefore(this.expireAt);
+        }
+
+        boolean isRefreshDue() {
+            return !Instant.now().isBefore(this.refreshAt);
+        }
     }
 }
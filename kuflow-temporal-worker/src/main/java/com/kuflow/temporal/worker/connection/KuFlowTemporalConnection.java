@@ -24,7 +24,6 @@
 package com.kuflow.temporal.worker.connection;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kuflow.rest.KuFlowRestClient;
@@ -38,6 +37,7 @@ import com.kuflow.temporal.worker.authorization.KuFlowAuthorizationTokenSupplier
 import com.kuflow.temporal.worker.connection.WorkerBuilder.ActivityImplementationRegister;
 import com.kuflow.temporal.worker.connection.WorkerBuilder.WorkflowImplementationRegister;
 import com.kuflow.temporal.worker.encryption.codec.EncryptionPayloadCodec;
+import com.kuflow.temporal.worker.encryption.codec.KmsKeyCache;
 import com.kuflow.temporal.worker.encryption.converter.EncryptionPayloadConverter;
 import com.kuflow.temporal.worker.encryption.interceptors.EncryptionWorkerInterceptor;
 import com.kuflow.temporal.worker.encryption.interceptors.EncryptionWorkflowClientInterceptor;
@@ -58,8 +58,11 @@ import io.temporal.serviceclient.WorkflowServiceStubsOptions;
 import io.temporal.worker.Worker;
 import io.temporal.worker.WorkerFactory;
 import io.temporal.worker.WorkerFactoryOptions;
+import io.temporal.worker.WorkerOptions;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
@@ -79,6 +82,12 @@ public class KuFlowTemporalConnection {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(KuFlowTemporalConnection.class);
 
+    private static final int VIRTUAL_THREADS_MIN_JAVA_VERSION = 21;
+
+    private static final int VIRTUAL_THREADS_MAX_CONCURRENT_ACTIVITY_EXECUTION_SIZE = 2_000;
+
+    private static final int VIRTUAL_THREADS_MAX_CONCURRENT_LOCAL_ACTIVITY_EXECUTION_SIZE = 2_000;
+
     private final KuFlowRestClient kuFlowRestClient;
 
     private final WorkflowServiceStubsOptions.Builder workflowServiceStubsBuilder = WorkflowServiceStubsOptions.newBuilder();
@@ -88,12 +97,16 @@ public class KuFlowTemporalConnection {
     private final WorkerInformationNotifierConfigurationBuilder workerInformationNotifierConfigurationBuilder =
         WorkerInformationNotifierConfigurationBuilder.instance();
 
-    private WorkerBuilder workerBuilder;
+    private final Map<String, WorkerBuilder> workerBuilders = new LinkedHashMap<>();
 
-    private WorkerInformation workerInformation;
+    private final Map<String, WorkerInformation> workerInformationByTaskQueue = new LinkedHashMap<>();
 
     private WorkerInformationNotifier workerInformationNotifier;
 
+    private KuFlowAuthorizationTokenSupplier authorizationTokenSupplier;
+
+    private KmsKeyCache kmsKeyCache;
+
     private WorkflowServiceStubs workflowServiceStubs;
 
     private WorkflowClient workflowClient;
@@ -106,6 +119,8 @@ public class KuFlowTemporalConnection {
 
     private List<UUID> robotIds;
 
+    private boolean virtualThreads = false;
+
     private boolean started = false;
 
     /**
@@ -153,12 +168,43 @@ public class KuFlowTemporalConnection {
         return this.createWorkerFactory();
     }
 
+    /**
+     * Get the worker of the first configured task queue.
+     */
     public Worker getWorker() {
-        return this.workerInformation.getWorker();
+        WorkerInformation workerInformation = this.getWorkerInformation();
+
+        return workerInformation != null ? workerInformation.getWorker() : null;
+    }
+
+    /**
+     * Get the worker of a task queue.
+     */
+    public Worker getWorker(String taskQueue) {
+        WorkerInformation workerInformation = this.getWorkerInformation(taskQueue);
+
+        return workerInformation != null ? workerInformation.getWorker() : null;
     }
 
+    /**
+     * Get the information of the first configured task queue.
+     */
     public WorkerInformation getWorkerInformation() {
-        return this.workerInformation;
+        return this.workerInformationByTaskQueue.values().stream().findFirst().orElse(null);
+    }
+
+    /**
+     * Get the information of the worker of a task queue.
+     */
+    public WorkerInformation getWorkerInformation(String taskQueue) {
+        return this.workerInformationByTaskQueue.get(taskQueue);
+    }
+
+    /**
+     * Get the information of all the configured workers, in configuration order.
+     */
+    public List<WorkerInformation> getWorkerInformationList() {
+        return List.copyOf(this.workerInformationByTaskQueue.values());
     }
 
     public KuFlowTemporalConnection withInstallationId(@Nullable UUID installationId) {
@@ -199,6 +245,19 @@ public class KuFlowTemporalConnection {
         return this;
     }
 
+    /**
+     * Run workflow threads and the task executors of every worker on virtual threads. Workers whose {@link WorkerOptions} do
+     * not set the activity slot limits get limits sized for I/O-bound activities instead of the platform thread defaults.
+     * Requires Java 21 or later at runtime.
+     */
+    public KuFlowTemporalConnection withVirtualThreads(boolean virtualThreads) {
+        this.checkIsNotStarted();
+
+        this.virtualThreads = virtualThreads;
+
+        return this;
+    }
+
     public KuFlowTemporalConnection configureWorkerInformationNotifierConfiguration(
         Consumer<WorkerInformationNotifierConfigurationBuilder> configurer
     ) {
@@ -232,7 +291,10 @@ public class KuFlowTemporalConnection {
     }
 
     /**
-     * Configure a {@link Worker} to be started
+     * Configure a {@link Worker} to be started.
+     * <p>
+     * Each call configures the worker of a task queue, replacing the previous configuration of the same task queue. All
+     * the workers share the same {@link WorkflowServiceStubs}, {@link WorkflowClient} and {@link WorkerFactory}.
      */
     public synchronized KuFlowTemporalConnection configureWorker(Consumer<WorkerBuilder> configurer) {
         this.checkIsNotStarted();
@@ -240,8 +302,9 @@ public class KuFlowTemporalConnection {
         WorkerBuilder workerBuilder = WorkerBuilder.instance();
         configurer.accept(workerBuilder);
 
-        this.workerBuilder = workerBuilder;
-        this.workerInformation = new WorkerInformation(workerBuilder);
+        String taskQueue = Objects.requireNonNull(workerBuilder.getTaskQueue(), "'taskQueue' is required");
+        this.workerBuilders.put(taskQueue, workerBuilder);
+        this.workerInformationByTaskQueue.put(taskQueue, new WorkerInformation(workerBuilder));
 
         return this;
     }
@@ -256,9 +319,11 @@ public class KuFlowTemporalConnection {
 
         LOGGER.info("Starting KuFlowTemporal Connection");
 
-        this.workerInformation.setInstallationId(this.installationId);
-        this.workerInformation.setTenantId(this.tenantId);
-        this.workerInformation.setRobotIds(this.robotIds);
+        this.workerInformationByTaskQueue.values().forEach(workerInformation -> {
+            workerInformation.setInstallationId(this.installationId);
+            workerInformation.setTenantId(this.tenantId);
+            workerInformation.setRobotIds(this.robotIds);
+        });
 
         this.applyDefaultConfiguration();
 
@@ -266,7 +331,7 @@ public class KuFlowTemporalConnection {
             this.kuFlowRestClient,
             this.workflowClientBuilder.validateAndBuildWithDefaults(),
             this.workerInformationNotifierConfigurationBuilder.build(),
-            List.of(this.workerInformation)
+            this.getWorkerInformationList()
         );
         this.workerInformationNotifier.start();
 
@@ -304,6 +369,10 @@ public class KuFlowTemporalConnection {
             this.workerFactory.awaitTermination(timeout, unit);
         }
         this.workflowServiceStubs.shutdown();
+        this.authorizationTokenSupplier.close();
+        if (this.kmsKeyCache != null) {
+            this.kmsKeyCache.close();
+        }
 
         this.started = false;
     }
@@ -332,8 +401,13 @@ public class KuFlowTemporalConnection {
             this.workflowServiceStubsBuilder.setTarget("engine.kuflow.com:443");
         }
 
+        this.authorizationTokenSupplier = new KuFlowAuthorizationTokenSupplier(
+            this.kuFlowRestClient,
+            () -> this.tenantId,
+            this.workflowServiceStubsBuilder.build().getMetricsScope()
+        );
         AuthorizationGrpcMetadataProvider authorizationGrpcMetadataProvider = new AuthorizationGrpcMetadataProvider(
-            new KuFlowAuthorizationTokenSupplier(this.kuFlowRestClient, this.workerInformation)
+            this.authorizationTokenSupplier
         );
 
         WorkflowServiceStubsOptions options = this.workflowServiceStubsBuilder
@@ -372,19 +446,24 @@ public class KuFlowTemporalConnection {
 
         WorkflowClient workflowClient = this.getOrCreateWorkflowClient();
 
+        if (this.virtualThreads || this.workerBuilders.values().stream().anyMatch(WorkerBuilder::isVirtualThreads)) {
+            checkVirtualThreadsAreSupported(Runtime.version());
+        }
+
         WorkerFactoryOptions workerFactoryOptions = WorkerFactoryOptions.newBuilder()
             .setWorkerInterceptors(new EncryptionWorkerInterceptor())
+            .setUsingVirtualWorkflowThreads(this.virtualThreads)
             .validateAndBuildWithDefaults();
 
         this.workerFactory = WorkerFactory.newInstance(workflowClient, workerFactoryOptions);
 
-        this.newWorker(this.workerBuilder);
+        this.workerBuilders.values().forEach(this::newWorker);
 
         return this.workerFactory;
     }
 
     private void newWorker(WorkerBuilder workerBuilder) {
-        Worker worker = this.workerFactory.newWorker(workerBuilder.getTaskQueue(), workerBuilder.getWorkerOptions());
+        Worker worker = this.workerFactory.newWorker(workerBuilder.getTaskQueue(), this.workerOptions(workerBuilder));
 
         workerBuilder
             .getWorkflowImplementationClasses()
@@ -394,7 +473,55 @@ public class KuFlowTemporalConnection {
             .getActivityImplementations()
             .forEach(activityImplementationRegister -> this.configureWorker(worker, activityImplementationRegister));
 
-        this.workerInformation.registerWorker(worker);
+        this.workerInformationByTaskQueue.get(workerBuilder.getTaskQueue()).registerWorker(worker);
+    }
+
+    WorkerOptions workerOptions(WorkerBuilder workerBuilder) {
+        WorkerOptions workerOptions = workerBuilder.getWorkerOptions();
+        boolean virtualThreads = this.virtualThreads || workerBuilder.isVirtualThreads();
+        if (
+            !virtualThreads &&
+            workerBuilder.getWorkerTuner() == null &&
+            workerBuilder.getWorkflowTaskPollersBehavior() == null &&
+            workerBuilder.getActivityTaskPollersBehavior() == null
+        ) {
+            return workerOptions;
+        }
+
+        WorkerOptions.Builder builder = WorkerOptions.newBuilder(workerOptions);
+        if (workerBuilder.getWorkerTuner() != null) {
+            builder.setWorkerTuner(workerBuilder.getWorkerTuner());
+        }
+        if (workerBuilder.getWorkflowTaskPollersBehavior() != null) {
+            builder.setWorkflowTaskPollersBehavior(workerBuilder.getWorkflowTaskPollersBehavior());
+        }
+        if (workerBuilder.getActivityTaskPollersBehavior() != null) {
+            builder.setActivityTaskPollersBehavior(workerBuilder.getActivityTaskPollersBehavior());
+        }
+
+        boolean tuned = workerBuilder.getWorkerTuner() != null || (workerOptions != null && workerOptions.getWorkerTuner() != null);
+        if (virtualThreads) {
+            builder.setUsingVirtualThreads(true);
+        }
+        // A tuner owns the slot limits, so only unset sizes are raised
+        if (virtualThreads && !tuned) {
+            if (workerOptions == null || workerOptions.getMaxConcurrentActivityExecutionSize() == 0) {
+                builder.setMaxConcurrentActivityExecutionSize(VIRTUAL_THREADS_MAX_CONCURRENT_ACTIVITY_EXECUTION_SIZE);
+            }
+            if (workerOptions == null || workerOptions.getMaxConcurrentLocalActivityExecutionSize() == 0) {
+                builder.setMaxConcurrentLocalActivityExecutionSize(VIRTUAL_THREADS_MAX_CONCURRENT_LOCAL_ACTIVITY_EXECUTION_SIZE);
+            }
+        }
+
+        return builder.build();
+    }
+
+    static void checkVirtualThreadsAreSupported(Runtime.Version version) {
+        if (version.feature() < VIRTUAL_THREADS_MIN_JAVA_VERSION) {
+            throw new IllegalStateException(
+                "Virtual threads require Java " + VIRTUAL_THREADS_MIN_JAVA_VERSION + " or later, running " + version
+            );
+        }
     }
 
     private void configureWorker(Worker worker, WorkflowImplementationRegister workflowImplementationRegister) {
@@ -416,7 +543,6 @@ public class KuFlowTemporalConnection {
         // Customize Temporal default Jackson object mapper to support unknown properties
         ObjectMapper objectMapper = JacksonJsonPayloadConverter.newDefaultObjectMapper();
         objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        objectMapper.configure(JsonParser.Feature.INCLUDE_SOURCE_IN_LOCATION, true);
         objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
         objectMapper.registerModule(new AutorestModule());
         objectMapper.registerModule(new KuFlowModule());
@@ -427,7 +553,12 @@ public class KuFlowTemporalConnection {
             new EncryptionPayloadConverter(jacksonJsonPayloadConverter)
         );
 
-        EncryptionPayloadCodec encryptionPayloadCodec = new EncryptionPayloadCodec(this.kuFlowRestClient);
+        // One key cache per connection, closed with it
+        this.kmsKeyCache = new KmsKeyCache(this.kuFlowRestClient);
+        EncryptionPayloadCodec encryptionPayloadCodec = new EncryptionPayloadCodec(
+            this.kmsKeyCache,
+            this.workflowServiceStubsBuilder.build().getMetricsScope()
+        );
 
         return new CodecDataConverter(dataConverter, List.of(encryptionPayloadCodec));
     }
@@ -435,7 +566,7 @@ public class KuFlowTemporalConnection {
     private void applyDefaultConfiguration() {
         AuthenticationCreateParams params = new AuthenticationCreateParams()
             .setType(AuthenticationType.ENGINE_CERTIFICATE)
-            .setTenantId(this.workerInformation.getTenantId());
+            .setTenantId(this.tenantId);
 
         Authentication authentication = this.kuFlowRestClient.getAuthenticationOperations().createAuthentication(params);
 
@@ -25,6 +25,11 @@ package com.kuflow.temporal.worker.connection;
 
 import io.temporal.worker.WorkerOptions;
 import io.temporal.worker.WorkflowImplementationOptions;
+import io.temporal.worker.tuning.PollerBehavior;
+import io.temporal.worker.tuning.PollerBehaviorAutoscaling;
+import io.temporal.worker.tuning.ResourceBasedControllerOptions;
+import io.temporal.worker.tuning.ResourceBasedTuner;
+import io.temporal.worker.tuning.WorkerTuner;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -34,10 +39,22 @@ public class WorkerBuilder {
         return new WorkerBuilder();
     }
 
+    private static final double DEFAULT_TARGET_MEMORY_USAGE = 0.8;
+
+    private static final double DEFAULT_TARGET_CPU_USAGE = 0.9;
+
     private String taskQueue;
 
     private WorkerOptions workerOptions;
 
+    private boolean virtualThreads;
+
+    private WorkerTuner workerTuner;
+
+    private PollerBehavior workflowTaskPollersBehavior;
+
+    private PollerBehavior activityTaskPollersBehavior;
+
     private final List<ActivityImplementationRegister> activityImplementations = new LinkedList<>();
 
     private final List<WorkflowImplementationRegister> workflowImplementationClasses = new LinkedList<>();
@@ -58,12 +75,123 @@ public class WorkerBuilder {
         return this.workerOptions;
     }
 
+    /**
+     * Set the options of the worker. When a tuner or poller autoscaling is also configured, the options must leave unset the
+     * slot and poller limits they replace, so build them with {@link WorkerOptions.Builder#build()} rather than
+     * {@link WorkerOptions.Builder#validateAndBuildWithDefaults()}, which fills in these limits.
+     *
+     * @throws IllegalArgumentException if the options set limits owned by the tuner or by poller autoscaling.
+     */
     public WorkerBuilder withWorkerOptions(WorkerOptions workerOptions) {
         this.workerOptions = workerOptions;
+        this.checkWorkerOptions();
+
+        return this;
+    }
+
+    public boolean isVirtualThreads() {
+        return this.virtualThreads;
+    }
+
+    /**
+     * Run the activity, local activity, workflow and nexus task executors of this worker on virtual threads. Requires Java 21
+     * or later at runtime.
+     */
+    public WorkerBuilder withVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+
+        return this;
+    }
+
+    public WorkerTuner getWorkerTuner() {
+        return this.workerTuner;
+    }
+
+    /**
+     * Set the tuner that owns the task slots of this worker. It replaces the tuner and the
+     * {@code maxConcurrent*ExecutionSize} limits of the {@link WorkerOptions}, so these limits must be left unset. Slot usage is
+     * reported by the {@code temporal_worker_task_slots_used} and {@code temporal_worker_task_slots_available} metrics of the
+     * metrics scope configured in the workflow service stubs.
+     *
+     * @throws IllegalArgumentException if the {@link WorkerOptions} set any {@code maxConcurrent*ExecutionSize} limit.
+     */
+    public WorkerBuilder withWorkerTuner(WorkerTuner workerTuner) {
+        this.workerTuner = workerTuner;
+        this.checkWorkerOptions();
+
+        return this;
+    }
+
+    /**
+     * Hand out task slots only while the memory and CPU usage of the process, as fractions between 0 and 1, stay under the
+     * targets.
+     */
+    public WorkerBuilder withResourceBasedTuner(double targetMemoryUsage, double targetCpuUsage) {
+        if (targetMemoryUsage <= 0 || targetMemoryUsage > 1) {
+            throw new IllegalArgumentException("'targetMemoryUsage' must be greater than 0 and less than or equal to 1");
+        }
+        if (targetCpuUsage <= 0 || targetCpuUsage > 1) {
+            throw new IllegalArgumentException("'targetCpuUsage' must be greater than 0 and less than or equal to 1");
+        }
+
+        ResourceBasedControllerOptions controllerOptions = ResourceBasedControllerOptions.newBuilder(
+            targetMemoryUsage,
+            targetCpuUsage
+        ).build();
+
+        return this.withWorkerTuner(ResourceBasedTuner.newBuilder().setControllerOptions(controllerOptions).build());
+    }
+
+    public PollerBehavior getWorkflowTaskPollersBehavior() {
+        return this.workflowTaskPollersBehavior;
+    }
+
+    public PollerBehavior getActivityTaskPollersBehavior() {
+        return this.activityTaskPollersBehavior;
+    }
+
+    /**
+     * Scale the workflow and activity task pollers between the minimum and the maximum depending on the load of the task queue.
+     */
+    public WorkerBuilder withPollerAutoscaling(int minimum, int maximum, int initial) {
+        if (minimum < 1) {
+            throw new IllegalArgumentException("'minimum' must be greater than 0");
+        }
+        if (maximum < minimum) {
+            throw new IllegalArgumentException("'maximum' must be greater than or equal to 'minimum'");
+        }
+        if (initial < minimum || initial > maximum) {
+            throw new IllegalArgumentException("'initial' must be between 'minimum' and 'maximum'");
+        }
+
+        PollerBehavior pollerBehavior = new PollerBehaviorAutoscaling(minimum, maximum, initial);
+        this.workflowTaskPollersBehavior = pollerBehavior;
+        this.activityTaskPollersBehavior = pollerBehavior;
+        this.checkWorkerOptions();
+
+        return this;
+    }
+
+    /**
+     * Scale the workflow and activity task pollers with the Temporal default limits.
+     */
+    public WorkerBuilder withPollerAutoscaling() {
+        PollerBehavior pollerBehavior = new PollerBehaviorAutoscaling();
+        this.workflowTaskPollersBehavior = pollerBehavior;
+        this.activityTaskPollersBehavior = pollerBehavior;
+        this.checkWorkerOptions();
 
         return this;
     }
 
+    /**
+     * Size the worker to the resources of the process (the container limits when running in a pod): a resource based tuner
+     * targeting 80% of memory and 90% of CPU, and autoscaling pollers.
+     */
+    public WorkerBuilder withDefaultTuning() {
+        return this.withResourceBasedTuner(DEFAULT_TARGET_MEMORY_USAGE, DEFAULT_TARGET_CPU_USAGE).withPollerAutoscaling();
+    }
+
     public List<ActivityImplementationRegister> getActivityImplementations() {
         return this.activityImplementations;
     }
@@ -90,6 +218,42 @@ public class WorkerBuilder {
         return this;
     }
 
+    // Temporal only rejects these combinations when the worker is created, with a message that does not mention the builder
+    private void checkWorkerOptions() {
+        if (this.workerOptions == null) {
+            return;
+        }
+
+        if (this.workerTuner != null) {
+            checkUnset(
+                "maxConcurrentWorkflowTaskExecutionSize",
+                this.workerOptions.getMaxConcurrentWorkflowTaskExecutionSize(),
+                "a worker tuner"
+            );
+            checkUnset("maxConcurrentActivityExecutionSize", this.workerOptions.getMaxConcurrentActivityExecutionSize(), "a worker tuner");
+            checkUnset(
+                "maxConcurrentLocalActivityExecutionSize",
+                this.workerOptions.getMaxConcurrentLocalActivityExecutionSize(),
+                "a worker tuner"
+            );
+            checkUnset("maxConcurrentNexusExecutionSize", this.workerOptions.getMaxConcurrentNexusExecutionSize(), "a worker tuner");
+        }
+        if (this.workflowTaskPollersBehavior != null) {
+            checkUnset("maxConcurrentWorkflowTaskPollers", this.workerOptions.getMaxConcurrentWorkflowTaskPollers(), "poller autoscaling");
+        }
+        if (this.activityTaskPollersBehavior != null) {
+            checkUnset("maxConcurrentActivityTaskPollers", this.workerOptions.getMaxConcurrentActivityTaskPollers(), "poller autoscaling");
+        }
+    }
+
+    private static void checkUnset(String name, int value, String owner) {
+        if (value != 0) {
+            throw new IllegalArgumentException(
+                "'" + name + "' of the worker options must be left unset when using " + owner + ", found " + value
+            );
+        }
+    }
+
     public static final class WorkflowImplementationRegister {
 
         public static WorkflowImplementationRegister of(WorkflowImplementationOptions options, Class<?>... workflowImplementationClasses) {
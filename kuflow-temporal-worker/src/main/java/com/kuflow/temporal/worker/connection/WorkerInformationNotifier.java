@@ -114,10 +114,17 @@ public class WorkerInformationNotifier {
 
     private void createOrUpdateWorkers() {
         InetAddress localHostInetAddress = this.getLocalHostInetAddress();
-        this.workerInformationList.forEach(workerInformation -> this.createOrUpdateWorker(workerInformation, localHostInetAddress));
+
+        // A single failure triggers the backoff, even when the other workers are registered
+        boolean failed = false;
+        for (WorkerInformation workerInformation : this.workerInformationList) {
+            failed |= !this.createOrUpdateWorker(workerInformation, localHostInetAddress);
+        }
+
+        this.consecutiveFailures = failed ? this.consecutiveFailures + 1 : 0;
     }
 
-    private void createOrUpdateWorker(WorkerInformation workerInformation, InetAddress localHostInetAddress) {
+    private boolean createOrUpdateWorker(WorkerInformation workerInformation, InetAddress localHostInetAddress) {
         String workerIdentity = this.workflowClientOptions.getIdentity();
 
         try {
@@ -141,15 +148,16 @@ public class WorkerInformationNotifier {
                 workerIdentity,
                 workerRestResponse.getValue().getId()
             );
-            this.consecutiveFailures = 0;
-
             HttpHeader delayWindowHeader = workerRestResponse.getHeaders().get(HttpHeaderName.fromString(HEADER_X_KF_DELAY_WINDOW));
             if (delayWindowHeader != null) {
                 this.delayWindow = Duration.ofSeconds(Long.parseLong(delayWindowHeader.getValue()));
             }
+
+            return true;
         } catch (Exception e) {
             LOGGER.error("There are some problems registering worker {}/{}", workerInformation.getTaskQueue(), workerIdentity, e);
-            this.consecutiveFailures++;
+
+            return false;
         }
     }
 
@@ -36,6 +36,7 @@ public class EncryptionStateHolder {
     }
 
     public static void execute(boolean encryption, @Nullable String keyId, Action action) {
+        String previousKeyId = EncryptionStateHolder.KEY_ID.get();
         try {
             if (encryption && keyId != null) {
                 EncryptionStateHolder.KEY_ID.set(keyId);
@@ -43,7 +44,12 @@ public class EncryptionStateHolder {
 
             action.execute();
         } finally {
-            EncryptionStateHolder.KEY_ID.remove();
+            // Restore the enclosing state so nested calls do not clear it, and never leave a value on pooled threads
+            if (previousKeyId != null) {
+                EncryptionStateHolder.KEY_ID.set(previousKeyId);
+            } else {
+                EncryptionStateHolder.KEY_ID.remove();
+            }
         }
     }
 
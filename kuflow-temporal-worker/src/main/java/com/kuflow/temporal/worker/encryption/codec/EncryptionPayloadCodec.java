@@ -23,42 +23,67 @@
 
 package com.kuflow.temporal.worker.encryption.codec;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.google.protobuf.ByteString;
 import com.kuflow.rest.KuFlowRestClient;
-import com.kuflow.rest.model.KmsKey;
-import com.kuflow.rest.operation.KmsOperations;
 import com.kuflow.temporal.common.crypto.CipherUtils;
 import com.kuflow.temporal.worker.encryption.EncryptionConstant;
+import com.uber.m3.tally.NoopScope;
+import com.uber.m3.tally.Scope;
+import com.uber.m3.tally.Stopwatch;
 import io.temporal.api.common.v1.Payload;
 import io.temporal.payload.codec.PayloadCodec;
 import io.temporal.payload.codec.PayloadCodecException;
 import java.util.Base64;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
+import java.util.Objects;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.crypto.SecretKey;
-import javax.crypto.spec.SecretKeySpec;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 public class EncryptionPayloadCodec implements PayloadCodec {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(EncryptionPayloadCodec.class);
+    public static final String METRIC_KMS_KEY_CACHE_HIT = "kuflow_kms_key_cache_hit";
 
-    private final Cache<String, KmsKey> kmsKeyCache = CacheBuilder.newBuilder()
-        .expireAfterAccess(1, TimeUnit.HOURS)
-        .removalListener(listener -> {
-            LOGGER.info("Removed KMS key {} from cache", listener.getKey());
-        })
-        .build();
+    public static final String METRIC_KMS_KEY_CACHE_MISS = "kuflow_kms_key_cache_miss";
 
-    private final KmsOperations kmsOperations;
+    public static final String METRIC_KMS_KEY_LOAD_LATENCY = "kuflow_kms_key_load_latency";
 
+    public static final String METRIC_KMS_KEY_LOAD_FAILURES = "kuflow_kms_key_load_failures";
+
+    private final KmsKeyCache kmsKeyCache;
+
+    private final Scope metricsScope;
+
+    /**
+     * Codec that encrypts the payloads with the KMS keys of KuFlow, using its own key cache. Prefer
+     * {@link #EncryptionPayloadCodec(KmsKeyCache, Scope)} to share the keys between codecs.
+     *
+     * @param kuFlowRestClient rest client to connect to KuFlow service.
+     */
     public EncryptionPayloadCodec(KuFlowRestClient kuFlowRestClient) {
-        this.kmsOperations = kuFlowRestClient.getKmsOperations();
+        this(kuFlowRestClient, null);
+    }
+
+    /**
+     * Codec that encrypts the payloads with the KMS keys of KuFlow, using its own key cache. Prefer
+     * {@link #EncryptionPayloadCodec(KmsKeyCache, Scope)} to share the keys between codecs.
+     *
+     * @param kuFlowRestClient rest client to connect to KuFlow service.
+     * @param metricsScope scope where the key cache hits, misses and load latency are reported, {@code null} to not report them.
+     */
+    public EncryptionPayloadCodec(KuFlowRestClient kuFlowRestClient, @Nullable Scope metricsScope) {
+        this(new KmsKeyCache(kuFlowRestClient), metricsScope);
+    }
+
+    /**
+     * Codec that encrypts the payloads with the KMS keys of KuFlow.
+     *
+     * @param kmsKeyCache cache of the KMS keys, usually shared by the codecs of a connection.
+     * @param metricsScope scope where the key cache hits, misses and load latency are reported, {@code null} to not report them.
+     */
+    public EncryptionPayloadCodec(KmsKeyCache kmsKeyCache, @Nullable Scope metricsScope) {
+        this.kmsKeyCache = Objects.requireNonNull(kmsKeyCache, "'kmsKeyCache' is required");
+        this.metricsScope = metricsScope != null ? metricsScope : new NoopScope();
     }
 
     @Nonnull
@@ -143,16 +168,29 @@ public class EncryptionPayloadCodec implements PayloadCodec {
     }
 
     private SecretKey retrieveSecretKey(String keyId) {
-        try {
-            KmsKey kmsKey = this.kmsKeyCache.get(keyId, () -> {
-                LOGGER.info("Loading KMS key {} into cache", keyId);
+        SecretKey secretKey = this.kmsKeyCache.getIfPresent(keyId);
+        if (secretKey != null) {
+            this.metricsScope.counter(METRIC_KMS_KEY_CACHE_HIT).inc(1);
+
+            return secretKey;
+        }
+
+        this.metricsScope.counter(METRIC_KMS_KEY_CACHE_MISS).inc(1);
 
-                return this.kmsOperations.retrieveKmsKey(keyId);
-            });
+        RuntimeException failure = this.kmsKeyCache.getRecentFailure(keyId);
+        if (failure != null) {
+            throw new PayloadCodecException("Unable to fetch the key %s".formatted(keyId), failure);
+        }
+
+        Stopwatch stopwatch = this.metricsScope.timer(METRIC_KMS_KEY_LOAD_LATENCY).start();
+        try {
+            return this.kmsKeyCache.load(keyId);
+        } catch (RuntimeException e) {
+            this.metricsScope.counter(METRIC_KMS_KEY_LOAD_FAILURES).inc(1);
 
-            return new SecretKeySpec(kmsKey.getValue(), "AES");
-        } catch (ExecutionException e) {
             throw new PayloadCodecException("Unable to fetch the key %s".formatted(keyId), e);
+        } finally {
+            stopwatch.stop();
         }
     }
 }
@@ -0,0 +1,143 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.temporal.worker.encryption.codec;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.cache.RemovalCause;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.kuflow.rest.KuFlowRestClient;
+import com.kuflow.rest.model.KmsKey;
+import com.kuflow.rest.operation.KmsOperations;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of the KMS keys of a KuFlow client, shared by the codecs of a connection so concurrent loads of the same key
+ * are made once. Keys in use are reloaded in background before they expire while the cached value is still served.
+ * Keys that fail to load are not requested again for a few seconds.
+ *
+ * <p>The cache is bounded, and {@link #close()} stops the background reloads.
+ */
+public class KmsKeyCache implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KmsKeyCache.class);
+
+    private static final long MAXIMUM_SIZE = 1_000;
+
+    private static final Duration KMS_KEY_EXPIRE_AFTER_WRITE = Duration.ofHours(1);
+
+    private static final Duration KMS_KEY_REFRESH_AFTER_WRITE = Duration.ofMinutes(45);
+
+    private static final Duration FAILED_KMS_KEY_EXPIRE_AFTER_WRITE = Duration.ofSeconds(10);
+
+    private static final int RELOAD_THREADS = 2;
+
+    private static final Duration RELOAD_THREAD_KEEP_ALIVE = Duration.ofMinutes(1);
+
+    private final KmsOperations kmsOperations;
+
+    private final ThreadPoolExecutor reloadExecutor;
+
+    private final LoadingCache<String, SecretKey> keys;
+
+    private final Cache<String, RuntimeException> failedKeys;
+
+    public KmsKeyCache(KuFlowRestClient kuFlowRestClient) {
+        this.kmsOperations = kuFlowRestClient.getKmsOperations();
+
+        // Idle threads are released, so a cache that is never closed does not keep threads alive
+        this.reloadExecutor = new ThreadPoolExecutor(
+            RELOAD_THREADS,
+            RELOAD_THREADS,
+            RELOAD_THREAD_KEEP_ALIVE.toMillis(),
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "kuflow-kms-key-reload");
+                thread.setDaemon(true);
+
+                return thread;
+            }
+        );
+        this.reloadExecutor.allowCoreThreadTimeOut(true);
+
+        this.keys = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(KMS_KEY_EXPIRE_AFTER_WRITE)
+            .refreshAfterWrite(KMS_KEY_REFRESH_AFTER_WRITE)
+            .<String, SecretKey>removalListener(notification -> {
+                if (notification.getCause() != RemovalCause.REPLACED) {
+                    LOGGER.info("Removed KMS key {} from cache", notification.getKey());
+                }
+            })
+            .build(CacheLoader.asyncReloading(CacheLoader.from(this::loadSecretKey), this.reloadExecutor));
+
+        this.failedKeys = CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).expireAfterWrite(FAILED_KMS_KEY_EXPIRE_AFTER_WRITE).build();
+    }
+
+    /**
+     * Stop the background reloads. Keys are still served and loaded on demand after closing.
+     */
+    @Override
+    public void close() {
+        this.reloadExecutor.shutdownNow();
+    }
+
+    SecretKey getIfPresent(String keyId) {
+        return this.keys.getIfPresent(keyId);
+    }
+
+    RuntimeException getRecentFailure(String keyId) {
+        return this.failedKeys.getIfPresent(keyId);
+    }
+
+    SecretKey load(String keyId) {
+        try {
+            return this.keys.get(keyId);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            RuntimeException failure = e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+            this.failedKeys.put(keyId, failure);
+
+            throw failure;
+        }
+    }
+
+    private SecretKey loadSecretKey(String keyId) {
+        LOGGER.info("Loading KMS key {} into cache", keyId);
+
+        KmsKey kmsKey = this.kmsOperations.retrieveKmsKey(keyId);
+
+        return new SecretKeySpec(kmsKey.getValue(), "AES");
+    }
+}
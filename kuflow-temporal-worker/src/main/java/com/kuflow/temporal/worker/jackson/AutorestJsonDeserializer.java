@@ -23,44 +23,55 @@
 
 package com.kuflow.temporal.worker.jackson;
 
-import com.azure.core.implementation.ReflectionSerializable;
+import com.azure.json.JsonReader;
 import com.azure.json.JsonSerializable;
-import com.fasterxml.jackson.core.JsonLocation;
-import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import java.io.IOException;
-import java.util.Arrays;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 
 public class AutorestJsonDeserializer extends JsonDeserializer<JsonSerializable<?>> {
 
     private final JavaType type;
 
+    private final MethodHandle fromJson;
+
     public AutorestJsonDeserializer(JavaType type) {
         this.type = type;
+        this.fromJson = findFromJson(type.getRawClass());
     }
 
     @Override
     public JsonSerializable<?> deserialize(JsonParser jsonParser, DeserializationContext deserializationContext) throws IOException {
-        JsonLocation currentLocation = jsonParser.currentLocation();
-        Object rawContent = currentLocation.contentReference().getRawContent();
-        if (currentLocation.getByteOffset() == -1 || !(rawContent instanceof byte[])) {
-            throw new JsonParseException(
+        if (this.fromJson == null) {
+            return (JsonSerializable<?>) deserializationContext.handleMissingInstantiator(
+                this.type.getRawClass(),
+                null,
                 jsonParser,
-                "Unsupported raw content " + (rawContent != null ? rawContent.getClass().getName() : "<null>")
+                "no static 'fromJson(JsonReader)' method"
             );
         }
 
-        Class<?> jsonSerializable = this.type.getRawClass();
-
-        long begin = jsonParser.currentLocation().getByteOffset();
-        jsonParser.skipChildren();
-        long end = jsonParser.currentLocation().getByteOffset();
-
-        byte[] json = Arrays.copyOfRange((byte[]) rawContent, (int) begin - 1, (int) end);
+        try {
+            return (JsonSerializable<?>) this.fromJson.invoke(new JacksonJsonReader(jsonParser));
+        } catch (IOException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
-        return (JsonSerializable<?>) ReflectionSerializable.deserializeAsJsonSerializable(jsonSerializable, json);
+    private static MethodHandle findFromJson(Class<?> jsonSerializable) {
+        try {
+            return MethodHandles.publicLookup()
+                .findStatic(jsonSerializable, "fromJson", MethodType.methodType(jsonSerializable, JsonReader.class))
+                .asType(MethodType.methodType(Object.class, JsonReader.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
     }
 }
@@ -23,7 +23,6 @@
 
 package com.kuflow.temporal.worker.jackson;
 
-import com.azure.core.implementation.ReflectionSerializable;
 import com.azure.json.JsonSerializable;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
@@ -35,7 +34,6 @@ public class AutorestJsonSerializer extends JsonSerializer<JsonSerializable<?>>
     @Override
     public void serialize(JsonSerializable<?> jsonSerializable, JsonGenerator jsonGenerator, SerializerProvider serializerProvider)
         throws IOException {
-        String json = ReflectionSerializable.serializeJsonSerializableToString(jsonSerializable);
-        jsonGenerator.writeRawValue(json);
+        jsonSerializable.toJson(new JacksonJsonWriter(jsonGenerator));
     }
 }
@@ -0,0 +1,170 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.temporal.worker.jackson;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonToken;
+import com.fasterxml.jackson.core.JsonParser;
+import java.io.IOException;
+import java.util.Base64;
+
+/**
+ * azure-json {@link JsonReader} that reads the live token stream of a Jackson {@link JsonParser}, so that a
+ * {@link com.azure.json.JsonSerializable} can be read from any Jackson source (streams, token buffers, trees...)
+ * without copying its JSON first.
+ *
+ * <p>The reader starts at the current token of the parser and, once the model has been read, leaves the parser on
+ * the last token of the value as Jackson expects. The parser is owned by Jackson: closing this reader does not close
+ * it.
+ */
+class JacksonJsonReader extends JsonReader {
+
+    private final JsonParser jsonParser;
+
+    private JsonToken currentToken;
+
+    JacksonJsonReader(JsonParser jsonParser) {
+        this.jsonParser = jsonParser;
+        this.currentToken = mapToken(jsonParser.currentToken(), null);
+    }
+
+    @Override
+    public JsonToken currentToken() {
+        return this.currentToken;
+    }
+
+    @Override
+    public JsonToken nextToken() throws IOException {
+        this.currentToken = mapToken(this.jsonParser.nextToken(), JsonToken.END_DOCUMENT);
+
+        return this.currentToken;
+    }
+
+    @Override
+    public byte[] getBinary() throws IOException {
+        if (this.currentToken == JsonToken.NULL) {
+            return null;
+        }
+
+        return this.jsonParser.getBinaryValue();
+    }
+
+    @Override
+    public boolean getBoolean() throws IOException {
+        return this.jsonParser.getBooleanValue();
+    }
+
+    @Override
+    public float getFloat() throws IOException {
+        return this.jsonParser.getFloatValue();
+    }
+
+    @Override
+    public double getDouble() throws IOException {
+        return this.jsonParser.getDoubleValue();
+    }
+
+    @Override
+    public int getInt() throws IOException {
+        return this.jsonParser.getIntValue();
+    }
+
+    @Override
+    public long getLong() throws IOException {
+        return this.jsonParser.getLongValue();
+    }
+
+    @Override
+    public String getString() throws IOException {
+        if (this.currentToken == JsonToken.NULL) {
+            return null;
+        }
+
+        // Binary values written into a Jackson token buffer are kept as embedded byte arrays
+        if (
+            this.jsonParser.currentToken() == com.fasterxml.jackson.core.JsonToken.VALUE_EMBEDDED_OBJECT &&
+            this.jsonParser.getEmbeddedObject() instanceof byte[] bytes
+        ) {
+            return Base64.getEncoder().encodeToString(bytes);
+        }
+
+        return this.jsonParser.getText();
+    }
+
+    @Override
+    public String getFieldName() throws IOException {
+        return this.jsonParser.currentName();
+    }
+
+    @Override
+    public void skipChildren() throws IOException {
+        this.jsonParser.skipChildren();
+        this.currentToken = mapToken(this.jsonParser.currentToken(), JsonToken.END_DOCUMENT);
+    }
+
+    @Override
+    public JsonReader bufferObject() throws IOException {
+        if (this.currentToken != JsonToken.START_OBJECT && this.currentToken != JsonToken.FIELD_NAME) {
+            throw new IllegalStateException("Cannot buffer a JSON value that isn't an object. Current token: " + this.currentToken);
+        }
+
+        // Only polymorphic models buffer, they need a resettable reader to look for the discriminator
+        return JsonProviders.createReader(this.readRemainingFieldsAsJsonObject());
+    }
+
+    @Override
+    public boolean isResetSupported() {
+        return false;
+    }
+
+    @Override
+    public JsonReader reset() {
+        throw new IllegalStateException("'reset' isn't supported by this JsonReader.");
+    }
+
+    @Override
+    public void close() {
+        // The parser is closed by Jackson
+    }
+
+    private static JsonToken mapToken(com.fasterxml.jackson.core.JsonToken token, JsonToken endToken) {
+        if (token == null) {
+            return endToken;
+        }
+
+        return switch (token) {
+            case START_OBJECT -> JsonToken.START_OBJECT;
+            case END_OBJECT -> JsonToken.END_OBJECT;
+            case START_ARRAY -> JsonToken.START_ARRAY;
+            case END_ARRAY -> JsonToken.END_ARRAY;
+            case FIELD_NAME -> JsonToken.FIELD_NAME;
+            case VALUE_STRING, VALUE_EMBEDDED_OBJECT -> JsonToken.STRING;
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> JsonToken.NUMBER;
+            case VALUE_TRUE, VALUE_FALSE -> JsonToken.BOOLEAN;
+            case VALUE_NULL -> JsonToken.NULL;
+            case NOT_AVAILABLE -> throw new IllegalStateException("Non-blocking Jackson parsers are not supported");
+        };
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.temporal.worker.jackson;
+
+import com.azure.json.JsonToken;
+import com.azure.json.JsonWriteContext;
+import com.azure.json.JsonWriter;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+
+/**
+ * azure-json {@link JsonWriter} that forwards every event to a Jackson {@link JsonGenerator}, so that a
+ * {@link com.azure.json.JsonSerializable} can be written in the middle of a Jackson document without being encoded
+ * to an intermediate String first.
+ *
+ * <p>The generator is owned by Jackson: closing this writer does not close it.
+ */
+class JacksonJsonWriter extends JsonWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonGenerator jsonGenerator;
+
+    private JsonWriteContext context = JsonWriteContext.ROOT;
+
+    JacksonJsonWriter(JsonGenerator jsonGenerator) {
+        this.jsonGenerator = jsonGenerator;
+    }
+
+    @Override
+    public JsonWriteContext getWriteContext() {
+        return this.context;
+    }
+
+    @Override
+    public void close() {
+        // The generator is closed by Jackson
+    }
+
+    @Override
+    public JsonWriter flush() throws IOException {
+        this.jsonGenerator.flush();
+
+        return this;
+    }
+
+    @Override
+    public JsonWriter writeStartObject() throws IOException {
+        this.context.validateToken(JsonToken.START_OBJECT);
+        this.jsonGenerator.writeStartObject();
+        this.context = this.context.updateContext(JsonToken.START_OBJECT);
+
+        return this;
+    }
+
+    @Override
+    public JsonWriter writeEndObject() throws IOException {
+        this.context.validateToken(JsonToken.END_OBJECT);
+        this.jsonGenerator.writeEndObject();
+        this.context = this.context.updateContext(JsonToken.END_OBJECT);
+
+        return this;
+    }
+
+    @Override
+    public JsonWriter writeStartArray() throws IOException {
+        this.context.validateToken(JsonToken.START_ARRAY);
+        this.jsonGenerator.writeStartArray();
+        this.context = this.context.updateContext(JsonToken.START_ARRAY);
+
+        return this;
+    }
+
+    @Override
+    public JsonWriter writeEndArray() throws IOException {
+        this.context.validateToken(JsonToken.END_ARRAY);
+        this.jsonGenerator.writeEndArray();
+        this.context = this.context.updateContext(JsonToken.END_ARRAY);
+
+        return this;
+    }
+
+    @Override
+    public JsonWriter writeFieldName(String fieldName) throws IOException {
+        this.context.validateToken(JsonToken.FIELD_NAME);
+        this.jsonGenerator.writeFieldName(fieldName);
+        this.context = this.context.updateContext(JsonToken.FIELD_NAME);
+
+        return this;
+    }
+
+    @Override
+    public JsonWriter writeBinary(byte[] value) throws IOException {
+        this.context.validateToken(JsonToken.STRING);
+        if (value == null) {
+            this.jsonGenerator.writeNull();
+        } else {
+            this.jsonGenerator.writeBinary(value);
+        }
+        this.context = this.context.updateContext(JsonToken.STRING);
+
+        return this;
+    }
+
+    @Override
+    public JsonWriter writeBoolean(boolean value) throws IOException {
+        this.context.validateToken(JsonToken.BOOLEAN);
+        this.jsonGenerator.writeBoolean(value);
+        this.context = this.context.updateContext(JsonToken.BOOLEAN);
+
+        return this;
+    }
+
+    @Override
+    public JsonWriter writeDouble(double value) throws IOException {
+        this.context.validateToken(JsonToken.NUMBER);
+        this.jsonGenerator.writeNumber(value);
+        this.context = this.context.updateContext(JsonToken.NUMBER);
+
+        return this;
+    }
+
+    @Override
+    public JsonWriter writeFloat(float value) throws IOException {
+        this.context.validateToken(JsonToken.NUMBER);
+        this.jsonGenerator.writeNumber(value);
+        this.context = this.context.updateContext(JsonToken.NUMBER);
+
+        return this;
+    }
+
+    @Override
+    public JsonWriter writeInt(int value) throws IOException {
+        this.context.validateToken(JsonToken.NUMBER);
+        this.jsonGenerator.writeNumber(value);
+        this.context = this.context.updateContext(JsonToken.NUMBER);
+
+        return this;
+    }
+
+    @Override
+    public JsonWriter writeLong(long value) throws IOException {
+        this.context.validateToken(JsonToken.NUMBER);
+        this.jsonGenerator.writeNumber(value);
+        this.context = this.context.updateContext(JsonToken.NUMBER);
+
+        return this;
+    }
+
+    @Override
+    public JsonWriter writeNull() throws IOException {
+        this.context.validateToken(JsonToken.NULL);
+        this.jsonGenerator.writeNull();
+        this.context = this.context.updateContext(JsonToken.NULL);
+
+        return this;
+    }
+
+    @Override
+    public JsonWriter writeString(String value) throws IOException {
+        this.context.validateToken(JsonToken.STRING);
+        this.jsonGenerator.writeString(value);
+        this.context = this.context.updateContext(JsonToken.STRING);
+
+        return this;
+    }
+
+    @Override
+    public JsonWriter writeRawValue(String value) throws IOException {
+        this.context.validateToken(JsonToken.STRING);
+        if (this.jsonGenerator instanceof TokenBuffer) {
+            // Token buffers keep raw values as opaque objects, copy the tokens so that they can be read back
+            try (JsonParser jsonParser = JSON_FACTORY.createParser(value)) {
+                jsonParser.nextToken();
+                this.jsonGenerator.copyCurrentStructure(jsonParser);
+            }
+        } else {
+            this.jsonGenerator.writeRawValue(value);
+        }
+        this.context = this.context.updateContext(JsonToken.STRING);
+
+        return this;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.temporal.worker.authorization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.when;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.kuflow.rest.KuFlowRestClient;
+import com.kuflow.rest.model.Authentication;
+import com.kuflow.rest.model.AuthenticationCreateParams;
+import com.kuflow.rest.model.AuthenticationEngineToken;
+import com.kuflow.rest.operation.AuthenticationOperations;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class KuFlowAuthorizationTokenSupplierTest {
+
+    @Mock
+    private KuFlowRestClient kuFlowRestClient;
+
+    @Test
+    @DisplayName("GIVEN a supplied token WHEN is requested again before the refresh THEN the cached token is used")
+    public void givenASuppliedTokenWhenIsRequestedAgainBeforeTheRefreshThenTheCachedTokenIsUsed() {
+        AuthenticationOperations authenticationOperations = mock(AuthenticationOperations.class);
+        when(this.kuFlowRestClient.getAuthenticationOperations()).thenReturn(authenticationOperations);
+        when(authenticationOperations.createAuthentication(any(AuthenticationCreateParams.class))).thenReturn(
+            this.prepareAuthentication("TOKEN_1", Duration.ofHours(1))
+        );
+
+        try (KuFlowAuthorizationTokenSupplier tokenSupplier = new KuFlowAuthorizationTokenSupplier(this.kuFlowRestClient, () -> null)) {
+            assertThat(tokenSupplier.supply()).isEqualTo("Bearer TOKEN_1");
+            assertThat(tokenSupplier.supply()).isEqualTo("Bearer TOKEN_1");
+        }
+
+        verify(authenticationOperations, times(1)).createAuthentication(any(AuthenticationCreateParams.class));
+    }
+
+    @Test
+    @DisplayName("GIVEN a supplied token WHEN the background refresh fails THEN the stale token is used until a retry succeeds")
+    public void givenASuppliedTokenWhenTheBackgroundRefreshFailsThenTheStaleTokenIsUsedUntilARetrySucceeds() {
+        AuthenticationOperations authenticationOperations = mock(AuthenticationOperations.class);
+        when(this.kuFlowRestClient.getAuthenticationOperations()).thenReturn(authenticationOperations);
+        when(authenticationOperations.createAuthentication(any(AuthenticationCreateParams.class)))
+            .thenReturn(this.prepareAuthentication("TOKEN_1", Duration.ofSeconds(35)))
+            .thenThrow(new IllegalStateException("KuFlow unavailable"))
+            .thenReturn(this.prepareAuthentication("TOKEN_2", Duration.ofHours(1)));
+
+        try (KuFlowAuthorizationTokenSupplier tokenSupplier = new KuFlowAuthorizationTokenSupplier(this.kuFlowRestClient, () -> null)) {
+            assertThat(tokenSupplier.supply()).isEqualTo("Bearer TOKEN_1");
+
+            await()
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() ->
+                    verify(authenticationOperations, times(2)).createAuthentication(any(AuthenticationCreateParams.class))
+                );
+            assertThat(tokenSupplier.supply()).isIn("Bearer TOKEN_1", "Bearer TOKEN_2");
+
+            await().atMost(Duration.ofSeconds(5)).until(() -> tokenSupplier.supply().equals("Bearer TOKEN_2"));
+        }
+
+        verify(authenticationOperations, times(3)).createAuthentication(any(AuthenticationCreateParams.class));
+    }
+
+    @Test
+    @DisplayName("GIVEN a usable token WHEN the background refresh is in progress THEN the token is supplied without waiting")
+    public void givenAUsableTokenWhenTheBackgroundRefreshIsInProgressThenTheTokenIsSuppliedWithoutWaiting() throws Exception {
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch releaseRefresh = new CountDownLatch(1);
+
+        AuthenticationOperations authenticationOperations = mock(AuthenticationOperations.class);
+        when(this.kuFlowRestClient.getAuthenticationOperations()).thenReturn(authenticationOperations);
+        when(authenticationOperations.createAuthentication(any(AuthenticationCreateParams.class)))
+            .thenReturn(this.prepareAuthentication("TOKEN_1", Duration.ofSeconds(35)))
+            .thenAnswer(invocation -> {
+                refreshStarted.countDown();
+                releaseRefresh.await(10, TimeUnit.SECONDS);
+
+                return this.prepareAuthentication("TOKEN_2", Duration.ofHours(1));
+            });
+
+        try (KuFlowAuthorizationTokenSupplier tokenSupplier = new KuFlowAuthorizationTokenSupplier(this.kuFlowRestClient, () -> null)) {
+            assertThat(tokenSupplier.supply()).isEqualTo("Bearer TOKEN_1");
+            assertThat(refreshStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            String token = CompletableFuture.supplyAsync(tokenSupplier::supply).get(1, TimeUnit.SECONDS);
+            assertThat(token).isEqualTo("Bearer TOKEN_1");
+
+            releaseRefresh.countDown();
+            await().atMost(Duration.ofSeconds(5)).until(() -> tokenSupplier.supply().equals("Bearer TOKEN_2"));
+        }
+    }
+
+    private Authentication prepareAuthentication(String token, Duration lifetime) {
+        AuthenticationEngineToken engineToken = new AuthenticationEngineToken()
+            .setToken(token)
+            .setExpiredAt(OffsetDateTime.now().plus(lifetime));
+
+        return new Authentication().setEngineToken(engineToken);
+    }
+}
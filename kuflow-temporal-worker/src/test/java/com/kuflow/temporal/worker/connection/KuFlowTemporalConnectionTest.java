@@ -24,9 +24,13 @@
 package com.kuflow.temporal.worker.connection;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.kuflow.rest.KuFlowRestClient;
 import io.temporal.activity.ActivityInterface;
+import io.temporal.worker.WorkerOptions;
+import io.temporal.worker.tuning.ResourceBasedTuner;
 import io.temporal.workflow.WorkflowInterface;
 import io.temporal.workflow.WorkflowMethod;
 import org.junit.jupiter.api.DisplayName;
@@ -63,6 +67,87 @@ public class KuFlowTemporalConnectionTest {
         assertThat(workerInformation.getActivityTypes()).containsOnly("Test1_Activity1", "Test1_Activity2", "Activity1", "Activity2");
     }
 
+    @Test
+    @DisplayName("GIVEN KuFlowTemporalConnection WHEN configure workers of several task queues THEN each one keeps its types")
+    public void givenKuFlowTemporalConnectionWhenConfigureWorkersOfSeveralTaskQueuesThenEachOneKeepsItsTypes() {
+        KuFlowTemporalConnection kuFlowTemporalConnection = KuFlowTemporalConnection.instance(this.kuFlowRestClient)
+            .configureWorker(builder ->
+                builder
+                    .withTaskQueue("TASK_QUEUE_1")
+                    .withWorkflowImplementationTypes(Test1WorkflowImpl.class)
+                    .withActivitiesImplementations(new Test1ActivitiesImpl())
+            )
+            .configureWorker(builder -> builder.withTaskQueue("TASK_QUEUE_2").withActivitiesImplementations(new Test2ActivitiesImpl()))
+            .configureWorker(builder -> builder.withTaskQueue("TASK_QUEUE_1").withWorkflowImplementationTypes(Test2WorkflowImpl.class));
+
+        assertThat(kuFlowTemporalConnection.getWorkerInformationList())
+            .extracting(WorkerInformation::getTaskQueue)
+            .containsExactly("TASK_QUEUE_1", "TASK_QUEUE_2");
+        assertThat(kuFlowTemporalConnection.getWorkerInformation()).isSameAs(kuFlowTemporalConnection.getWorkerInformation("TASK_QUEUE_1"));
+
+        WorkerInformation firstWorkerInformation = kuFlowTemporalConnection.getWorkerInformation("TASK_QUEUE_1");
+        assertThat(firstWorkerInformation.getWorkflowTypes()).containsOnly("Test2Workflow_name");
+        assertThat(firstWorkerInformation.getActivityTypes()).isEmpty();
+
+        WorkerInformation secondWorkerInformation = kuFlowTemporalConnection.getWorkerInformation("TASK_QUEUE_2");
+        assertThat(secondWorkerInformation.getWorkflowTypes()).isEmpty();
+        assertThat(secondWorkerInformation.getActivityTypes()).containsOnly("Activity1", "Activity2");
+    }
+
+    @Test
+    @DisplayName("GIVEN virtual threads WHEN build the worker options without slot sizes THEN the virtual thread defaults apply")
+    public void givenVirtualThreadsWhenBuildTheWorkerOptionsWithoutSlotSizesThenTheVirtualThreadDefaultsApply() {
+        KuFlowTemporalConnection kuFlowTemporalConnection = KuFlowTemporalConnection.instance(this.kuFlowRestClient)
+            .withVirtualThreads(true);
+
+        WorkerOptions workerOptions = kuFlowTemporalConnection.workerOptions(WorkerBuilder.instance().withTaskQueue("TASK_QUEUE"));
+
+        assertThat(workerOptions.isUsingVirtualThreadsOnActivityWorker()).isTrue();
+        assertThat(workerOptions.getMaxConcurrentActivityExecutionSize()).isEqualTo(2_000);
+        assertThat(workerOptions.getMaxConcurrentLocalActivityExecutionSize()).isEqualTo(2_000);
+        assertThat(workerOptions.getMaxConcurrentWorkflowTaskExecutionSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("GIVEN virtual threads WHEN build the worker options with slot sizes or a tuner THEN the user configuration wins")
+    public void givenVirtualThreadsWhenBuildTheWorkerOptionsWithSlotSizesOrATunerThenTheUserConfigurationWins() {
+        KuFlowTemporalConnection kuFlowTemporalConnection = KuFlowTemporalConnection.instance(this.kuFlowRestClient);
+
+        WorkerOptions sizedWorkerOptions = kuFlowTemporalConnection.workerOptions(
+            WorkerBuilder.instance()
+                .withTaskQueue("TASK_QUEUE")
+                .withVirtualThreads(true)
+                .withWorkerOptions(WorkerOptions.newBuilder().setMaxConcurrentActivityExecutionSize(50).build())
+        );
+
+        assertThat(sizedWorkerOptions.isUsingVirtualThreadsOnActivityWorker()).isTrue();
+        assertThat(sizedWorkerOptions.getMaxConcurrentActivityExecutionSize()).isEqualTo(50);
+        assertThat(sizedWorkerOptions.getMaxConcurrentLocalActivityExecutionSize()).isEqualTo(2_000);
+
+        WorkerOptions tunedWorkerOptions = kuFlowTemporalConnection.workerOptions(
+            WorkerBuilder.instance().withTaskQueue("TASK_QUEUE").withVirtualThreads(true).withResourceBasedTuner(0.7, 0.8)
+        );
+
+        assertThat(tunedWorkerOptions.isUsingVirtualThreadsOnActivityWorker()).isTrue();
+        assertThat(tunedWorkerOptions.getWorkerTuner()).isInstanceOf(ResourceBasedTuner.class);
+        assertThat(tunedWorkerOptions.getMaxConcurrentActivityExecutionSize()).isZero();
+        assertThat(tunedWorkerOptions.getMaxConcurrentLocalActivityExecutionSize()).isZero();
+        WorkerOptions.newBuilder(tunedWorkerOptions).validateAndBuildWithDefaults();
+    }
+
+    @Test
+    @DisplayName("GIVEN a Java runtime WHEN check the virtual threads support THEN only Java 21 or later is accepted")
+    public void givenAJavaRuntimeWhenCheckTheVirtualThreadsSupportThenOnlyJava21OrLaterIsAccepted() {
+        assertThatThrownBy(() -> KuFlowTemporalConnection.checkVirtualThreadsAreSupported(Runtime.Version.parse("17.0.9")))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Java 21");
+
+        assertThatCode(() -> KuFlowTemporalConnection.checkVirtualThreadsAreSupported(Runtime.Version.parse("21")))
+            .doesNotThrowAnyException();
+        assertThatCode(() -> KuFlowTemporalConnection.checkVirtualThreadsAreSupported(Runtime.Version.parse("25.0.1")))
+            .doesNotThrowAnyException();
+    }
+
     @WorkflowInterface
     public interface Test1Workflow {
         @WorkflowMethod
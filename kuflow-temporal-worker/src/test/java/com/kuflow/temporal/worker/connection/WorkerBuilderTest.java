@@ -0,0 +1,103 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.temporal.worker.connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.kuflow.rest.KuFlowRestClient;
+import io.temporal.worker.WorkerOptions;
+import io.temporal.worker.tuning.PollerBehaviorAutoscaling;
+import io.temporal.worker.tuning.ResourceBasedTuner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class WorkerBuilderTest {
+
+    @Mock
+    private KuFlowRestClient kuFlowRestClient;
+
+    @Test
+    @DisplayName("GIVEN a worker with a tuner only WHEN build its options THEN the tuner owns the slots and the options are valid")
+    public void givenAWorkerWithATunerOnlyWhenBuildItsOptionsThenTheTunerOwnsTheSlotsAndTheOptionsAreValid() {
+        WorkerBuilder workerBuilder = WorkerBuilder.instance()
+            .withTaskQueue("TASK_QUEUE")
+            .withWorkerOptions(WorkerOptions.newBuilder().setMaxTaskQueueActivitiesPerSecond(10).build())
+            .withResourceBasedTuner(0.7, 0.8);
+
+        WorkerOptions workerOptions = KuFlowTemporalConnection.instance(this.kuFlowRestClient).workerOptions(workerBuilder);
+
+        assertThat(workerOptions.getWorkerTuner()).isInstanceOf(ResourceBasedTuner.class);
+        assertThat(workerOptions.getMaxTaskQueueActivitiesPerSecond()).isEqualTo(10);
+        assertThat(workerOptions.getMaxConcurrentActivityExecutionSize()).isZero();
+        assertThat(WorkerOptions.newBuilder(workerOptions).validateAndBuildWithDefaults().getWorkerTuner()).isSameAs(
+            workerOptions.getWorkerTuner()
+        );
+    }
+
+    @Test
+    @DisplayName("GIVEN worker options with slot sizes WHEN set a tuner in any order THEN the conflict is rejected")
+    public void givenWorkerOptionsWithSlotSizesWhenSetATunerInAnyOrderThenTheConflictIsRejected() {
+        WorkerOptions workerOptions = WorkerOptions.newBuilder().setMaxConcurrentActivityExecutionSize(10).build();
+
+        assertThatThrownBy(() -> WorkerBuilder.instance().withWorkerOptions(workerOptions).withResourceBasedTuner(0.7, 0.8))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxConcurrentActivityExecutionSize")
+            .hasMessageContaining("worker tuner");
+        assertThatThrownBy(() -> WorkerBuilder.instance().withDefaultTuning().withWorkerOptions(workerOptions))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxConcurrentActivityExecutionSize");
+        assertThatThrownBy(() ->
+            WorkerBuilder.instance().withWorkerOptions(WorkerOptions.newBuilder().validateAndBuildWithDefaults()).withDefaultTuning()
+        ).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("GIVEN a worker with autoscaling pollers WHEN build its options THEN both pollers scale within the limits")
+    public void givenAWorkerWithAutoscalingPollersWhenBuildItsOptionsThenBothPollersScaleWithinTheLimits() {
+        WorkerBuilder workerBuilder = WorkerBuilder.instance().withTaskQueue("TASK_QUEUE").withPollerAutoscaling(2, 20, 4);
+
+        WorkerOptions workerOptions = KuFlowTemporalConnection.instance(this.kuFlowRestClient).workerOptions(workerBuilder);
+
+        assertThat(workerOptions.getWorkflowTaskPollersBehavior()).isEqualTo(new PollerBehaviorAutoscaling(2, 20, 4));
+        assertThat(workerOptions.getActivityTaskPollersBehavior()).isEqualTo(new PollerBehaviorAutoscaling(2, 20, 4));
+        assertThat(workerOptions.getWorkerTuner()).isNull();
+        WorkerOptions.newBuilder(workerOptions).validateAndBuildWithDefaults();
+
+        assertThatThrownBy(() -> WorkerBuilder.instance().withPollerAutoscaling(1, 1, 1).withPollerAutoscaling(2, 1, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("'maximum'");
+        assertThatThrownBy(() ->
+            WorkerBuilder.instance()
+                .withWorkerOptions(WorkerOptions.newBuilder().setMaxConcurrentWorkflowTaskPollers(3).build())
+                .withPollerAutoscaling()
+        )
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxConcurrentWorkflowTaskPollers");
+    }
+}
@@ -92,6 +92,37 @@ public class WorkerInformationNotifierTest {
         workerInformationNotifier.shutdown();
     }
 
+    @Test
+    @DisplayName("GIVEN workerInformationNotifier with several workers WHEN is started THEN all of them are sent")
+    public void givenWorkerInformationNotifierWithSeveralWorkersWhenIsStartedThenAllOfThemAreSent() {
+        ArgumentCaptor<WorkerCreateParams> workerCreateParamsArgumentCaptor = ArgumentCaptor.forClass(WorkerCreateParams.class);
+        ArgumentCaptor<Context> contextArgumentCaptor = ArgumentCaptor.forClass(Context.class);
+
+        WorkerOperations workerOperations = mock(WorkerOperations.class);
+        when(this.kuFlowRestClient.getWorkerOperations()).thenReturn(workerOperations);
+        when(
+            workerOperations.createWorkerWithResponse(workerCreateParamsArgumentCaptor.capture(), contextArgumentCaptor.capture())
+        ).thenAnswer(this.prepareCreateWorkerWithResponseAnswer(Duration.ofMinutes(5)));
+
+        WorkerInformation firstWorkerInformation = this.prepareWorkerInfo();
+        WorkerInformation secondWorkerInformation = this.prepareWorkerInfo();
+
+        WorkerInformationNotifier workerInformationNotifier = new WorkerInformationNotifier(
+            this.kuFlowRestClient,
+            WorkflowClientOptions.newBuilder().validateAndBuildWithDefaults(),
+            WorkerInformationNotifierConfigurationBuilder.instance().build(),
+            List.of(firstWorkerInformation, secondWorkerInformation)
+        );
+
+        workerInformationNotifier.start();
+
+        assertThat(workerCreateParamsArgumentCaptor.getAllValues())
+            .extracting(WorkerCreateParams::getTaskQueue)
+            .containsExactly(firstWorkerInformation.getTaskQueue(), secondWorkerInformation.getTaskQueue());
+
+        workerInformationNotifier.shutdown();
+    }
+
     @Test
     @DisplayName("GIVEN workerInformationNotifier WHEN is started and the delay change THEN the notification interval change too")
     public void givenWorkerInformationNotifierWhenIsStartedAndTheDelayChangeThenTheNotificationIntervalChangeToo() {
@@ -0,0 +1,70 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.temporal.worker.encryption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class EncryptionStateHolderTest {
+
+    @Test
+    @DisplayName("GIVEN nested executions WHEN the inner one finishes THEN the enclosing encryption state is restored")
+    public void givenNestedExecutionsWhenTheInnerOneFinishesThenTheEnclosingEncryptionStateIsRestored() {
+        List<String> keyIds = new ArrayList<>();
+
+        EncryptionStateHolder.execute(true, "KEY_1", () -> {
+            keyIds.add(EncryptionStateHolder.getCurrentEncryptionState().getKeyId());
+            EncryptionStateHolder.execute(true, "KEY_2", () -> keyIds.add(EncryptionStateHolder.getCurrentEncryptionState().getKeyId()));
+            keyIds.add(EncryptionStateHolder.getCurrentEncryptionState().getKeyId());
+            EncryptionStateHolder.execute(false, null, () -> keyIds.add(EncryptionStateHolder.getCurrentEncryptionState().getKeyId()));
+            keyIds.add(EncryptionStateHolder.getCurrentEncryptionState().getKeyId());
+        });
+
+        assertThat(keyIds).containsExactly("KEY_1", "KEY_2", "KEY_1", "KEY_1", "KEY_1");
+        assertThat(EncryptionStateHolder.getCurrentEncryptionState().getKeyId()).isNull();
+    }
+
+    @Test
+    @DisplayName("GIVEN a nested execution WHEN the inner one fails THEN the enclosing encryption state is restored")
+    public void givenANestedExecutionWhenTheInnerOneFailsThenTheEnclosingEncryptionStateIsRestored() {
+        List<String> keyIds = new ArrayList<>();
+
+        EncryptionStateHolder.execute(true, "KEY_1", () -> {
+            assertThatThrownBy(() ->
+                EncryptionStateHolder.execute(true, "KEY_2", () -> {
+                    throw new IllegalStateException("failure");
+                })
+            ).isInstanceOf(IllegalStateException.class);
+            keyIds.add(EncryptionStateHolder.getCurrentEncryptionState().getKeyId());
+        });
+
+        assertThat(keyIds).containsExactly("KEY_1");
+        assertThat(EncryptionStateHolder.getCurrentEncryptionState().getKeyId()).isNull();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.temporal.worker.encryption.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.when;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.protobuf.ByteString;
+import com.kuflow.rest.KuFlowRestClient;
+import com.kuflow.rest.model.KmsKey;
+import com.kuflow.rest.operation.KmsOperations;
+import com.kuflow.temporal.worker.encryption.EncryptionConstant;
+import io.temporal.api.common.v1.Payload;
+import io.temporal.payload.codec.PayloadCodecException;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class EncryptionPayloadCodecTest {
+
+    @Mock
+    private KuFlowRestClient kuFlowRestClient;
+
+    @Test
+    @DisplayName("GIVEN several codecs sharing a key cache WHEN encode and decode payloads THEN the KMS key is retrieved once")
+    public void givenSeveralCodecsSharingAKeyCacheWhenEncodeAndDecodePayloadsThenTheKmsKeyIsRetrievedOnce() {
+        String keyId = UUID.randomUUID().toString();
+
+        KmsOperations kmsOperations = mock(KmsOperations.class);
+        when(this.kuFlowRestClient.getKmsOperations()).thenReturn(kmsOperations);
+        when(kmsOperations.retrieveKmsKey(keyId)).thenReturn(new KmsKey().setId(keyId).setValue(new byte[32]));
+
+        try (KmsKeyCache kmsKeyCache = new KmsKeyCache(this.kuFlowRestClient)) {
+            EncryptionPayloadCodec encoder = new EncryptionPayloadCodec(kmsKeyCache, null);
+            EncryptionPayloadCodec decoder = new EncryptionPayloadCodec(kmsKeyCache, null);
+
+            Payload payload = this.preparePayload(keyId, "Hello");
+            List<Payload> encoded = encoder.encode(List.of(payload, this.preparePayload(keyId, "World")));
+            List<Payload> decoded = decoder.decode(encoded);
+
+            assertThat(encoded.get(0).getData()).isNotEqualTo(payload.getData());
+            assertThat(decoded.get(0)).isEqualTo(payload);
+            assertThat(decoded.get(1).getData().toStringUtf8()).isEqualTo("World");
+        }
+
+        verify(kmsOperations, times(1)).retrieveKmsKey(keyId);
+    }
+
+    @Test
+    @DisplayName("GIVEN codecs with their own key cache WHEN encode payloads THEN the KMS keys are not shared between them")
+    public void givenCodecsWithTheirOwnKeyCacheWhenEncodePayloadsThenTheKmsKeysAreNotSharedBetweenThem() {
+        String keyId = UUID.randomUUID().toString();
+
+        KmsOperations kmsOperations = mock(KmsOperations.class);
+        when(this.kuFlowRestClient.getKmsOperations()).thenReturn(kmsOperations);
+        when(kmsOperations.retrieveKmsKey(keyId)).thenReturn(new KmsKey().setId(keyId).setValue(new byte[32]));
+
+        List<Payload> payloads = List.of(this.preparePayload(keyId, "Hello"));
+        new EncryptionPayloadCodec(this.kuFlowRestClient).encode(payloads);
+        new EncryptionPayloadCodec(this.kuFlowRestClient).encode(payloads);
+
+        verify(kmsOperations, times(2)).retrieveKmsKey(keyId);
+    }
+
+    @Test
+    @DisplayName("GIVEN a KMS key that fails to load WHEN encode again THEN the failure is reused without retrieving the key")
+    public void givenAKmsKeyThatFailsToLoadWhenEncodeAgainThenTheFailureIsReusedWithoutRetrievingTheKey() {
+        String keyId = UUID.randomUUID().toString();
+
+        KmsOperations kmsOperations = mock(KmsOperations.class);
+        when(this.kuFlowRestClient.getKmsOperations()).thenReturn(kmsOperations);
+        when(kmsOperations.retrieveKmsKey(keyId)).thenThrow(new IllegalStateException("Key not found"));
+
+        EncryptionPayloadCodec codec = new EncryptionPayloadCodec(this.kuFlowRestClient);
+
+        List<Payload> payloads = List.of(this.preparePayload(keyId, "Hello"));
+        assertThatThrownBy(() -> codec.encode(payloads))
+            .isInstanceOf(PayloadCodecException.class)
+            .hasRootCauseMessage("Key not found");
+        assertThatThrownBy(() -> codec.encode(payloads))
+            .isInstanceOf(PayloadCodecException.class)
+            .hasRootCauseMessage("Key not found");
+
+        verify(kmsOperations, times(1)).retrieveKmsKey(keyId);
+    }
+
+    private Payload preparePayload(String keyId, String data) {
+        return Payload.newBuilder()
+            .putMetadata(EncryptionConstant.METADATA_KEY_ENCODING_ENCRYPTED_KEY_ID, ByteString.copyFromUtf8(keyId))
+            .setData(ByteString.copyFromUtf8(data))
+            .build();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * The MIT License
+ * Copyright © 2021-present KuFlow S.L.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.kuflow.temporal.worker.jackson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kuflow.rest.model.JsonValue;
+import com.kuflow.rest.model.KmsKey;
+import com.kuflow.rest.model.ProcessItem;
+import com.kuflow.rest.model.ProcessItemTask;
+import com.kuflow.rest.model.ProcessItemTaskState;
+import com.kuflow.rest.model.ProcessItemType;
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class AutorestModuleTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new AutorestModule());
+
+    @Test
+    @DisplayName("GIVEN models nested in a Jackson document WHEN are serialized and read from a stream THEN are the same")
+    public void givenModelsNestedInAJacksonDocumentWhenAreSerializedAndReadFromAStreamThenAreTheSame() throws Exception {
+        ProcessItem processItem = this.prepareProcessItem();
+        Envelope envelope = new Envelope(1, List.of(processItem, processItem), "end");
+
+        byte[] json = this.objectMapper.writeValueAsBytes(envelope);
+
+        Envelope read = this.objectMapper.readValue(new ByteArrayInputStream(json), Envelope.class);
+
+        assertThat(read.before()).isEqualTo(1);
+        assertThat(read.after()).isEqualTo("end");
+        assertThat(read.processItems()).hasSize(2);
+        ProcessItem readProcessItem = read.processItems().get(1);
+        assertThat(readProcessItem.getId()).isEqualTo(processItem.getId());
+        assertThat(readProcessItem.getType()).isEqualTo(ProcessItemType.TASK);
+        assertThat(readProcessItem.getTask().getState()).isEqualTo(ProcessItemTaskState.READY);
+        assertThat(readProcessItem.getTask().getData().getValue())
+            .containsEntry("text", "\"quoted\" ñ")
+            .containsEntry("number", 42)
+            .containsEntry("list", List.of("a", "b"));
+    }
+
+    @Test
+    @DisplayName("GIVEN a model with binary data WHEN is converted through a token buffer THEN is the same")
+    public void givenAModelWithBinaryDataWhenIsConvertedThroughATokenBufferThenIsTheSame() throws Exception {
+        KmsKey kmsKey = this.objectMapper.readValue("{\"id\":\"key\",\"value\":\"AAECAw==\"}", KmsKey.class);
+
+        KmsKey converted = this.objectMapper.convertValue(kmsKey, KmsKey.class);
+
+        assertThat(converted.getId()).isEqualTo("key");
+        assertThat(converted.getValue()).containsExactly(0, 1, 2, 3);
+        assertThat(this.objectMapper.writeValueAsString(converted)).isEqualTo("{\"id\":\"key\",\"value\":\"AAECAw==\"}");
+    }
+
+    @Test
+    @DisplayName("GIVEN a model read from json WHEN is converted through a token buffer THEN the lazy json value is kept")
+    public void givenAModelReadFromJsonWhenIsConvertedThroughATokenBufferThenTheLazyJsonValueIsKept() throws Exception {
+        byte[] json = this.objectMapper.writeValueAsBytes(this.prepareProcessItem());
+        ProcessItem processItem = this.objectMapper.readValue(json, ProcessItem.class);
+
+        ProcessItem converted = this.objectMapper.convertValue(processItem, ProcessItem.class);
+
+        assertThat(converted.getTask().getData().getValueAt("/list/1")).isEqualTo("b");
+        assertThat(converted.getTask().getData().getValue()).containsEntry("number", 42);
+    }
+
+    private record Envelope(int before, List<ProcessItem> processItems, String after) {}
+
+    private ProcessItem prepareProcessItem() {
+        return new ProcessItem()
+            .setId(UUID.randomUUID())
+            .setType(ProcessItemType.TASK)
+            .setProcessId(UUID.randomUUID())
+            .setTask(
+                new ProcessItemTask()
+                    .setState(ProcessItemTaskState.READY)
+                    .setData(new JsonValue().setValue(Map.of("text", "\"quoted\" ñ", "number", 42, "list", List.of("a", "b"))))
+            );
+    }
+}